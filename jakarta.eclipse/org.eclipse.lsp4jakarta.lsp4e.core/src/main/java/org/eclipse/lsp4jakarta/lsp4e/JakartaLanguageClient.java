@@ -24,28 +24,57 @@ import org.eclipse.lsp4e.LanguageClientImpl;
 import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.CompletionList;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.WorkspaceEdit;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
+import org.eclipse.lsp4j.services.LanguageServer;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaCodeActionParams;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaCompletionParams;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaCompletionResult;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsReport;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaFileInfo;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaFileInfoParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaFixAllParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaMetricsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaMetricsReport;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaProjectLabelsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaWorkspaceDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaWorkspaceDiagnosticsReport;
+import org.eclipse.lsp4jakarta.commons.JakartaTraceContext;
 import org.eclipse.lsp4jakarta.commons.JavaCursorContextResult;
 import org.eclipse.lsp4jakarta.commons.ProjectLabelInfoEntry;
 import org.eclipse.lsp4jakarta.commons.codeaction.CodeActionResolveData;
+import org.eclipse.lsp4jakarta.commons.trace.RequestTrace;
 import org.eclipse.lsp4jakarta.commons.utils.JSONUtility;
+import org.eclipse.lsp4jakarta.jdt.core.IJakartaClasspathChangedListener;
+import org.eclipse.lsp4jakarta.jdt.core.JakartaCorePlugin;
 import org.eclipse.lsp4jakarta.jdt.core.ProjectLabelManager;
 import org.eclipse.lsp4jakarta.jdt.core.PropertiesManagerForJava;
 import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 import org.eclipse.lsp4jakarta.ls.api.JakartaLanguageClientAPI;
+import org.eclipse.lsp4jakarta.ls.api.JakartaLanguageServerAPI;
 
 public class JakartaLanguageClient extends LanguageClientImpl implements JakartaLanguageClientAPI {
 
+    // Notify the language server when the classpath of Java projects changed to
+    // evict its project labels cache.
+    private final IJakartaClasspathChangedListener classpathChangedListener = event -> {
+        LanguageServer languageServer = getLanguageServer();
+        if (languageServer instanceof JakartaLanguageServerAPI) {
+            ((JakartaLanguageServerAPI) languageServer).classpathChanged(event);
+        }
+    };
+
     public JakartaLanguageClient() {
-        // do nothing
+        JakartaCorePlugin.getDefault().addClasspathChangedListener(classpathChangedListener);
+    }
+
+    @Override
+    public void dispose() {
+        // The language server is stopped
+        JakartaCorePlugin.getDefault().removeClasspathChangedListener(classpathChangedListener);
+        super.dispose();
     }
 
     private IProgressMonitor getProgressMonitor(CancelChecker cancelChecker) {
@@ -66,7 +95,7 @@ public class JakartaLanguageClient extends LanguageClientImpl implements Jakarta
         return CompletableFutures.computeAsync(cancelChecker -> {
             IProgressMonitor monitor = getProgressMonitor(cancelChecker);
             CompletionList completionList;
-            try {
+            try (RequestTrace trace = startTrace("jakarta/java/completion", javaParams.getTrace())) {
                 completionList = PropertiesManagerForJava.getInstance().completion(javaParams,
                                                                                    JDTUtilsLSImpl.getInstance(), monitor);
                 JavaCursorContextResult javaCursorContext = PropertiesManagerForJava.getInstance().javaCursorContext(javaParams, JDTUtilsLSImpl.getInstance(), monitor);
@@ -121,7 +150,7 @@ public class JakartaLanguageClient extends LanguageClientImpl implements Jakarta
                                                                                 JakartaJavaDiagnosticsParams javaParams) {
         return CompletableFutures.computeAsync((cancelChecker) -> {
             IProgressMonitor monitor = getProgressMonitor(cancelChecker);
-            try {
+            try (RequestTrace trace = startTrace("jakarta/java/diagnostics", javaParams.getTrace())) {
                 return PropertiesManagerForJava.getInstance().diagnostics(javaParams, JDTUtilsLSImpl.getInstance(),
                                                                           monitor);
             } catch (JavaModelException e) {
@@ -134,10 +163,56 @@ public class JakartaLanguageClient extends LanguageClientImpl implements Jakarta
      * {@inheritDoc}
      */
     @Override
-    public CompletableFuture<List<CodeAction>> getJavaCodeAction(JakartaJavaCodeActionParams javaParams) {
+    public CompletableFuture<List<JakartaJavaDiagnosticsReport>> getJavaPullDiagnostics(JakartaJavaDiagnosticsParams javaParams) {
+        return CompletableFutures.computeAsync((cancelChecker) -> {
+            IProgressMonitor monitor = getProgressMonitor(cancelChecker);
+            try (RequestTrace trace = startTrace("jakarta/java/pullDiagnostics", javaParams.getTrace())) {
+                return PropertiesManagerForJava.getInstance().pullDiagnostics(javaParams, JDTUtilsLSImpl.getInstance(),
+                                                                              monitor);
+            } catch (JavaModelException e) {
+                return Collections.emptyList();
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<WorkspaceEdit> getJavaFixAll(JakartaJavaFixAllParams javaParams) {
         return CompletableFutures.computeAsync((cancelChecker) -> {
             IProgressMonitor monitor = getProgressMonitor(cancelChecker);
             try {
+                return PropertiesManagerForJava.getInstance().fixAll(javaParams, JDTUtilsLSImpl.getInstance(), monitor);
+            } catch (JavaModelException e) {
+                return null;
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<JakartaJavaWorkspaceDiagnosticsReport> getJavaWorkspaceDiagnostics(JakartaJavaWorkspaceDiagnosticsParams javaParams) {
+        return CompletableFutures.computeAsync((cancelChecker) -> {
+            IProgressMonitor monitor = getProgressMonitor(cancelChecker);
+            try {
+                return PropertiesManagerForJava.getInstance().workspaceDiagnostics(javaParams, JDTUtilsLSImpl.getInstance(), monitor);
+            } catch (JavaModelException e) {
+                return null;
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<List<CodeAction>> getJavaCodeAction(JakartaJavaCodeActionParams javaParams) {
+        return CompletableFutures.computeAsync((cancelChecker) -> {
+            IProgressMonitor monitor = getProgressMonitor(cancelChecker);
+            try (RequestTrace trace = startTrace("jakarta/java/codeAction", javaParams.getTrace())) {
                 return (List<CodeAction>) PropertiesManagerForJava.getInstance().codeAction(javaParams,
                                                                                             JDTUtilsLSImpl.getInstance(), monitor);
             } catch (JavaModelException e) {
@@ -163,4 +238,22 @@ public class JakartaLanguageClient extends LanguageClientImpl implements Jakarta
             }
         });
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<JakartaJavaMetricsReport> getJavaMetrics(JakartaJavaMetricsParams javaParams) {
+        return CompletableFuture.completedFuture(PropertiesManagerForJava.getInstance().metrics(javaParams));
+    }
+
+    /**
+     * Returns the trace of the given request in the client hop, with the time
+     * spent to transport the request from the language server.
+     */
+    private static RequestTrace startTrace(String operation, JakartaTraceContext context) {
+        RequestTrace trace = RequestTrace.start(RequestTrace.CLIENT_HOP, operation, context);
+        trace.spanSinceSend("transport");
+        return trace;
+    }
 }
@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.commons;
+
+import java.util.Set;
+
+/**
+ * Event sent by the JDT side when the classpath of some Java projects changed,
+ * so the project information cached by the language server must be reloaded.
+ */
+public class JakartaClasspathChangeEvent {
+
+    private Set<String> projectURIs;
+
+    /**
+     * Returns the URIs of the projects whose classpath changed and null if every
+     * project must be reloaded.
+     *
+     * @return the URIs of the projects whose classpath changed and null if every
+     *         project must be reloaded.
+     */
+    public Set<String> getProjectURIs() {
+        return projectURIs;
+    }
+
+    /**
+     * Set the URIs of the projects whose classpath changed.
+     *
+     * @param projectURIs the URIs of the projects whose classpath changed and null
+     *            if every project must be reloaded.
+     */
+    public void setProjectURIs(Set<String> projectURIs) {
+        this.projectURIs = projectURIs;
+    }
+
+}
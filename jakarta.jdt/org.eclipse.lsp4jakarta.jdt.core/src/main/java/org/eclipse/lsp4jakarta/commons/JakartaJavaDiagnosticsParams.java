@@ -14,6 +14,7 @@
 package org.eclipse.lsp4jakarta.commons;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Jakarta Java diagnostics parameters.
@@ -26,10 +27,16 @@ public class JakartaJavaDiagnosticsParams {
 
     private List<String> uris;
 
+    private List<String> changedUris;
+
+    private Map<String, String> previousResultIds;
+
     private DocumentFormat documentFormat;
 
     private JakartaJavaDiagnosticsSettings settings;
 
+    private JakartaTraceContext trace;
+
     public JakartaJavaDiagnosticsParams() {
         this(null);
     }
@@ -61,6 +68,52 @@ public class JakartaJavaDiagnosticsParams {
         this.uris = uris;
     }
 
+    /**
+     * Returns the uris of the java files which changed (ex : saved) and null
+     * otherwise.
+     *
+     * <p>
+     * When set, only the java files of {@link #getUris()} which changed or
+     * whose diagnostics depend on the types of the changed files are validated.
+     * </p>
+     *
+     * @return the uris of the java files which changed and null otherwise.
+     */
+    public List<String> getChangedUris() {
+        return changedUris;
+    }
+
+    /**
+     * Set the uris of the java files which changed.
+     *
+     * @param changedUris the uris of the java files which changed.
+     */
+    public void setChangedUris(List<String> changedUris) {
+        this.changedUris = changedUris;
+    }
+
+    /**
+     * Returns the result ids of the diagnostics previously pulled for the java
+     * files by uri and null otherwise.
+     *
+     * @return the result ids of the diagnostics previously pulled for the java
+     *         files by uri and null otherwise.
+     */
+    public Map<String, String> getPreviousResultIds() {
+        return previousResultIds;
+    }
+
+    /**
+     * Set the result ids of the diagnostics previously pulled for the java files
+     * by uri.
+     *
+     * @param previousResultIds the result ids of the diagnostics previously
+     *            pulled for the java files by uri.
+     */
+    public void setPreviousResultIds(Map<String, String> previousResultIds) {
+        this.previousResultIds = previousResultIds;
+    }
+
     public DocumentFormat getDocumentFormat() {
         return documentFormat;
     }
@@ -87,4 +140,24 @@ public class JakartaJavaDiagnosticsParams {
         this.settings = settings;
     }
 
-}
\ No newline at end of file
+    /**
+     * Returns the trace context of the request and null if the request is not
+     * traced.
+     *
+     * @return the trace context of the request and null if the request is not
+     *         traced.
+     */
+    public JakartaTraceContext getTrace() {
+        return trace;
+    }
+
+    /**
+     * Sets the trace context of the request.
+     *
+     * @param trace the trace context of the request.
+     */
+    public void setTrace(JakartaTraceContext trace) {
+        this.trace = trace;
+    }
+
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.commons;
+
+import java.util.List;
+
+import org.eclipse.lsp4j.Diagnostic;
+
+/**
+ * Jakarta Java pulled diagnostics of a Java file.
+ */
+public class JakartaJavaDiagnosticsReport {
+
+    private String uri;
+
+    private String resultId;
+
+    private boolean unchanged;
+
+    private List<Diagnostic> diagnostics;
+
+    public JakartaJavaDiagnosticsReport() {}
+
+    public JakartaJavaDiagnosticsReport(String uri, String resultId, List<Diagnostic> diagnostics) {
+        this.uri = uri;
+        this.resultId = resultId;
+        this.diagnostics = diagnostics;
+    }
+
+    /**
+     * Returns the Java file uri.
+     *
+     * @return the Java file uri.
+     */
+    public String getUri() {
+        return uri;
+    }
+
+    public void setUri(String uri) {
+        this.uri = uri;
+    }
+
+    /**
+     * Returns the result id of the diagnostics and null if the diagnostics
+     * cannot be identified (ex : the content of the Java file cannot be read).
+     *
+     * @return the result id of the diagnostics.
+     */
+    public String getResultId() {
+        return resultId;
+    }
+
+    public void setResultId(String resultId) {
+        this.resultId = resultId;
+    }
+
+    /**
+     * Returns true if the diagnostics are the same as the previous result id
+     * and false otherwise. When true, the diagnostics are not returned.
+     *
+     * @return true if the diagnostics are the same as the previous result id
+     *         and false otherwise.
+     */
+    public boolean isUnchanged() {
+        return unchanged;
+    }
+
+    public void setUnchanged(boolean unchanged) {
+        this.unchanged = unchanged;
+    }
+
+    /**
+     * Returns the diagnostics of the Java file and null if they are unchanged.
+     *
+     * @return the diagnostics of the Java file and null if they are unchanged.
+     */
+    public List<Diagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+
+    public void setDiagnostics(List<Diagnostic> diagnostics) {
+        this.diagnostics = diagnostics;
+    }
+}
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.commons;
+
+/**
+ * Jakarta Java fix all parameters.
+ */
+public class JakartaJavaFixAllParams {
+
+    private String uri;
+
+    private boolean project;
+
+    private boolean resourceOperationSupported;
+
+    public JakartaJavaFixAllParams() {}
+
+    public JakartaJavaFixAllParams(String uri, boolean project) {
+        this.uri = uri;
+        this.project = project;
+    }
+
+    /**
+     * Returns the Java file uri.
+     *
+     * @return the Java file uri.
+     */
+    public String getUri() {
+        return uri;
+    }
+
+    /**
+     * Set the Java file uri.
+     *
+     * @param uri the Java file uri.
+     */
+    public void setUri(String uri) {
+        this.uri = uri;
+    }
+
+    /**
+     * Returns true if all the Java files of the project of the Java file must be
+     * fixed and false if only the Java file must be fixed.
+     *
+     * @return true if all the Java files of the project of the Java file must be
+     *         fixed and false otherwise.
+     */
+    public boolean isProject() {
+        return project;
+    }
+
+    /**
+     * Set true if all the Java files of the project of the Java file must be
+     * fixed and false if only the Java file must be fixed.
+     *
+     * @param project true if all the Java files of the project must be fixed.
+     */
+    public void setProject(boolean project) {
+        this.project = project;
+    }
+
+    public boolean isResourceOperationSupported() {
+        return resourceOperationSupported;
+    }
+
+    public void setResourceOperationSupported(boolean resourceOperationSupported) {
+        this.resourceOperationSupported = resourceOperationSupported;
+    }
+}
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.commons;
+
+/**
+ * Jakarta Java metrics parameters.
+ */
+public class JakartaJavaMetricsParams {
+
+    private boolean reset;
+
+    private Long logInterval;
+
+    public JakartaJavaMetricsParams() {}
+
+    /**
+     * Returns true if the metrics must be reset after they are returned and
+     * false otherwise.
+     *
+     * @return true if the metrics must be reset after they are returned and
+     *         false otherwise.
+     */
+    public boolean isReset() {
+        return reset;
+    }
+
+    public void setReset(boolean reset) {
+        this.reset = reset;
+    }
+
+    /**
+     * Returns the new interval in seconds between two dumps of the metrics in
+     * the log (0 disables the dumps) and null to keep the current interval.
+     *
+     * @return the new interval in seconds between two dumps of the metrics in
+     *         the log and null to keep the current interval.
+     */
+    public Long getLogInterval() {
+        return logInterval;
+    }
+
+    public void setLogInterval(Long logInterval) {
+        this.logInterval = logInterval;
+    }
+}
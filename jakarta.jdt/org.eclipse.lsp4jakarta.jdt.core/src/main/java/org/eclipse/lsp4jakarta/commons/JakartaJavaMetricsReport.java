@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.commons;
+
+import java.util.List;
+
+/**
+ * Jakarta Java metrics report: the metrics of the diagnostics and code action
+ * participants since the start of the JDT extension or the last reset.
+ */
+public class JakartaJavaMetricsReport {
+
+    private long startTime;
+
+    private long endTime;
+
+    private List<JakartaJavaParticipantMetrics> metrics;
+
+    private long diagnosticsCacheHits;
+
+    private long diagnosticsCacheMisses;
+
+    private long consistencyWaitCount;
+
+    private long consistencyWaitTotalTime;
+
+    private long consistencyWaitMaxTime;
+
+    public JakartaJavaMetricsReport() {}
+
+    public JakartaJavaMetricsReport(long startTime, long endTime, List<JakartaJavaParticipantMetrics> metrics) {
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the time in milliseconds since the epoch when the metrics started
+     * to be collected.
+     *
+     * @return the time when the metrics started to be collected.
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(long startTime) {
+        this.startTime = startTime;
+    }
+
+    /**
+     * Returns the time in milliseconds since the epoch when the report was
+     * created.
+     *
+     * @return the time when the report was created.
+     */
+    public long getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(long endTime) {
+        this.endTime = endTime;
+    }
+
+    /**
+     * Returns the metrics of each operation of each participant, sorted by
+     * decreasing total time.
+     *
+     * @return the metrics of each operation of each participant.
+     */
+    public List<JakartaJavaParticipantMetrics> getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(List<JakartaJavaParticipantMetrics> metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the number of validated Java files whose diagnostics were
+     * returned from the diagnostics cache.
+     *
+     * @return the number of diagnostics cache hits.
+     */
+    public long getDiagnosticsCacheHits() {
+        return diagnosticsCacheHits;
+    }
+
+    public void setDiagnosticsCacheHits(long diagnosticsCacheHits) {
+        this.diagnosticsCacheHits = diagnosticsCacheHits;
+    }
+
+    /**
+     * Returns the number of validated Java files whose diagnostics were
+     * collected by the participants.
+     *
+     * @return the number of diagnostics cache misses.
+     */
+    public long getDiagnosticsCacheMisses() {
+        return diagnosticsCacheMisses;
+    }
+
+    public void setDiagnosticsCacheMisses(long diagnosticsCacheMisses) {
+        this.diagnosticsCacheMisses = diagnosticsCacheMisses;
+    }
+
+    /**
+     * Returns the number of times a request had to wait for the Java model of a
+     * compilation unit to become consistent with its buffer.
+     *
+     * @return the number of consistency waits.
+     */
+    public long getConsistencyWaitCount() {
+        return consistencyWaitCount;
+    }
+
+    public void setConsistencyWaitCount(long consistencyWaitCount) {
+        this.consistencyWaitCount = consistencyWaitCount;
+    }
+
+    /**
+     * Returns the total time in milliseconds spent waiting for compilation units
+     * to become consistent.
+     *
+     * @return the total consistency wait time in milliseconds.
+     */
+    public long getConsistencyWaitTotalTime() {
+        return consistencyWaitTotalTime;
+    }
+
+    public void setConsistencyWaitTotalTime(long consistencyWaitTotalTime) {
+        this.consistencyWaitTotalTime = consistencyWaitTotalTime;
+    }
+
+    /**
+     * Returns the longest time in milliseconds spent waiting for a compilation
+     * unit to become consistent.
+     *
+     * @return the longest consistency wait time in milliseconds.
+     */
+    public long getConsistencyWaitMaxTime() {
+        return consistencyWaitMaxTime;
+    }
+
+    public void setConsistencyWaitMaxTime(long consistencyWaitMaxTime) {
+        this.consistencyWaitMaxTime = consistencyWaitMaxTime;
+    }
+}
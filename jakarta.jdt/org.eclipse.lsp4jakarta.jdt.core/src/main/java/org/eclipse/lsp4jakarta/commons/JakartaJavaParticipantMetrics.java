@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.commons;
+
+/**
+ * The metrics of an operation (ex : <code>collectDiagnostics</code>) of a
+ * diagnostics or code action participant. The times are in milliseconds.
+ */
+public class JakartaJavaParticipantMetrics {
+
+    private String operation;
+
+    private String participant;
+
+    private long calls;
+
+    private long errors;
+
+    private long timeouts;
+
+    private long diagnostics;
+
+    private double totalTime;
+
+    private double p50;
+
+    private double p99;
+
+    private double maxTime;
+
+    public JakartaJavaParticipantMetrics() {}
+
+    public JakartaJavaParticipantMetrics(String operation, String participant) {
+        this.operation = operation;
+        this.participant = participant;
+    }
+
+    /**
+     * Returns the measured operation.
+     *
+     * @return the measured operation.
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    /**
+     * Returns the class name of the participant, or <code>*</code> for the
+     * operations of the code action handler.
+     *
+     * @return the class name of the participant.
+     */
+    public String getParticipant() {
+        return participant;
+    }
+
+    public void setParticipant(String participant) {
+        this.participant = participant;
+    }
+
+    /**
+     * Returns the number of calls.
+     *
+     * @return the number of calls.
+     */
+    public long getCalls() {
+        return calls;
+    }
+
+    public void setCalls(long calls) {
+        this.calls = calls;
+    }
+
+    /**
+     * Returns the number of calls which failed with an exception caught and
+     * logged by the JDT extension.
+     *
+     * @return the number of calls which failed.
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    public void setErrors(long errors) {
+        this.errors = errors;
+    }
+
+    /**
+     * Returns the number of calls abandoned after the participant timeout.
+     *
+     * @return the number of calls abandoned after the participant timeout.
+     */
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    public void setTimeouts(long timeouts) {
+        this.timeouts = timeouts;
+    }
+
+    /**
+     * Returns the number of diagnostics produced.
+     *
+     * @return the number of diagnostics produced.
+     */
+    public long getDiagnostics() {
+        return diagnostics;
+    }
+
+    public void setDiagnostics(long diagnostics) {
+        this.diagnostics = diagnostics;
+    }
+
+    /**
+     * Returns the total time of the calls.
+     *
+     * @return the total time of the calls.
+     */
+    public double getTotalTime() {
+        return totalTime;
+    }
+
+    public void setTotalTime(double totalTime) {
+        this.totalTime = totalTime;
+    }
+
+    /**
+     * Returns the median time of a call.
+     *
+     * @return the median time of a call.
+     */
+    public double getP50() {
+        return p50;
+    }
+
+    public void setP50(double p50) {
+        this.p50 = p50;
+    }
+
+    /**
+     * Returns the 99th percentile of the time of a call.
+     *
+     * @return the 99th percentile of the time of a call.
+     */
+    public double getP99() {
+        return p99;
+    }
+
+    public void setP99(double p99) {
+        this.p99 = p99;
+    }
+
+    /**
+     * Returns the maximum time of a call.
+     *
+     * @return the maximum time of a call.
+     */
+    public double getMaxTime() {
+        return maxTime;
+    }
+
+    public void setMaxTime(double maxTime) {
+        this.maxTime = maxTime;
+    }
+}
@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.commons;
+
+import java.util.List;
+
+/**
+ * Jakarta Java workspace diagnostics parameters.
+ *
+ * <p>
+ * The first request (without session id) starts the validation of the Java
+ * files of the Jakarta projects and returns the first chunk of diagnostics
+ * with the id of the validation session. The next requests give the session
+ * id to get the next chunks until the report is done, or to cancel the
+ * validation.
+ * </p>
+ */
+public class JakartaJavaWorkspaceDiagnosticsParams {
+
+    private String sessionId;
+
+    private List<String> projectUris;
+
+    private List<String> uris;
+
+    private DocumentFormat documentFormat;
+
+    private JakartaJavaDiagnosticsSettings settings;
+
+    private int chunkSize;
+
+    private boolean cancel;
+
+    public JakartaJavaWorkspaceDiagnosticsParams() {
+        this(null);
+    }
+
+    public JakartaJavaWorkspaceDiagnosticsParams(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    /**
+     * Returns the id of the validation session and null to start a new
+     * validation.
+     *
+     * @return the id of the validation session and null to start a new
+     *         validation.
+     */
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Set the id of the validation session.
+     *
+     * @param sessionId the id of the validation session.
+     */
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    /**
+     * Returns the uris of the projects to validate and null to validate all the
+     * Jakarta projects of the workspace.
+     *
+     * @return the uris of the projects to validate and null to validate all the
+     *         Jakarta projects of the workspace.
+     */
+    public List<String> getProjectUris() {
+        return projectUris;
+    }
+
+    /**
+     * Set the uris of the projects to validate.
+     *
+     * @param projectUris the uris of the projects to validate.
+     */
+    public void setProjectUris(List<String> projectUris) {
+        this.projectUris = projectUris;
+    }
+
+    /**
+     * Returns the uris of the Java files to validate and null to validate all
+     * the Java files of the projects.
+     *
+     * @return the uris of the Java files to validate and null to validate all
+     *         the Java files of the projects.
+     */
+    public List<String> getUris() {
+        return uris;
+    }
+
+    /**
+     * Set the uris of the Java files to validate.
+     *
+     * @param uris the uris of the Java files to validate.
+     */
+    public void setUris(List<String> uris) {
+        this.uris = uris;
+    }
+
+    public DocumentFormat getDocumentFormat() {
+        return documentFormat;
+    }
+
+    public void setDocumentFormat(DocumentFormat documentFormat) {
+        this.documentFormat = documentFormat;
+    }
+
+    /**
+     * Returns the diagnostics settings.
+     *
+     * @return the diagnostics settings
+     */
+    public JakartaJavaDiagnosticsSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Sets the diagnostics settings.
+     *
+     * @param settings the new value for the diagnostics settings
+     */
+    public void setSettings(JakartaJavaDiagnosticsSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Returns the maximum number of Java files returned in a chunk and 0 to use
+     * the default size.
+     *
+     * @return the maximum number of Java files returned in a chunk.
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Set the maximum number of Java files returned in a chunk.
+     *
+     * @param chunkSize the maximum number of Java files returned in a chunk.
+     */
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Returns true if the validation session must be canceled and false
+     * otherwise.
+     *
+     * @return true if the validation session must be canceled and false
+     *         otherwise.
+     */
+    public boolean isCancel() {
+        return cancel;
+    }
+
+    /**
+     * Set true if the validation session must be canceled.
+     *
+     * @param cancel true if the validation session must be canceled.
+     */
+    public void setCancel(boolean cancel) {
+        this.cancel = cancel;
+    }
+}
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.commons;
+
+import java.util.List;
+
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+
+/**
+ * Jakarta Java workspace diagnostics report: a chunk of the diagnostics of a
+ * workspace validation session and its progress.
+ */
+public class JakartaJavaWorkspaceDiagnosticsReport {
+
+    private String sessionId;
+
+    private List<PublishDiagnosticsParams> diagnostics;
+
+    private List<String> incompleteUris;
+
+    private int processedFiles;
+
+    private int totalFiles;
+
+    private double filesPerSecond;
+
+    private boolean done;
+
+    public JakartaJavaWorkspaceDiagnosticsReport() {}
+
+    public JakartaJavaWorkspaceDiagnosticsReport(String sessionId, List<PublishDiagnosticsParams> diagnostics) {
+        this.sessionId = sessionId;
+        this.diagnostics = diagnostics;
+    }
+
+    /**
+     * Returns the id of the validation session.
+     *
+     * @return the id of the validation session.
+     */
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    /**
+     * Returns the diagnostics of the Java files validated since the previous
+     * chunk.
+     *
+     * @return the diagnostics of the Java files validated since the previous
+     *         chunk.
+     */
+    public List<PublishDiagnosticsParams> getDiagnostics() {
+        return diagnostics;
+    }
+
+    public void setDiagnostics(List<PublishDiagnosticsParams> diagnostics) {
+        this.diagnostics = diagnostics;
+    }
+
+    /**
+     * Returns the uris of the Java files of this chunk whose diagnostics are
+     * incomplete because a participant failed, timed out or was canceled, and
+     * null if all the diagnostics are complete.
+     *
+     * @return the uris of the Java files of this chunk whose diagnostics are
+     *         incomplete.
+     */
+    public List<String> getIncompleteUris() {
+        return incompleteUris;
+    }
+
+    public void setIncompleteUris(List<String> incompleteUris) {
+        this.incompleteUris = incompleteUris;
+    }
+
+    /**
+     * Returns the number of Java files validated since the start of the
+     * session.
+     *
+     * @return the number of Java files validated since the start of the
+     *         session.
+     */
+    public int getProcessedFiles() {
+        return processedFiles;
+    }
+
+    public void setProcessedFiles(int processedFiles) {
+        this.processedFiles = processedFiles;
+    }
+
+    /**
+     * Returns the number of Java files to validate.
+     *
+     * @return the number of Java files to validate.
+     */
+    public int getTotalFiles() {
+        return totalFiles;
+    }
+
+    public void setTotalFiles(int totalFiles) {
+        this.totalFiles = totalFiles;
+    }
+
+    /**
+     * Returns the number of Java files validated per second since the start of
+     * the session.
+     *
+     * @return the number of Java files validated per second.
+     */
+    public double getFilesPerSecond() {
+        return filesPerSecond;
+    }
+
+    public void setFilesPerSecond(double filesPerSecond) {
+        this.filesPerSecond = filesPerSecond;
+    }
+
+    /**
+     * Returns true if it is the last chunk of the session (all the Java files
+     * are validated or the session is canceled) and false otherwise.
+     *
+     * @return true if it is the last chunk of the session and false otherwise.
+     */
+    public boolean isDone() {
+        return done;
+    }
+
+    public void setDone(boolean done) {
+        this.done = done;
+    }
+}
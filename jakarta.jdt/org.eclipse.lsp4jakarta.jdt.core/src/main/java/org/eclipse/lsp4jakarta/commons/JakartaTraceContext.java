@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.commons;
+
+/**
+ * Jakarta trace context: the id of a traced request and its timestamps, sent
+ * by the language server with the request parameters so the client and the
+ * JDT extension record their spans for the same request.
+ *
+ * <p>
+ * The timestamps are in milliseconds since the epoch, the hops of a request
+ * run on the same machine.
+ * </p>
+ */
+public class JakartaTraceContext {
+
+    private String requestId;
+
+    private long startTime;
+
+    private long sendTime;
+
+    private String file;
+
+    public JakartaTraceContext() {}
+
+    public JakartaTraceContext(String requestId, long startTime, String file) {
+        this.requestId = requestId;
+        this.startTime = startTime;
+        this.file = file;
+    }
+
+    /**
+     * Returns the id of the traced request.
+     *
+     * @return the id of the traced request.
+     */
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public void setRequestId(String requestId) {
+        this.requestId = requestId;
+    }
+
+    /**
+     * Returns the time when the language server received the request.
+     *
+     * @return the time when the language server received the request.
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(long startTime) {
+        this.startTime = startTime;
+    }
+
+    /**
+     * Returns the time when the language server sent the request to the client.
+     *
+     * @return the time when the language server sent the request to the client.
+     */
+    public long getSendTime() {
+        return sendTime;
+    }
+
+    public void setSendTime(long sendTime) {
+        this.sendTime = sendTime;
+    }
+
+    /**
+     * Returns the path of the file where the spans are appended and null to
+     * write them in the trace log.
+     *
+     * @return the path of the file where the spans are appended and null to
+     *         write them in the trace log.
+     */
+    public String getFile() {
+        return file;
+    }
+
+    public void setFile(String file) {
+        this.file = file;
+    }
+}
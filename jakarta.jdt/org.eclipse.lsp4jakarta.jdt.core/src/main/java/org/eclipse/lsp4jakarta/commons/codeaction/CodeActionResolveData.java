@@ -129,4 +129,10 @@ public class CodeActionResolveData extends CodeActionData {
                && Objects.equals(this.commandConfigurationUpdateSupported, that.commandConfigurationUpdateSupported);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(documentUri, participantId, range, extendedData, resourceOperationSupported,
+                            commandConfigurationUpdateSupported);
+    }
+
 }
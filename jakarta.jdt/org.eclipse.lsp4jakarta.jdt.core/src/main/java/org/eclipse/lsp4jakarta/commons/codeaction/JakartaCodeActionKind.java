@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.commons.codeaction;
+
+import org.eclipse.lsp4j.CodeActionKind;
+
+/**
+ * LSP4Jakarta code action kinds.
+ */
+public final class JakartaCodeActionKind {
+
+    private JakartaCodeActionKind() {}
+
+    /**
+     * Source action which fixes all the Jakarta EE diagnostics of a Java file
+     * which have an unambiguous quick fix.
+     */
+    public static final String SourceFixAll = CodeActionKind.SourceFixAll + ".jakarta";
+
+    /**
+     * Returns true if the given requested code action kind includes the
+     * Jakarta EE fix all source action (ex : <code>source</code>,
+     * <code>source.fixAll</code>) and false otherwise.
+     *
+     * @param kind the requested code action kind.
+     * @return true if the given requested code action kind includes the
+     *         Jakarta EE fix all source action and false otherwise.
+     */
+    public static boolean isFixAll(String kind) {
+        return SourceFixAll.equals(kind) || SourceFixAll.startsWith(kind + ".");
+    }
+}
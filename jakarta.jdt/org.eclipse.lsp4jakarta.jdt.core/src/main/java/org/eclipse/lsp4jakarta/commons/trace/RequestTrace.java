@@ -0,0 +1,311 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.commons.trace;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4jakarta.commons.JakartaTraceContext;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+/**
+ * The spans recorded by a hop (the language server, the client or the JDT
+ * extension) for a traced request.
+ *
+ * <p>
+ * A trace is enabled when the request parameters hold a
+ * {@link JakartaTraceContext}, otherwise the returned trace is a no-op. The
+ * spans are aggregated by name and written when the trace is closed, as one
+ * JSON line per span, in the file of the trace context or in the trace log:
+ * </p>
+ *
+ * <pre>
+ * try (RequestTrace trace = RequestTrace.start(RequestTrace.JDT_HOP, "completion", params.getTrace())) {
+ *     long start = System.nanoTime();
+ *     ...
+ *     trace.span("participants", start);
+ * }
+ * </pre>
+ *
+ * <p>
+ * The trace started with {@link #start(String, String, JakartaTraceContext)}
+ * is bound to the current thread until it is closed, so the code called by the
+ * hop records its spans with {@link #current()} without receiving the trace.
+ * </p>
+ */
+public class RequestTrace implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(RequestTrace.class.getName());
+
+    // Hops of a request
+    public static final String LS_HOP = "ls";
+    public static final String CLIENT_HOP = "client";
+    public static final String JDT_HOP = "jdt";
+
+    // Span recorded for the whole request by each hop
+    public static final String TOTAL_SPAN = "total";
+
+    private static final RequestTrace NONE = new RequestTrace(null, null, null);
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private static final Gson GSON = new Gson();
+
+    private static ExecutorService writeExecutor;
+
+    private final String hop;
+
+    private final String operation;
+
+    private final JakartaTraceContext context;
+
+    private final long startTime;
+
+    private final long startNanos;
+
+    private final Map<String, Span> spans;
+
+    private RequestTrace previous;
+
+    private boolean bound;
+
+    private boolean closed;
+
+    private RequestTrace(String hop, String operation, JakartaTraceContext context) {
+        this.hop = hop;
+        this.operation = operation;
+        this.context = context;
+        this.startTime = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+        this.spans = new LinkedHashMap<>();
+    }
+
+    /**
+     * Returns the no-op trace of the requests which are not traced.
+     *
+     * @return the no-op trace.
+     */
+    public static RequestTrace none() {
+        return NONE;
+    }
+
+    /**
+     * Returns a trace of the given operation for the given hop, not bound to the
+     * current thread.
+     *
+     * @param hop the hop which records the spans.
+     * @param operation the traced operation (ex : <code>completion</code>).
+     * @param context the trace context of the request and null if the request is
+     *            not traced.
+     * @return a trace and a no-op trace if the request is not traced.
+     */
+    public static RequestTrace create(String hop, String operation, JakartaTraceContext context) {
+        if (context == null || context.getRequestId() == null) {
+            return NONE;
+        }
+        return new RequestTrace(hop, operation, context);
+    }
+
+    /**
+     * Returns a trace of the given operation for the given hop, bound to the
+     * current thread until it is closed.
+     *
+     * @param hop the hop which records the spans.
+     * @param operation the traced operation (ex : <code>completion</code>).
+     * @param context the trace context of the request and null if the request is
+     *            not traced.
+     * @return a trace and a no-op trace if the request is not traced.
+     */
+    public static RequestTrace start(String hop, String operation, JakartaTraceContext context) {
+        RequestTrace trace = create(hop, operation, context);
+        if (trace != NONE) {
+            trace.previous = CURRENT.get();
+            trace.bound = true;
+            CURRENT.set(trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Returns the trace bound to the current thread and a no-op trace if there is
+     * none.
+     *
+     * @return the trace bound to the current thread.
+     */
+    public static RequestTrace current() {
+        RequestTrace trace = CURRENT.get();
+        return trace != null ? trace : NONE;
+    }
+
+    /**
+     * Returns true if the request is traced and false otherwise.
+     *
+     * @return true if the request is traced and false otherwise.
+     */
+    public boolean isEnabled() {
+        return this != NONE;
+    }
+
+    /**
+     * Records a span of the given name started at the given time and ending now.
+     * The spans of the same name are aggregated.
+     *
+     * @param name the name of the span.
+     * @param startNanos the start time of the span given by
+     *            {@link System#nanoTime()}.
+     */
+    public void span(String name, long startNanos) {
+        if (this == NONE) {
+            return;
+        }
+        record(name, startNanos - this.startNanos, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Records a span of the given name from the time when the language server
+     * sent the request to now, i.e. the time spent to serialize the request and
+     * to transport it to this hop.
+     *
+     * @param name the name of the span.
+     */
+    public void spanSinceSend(String name) {
+        if (this == NONE || context.getSendTime() <= 0) {
+            return;
+        }
+        long duration = TimeUnit.MILLISECONDS.toNanos(Math.max(0, System.currentTimeMillis() - context.getSendTime()));
+        record(name, TimeUnit.MILLISECONDS.toNanos(context.getSendTime() - startTime), duration);
+    }
+
+    /**
+     * Marks the request as sent to the next hop and returns the trace context to
+     * send with the request parameters.
+     *
+     * @return the trace context to send and null if the request is not traced.
+     */
+    public JakartaTraceContext send() {
+        if (this == NONE) {
+            return null;
+        }
+        context.setSendTime(System.currentTimeMillis());
+        return context;
+    }
+
+    private synchronized void record(String name, long offset, long duration) {
+        if (closed) {
+            return;
+        }
+        Span span = spans.get(name);
+        if (span == null) {
+            spans.put(name, new Span(offset, duration));
+        } else {
+            span.offset = Math.min(span.offset, offset);
+            span.duration += duration;
+            span.count++;
+        }
+    }
+
+    /**
+     * Records the {@link #TOTAL_SPAN} span, writes the spans and unbinds the
+     * trace from the current thread.
+     */
+    @Override
+    public void close() {
+        if (this == NONE) {
+            return;
+        }
+        if (bound) {
+            bound = false;
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+        List<String> lines;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            spans.put(TOTAL_SPAN, new Span(0, System.nanoTime() - startNanos));
+            closed = true;
+            lines = new ArrayList<>(spans.size());
+            for (Map.Entry<String, Span> entry : spans.entrySet()) {
+                lines.add(toJson(entry.getKey(), entry.getValue()));
+            }
+        }
+        write(context.getFile(), lines);
+    }
+
+    private String toJson(String name, Span span) {
+        JsonObject json = new JsonObject();
+        json.addProperty("requestId", context.getRequestId());
+        json.addProperty("hop", hop);
+        json.addProperty("operation", operation);
+        json.addProperty("span", name);
+        json.addProperty("start", startTime + TimeUnit.NANOSECONDS.toMillis(span.offset));
+        json.addProperty("duration", (double) span.duration / TimeUnit.MILLISECONDS.toNanos(1));
+        json.addProperty("count", span.count);
+        return GSON.toJson(json);
+    }
+
+    private static synchronized void write(String file, List<String> lines) {
+        if (writeExecutor == null) {
+            writeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "LSP4Jakarta request trace");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        writeExecutor.execute(() -> {
+            if (file == null || file.isEmpty()) {
+                lines.forEach(LOGGER::info);
+                return;
+            }
+            try {
+                Files.write(Paths.get(file), lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                            StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Error while writing the request trace in " + file, e);
+            }
+        });
+    }
+
+    private static class Span {
+
+        private long offset;
+
+        private long duration;
+
+        private int count;
+
+        private Span(long offset, long duration) {
+            this.offset = offset;
+            this.duration = duration;
+            this.count = 1;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.core;
+
+import org.eclipse.lsp4jakarta.commons.JakartaClasspathChangeEvent;
+
+/**
+ * Listener notified when the classpath of Java projects changed.
+ *
+ * @see JakartaCorePlugin#addClasspathChangedListener(IJakartaClasspathChangedListener)
+ */
+public interface IJakartaClasspathChangedListener {
+
+    /**
+     * Notifies that the classpath of the projects of the given event changed.
+     *
+     * @param event the classpath change event.
+     */
+    void classpathChanged(JakartaClasspathChangeEvent event);
+}
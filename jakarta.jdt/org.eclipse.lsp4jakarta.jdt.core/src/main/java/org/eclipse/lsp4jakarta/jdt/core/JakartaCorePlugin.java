@@ -16,6 +16,17 @@ package org.eclipse.lsp4jakarta.jdt.core;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.lsp4jakarta.jdt.internal.core.JakartaClasspathListenerManager;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.JakartaTaskExecutor;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.NameResolverCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SourceTypeNameIndex;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SupertypeHierarchyCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction.ResolvedCodeActionCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.WorkspaceDiagnosticsManager;
+import org.eclipse.lsp4jakarta.jdt.internal.core.ls.CompilationUnitConsistencyTracker;
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
 
@@ -33,9 +44,25 @@ public class JakartaCorePlugin implements BundleActivator {
     public void start(BundleContext context) throws Exception {
 //    	super.start(context);
         plugin = this;
+        CompilationUnitConsistencyTracker.getInstance().install();
+        JavaCore.addElementChangedListener(JakartaClasspathListenerManager.getInstance(), ElementChangedEvent.POST_CHANGE);
+        JavaDiagnosticsCache.getInstance().install();
+        SupertypeHierarchyCache.getInstance().install();
+        SourceTypeNameIndex.getInstance().install();
+        NameResolverCache.getInstance().install();
+        ResolvedCodeActionCache.getInstance().install();
     }
 
     public void stop(BundleContext context) throws Exception {
+        CompilationUnitConsistencyTracker.getInstance().uninstall();
+        JavaCore.removeElementChangedListener(JakartaClasspathListenerManager.getInstance());
+        JavaDiagnosticsCache.getInstance().uninstall();
+        SupertypeHierarchyCache.getInstance().uninstall();
+        SourceTypeNameIndex.getInstance().uninstall();
+        NameResolverCache.getInstance().uninstall();
+        ResolvedCodeActionCache.getInstance().uninstall();
+        WorkspaceDiagnosticsManager.getInstance().cancelAll();
+        JakartaTaskExecutor.getInstance().shutdown();
         plugin = null;
 //		super.stop(context);
     }
@@ -49,6 +76,24 @@ public class JakartaCorePlugin implements BundleActivator {
         return plugin;
     }
 
+    /**
+     * Add the given classpath changed listener.
+     *
+     * @param listener the listener to add
+     */
+    public void addClasspathChangedListener(IJakartaClasspathChangedListener listener) {
+        JakartaClasspathListenerManager.getInstance().addClasspathChangedListener(listener);
+    }
+
+    /**
+     * Remove the given classpath changed listener.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeClasspathChangedListener(IJakartaClasspathChangedListener listener) {
+        JakartaClasspathListenerManager.getInstance().removeClasspathChangedListener(listener);
+    }
+
     /**
      * Add the given Jakarta properties changed listener.
      *
@@ -15,7 +15,12 @@ package org.eclipse.lsp4jakarta.jdt.core;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -45,23 +50,37 @@ import org.eclipse.lsp4j.CompletionList;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.WorkspaceEdit;
 import org.eclipse.lsp4j.jsonrpc.validation.NonNull;
 import org.eclipse.lsp4jakarta.commons.DocumentFormat;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaCodeActionParams;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaCompletionParams;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsReport;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsSettings;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaFileInfo;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaFileInfoParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaFixAllParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaMetricsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaMetricsReport;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaWorkspaceDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaWorkspaceDiagnosticsReport;
 import org.eclipse.lsp4jakarta.commons.JavaCursorContextKind;
 import org.eclipse.lsp4jakarta.commons.JavaCursorContextResult;
+import org.eclipse.lsp4jakarta.commons.trace.RequestTrace;
 import org.eclipse.lsp4jakarta.jdt.core.java.completion.JavaCompletionContext;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
 import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.JavaFeaturesRegistry;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction.CodeActionHandler;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.completion.JavaCompletionDefinition;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsCache;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsDefinition;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsDependencyGraph;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsExecutor;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsExecutor.DiagnosticsRequest;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.WorkspaceDiagnosticsManager;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.metrics.ParticipantMetrics;
 
 /**
  * JDT Jakarta manager for Java files.
@@ -95,6 +114,13 @@ public class PropertiesManagerForJava {
      * @throws JavaModelException
      */
     public CompletionList completion(JakartaJavaCompletionParams params, IJDTUtils utils, IProgressMonitor monitor) throws JavaModelException {
+        try (RequestTrace trace = RequestTrace.start(RequestTrace.JDT_HOP, "completion", params.getTrace())) {
+            return collectCompletionItems(params, utils, monitor);
+        }
+    }
+
+    private CompletionList collectCompletionItems(JakartaJavaCompletionParams params, IJDTUtils utils,
+                                                  IProgressMonitor monitor) throws JavaModelException {
         String uri = params.getUri();
         ITypeRoot typeRoot = resolveTypeRoot(uri, utils, monitor);
         if (typeRoot == null) {
@@ -105,6 +131,7 @@ public class PropertiesManagerForJava {
         int completionOffset = utils.toOffset(typeRoot.getBuffer(), completionPosition.getLine(),
                                               completionPosition.getCharacter());
 
+        long start = System.nanoTime();
         List<CompletionItem> completionItems = new ArrayList<>();
         JavaCompletionContext completionContext = new JavaCompletionContext(uri, typeRoot, utils, completionOffset);
 
@@ -112,6 +139,7 @@ public class PropertiesManagerForJava {
                                                                                                                                                                                        monitor)).collect(Collectors.toList());
 
         if (completions.isEmpty()) {
+            RequestTrace.current().span("participants", start);
             return null;
         }
 
@@ -121,6 +149,7 @@ public class PropertiesManagerForJava {
                 completionItems.addAll(collectedCompletionItems);
             }
         });
+        RequestTrace.current().span("participants", start);
 
         if (monitor.isCanceled()) {
             return null;
@@ -143,18 +172,22 @@ public class PropertiesManagerForJava {
      */
     public JavaCursorContextResult javaCursorContext(JakartaJavaCompletionParams params, IJDTUtils utils,
                                                      IProgressMonitor monitor) throws JavaModelException {
-        String uri = params.getUri();
-        ITypeRoot typeRoot = resolveTypeRoot(uri, utils, monitor);
+        try (RequestTrace trace = RequestTrace.start(RequestTrace.JDT_HOP, "javaCursorContext", params.getTrace())) {
+            String uri = params.getUri();
+            ITypeRoot typeRoot = resolveTypeRoot(uri, utils, monitor);
 
-        if (typeRoot == null) {
-            return new JavaCursorContextResult(JavaCursorContextKind.IN_EMPTY_FILE, "");
-        }
-        CompilationUnit ast = ASTResolving.createQuickFixAST((ICompilationUnit) typeRoot, monitor);
+            if (typeRoot == null) {
+                return new JavaCursorContextResult(JavaCursorContextKind.IN_EMPTY_FILE, "");
+            }
+            long start = System.nanoTime();
+            CompilationUnit ast = ASTResolving.createQuickFixAST((ICompilationUnit) typeRoot, monitor);
+            trace.span("ast", start);
 
-        JavaCursorContextKind kind = getJavaCursorContextKind(params, typeRoot, ast, utils, monitor);
-        String prefix = getJavaCursorPrefix(params, typeRoot, ast, utils, monitor);
+            JavaCursorContextKind kind = getJavaCursorContextKind(params, typeRoot, ast, utils, monitor);
+            String prefix = getJavaCursorPrefix(params, typeRoot, ast, utils, monitor);
 
-        return new JavaCursorContextResult(kind, prefix);
+            return new JavaCursorContextResult(kind, prefix);
+        }
     }
 
     private static JavaCursorContextKind getJavaCursorContextKind(JakartaJavaCompletionParams params,
@@ -263,15 +296,21 @@ public class PropertiesManagerForJava {
      * @return compilation unit
      */
     private static ITypeRoot resolveTypeRoot(String uri, IJDTUtils utils, IProgressMonitor monitor) {
+        RequestTrace trace = RequestTrace.current();
+        long start = System.nanoTime();
         utils.waitForLifecycleJobs(monitor);
+        trace.span("lifecycleWait", start);
+        start = System.nanoTime();
         final ICompilationUnit unit = utils.resolveCompilationUnit(uri);
         IClassFile classFile = null;
         if (unit == null) {
             classFile = utils.resolveClassFile(uri);
+            trace.span("resolveUnit", start);
             if (classFile == null) {
                 return null;
             }
         } else {
+            trace.span("resolveUnit", start);
             if (!unit.getResource().exists() || monitor.isCanceled()) {
                 return null;
             }
@@ -290,7 +329,9 @@ public class PropertiesManagerForJava {
      */
     public List<? extends CodeAction> codeAction(JakartaJavaCodeActionParams params, IJDTUtils utils,
                                                  IProgressMonitor monitor) throws JavaModelException {
-        return codeActionHandler.codeAction(params, utils, monitor);
+        try (RequestTrace trace = RequestTrace.start(RequestTrace.JDT_HOP, "codeAction", params.getTrace())) {
+            return codeActionHandler.codeAction(params, utils, monitor);
+        }
     }
 
     /**
@@ -306,6 +347,50 @@ public class PropertiesManagerForJava {
         return codeActionHandler.resolveCodeAction(unresolved, utils, monitor);
     }
 
+    /**
+     * Returns the workspace edit which fixes all the diagnostics with an
+     * unambiguous quick fix of the Java file or the project given by the
+     * parameters.
+     *
+     * @param params the fix all parameters
+     * @param utils the utilities class
+     * @param monitor the monitor
+     * @return the workspace edit which fixes all the diagnostics with an
+     *         unambiguous quick fix and null if there is nothing to fix.
+     * @throws JavaModelException
+     */
+    public WorkspaceEdit fixAll(JakartaJavaFixAllParams params, IJDTUtils utils,
+                                IProgressMonitor monitor) throws JavaModelException {
+        return codeActionHandler.fixAll(params, utils, monitor);
+    }
+
+    /**
+     * Starts the validation of all the Java files of the Jakarta projects of the
+     * workspace or returns the next chunk of diagnostics of the validation
+     * session given by the parameters.
+     *
+     * @param params the workspace diagnostics parameters
+     * @param utils the utilities class
+     * @param monitor the monitor
+     * @return the next chunk of diagnostics of the validation session.
+     * @throws JavaModelException
+     */
+    public JakartaJavaWorkspaceDiagnosticsReport workspaceDiagnostics(JakartaJavaWorkspaceDiagnosticsParams params,
+                                                                      IJDTUtils utils,
+                                                                      IProgressMonitor monitor) throws JavaModelException {
+        return WorkspaceDiagnosticsManager.getInstance().workspaceDiagnostics(params, utils, monitor);
+    }
+
+    /**
+     * Returns the metrics of the diagnostics and code action participants.
+     *
+     * @param params the metrics parameters
+     * @return the metrics of the diagnostics and code action participants.
+     */
+    public JakartaJavaMetricsReport metrics(JakartaJavaMetricsParams params) {
+        return ParticipantMetrics.getInstance().getReport(params);
+    }
+
     /**
      * Returns diagnostics for the given uris list.
      *
@@ -316,48 +401,240 @@ public class PropertiesManagerForJava {
      */
     public List<PublishDiagnosticsParams> diagnostics(JakartaJavaDiagnosticsParams params, IJDTUtils utils,
                                                       IProgressMonitor monitor) throws JavaModelException {
+        return diagnostics(params, utils, null, monitor);
+    }
+
+    /**
+     * Returns diagnostics for the given uris list and notifies the given
+     * listener with the diagnostics of each Java file as soon as they are
+     * collected: the cached diagnostics first, then the diagnostics of the other
+     * files as their participants complete.
+     *
+     * @param params the diagnostics parameters
+     * @param utils the utilities class
+     * @param listener the listener notified with the diagnostics of each Java
+     *            file and null otherwise.
+     * @param monitor the monitor
+     * @return diagnostics for the given uris list.
+     * @throws JavaModelException
+     */
+    public List<PublishDiagnosticsParams> diagnostics(JakartaJavaDiagnosticsParams params, IJDTUtils utils,
+                                                      Consumer<PublishDiagnosticsParams> listener,
+                                                      IProgressMonitor monitor) throws JavaModelException {
+        return diagnostics(params, utils, listener, null, monitor);
+    }
+
+    /**
+     * Returns diagnostics for the given uris list, notifies the given listener
+     * with the diagnostics of each Java file as soon as they are collected and
+     * adds to the given set the uris of the Java files whose diagnostics are
+     * incomplete because a participant failed, timed out or was canceled. The
+     * incomplete diagnostics are not cached.
+     *
+     * @param params the diagnostics parameters
+     * @param utils the utilities class
+     * @param listener the listener notified with the diagnostics of each Java
+     *            file and null otherwise.
+     * @param incompleteUris the set which collects the uris of the Java files
+     *            whose diagnostics are incomplete and null otherwise.
+     * @param monitor the monitor
+     * @return diagnostics for the given uris list.
+     * @throws JavaModelException
+     */
+    public List<PublishDiagnosticsParams> diagnostics(JakartaJavaDiagnosticsParams params, IJDTUtils utils,
+                                                      Consumer<PublishDiagnosticsParams> listener,
+                                                      Set<String> incompleteUris,
+                                                      IProgressMonitor monitor) throws JavaModelException {
+        try (RequestTrace trace = RequestTrace.start(RequestTrace.JDT_HOP, "diagnostics", params.getTrace())) {
+            return collectDiagnostics(params, utils, listener, incompleteUris, monitor);
+        }
+    }
+
+    private List<PublishDiagnosticsParams> collectDiagnostics(JakartaJavaDiagnosticsParams params, IJDTUtils utils,
+                                                              Consumer<PublishDiagnosticsParams> listener,
+                                                              Set<String> incompleteUris,
+                                                              IProgressMonitor monitor) throws JavaModelException {
         List<String> uris = params.getUris();
         if (uris == null) {
             return Collections.emptyList();
         }
+        List<String> changedUris = params.getChangedUris();
+        if (changedUris != null) {
+            // Validate only the changed files and the files which depend on them
+            Map<String, ITypeRoot> changedTypeRoots = new HashMap<>();
+            for (String changedUri : changedUris) {
+                changedTypeRoots.put(changedUri, resolveTypeRoot(changedUri, utils, monitor));
+            }
+            uris = JavaDiagnosticsDependencyGraph.getInstance().getAffectedUris(uris, changedTypeRoots);
+        }
         DocumentFormat documentFormat = params.getDocumentFormat();
+        JavaDiagnosticsCache cache = JavaDiagnosticsCache.getInstance();
         List<PublishDiagnosticsParams> publishDiagnostics = new ArrayList<PublishDiagnosticsParams>();
+        List<DiagnosticsRequest> requests = new ArrayList<>();
+        Map<DiagnosticsRequest, JavaDiagnosticsCache.Key> cacheKeys = new HashMap<>();
+        Map<DiagnosticsRequest, PublishDiagnosticsParams> requestDiagnostics = new HashMap<>();
         for (String uri : uris) {
             List<Diagnostic> diagnostics = new ArrayList<>();
             PublishDiagnosticsParams publishDiagnostic = new PublishDiagnosticsParams(uri, diagnostics);
             publishDiagnostics.add(publishDiagnostic);
-            collectDiagnostics(uri, utils, documentFormat, params.getSettings(), diagnostics, monitor);
+            ITypeRoot typeRoot = resolveTypeRoot(uri, utils, monitor);
+            if (typeRoot == null) {
+                notify(listener, publishDiagnostic);
+                continue;
+            }
+            // Returns the diagnostics of the same content without calling the participants
+            JavaDiagnosticsCache.Key cacheKey = cache.createKey(uri, typeRoot, documentFormat, params.getSettings());
+            if (cacheKey != null) {
+                List<Diagnostic> cachedDiagnostics = cache.get(cacheKey);
+                if (cachedDiagnostics != null) {
+                    diagnostics.addAll(cachedDiagnostics);
+                    notify(listener, publishDiagnostic);
+                    continue;
+                }
+            }
+            long start = System.nanoTime();
+            DiagnosticsRequest request = createDiagnosticsRequest(uri, typeRoot, utils, documentFormat,
+                                                                  params.getSettings(), diagnostics, monitor);
+            RequestTrace.current().span("participants", start);
+            if (request != null) {
+                requests.add(request);
+                requestDiagnostics.put(request, publishDiagnostic);
+                if (cacheKey != null) {
+                    cacheKeys.put(request, cacheKey);
+                }
+            } else {
+                if (cacheKey != null) {
+                    // No participant for this file
+                    cache.put(cacheKey, diagnostics);
+                }
+                notify(listener, publishDiagnostic);
+            }
         }
+        // Execute the participants of all uris (concurrently if enabled)
+        long start = System.nanoTime();
+        JavaDiagnosticsExecutor.getInstance().collectDiagnostics(requests, request -> {
+            // Record the types the diagnostics depend on for the next save
+            JavaDiagnosticsDependencyGraph.getInstance().update(request.getContext());
+            JavaDiagnosticsCache.Key cacheKey = cacheKeys.get(request);
+            if (request.isIncomplete()) {
+                // Don't cache the diagnostics of a failed or timed out participant
+                if (incompleteUris != null) {
+                    incompleteUris.add(request.getContext().getUri());
+                }
+            } else if (cacheKey != null) {
+                cache.put(cacheKey, request.getDiagnostics());
+            }
+            notify(listener, requestDiagnostics.get(request));
+        }, monitor);
+        RequestTrace.current().span("participants", start);
         if (monitor.isCanceled()) {
+            if (incompleteUris != null) {
+                // The requests which were not notified are not collected
+                for (DiagnosticsRequest request : requests) {
+                    incompleteUris.add(request.getContext().getUri());
+                }
+            }
             return Collections.emptyList();
         }
         return publishDiagnostics;
     }
 
-    private void collectDiagnostics(String uri, IJDTUtils utils, DocumentFormat documentFormat,
-                                    JakartaJavaDiagnosticsSettings settings, List<Diagnostic> diagnostics, IProgressMonitor monitor) {
-        ITypeRoot typeRoot = resolveTypeRoot(uri, utils, monitor);
-        if (typeRoot == null) {
-            return;
+    private static void notify(Consumer<PublishDiagnosticsParams> listener, PublishDiagnosticsParams diagnostics) {
+        if (listener != null) {
+            listener.accept(diagnostics);
+        }
+    }
+
+    /**
+     * Returns the pulled diagnostics for the given uris list.
+     *
+     * <p>
+     * The participants are called only for the Java files whose result id
+     * differs from the previous result id given by the parameters, the other
+     * Java files are reported as unchanged.
+     * </p>
+     *
+     * @param params the diagnostics parameters
+     * @param utils the utilities class
+     * @param monitor the monitor
+     * @return the pulled diagnostics for the given uris list.
+     * @throws JavaModelException
+     */
+    public List<JakartaJavaDiagnosticsReport> pullDiagnostics(JakartaJavaDiagnosticsParams params, IJDTUtils utils,
+                                                              IProgressMonitor monitor) throws JavaModelException {
+        try (RequestTrace trace = RequestTrace.start(RequestTrace.JDT_HOP, "pullDiagnostics", params.getTrace())) {
+            return collectPulledDiagnostics(params, utils, monitor);
+        }
+    }
+
+    private List<JakartaJavaDiagnosticsReport> collectPulledDiagnostics(JakartaJavaDiagnosticsParams params, IJDTUtils utils,
+                                                                        IProgressMonitor monitor) throws JavaModelException {
+        List<String> uris = params.getUris();
+        if (uris == null) {
+            return Collections.emptyList();
+        }
+        Map<String, String> previousResultIds = params.getPreviousResultIds() != null ? params.getPreviousResultIds() : Collections.emptyMap();
+        JavaDiagnosticsCache cache = JavaDiagnosticsCache.getInstance();
+        JavaDiagnosticsDependencyGraph graph = JavaDiagnosticsDependencyGraph.getInstance();
+        // A dependency which changes during the validation doesn't change the result
+        // ids computed before
+        long invalidationCount = cache.getInvalidationCount();
+        List<JakartaJavaDiagnosticsReport> reports = new ArrayList<>();
+        Map<String, JakartaJavaDiagnosticsReport> changedReports = new HashMap<>();
+        for (String uri : uris) {
+            ITypeRoot typeRoot = resolveTypeRoot(uri, utils, monitor);
+            String resultId = typeRoot != null ? cache.getResultId(uri, typeRoot, params.getDocumentFormat(), params.getSettings()) : null;
+            JakartaJavaDiagnosticsReport report = new JakartaJavaDiagnosticsReport(uri, resultId, null);
+            reports.add(report);
+            if (resultId != null && resultId.equals(previousResultIds.get(uri)) && graph.getDependencies(uri) != null) {
+                // Nothing which changes the diagnostics of the Java file changed. The
+                // result id only changes with the dependencies recorded by the graph, so a
+                // Java file whose dependencies are not recorded is validated again
+                report.setUnchanged(true);
+                continue;
+            }
+            report.setDiagnostics(Collections.emptyList());
+            changedReports.put(uri, report);
+        }
+        if (!changedReports.isEmpty()) {
+            JakartaJavaDiagnosticsParams changedParams = new JakartaJavaDiagnosticsParams(new ArrayList<>(changedReports.keySet()),
+                                                                                          params.getSettings());
+            changedParams.setDocumentFormat(params.getDocumentFormat());
+            Set<String> incompleteUris = ConcurrentHashMap.newKeySet();
+            for (PublishDiagnosticsParams publishDiagnostics : diagnostics(changedParams, utils, null, incompleteUris,
+                                                                           monitor)) {
+                changedReports.get(publishDiagnostics.getUri()).setDiagnostics(publishDiagnostics.getDiagnostics());
+            }
+            if (cache.getInvalidationCount() != invalidationCount) {
+                // A dependency changed during the validation, the next pull must collect
+                // the diagnostics again
+                changedReports.values().forEach(report -> report.setResultId(null));
+            }
+            for (String incompleteUri : incompleteUris) {
+                // The next pull must collect the diagnostics again
+                JakartaJavaDiagnosticsReport report = changedReports.get(incompleteUri);
+                if (report != null) {
+                    report.setResultId(null);
+                }
+            }
         }
+        if (monitor.isCanceled()) {
+            return Collections.emptyList();
+        }
+        return reports;
+    }
 
+    private DiagnosticsRequest createDiagnosticsRequest(String uri, ITypeRoot typeRoot, IJDTUtils utils,
+                                                        DocumentFormat documentFormat, JakartaJavaDiagnosticsSettings settings,
+                                                        List<Diagnostic> diagnostics, IProgressMonitor monitor) {
         // Collect all adapted diagnostics participant
         JavaDiagnosticsContext context = new JavaDiagnosticsContext(uri, typeRoot, utils, documentFormat, settings);
         List<JavaDiagnosticsDefinition> definitions = JavaFeaturesRegistry.getInstance().getJavaDiagnosticsDefinitions().stream().filter(definition -> definition.isAdaptedForDiagnostics(context,
                                                                                                                                                                                           monitor)).collect(Collectors.toList());
         if (definitions.isEmpty()) {
-            return;
+            return null;
         }
-
-        // Begin, collect, end participants
-        definitions.forEach(definition -> definition.beginDiagnostics(context, monitor));
-        definitions.forEach(definition -> {
-            List<Diagnostic> collectedDiagnostics = definition.collectDiagnostics(context, monitor);
-            if (collectedDiagnostics != null && !collectedDiagnostics.isEmpty()) {
-                diagnostics.addAll(collectedDiagnostics);
-            }
-        });
-        definitions.forEach(definition -> definition.endDiagnostics(context, monitor));
+        return new DiagnosticsRequest(context, definitions, diagnostics);
     }
 
     /**
@@ -13,14 +13,15 @@
 *******************************************************************************/
 package org.eclipse.lsp4jakarta.jdt.core.java;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
+import org.eclipse.lsp4jakarta.commons.trace.RequestTrace;
 import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 
 /**
@@ -37,15 +38,23 @@ public abstract class AbstractJavaContext {
 
     private final IJDTUtils utils;
 
-    private Map<String, Object> cache;
+    private final Map<String, Object> cache;
 
     private CompilationUnit fASTRoot;
 
+    private CompilationUnitSnapshot snapshot;
+
+    // The trace of the request which created the context, the participants can
+    // build the AST in other threads
+    private final RequestTrace trace;
+
     public AbstractJavaContext(String uri, ITypeRoot typeRoot, IJDTUtils utils) {
         this.uri = uri;
         this.typeRoot = typeRoot;
         this.utils = utils;
+        this.cache = new ConcurrentHashMap<>();
         this.fASTRoot = null;
+        this.trace = RequestTrace.current();
     }
 
     public String getUri() {
@@ -56,6 +65,16 @@ public abstract class AbstractJavaContext {
         return typeRoot;
     }
 
+    /**
+     * Returns the compilation unit of the context and null if the context is
+     * associated to a class file.
+     *
+     * @return the compilation unit of the context and null otherwise.
+     */
+    public ICompilationUnit getCompilationUnit() {
+        return typeRoot instanceof ICompilationUnit ? (ICompilationUnit) typeRoot : null;
+    }
+
     public IJavaProject getJavaProject() {
         return getTypeRoot().getJavaProject();
     }
@@ -71,10 +90,11 @@ public abstract class AbstractJavaContext {
      * @param value the value.
      */
     public void put(String key, Object value) {
-        if (cache == null) {
-            cache = new HashMap<>();
+        if (value == null) {
+            cache.remove(key);
+        } else {
+            cache.put(key, value);
         }
-        cache.put(key, value);
     }
 
     /**
@@ -86,15 +106,14 @@ public abstract class AbstractJavaContext {
      *         this map contains no mapping for the key.
      */
     public Object get(String key) {
-        if (cache == null) {
-            return null;
-        }
         return cache.get(key);
     }
 
-    public CompilationUnit getASTRoot() {
+    public synchronized CompilationUnit getASTRoot() {
         if (fASTRoot == null) {
+            long start = System.nanoTime();
             fASTRoot = ASTResolving.createQuickFixAST((ICompilationUnit) getTypeRoot(), null);
+            trace.span("ast", start);
         }
         return fASTRoot;
     }
@@ -102,8 +121,21 @@ public abstract class AbstractJavaContext {
     /**
      * @param root The ASTRoot to set.
      */
-    public void setASTRoot(CompilationUnit root) {
+    public synchronized void setASTRoot(CompilationUnit root) {
         fASTRoot = root;
     }
 
+    /**
+     * Returns the snapshot of the compilation unit shared by all participants of
+     * the current request.
+     *
+     * @return the snapshot of the compilation unit.
+     */
+    public synchronized CompilationUnitSnapshot getSnapshot() {
+        if (snapshot == null) {
+            snapshot = new CompilationUnitSnapshot(getCompilationUnit(), this::getASTRoot);
+        }
+        return snapshot;
+    }
+
 }
@@ -0,0 +1,265 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.core.java;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.core.IAnnotatable;
+import org.eclipse.jdt.core.IAnnotation;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IImportDeclaration;
+import org.eclipse.jdt.core.ILocalVariable;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.AnnotationIds;
+
+/**
+ * Snapshot of the Java model and DOM information of a compilation unit,
+ * shared by all participants which process the same request.
+ *
+ * <p>
+ * Every value is computed on first access and then reused, so a validation
+ * resolves the compilation unit and builds its binding-resolved AST only once,
+ * regardless of how many participants consume it.
+ * </p>
+ */
+public class CompilationUnitSnapshot {
+
+    private static final IType[] NO_TYPES = new IType[0];
+
+    private static final IImportDeclaration[] NO_IMPORTS = new IImportDeclaration[0];
+
+    /**
+     * The IDs of the known annotations which annotate a member, resolved for the
+     * annotations interned when they were computed.
+     */
+    private static class ResolvedAnnotations {
+
+        private BitSet ids = new BitSet();
+
+        private int resolvedCount;
+    }
+
+    private final ICompilationUnit unit;
+
+    private final Supplier<CompilationUnit> astProvider;
+
+    private final Map<IAnnotatable, IAnnotation[]> annotations;
+
+    private final Map<IAnnotatable, ResolvedAnnotations> annotationIds;
+
+    private final Set<IType> resolvedTypes;
+
+    private IType[] allTypes;
+
+    private IImportDeclaration[] imports;
+
+    private List<MethodInvocation> methodInvocations;
+
+    private List<MethodDeclaration> methodDeclarations;
+
+    public CompilationUnitSnapshot(ICompilationUnit unit, Supplier<CompilationUnit> astProvider) {
+        this.unit = unit;
+        this.astProvider = astProvider;
+        this.annotations = new ConcurrentHashMap<>();
+        this.annotationIds = new ConcurrentHashMap<>();
+        this.resolvedTypes = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Returns the compilation unit of the snapshot and null if the context is not
+     * a compilation unit (ex : a class file).
+     *
+     * @return the compilation unit of the snapshot and null otherwise.
+     */
+    public ICompilationUnit getCompilationUnit() {
+        return unit;
+    }
+
+    /**
+     * Returns the shared binding-resolved AST of the compilation unit.
+     *
+     * @return the shared binding-resolved AST of the compilation unit.
+     */
+    public CompilationUnit getASTRoot() {
+        return astProvider.get();
+    }
+
+    /**
+     * Returns the result of {@link ICompilationUnit#getAllTypes()}.
+     *
+     * @return all top-level and member types declared in the compilation unit.
+     * @throws JavaModelException
+     */
+    public synchronized IType[] getAllTypes() throws JavaModelException {
+        if (allTypes == null) {
+            allTypes = unit != null ? unit.getAllTypes() : NO_TYPES;
+        }
+        return allTypes;
+    }
+
+    /**
+     * Returns the result of {@link ICompilationUnit#getImports()}.
+     *
+     * @return the import declarations of the compilation unit.
+     * @throws JavaModelException
+     */
+    public synchronized IImportDeclaration[] getImports() throws JavaModelException {
+        if (imports == null) {
+            imports = unit != null ? unit.getImports() : NO_IMPORTS;
+        }
+        return imports;
+    }
+
+    /**
+     * Returns the result of {@link IAnnotatable#getAnnotations()} for the given
+     * element.
+     *
+     * @param element the annotatable element (type, field, method, ...).
+     * @return the annotations of the given element.
+     * @throws JavaModelException
+     */
+    public IAnnotation[] getAnnotations(IAnnotatable element) throws JavaModelException {
+        IAnnotation[] result = annotations.get(element);
+        if (result == null) {
+            result = element.getAnnotations();
+            annotations.put(element, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the IDs (see {@link AnnotationIds}) of the known annotations of the
+     * given element, resolved in the scope of the given type.
+     *
+     * <p>
+     * The first call for a type resolves the IDs of the type and of all its
+     * fields, methods and method parameters at once, so the participants which
+     * iterate over the members of the type only read the precomputed bit sets.
+     * The returned bit set is shared and must not be modified.
+     * </p>
+     *
+     * @param type the type which declares the element (or the element itself).
+     * @param element the annotatable element (type, field, method, parameter,
+     *        ...).
+     * @return the IDs of the known annotations of the given element.
+     * @throws JavaModelException
+     */
+    public BitSet getAnnotationIds(IType type, IAnnotatable element) throws JavaModelException {
+        if (resolvedTypes.add(type)) {
+            resolveAnnotationIds(type, type);
+            for (IField field : type.getFields()) {
+                resolveAnnotationIds(type, field);
+            }
+            for (IMethod method : type.getMethods()) {
+                resolveAnnotationIds(type, method);
+                for (ILocalVariable parameter : method.getParameters()) {
+                    resolveAnnotationIds(type, parameter);
+                }
+            }
+        }
+        return resolveAnnotationIds(type, element);
+    }
+
+    private BitSet resolveAnnotationIds(IType type, IAnnotatable element) throws JavaModelException {
+        ResolvedAnnotations resolved = annotationIds.computeIfAbsent(element, e -> new ResolvedAnnotations());
+        AnnotationIds table = AnnotationIds.getInstance();
+        int knownCount = table.size();
+        synchronized (resolved) {
+            if (resolved.resolvedCount < knownCount) {
+                // resolve the annotations interned since the last call in a copy, the
+                // bit set already returned to the participants is never modified
+                BitSet ids = (BitSet) resolved.ids.clone();
+                for (IAnnotation annotation : getAnnotations(element)) {
+                    String name = annotation.getElementName();
+                    for (int id : table.getCandidateIds(name)) {
+                        if (id >= resolved.resolvedCount && id < knownCount
+                            && DiagnosticUtils.isMatchedJavaElement(type, name, table.getName(id))) {
+                            ids.set(id);
+                        }
+                    }
+                }
+                resolved.ids = ids;
+                resolved.resolvedCount = knownCount;
+            }
+            return resolved.ids;
+        }
+    }
+
+    /**
+     * Returns all the method invocations of the compilation unit.
+     *
+     * @return all the method invocations of the compilation unit.
+     */
+    public List<MethodInvocation> getMethodInvocations() {
+        indexMethods();
+        return methodInvocations;
+    }
+
+    /**
+     * Returns all the method declarations of the compilation unit.
+     *
+     * @return all the method declarations of the compilation unit.
+     */
+    public List<MethodDeclaration> getMethodDeclarations() {
+        indexMethods();
+        return methodDeclarations;
+    }
+
+    /**
+     * Collects method invocations and method declarations in one visit of the
+     * shared AST.
+     */
+    private synchronized void indexMethods() {
+        if (methodInvocations != null) {
+            return;
+        }
+        CompilationUnit root = unit != null ? getASTRoot() : null;
+        if (root == null) {
+            methodDeclarations = Collections.emptyList();
+            methodInvocations = Collections.emptyList();
+            return;
+        }
+        List<MethodInvocation> invocations = new ArrayList<>();
+        List<MethodDeclaration> declarations = new ArrayList<>();
+        root.accept(new ASTVisitor() {
+            @Override
+            public boolean visit(MethodInvocation node) {
+                invocations.add(node);
+                return true;
+            }
+
+            @Override
+            public boolean visit(MethodDeclaration node) {
+                declarations.add(node);
+                return true;
+            }
+        });
+        methodDeclarations = Collections.unmodifiableList(declarations);
+        methodInvocations = Collections.unmodifiableList(invocations);
+    }
+}
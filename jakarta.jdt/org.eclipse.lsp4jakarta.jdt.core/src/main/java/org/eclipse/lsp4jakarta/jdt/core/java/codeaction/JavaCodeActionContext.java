@@ -16,7 +16,6 @@ package org.eclipse.lsp4jakarta.jdt.core.java.codeaction;
 import java.util.Arrays;
 
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.NodeFinder;
@@ -55,11 +54,6 @@ public class JavaCodeActionContext extends AbstractJavaContext implements IInvoc
         return params;
     }
 
-    @Override
-    public ICompilationUnit getCompilationUnit() {
-        return (ICompilationUnit) getTypeRoot();
-    }
-
     /**
      * Returns the length.
      *
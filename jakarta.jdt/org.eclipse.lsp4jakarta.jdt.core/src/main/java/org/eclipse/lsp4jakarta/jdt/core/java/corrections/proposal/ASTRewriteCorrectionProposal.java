@@ -24,6 +24,7 @@ import org.eclipse.jdt.core.dom.rewrite.ImportRewrite;
 import org.eclipse.jdt.core.manipulation.CodeStyleConfiguration;
 import org.eclipse.jdt.ls.core.internal.StatusFactory;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction.CodeActionResolveSession;
 import org.eclipse.text.edits.TextEdit;
 
 /**
@@ -88,6 +89,18 @@ public class ASTRewriteCorrectionProposal extends CUCorrectionProposal {
         return fImportRewrite;
     }
 
+    /**
+     * Returns the AST of the compilation unit of this proposal, to use when the
+     * declaration to modify is not in the invocation AST. The AST is shared by the
+     * proposals resolved in the same code action resolve session.
+     *
+     * @param invocationRoot the AST of the code action invocation
+     * @return the AST of the compilation unit of this proposal
+     */
+    protected CompilationUnit getQuickFixAST(CompilationUnit invocationRoot) {
+        return CodeActionResolveSession.getQuickFixAST(invocationRoot, getCompilationUnit());
+    }
+
     @Override
     protected void addEdits(IDocument document, TextEdit editRoot) throws CoreException {
         super.addEdits(document, editRoot);
@@ -27,7 +27,6 @@ import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ListRewrite;
-import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.lsp4j.CodeActionKind;
 
 /**
@@ -79,7 +78,7 @@ public class AddConstructorProposal extends ASTRewriteCorrectionProposal {
         if (boundNode != null) {
             declNode = boundNode;
         } else {
-            newRoot = ASTResolving.createQuickFixAST(getCompilationUnit(), null);
+            newRoot = getQuickFixAST(invocationNode);
             declNode = newRoot.findDeclaringNode(binding.getKey());
         }
 
@@ -27,7 +27,6 @@ import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite.ImportRewriteContext;
-import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.jdt.internal.corext.codemanipulation.ContextSensitiveImportRewriteContext;
 import org.eclipse.jdt.internal.corext.dom.Bindings;
 import org.eclipse.lsp4j.CodeActionKind;
@@ -56,7 +55,7 @@ public class ExtendClassProposal extends ASTRewriteCorrectionProposal {
         if (boundNode != null) {
             declNode = boundNode; // is same CU
         } else {
-            newRoot = ASTResolving.createQuickFixAST(getCompilationUnit(), null);
+            newRoot = getQuickFixAST(fAstRoot);
             declNode = newRoot.findDeclaringNode(fBinding.getKey());
         }
         ImportRewrite imports = createImportRewrite(newRoot);
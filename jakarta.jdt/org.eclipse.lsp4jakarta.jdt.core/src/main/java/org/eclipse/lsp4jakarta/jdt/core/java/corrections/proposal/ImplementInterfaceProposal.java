@@ -28,7 +28,6 @@ import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite.ImportRewriteContext;
 import org.eclipse.jdt.core.dom.rewrite.ListRewrite;
-import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.codemanipulation.ContextSensitiveImportRewriteContext;
 import org.eclipse.jdt.internal.corext.dom.Bindings;
@@ -76,7 +75,7 @@ public class ImplementInterfaceProposal extends ASTRewriteCorrectionProposal {
         if (boundNode != null) {
             declNode = boundNode; // is same CU
         } else {
-            newRoot = ASTResolving.createQuickFixAST(getCompilationUnit(), null);
+            newRoot = getQuickFixAST(fAstRoot);
             declNode = newRoot.findDeclaringNode(fBinding.getKey());
         }
         ImportRewrite imports = createImportRewrite(newRoot);
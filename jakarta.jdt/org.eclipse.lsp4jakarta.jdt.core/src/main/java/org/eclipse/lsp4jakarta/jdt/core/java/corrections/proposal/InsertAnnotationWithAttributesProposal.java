@@ -32,7 +32,6 @@ import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite.ImportRewriteContext;
-import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.jdt.internal.corext.codemanipulation.ContextSensitiveImportRewriteContext;
 import org.eclipse.lsp4j.CodeActionKind;
 import org.eclipse.lsp4jakarta.commons.utils.AnnotationValueExpressionUtil;
@@ -86,7 +85,7 @@ public class InsertAnnotationWithAttributesProposal extends ASTRewriteCorrection
         if (boundNode != null) {
             declNode = boundNode;
         } else {
-            newRoot = ASTResolving.createQuickFixAST(getCompilationUnit(), null);
+            newRoot = getQuickFixAST(fInvocationNode);
             declNode = newRoot.findDeclaringNode(fBinding.getKey());
         }
 
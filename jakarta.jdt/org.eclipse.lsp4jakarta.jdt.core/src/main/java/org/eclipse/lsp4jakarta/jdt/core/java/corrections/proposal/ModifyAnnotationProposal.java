@@ -41,7 +41,6 @@ import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite.ImportRewriteContext;
-import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.jdt.internal.corext.codemanipulation.ContextSensitiveImportRewriteContext;
 import org.eclipse.lsp4jakarta.commons.utils.AnnotationValueExpressionUtil;
 
@@ -105,7 +104,7 @@ public class ModifyAnnotationProposal extends InsertAnnotationProposal {
         if (boundNode != null) {
             declNode = boundNode; // is same CU
         } else {
-            newRoot = ASTResolving.createQuickFixAST(getCompilationUnit(), null);
+            newRoot = getQuickFixAST(fInvocationNode);
             declNode = newRoot.findDeclaringNode(fBinding.getKey());
         }
         ImportRewrite imports = createImportRewrite(newRoot);
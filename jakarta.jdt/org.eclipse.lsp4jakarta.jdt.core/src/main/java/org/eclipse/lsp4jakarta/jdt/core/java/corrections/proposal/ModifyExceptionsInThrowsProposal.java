@@ -25,7 +25,6 @@ import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.Type;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ListRewrite;
-import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.lsp4j.CodeActionKind;
 
 /**
@@ -60,7 +59,7 @@ public class ModifyExceptionsInThrowsProposal extends ASTRewriteCorrectionPropos
         if (boundNode != null) {
             declNode = boundNode;
         } else {
-            CompilationUnit newRoot = ASTResolving.createQuickFixAST(getCompilationUnit(), null);
+            CompilationUnit newRoot = getQuickFixAST(invocationNode);
             declNode = newRoot.findDeclaringNode(binding.getKey());
         }
 
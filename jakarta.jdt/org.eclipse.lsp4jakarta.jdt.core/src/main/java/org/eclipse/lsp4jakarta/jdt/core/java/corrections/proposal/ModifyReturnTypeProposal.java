@@ -20,7 +20,6 @@ import org.eclipse.jdt.core.dom.IBinding;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.Type;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
-import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.lsp4j.CodeActionKind;
 import org.eclipse.lsp4jakarta.jdt.internal.annotations.ModifyConstructReturnTypeQuickFix;
 
@@ -62,7 +61,7 @@ public class ModifyReturnTypeProposal extends ASTRewriteCorrectionProposal {
         if (boundNode != null) {
             declNode = boundNode;
         } else {
-            newRoot = ASTResolving.createQuickFixAST(getCompilationUnit(), null);
+            newRoot = getQuickFixAST(invocationNode);
             declNode = newRoot.findDeclaringNode(binding.getKey());
         }
 
@@ -23,7 +23,6 @@ import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ListRewrite;
-import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.lsp4j.CodeActionKind;
 
 /**
@@ -58,7 +57,7 @@ public class RemoveMethodProposal extends ASTRewriteCorrectionProposal {
         if (boundNode != null) {
             declNode = boundNode;
         } else {
-            CompilationUnit newRoot = ASTResolving.createQuickFixAST(getCompilationUnit(), null);
+            CompilationUnit newRoot = getQuickFixAST(invocationNode);
             declNode = newRoot.findDeclaringNode(binding.getKey());
         }
 
@@ -25,7 +25,6 @@ import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ListRewrite;
-import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.lsp4j.CodeActionKind;
 import org.eclipse.lsp4jakarta.jdt.internal.jaxrs.RemoveMethodEntityParamsWithExclusionQuickFix;
 
@@ -74,7 +73,7 @@ public class RemoveParamsProposal extends ASTRewriteCorrectionProposal {
         if (boundNode != null) {
             declNode = boundNode;
         } else {
-            CompilationUnit newRoot = ASTResolving.createQuickFixAST(getCompilationUnit(), null);
+            CompilationUnit newRoot = getQuickFixAST(invocationNode);
             declNode = newRoot.findDeclaringNode(binding.getKey());
         }
 
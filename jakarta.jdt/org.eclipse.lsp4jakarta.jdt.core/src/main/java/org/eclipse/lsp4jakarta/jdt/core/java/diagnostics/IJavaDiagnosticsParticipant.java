@@ -22,6 +22,19 @@ import org.eclipse.lsp4j.Diagnostic;
 /**
  * Java diagnostics participants API.
  *
+ * <p>
+ * By default, the participants of a Java file are called serially: the begin
+ * step of all participants, then their collect step, then their end step. When
+ * the concurrent mode is enabled with the system property
+ * <code>lsp4jakarta.diagnostics.concurrent</code>, each participant runs its
+ * begin, collect and end steps in sequence, at the same time as the other
+ * participants of the same file: a participant must not depend on the begin
+ * step of another participant, and the values it shares through the context
+ * must be thread-safe. The given monitor is canceled when the participant runs
+ * longer than the participant timeout or when the request is canceled, and the
+ * participant should stop as soon as possible.
+ * </p>
+ *
  * @author Angelo ZERR
  *
  */
@@ -14,7 +14,10 @@
 package org.eclipse.lsp4jakarta.jdt.core.java.diagnostics;
 
 import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
@@ -36,6 +39,8 @@ public class JavaDiagnosticsContext extends AbstractJavaContext {
 
     private final JakartaJavaDiagnosticsSettings settings;
 
+    private final Set<String> dependencies;
+
     public JavaDiagnosticsContext(String uri, ITypeRoot typeRoot, IJDTUtils utils, DocumentFormat documentFormat,
                                   JakartaJavaDiagnosticsSettings settings) {
         super(uri, typeRoot, utils);
@@ -45,6 +50,7 @@ public class JavaDiagnosticsContext extends AbstractJavaContext {
         } else {
             this.settings = settings;
         }
+        this.dependencies = ConcurrentHashMap.newKeySet();
     }
 
     public DocumentFormat getDocumentFormat() {
@@ -62,6 +68,33 @@ public class JavaDiagnosticsContext extends AbstractJavaContext {
         return this.settings;
     }
 
+    /**
+     * Records that the diagnostics of the compilation unit depend on the given
+     * type, so they are computed again when the type is saved.
+     *
+     * <p>
+     * Binary types are ignored since they don't change when a file is saved.
+     * </p>
+     *
+     * @param type the type (ex : the type of an injection point).
+     */
+    public void addDependency(IType type) {
+        if (type != null && !type.isBinary()) {
+            dependencies.add(type.getFullyQualifiedName());
+        }
+    }
+
+    /**
+     * Returns the fully qualified names of the source types the diagnostics of
+     * the compilation unit depend on.
+     *
+     * @return the fully qualified names of the source types the diagnostics of
+     *         the compilation unit depend on.
+     */
+    public Set<String> getDependencies() {
+        return Collections.unmodifiableSet(dependencies);
+    }
+
     public Diagnostic createDiagnostic(String uri, String message, Range range, String source, IJavaErrorCode code) {
         return createDiagnostic(uri, message, range, source, code, DiagnosticSeverity.Warning);
     }
@@ -13,6 +13,8 @@
 *******************************************************************************/
 package org.eclipse.lsp4jakarta.jdt.core.utils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
@@ -23,7 +25,11 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.internal.core.JavaProject;
@@ -175,6 +181,32 @@ public class JDTJakartaUtils {
                         .toArray(IJavaProject[]::new);
     }
 
+    /**
+     * Returns the compilation units of the source folders of the given Java
+     * project.
+     *
+     * @param javaProject the Java project
+     * @return the compilation units of the source folders of the given Java
+     *         project.
+     * @throws JavaModelException
+     */
+    public static List<ICompilationUnit> getSourceCompilationUnits(IJavaProject javaProject) throws JavaModelException {
+        List<ICompilationUnit> units = new ArrayList<>();
+        for (IPackageFragmentRoot root : javaProject.getPackageFragmentRoots()) {
+            if (root.getKind() != IPackageFragmentRoot.K_SOURCE) {
+                continue;
+            }
+            for (IJavaElement child : root.getChildren()) {
+                if (child instanceof IPackageFragment) {
+                    for (ICompilationUnit unit : ((IPackageFragment) child).getCompilationUnits()) {
+                        units.add(unit);
+                    }
+                }
+            }
+        }
+        return units;
+    }
+
     /**
      * Returns an array of all the projects that are currently loaded into the JDT
      * workspace.
@@ -15,24 +15,16 @@ package org.eclipse.lsp4jakarta.jdt.core.utils;
 
 import java.util.HashSet;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.JavaModelException;
-import org.eclipse.jdt.core.search.IJavaSearchConstants;
-import org.eclipse.jdt.core.search.IJavaSearchScope;
-import org.eclipse.jdt.core.search.SearchEngine;
-import org.eclipse.jdt.core.search.SearchMatch;
-import org.eclipse.jdt.core.search.SearchParticipant;
-import org.eclipse.jdt.core.search.SearchPattern;
-import org.eclipse.jdt.core.search.SearchRequestor;
-import org.eclipse.jdt.internal.core.DefaultWorkingCopyOwner;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.ManagedBean;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SourceTypeNameIndex;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SupertypeHierarchyCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SupertypeHierarchyCache.SupertypeHierarchy;
 
 /**
  * This class provides type hierarchy utilities for checking the
@@ -62,17 +54,14 @@ public class TypeHierarchyUtils {
             return 1;
         }
 
-        ITypeHierarchy typeHierarchy = type.newSupertypeHierarchy(DefaultWorkingCopyOwner.PRIMARY, null);
+        SupertypeHierarchy typeHierarchy = SupertypeHierarchyCache.getInstance().getSupertypeHierarchy(type);
         int r = 0;
 
         // Check if the type's supertypes contain the superType
-        IType[] parents = typeHierarchy.getAllSupertypes(type);
-        for (IType parentType : parents) {
-            if (isSuperType(parentType, superType)) {
-                r = 1;
-                break;
-            }
+        if (superType.indexOf('.') != -1 ? typeHierarchy.isSubtypeOf(superType) : typeHierarchy.hasSupertypeNamed(superType)) {
+            r = 1;
         }
+        IType[] parents = typeHierarchy.getAllSupertypes();
 
         // If we haven't found the supertype, check if the type indeed does not extend
         // superType, or if we don't know.
@@ -94,33 +83,7 @@ public class TypeHierarchyUtils {
     }
 
     private static boolean hasKnownDeclaration(IType type) throws CoreException {
-        String typeName = type.getElementName();
-        final AtomicInteger references = new AtomicInteger(0);
-        SearchEngine engine = new SearchEngine();
-        SearchPattern pattern = SearchPattern.createPattern(typeName, IJavaSearchConstants.CLASS,
-                                                            IJavaSearchConstants.DECLARATIONS, SearchPattern.R_EXACT_MATCH);
-        engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
-                      createSearchScope(type.getJavaProject()), new SearchRequestor() {
-
-                          @Override
-                          public void acceptSearchMatch(SearchMatch match) throws CoreException {
-                              Object o = match.getElement();
-                              if (o instanceof IType) {
-                                  IType t = (IType) o;
-                                  if (t.getElementName().equals(typeName)) {
-                                      references.incrementAndGet();
-                                  }
-                              }
-                          }
-                      }, null);
-        if (references.get() > 0) {
-            return true;
-        }
-        return false;
-    }
-
-    private static IJavaSearchScope createSearchScope(IJavaProject javaProject) throws CoreException {
-        return SearchEngine.createJavaSearchScope(new IJavaProject[] { javaProject }, IJavaSearchScope.SOURCES);
+        return SourceTypeNameIndex.getInstance().hasSourceClass(type.getJavaProject(), type.getElementName());
     }
 
     /**
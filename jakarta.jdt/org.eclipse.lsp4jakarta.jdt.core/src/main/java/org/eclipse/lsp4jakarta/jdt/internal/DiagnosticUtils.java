@@ -20,21 +20,20 @@ import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.jdt.core.IAnnotation;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IField;
-import org.eclipse.jdt.core.IImportContainer;
-import org.eclipse.jdt.core.IImportDeclaration;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.JavaModelException;
-import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.lsp4jakarta.jdt.core.JakartaCorePlugin;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.NameResolverCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.NameResolverCache.NameResolver;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SupertypeHierarchyCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SupertypeHierarchyCache.SupertypeHierarchy;
 
 /**
  *
@@ -67,17 +66,15 @@ public class DiagnosticUtils {
         if (nameEndsWith(annotationFQName, elementName) && unit != null) {
             // For performance reason, we check if the import of annotation name is
             // declared
-            if (isImportedJavaElement(unit, annotationFQName) == true)
+            NameResolver resolver = NameResolverCache.getInstance().getResolver(unit);
+            if (resolver.isImported(annotationFQName))
                 return true;
             // only check fully qualified annotations
             if (annotationFQName.equals(elementName)) {
                 IJavaElement parent = annotation.getParent();
                 IType declaringType = (parent instanceof IType) ? (IType) parent : ((parent instanceof IMember) ? ((IMember) parent).getDeclaringType() : null);
                 if (declaringType != null) {
-                    String[][] fqName = declaringType.resolveType(elementName); // the call could be expensive
-                    if (fqName != null && fqName.length == 1) {
-                        return annotationFQName.equals(JavaModelUtil.concatenateName(fqName[0][0], fqName[0][1]));
-                    }
+                    return annotationFQName.equals(resolver.resolve(declaringType, elementName));
                 }
             }
         }
@@ -116,15 +113,13 @@ public class DiagnosticUtils {
         if (nameEndsWith(javaElementFQName, javaElementName)) {
             // For performance reason, we check if the import of annotation name is
             // declared
-            if (isImportedJavaElement(type.getCompilationUnit(), javaElementFQName) == true)
+            NameResolver resolver = NameResolverCache.getInstance().getResolver(type.getCompilationUnit());
+            if (resolver.isImported(javaElementFQName))
                 return true;
             // only check fully qualified java element
             // The second condition handles implicit java.lang types, which don't require explicit imports.
             if (javaElementFQName.equals(javaElementName) || javaElementFQName.startsWith("java.lang")) {
-                String[][] fqName = type.resolveType(javaElementName); // the call could be expensive
-                if (fqName != null && fqName.length == 1) {
-                    return javaElementFQName.equals(JavaModelUtil.concatenateName(fqName[0][0], fqName[0][1]));
-                }
+                return javaElementFQName.equals(resolver.resolve(type, javaElementName));
             }
         }
         return false;
@@ -140,30 +135,7 @@ public class DiagnosticUtils {
      *         otherwise.
      */
     public static boolean isImportedJavaElement(ICompilationUnit unit, String javaElementFQName) throws JavaModelException {
-
-        if (!unit.isOpen()) {
-            unit.open(null);
-        }
-
-        IImportContainer container = unit.getImportContainer();
-        if (container == null) {
-            return false;
-        }
-
-        IImportDeclaration[] importDeclArray = unit.getImports();
-
-        for (IImportDeclaration importDeclaration : importDeclArray) {
-            if (importDeclaration.isOnDemand()) {
-                String fqn = importDeclaration.getElementName();
-                String qualifier = fqn.substring(0, fqn.lastIndexOf('.'));
-                if (qualifier.equals(javaElementFQName.substring(0, javaElementFQName.lastIndexOf('.')))) {
-                    return true;
-                }
-            } else if (importDeclaration.getElementName().equals(javaElementFQName)) {
-                return true;
-            }
-        }
-        return false;
+        return NameResolverCache.getInstance().getResolver(unit).isImported(javaElementFQName);
     }
 
     /**
@@ -176,35 +148,13 @@ public class DiagnosticUtils {
      *         false otherwise.
      */
     protected static boolean isImportedJavaElement(ICompilationUnit unit, String[] javaElementFQNames) throws JavaModelException {
-        if (!unit.isOpen()) {
-            unit.open(null);
-        }
-
-        IImportContainer container = unit.getImportContainer();
-        if (container == null) {
-            return false;
-        }
-
-        IImportDeclaration[] importDeclArray = unit.getImports();
-
-        for (IImportDeclaration importDeclaration : importDeclArray) {
-            if (importDeclaration.isOnDemand()) {
-                String fqn = importDeclaration.getElementName();
-                String qualifier = fqn.substring(0, fqn.lastIndexOf('.'));
-                boolean imports = Stream.of(javaElementFQNames).anyMatch(elementFQName -> {
-                    return qualifier.equals(elementFQName.substring(0, elementFQName.lastIndexOf('.')));
-                });
-                if (imports == true) {
-                    return true;
-                }
-            } else {
-                String importName = importDeclaration.getElementName();
-                if (Stream.of(javaElementFQNames).anyMatch(elementFQName -> importName.equals(elementFQName)) == true)
-                    return true;
+        NameResolver resolver = NameResolverCache.getInstance().getResolver(unit);
+        for (String javaElementFQName : javaElementFQNames) {
+            if (resolver.isImported(javaElementFQName)) {
+                return true;
             }
         }
         return false;
-
     }
 
     /**
@@ -219,11 +169,9 @@ public class DiagnosticUtils {
     public static boolean doesImplementInterfaces(IType type, String[] interfaceFQNames) throws JavaModelException {
         // Walk the full supertype hierarchy so that interfaces implemented by a
         // superclass (inherited implementation) are also considered.
-        ITypeHierarchy typeHierarchy = type.newSupertypeHierarchy(new NullProgressMonitor());
-        IType[] interfaces = typeHierarchy.getAllInterfaces();
-        for (IType interfase : interfaces) {
-            String fqName = interfase.getFullyQualifiedName();
-            if (Stream.of(interfaceFQNames).anyMatch(name -> fqName.equals(name)) == true)
+        SupertypeHierarchy typeHierarchy = SupertypeHierarchyCache.getInstance().getSupertypeHierarchy(type);
+        for (String interfaceFQName : interfaceFQNames) {
+            if (typeHierarchy.isSubtypeOf(interfaceFQName))
                 return true;
         }
         return false;
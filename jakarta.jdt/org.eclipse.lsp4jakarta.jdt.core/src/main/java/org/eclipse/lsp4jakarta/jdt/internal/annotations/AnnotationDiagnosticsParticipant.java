@@ -40,14 +40,12 @@ import org.eclipse.lsp4j.jsonrpc.messages.Tuple.Two;
 import org.eclipse.lsp4jakarta.jdt.core.JakartaCorePlugin;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.TypeHierarchyUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.CommonErrorCode;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.ManagedBean;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 import org.eclipse.lsp4jakarta.commons.utils.InterModuleCommonUtils;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -67,9 +65,8 @@ public class AnnotationDiagnosticsParticipant implements IJavaDiagnosticsPartici
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
 
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        ICompilationUnit unit = context.getCompilationUnit();
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit != null) {
@@ -89,17 +86,17 @@ public class AnnotationDiagnosticsParticipant implements IJavaDiagnosticsPartici
 
             IPackageDeclaration[] packages = unit.getPackageDeclarations();
             for (IPackageDeclaration p : packages) {
-                IAnnotation[] annotations = p.getAnnotations();
+                IAnnotation[] annotations = context.getSnapshot().getAnnotations(p);
                 for (IAnnotation annotation : annotations) {
                     if (isValidAnnotation(annotation.getElementName(), validAnnotations))
                         annotatables.add(new Tuple.Two<>(annotation, p));
                 }
             }
 
-            IType[] types = unit.getAllTypes();
+            IType[] types = context.getSnapshot().getAllTypes();
             for (IType type : types) {
                 // Type
-                IAnnotation[] annotations = type.getAnnotations();
+                IAnnotation[] annotations = context.getSnapshot().getAnnotations(type);
                 for (IAnnotation annotation : annotations) {
                     if (isValidAnnotation(annotation.getElementName(), validTypeAnnotations))
                         annotatables.add(new Tuple.Two<>(annotation, type));
@@ -107,7 +104,7 @@ public class AnnotationDiagnosticsParticipant implements IJavaDiagnosticsPartici
                 // Method
                 IMethod[] methods = type.getMethods();
                 for (IMethod method : methods) {
-                    annotations = method.getAnnotations();
+                    annotations = context.getSnapshot().getAnnotations(method);
                     for (IAnnotation annotation : annotations) {
                         if (isValidAnnotation(annotation.getElementName(), validMethodAnnotations))
                             annotatables.add(new Tuple.Two<>(annotation, method));
@@ -115,7 +112,7 @@ public class AnnotationDiagnosticsParticipant implements IJavaDiagnosticsPartici
                     // method parameters
                     ILocalVariable[] parameters = method.getParameters();
                     for (ILocalVariable parameter : parameters) {
-                        annotations = parameter.getAnnotations();
+                        annotations = context.getSnapshot().getAnnotations(parameter);
                         for (IAnnotation annotation : annotations) {
                             if (isValidAnnotation(annotation.getElementName(), validMethodParamAnnotations))
                                 annotatables.add(new Tuple.Two<>(annotation, parameter));
@@ -125,7 +122,7 @@ public class AnnotationDiagnosticsParticipant implements IJavaDiagnosticsPartici
                 // Field
                 IField[] fields = type.getFields();
                 for (IField field : fields) {
-                    annotations = field.getAnnotations();
+                    annotations = context.getSnapshot().getAnnotations(field);
                     for (IAnnotation annotation : annotations) {
                         if (isValidAnnotation(annotation.getElementName(), validFieldAnnotations))
                             annotatables.add(new Tuple.Two<>(annotation, field));
@@ -68,13 +68,11 @@ import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.TypeHierarchyUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.ManagedBean;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 
 /**
  * Bean validation diagnostics participant that manages the use of validation
@@ -90,9 +88,8 @@ public class BeanValidationDiagnosticsParticipant implements IJavaDiagnosticsPar
      */
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
         String uri = context.getUri();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        ICompilationUnit unit = context.getCompilationUnit();
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
@@ -104,11 +101,11 @@ public class BeanValidationDiagnosticsParticipant implements IJavaDiagnosticsPar
         IAnnotation[] annotations;
         IMethod[] allMethods;
 
-        alltypes = unit.getAllTypes();
+        alltypes = context.getSnapshot().getAllTypes();
         for (IType type : alltypes) {
             allFields = type.getFields();
             for (IField field : allFields) {
-                annotations = field.getAnnotations();
+                annotations = context.getSnapshot().getAnnotations(field);
                 // Check for conflicting constraints on fields
                 checkConflictingConstraints(context, uri, field, annotations, diagnostics);
 
@@ -123,7 +120,7 @@ public class BeanValidationDiagnosticsParticipant implements IJavaDiagnosticsPar
             }
             allMethods = type.getMethods();
             for (IMethod method : allMethods) {
-                annotations = method.getAnnotations();
+                annotations = context.getSnapshot().getAnnotations(method);
                 // Check for conflicting constraints on methods
                 checkConflictingConstraints(context, uri, method, annotations, diagnostics);
 
@@ -137,7 +134,7 @@ public class BeanValidationDiagnosticsParticipant implements IJavaDiagnosticsPar
                 }
                 // parameter level annotations
                 for (ILocalVariable param : method.getParameters()) {
-                    IAnnotation[] paramAnnotations = param.getAnnotations();
+                    IAnnotation[] paramAnnotations = context.getSnapshot().getAnnotations(param);
                     // Check for conflicting constraints on parameters
                     checkConflictingConstraints(context, uri, param, paramAnnotations, diagnostics);
 
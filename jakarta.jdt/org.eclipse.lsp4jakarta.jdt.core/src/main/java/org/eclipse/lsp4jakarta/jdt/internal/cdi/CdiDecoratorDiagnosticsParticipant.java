@@ -33,11 +33,9 @@ import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 
 /**
  * CDI diagnostics participant that validates decorator delegate injection points.
@@ -52,9 +50,8 @@ public class CdiDecoratorDiagnosticsParticipant implements IJavaDiagnosticsParti
 
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
         String uri = context.getUri();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        ICompilationUnit unit = context.getCompilationUnit();
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
@@ -62,7 +59,7 @@ public class CdiDecoratorDiagnosticsParticipant implements IJavaDiagnosticsParti
         }
 
         try {
-            IType[] types = unit.getAllTypes();
+            IType[] types = context.getSnapshot().getAllTypes();
             for (IType type : types) {
                 validateDecorator(type, unit, uri, context, diagnostics);
             }
@@ -86,7 +83,7 @@ public class CdiDecoratorDiagnosticsParticipant implements IJavaDiagnosticsParti
     private void validateDecorator(IType type, ICompilationUnit unit, String uri,
                                    JavaDiagnosticsContext context, List<Diagnostic> diagnostics) throws JavaModelException {
 
-        if (!DiagnosticUtils.isMatchedAnnotation(unit, type.getAnnotations(), Constants.DECORATOR_FQ_NAME)) {
+        if (!DiagnosticUtils.isMatchedAnnotation(unit, context.getSnapshot().getAnnotations(type), Constants.DECORATOR_FQ_NAME)) {
             return;
         }
 
@@ -95,7 +92,7 @@ public class CdiDecoratorDiagnosticsParticipant implements IJavaDiagnosticsParti
             validateDelegate(type, field, field, uri, context, diagnostics, delegateElements);
         }
         for (IMethod method : type.getMethods()) {
-            IAnnotation[] methodAnnotations = method.getAnnotations();
+            IAnnotation[] methodAnnotations = context.getSnapshot().getAnnotations(method);
 
             for (ILocalVariable parameter : method.getParameters()) {
                 validateDelegate(type, method, parameter, uri, context, diagnostics, delegateElements, methodAnnotations);
@@ -115,7 +112,7 @@ public class CdiDecoratorDiagnosticsParticipant implements IJavaDiagnosticsParti
                                   JavaDiagnosticsContext context, List<Diagnostic> diagnostics,
                                   List<IJavaElement> delegateElements, IAnnotation... methodAnnotations) throws JavaModelException {
 
-        IAnnotation[] annotations = (element instanceof IAnnotatable) ? ((IAnnotatable) element).getAnnotations() : new IAnnotation[0];
+        IAnnotation[] annotations = (element instanceof IAnnotatable) ? context.getSnapshot().getAnnotations((IAnnotatable) element) : new IAnnotation[0];
 
         if (DiagnosticUtils.isMatchedAnnotation(type.getCompilationUnit(), annotations, Constants.DELEGATE_FQ_NAME)) {
             delegateElements.add(element);
@@ -13,6 +13,7 @@
 package org.eclipse.lsp4jakarta.jdt.internal.cdi;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -26,13 +27,12 @@ import org.eclipse.jdt.core.Signature;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4jakarta.jdt.core.java.CompilationUnitSnapshot;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
-import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.AnnotationIds;
 
 /**
  * CDI diagnostics participant that detects wildcard types in bean types.
@@ -51,25 +51,29 @@ public class CdiWildcardDiagnosticsParticipant implements IJavaDiagnosticsPartic
     /** Logger object to record events for this class. */
     private static final Logger LOGGER = Logger.getLogger(CdiWildcardDiagnosticsParticipant.class.getName());
 
+    private static final int INJECT = AnnotationIds.getInstance().intern(Constants.INJECT_FQ_NAME);
+
+    private static final int PRODUCES = AnnotationIds.getInstance().intern(Constants.PRODUCES_FQ_NAME);
+
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
         String uri = context.getUri();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        ICompilationUnit unit = context.getCompilationUnit();
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
             return diagnostics;
         }
 
-        IType[] types = unit.getAllTypes();
+        CompilationUnitSnapshot snapshot = context.getSnapshot();
+        IType[] types = snapshot.getAllTypes();
         for (IType type : types) {
             // Check fields with @Inject and @Produces annotations
             for (IField field : type.getFields()) {
-                String[] annotationNames = DiagnosticUtils.getAnnotationNames(field);
+                BitSet fieldAnnotations = snapshot.getAnnotationIds(type, field);
 
                 // Use if-else since @Inject and @Produces don't appear on the same field
-                if (hasAnnotation(type, annotationNames, Constants.INJECT_FQ_NAME)) {
+                if (fieldAnnotations.get(INJECT)) {
                     String typeSignature = field.getTypeSignature();
                     if (containsWildcard(typeSignature)) {
                         Range range = PositionUtils.toNameRange(field, context.getUtils());
@@ -81,7 +85,7 @@ public class CdiWildcardDiagnosticsParticipant implements IJavaDiagnosticsPartic
                                                                  ErrorCode.InvalidWildcardTypeInInjectField,
                                                                  DiagnosticSeverity.Error));
                     }
-                } else if (hasAnnotation(type, annotationNames, Constants.PRODUCES_FQ_NAME)) {
+                } else if (fieldAnnotations.get(PRODUCES)) {
                     String typeSignature = field.getTypeSignature();
                     if (containsWildcard(typeSignature)) {
                         Range range = PositionUtils.toNameRange(field, context.getUtils());
@@ -98,10 +102,10 @@ public class CdiWildcardDiagnosticsParticipant implements IJavaDiagnosticsPartic
 
             // Check methods with @Inject and @Produces annotations
             for (IMethod method : type.getMethods()) {
-                String[] annotationNames = DiagnosticUtils.getAnnotationNames(method);
+                BitSet methodAnnotations = snapshot.getAnnotationIds(type, method);
 
                 // Use if-else since @Inject and @Produces don't appear on the same method
-                if (hasAnnotation(type, annotationNames, Constants.INJECT_FQ_NAME)) {
+                if (methodAnnotations.get(INJECT)) {
                     // Check method parameters for wildcard types
                     String[] parameterTypes = method.getParameterTypes();
                     for (int i = 0; i < parameterTypes.length; i++) {
@@ -116,7 +120,7 @@ public class CdiWildcardDiagnosticsParticipant implements IJavaDiagnosticsPartic
                                                                      DiagnosticSeverity.Error));
                         }
                     }
-                } else if (hasAnnotation(type, annotationNames, Constants.PRODUCES_FQ_NAME)) {
+                } else if (methodAnnotations.get(PRODUCES)) {
                     // Check return type for wildcard types
                     String returnTypeSignature = method.getReturnType();
                     if (containsWildcard(returnTypeSignature)) {
@@ -136,19 +140,6 @@ public class CdiWildcardDiagnosticsParticipant implements IJavaDiagnosticsPartic
         return diagnostics;
     }
 
-    /**
-     * Checks if an annotation array contains a specific annotation.
-     *
-     * @param type the type containing the annotations
-     * @param annotationNames array of annotation names to check
-     * @param annotationFQName the fully qualified name of the annotation to match
-     * @return true if the annotation is found, false otherwise
-     */
-    private boolean hasAnnotation(IType type, String[] annotationNames, String annotationFQName) {
-        return DiagnosticUtils.getMatchedJavaElementNames(type, annotationNames,
-                                                          new String[] { annotationFQName }).size() > 0;
-    }
-
     /**
      * Checks if a type signature contains a wildcard type parameter.
      *
@@ -15,8 +15,8 @@ package org.eclipse.lsp4jakarta.jdt.internal.cdi;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
@@ -40,15 +40,15 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4jakarta.jdt.core.java.CompilationUnitSnapshot;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.helpers.ConstructorInfoDiagnosticHelper;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.AnnotationIds;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.ManagedBean;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 
 import com.google.gson.Gson;
 
@@ -60,34 +60,54 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
     /** Logger object to record events for this class. */
     private static final Logger LOGGER = Logger.getLogger(ManagedBeanDiagnosticsParticipant.class.getName());
 
+    private static final AnnotationIds ANNOTATION_IDS = AnnotationIds.getInstance();
+
+    private static final BitSet SCOPES = ANNOTATION_IDS.mask(Constants.SCOPE_FQ_NAMES);
+
+    private static final BitSet INTERCEPTOR_OR_DECORATOR = ANNOTATION_IDS.mask(Constants.INTERCEPTOR_FQ_NAME,
+                                                                               Constants.DECORATOR_FQ_NAME);
+
+    private static final BitSet OBSERVERS = ANNOTATION_IDS.mask(Constants.INVALID_OBSERVES_OBSERVES_ASYNC_CONFLICTED_PARAMS);
+
+    private static final BitSet INVALID_PRODUCER_PARAMS = ANNOTATION_IDS.mask(Constants.INVALID_PRODUCER_PARAMS_FQ);
+
+    private static final BitSet INVALID_INITIALIZER_PARAMS = ANNOTATION_IDS.mask(Constants.INVALID_INITIALIZER_PARAMS_FQ);
+
+    private static final int SPECIALIZES = ANNOTATION_IDS.intern(Constants.SPECIALIZES_FQ_NAME);
+
+    private static final int PRODUCES = ANNOTATION_IDS.intern(Constants.PRODUCES_FQ_NAME);
+
+    private static final int INJECT = ANNOTATION_IDS.intern(Constants.INJECT_FQ_NAME);
+
+    private static final int DEPENDENT = ANNOTATION_IDS.intern(Constants.DEPENDENT_FQ_NAME);
+
+    private static final int STATELESS = ANNOTATION_IDS.intern(Constants.STATELESS_FQ_NAME);
+
+    private static final int SINGLETON = ANNOTATION_IDS.intern(Constants.SINGLETON_FQ_NAME);
+
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
         String uri = context.getUri();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        ICompilationUnit unit = context.getCompilationUnit();
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
             return diagnostics;
         }
 
-        IType[] types = unit.getAllTypes();
-        String[] scopeFQNames = Constants.SCOPE_FQ_NAMES.toArray(String[]::new);
+        CompilationUnitSnapshot snapshot = context.getSnapshot();
+        IType[] types = snapshot.getAllTypes();
         for (IType type : types) {
-            String[] typeAnnotations = Stream.of(type.getAnnotations()).map(annotation -> annotation.getElementName()).toArray(String[]::new);
-            List<String> managedBeanAnnotations = DiagnosticUtils.getMatchedJavaElementNames(type, typeAnnotations, scopeFQNames);
-            boolean interceptorOrDecorator = !DiagnosticUtils.getMatchedJavaElementNames(type, typeAnnotations, new String[] {
-                                                                                                                               Constants.INTERCEPTOR_FQ_NAME,
-                                                                                                                               Constants.DECORATOR_FQ_NAME
-            }).isEmpty();
+            BitSet typeAnnotations = snapshot.getAnnotationIds(type, type);
+            List<String> managedBeanAnnotations = ANNOTATION_IDS.getNames(typeAnnotations, Constants.SCOPE_FQ_NAMES);
+            boolean interceptorOrDecorator = typeAnnotations.intersects(INTERCEPTOR_OR_DECORATOR);
 
             // https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0#direct_and_indirect_specialization
             // A specialized bean must not declare an explicit bean name using @Named.
             // The name is inherited from the bean it specializes.
-            boolean isSpecializes = !DiagnosticUtils.getMatchedJavaElementNames(type, typeAnnotations,
-                                                                                new String[] { Constants.SPECIALIZES_FQ_NAME }).isEmpty();
+            boolean isSpecializes = typeAnnotations.get(SPECIALIZES);
             if (isSpecializes) {
-                for (IAnnotation annotation : type.getAnnotations()) {
+                for (IAnnotation annotation : context.getSnapshot().getAnnotations(type)) {
                     if (DiagnosticUtils.isMatchedAnnotation(unit, annotation, Constants.NAMED_FQ_NAME)) {
                         Range range = PositionUtils.toNameRange(annotation, context.getUtils());
                         diagnostics.add(context.createDiagnostic(uri,
@@ -100,17 +120,14 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
             }
 
             boolean isManagedBean = managedBeanAnnotations.size() > 0;
-            boolean isDependent = managedBeanAnnotations.stream().anyMatch(annotation -> Constants.DEPENDENT_FQ_NAME.equals(annotation));
+            boolean isDependent = typeAnnotations.get(DEPENDENT);
             boolean hasMultipleScopes = managedBeanAnnotations.size() > 1;
 
-            String[] injectAnnotations = { Constants.PRODUCES_FQ_NAME, Constants.INJECT_FQ_NAME };
             IField fields[] = type.getFields();
             boolean nonStaticPublicFieldPresent = false;
             for (IField field : fields) {
                 int fieldFlags = field.getFlags();
-                String[] annotationNames = Stream.of(field.getAnnotations()).map(annotation -> annotation.getElementName()).toArray(String[]::new);
-                List<String> fieldScopes = DiagnosticUtils.getMatchedJavaElementNames(type, annotationNames,
-                                                                                      scopeFQNames);
+                BitSet fieldAnnotations = snapshot.getAnnotationIds(type, field);
 
                 // If a managed bean has a non-static public field, it must have
                 // scope @Dependent. If a managed bean with a non-static public field declares
@@ -135,11 +152,10 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
                 // treats it as a definition error.
                 //
                 // Here we only look at the fields.
-                List<String> fieldInjects = DiagnosticUtils.getMatchedJavaElementNames(type, annotationNames,
-                                                                                       injectAnnotations);
-                boolean isProducerField = fieldInjects.contains(Constants.PRODUCES_FQ_NAME);
-                boolean isInjectField = fieldInjects.contains(Constants.INJECT_FQ_NAME);
-                if (isProducerField && fieldScopes.size() > 1) {
+                boolean isProducerField = fieldAnnotations.get(PRODUCES);
+                boolean isInjectField = fieldAnnotations.get(INJECT);
+                if (isProducerField && AnnotationIds.count(fieldAnnotations, SCOPES) > 1) {
+                    List<String> fieldScopes = ANNOTATION_IDS.getNames(fieldAnnotations, Constants.SCOPE_FQ_NAMES);
                     fieldScopes.add(Constants.PRODUCES_FQ_NAME);
                     Range range = PositionUtils.toNameRange(field, context.getUtils());
                     diagnostics.add(context.createDiagnostic(uri,
@@ -176,7 +192,7 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
                 // Producer fields must not declare a bean name using @Named annotation.
                 // Bean naming is reserved for producer methods and managed beans.
                 if (isProducerField) {
-                    for (IAnnotation annotation : field.getAnnotations()) {
+                    for (IAnnotation annotation : context.getSnapshot().getAnnotations(field)) {
                         if (DiagnosticUtils.isMatchedAnnotation(unit, annotation, Constants.NAMED_FQ_NAME)) {
                             Range range = PositionUtils.toNameRange(annotation, context.getUtils());
                             diagnostics.add(context.createDiagnostic(uri,
@@ -205,15 +221,12 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
                 // treats it as a definition error.
                 //
                 // Here we only look at the methods.
-                String[] annotationNames = Stream.of(method.getAnnotations()).map(annotation -> annotation.getElementName()).toArray(String[]::new);
-                List<String> methodScopes = DiagnosticUtils.getMatchedJavaElementNames(type, annotationNames,
-                                                                                       scopeFQNames);
-                List<String> methodInjects = DiagnosticUtils.getMatchedJavaElementNames(type, annotationNames,
-                                                                                        injectAnnotations);
-                boolean isProducerMethod = methodInjects.contains(Constants.PRODUCES_FQ_NAME);
-                boolean isInjectMethod = methodInjects.contains(Constants.INJECT_FQ_NAME);
-
-                if (isProducerMethod && methodScopes.size() > 1) {
+                BitSet methodAnnotations = snapshot.getAnnotationIds(type, method);
+                boolean isProducerMethod = methodAnnotations.get(PRODUCES);
+                boolean isInjectMethod = methodAnnotations.get(INJECT);
+
+                if (isProducerMethod && AnnotationIds.count(methodAnnotations, SCOPES) > 1) {
+                    List<String> methodScopes = ANNOTATION_IDS.getNames(methodAnnotations, Constants.SCOPE_FQ_NAMES);
                     methodScopes.add(Constants.PRODUCES_FQ_NAME);
                     Range range = PositionUtils.toNameRange(method, context.getUtils());
                     diagnostics.add(context.createDiagnostic(uri,
@@ -258,17 +271,15 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
                 List<String> paramsWithObserverAnnotations = new ArrayList<>();
                 for (ILocalVariable param : method.getParameters()) {
 
-                    String[] annotationQualifiedNames = Stream.of(param.getAnnotations()).map(annotation -> annotation.getElementName()).toArray(String[]::new);
-                    String[] conflictedParamAnnotations = Constants.INVALID_OBSERVES_OBSERVES_ASYNC_CONFLICTED_PARAMS.toArray(String[]::new);
-                    Set<String> observesObservesAsync = new HashSet<>(DiagnosticUtils.getMatchedJavaElementNames(type, annotationQualifiedNames, conflictedParamAnnotations));
+                    BitSet paramAnnotations = snapshot.getAnnotationIds(type, param);
 
                     // Scenario 1: Check if this parameter has both @Observes AND @ObservesAsync
-                    if (observesObservesAsync.equals(Constants.INVALID_OBSERVES_OBSERVES_ASYNC_CONFLICTED_PARAMS)) {
+                    if (AnnotationIds.count(paramAnnotations, OBSERVERS) == OBSERVERS.cardinality()) {
                         conflictParams.add(param.getElementName());
                     }
 
                     // Scenario 2: Track parameters that have at least one observer annotation
-                    if (!observesObservesAsync.isEmpty()) {
+                    if (paramAnnotations.intersects(OBSERVERS)) {
                         paramsWithObserverAnnotations.add(param.getElementName());
                     }
                 }
@@ -294,7 +305,7 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
                                                              Messages.getMessage("ManagedBeanMultipleObserverParams", String.join(", ", paramsWithObserverAnnotations)), range,
                                                              Constants.DIAGNOSTIC_SOURCE, null,
                                                              ErrorCode.InvalidMultipleObserverParams, DiagnosticSeverity.Error));
-                } else if (isDependent && hasConditionalObserverAnnotation(type, method)) {
+                } else if (isDependent && hasConditionalObserverAnnotation(snapshot, type, method)) {
                     // Check for conditional observer methods on @Dependent scoped beans
                     // Beans with scope @Dependent may not have conditional observer methods.
                     // If a bean with scope @Dependent has an observer method declared notifyObserver=IF_EXISTS,
@@ -312,7 +323,7 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
                 }
                 // Check for @Disposes in interceptors/decorators
                 if (interceptorOrDecorator) {
-                    List<String> disposesParams = getDisposesParamNames(type, method);
+                    List<String> disposesParams = getDisposesParamNames(snapshot, type, method);
                     if (!disposesParams.isEmpty()) {
                         Range methodRange = PositionUtils.toNameRange(method, context.getUtils());
                         String paramNames = String.join(", ", disposesParams);
@@ -331,7 +342,7 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
                 // Only field injection points can omit the value (field name is assumed)
                 if (DiagnosticUtils.isConstructorMethod(method) || isInjectMethod) {
                     for (ILocalVariable param : method.getParameters()) {
-                        for (IAnnotation annotation : param.getAnnotations()) {
+                        for (IAnnotation annotation : context.getSnapshot().getAnnotations(param)) {
                             if (DiagnosticUtils.isMatchedAnnotation(unit, annotation, Constants.NAMED_FQ_NAME)) {
                                 // Check if the @Named annotation has a value attribute
                                 String namedValue = DiagnosticUtils.getAnnotationMemberValue(annotation, "value", String.class);
@@ -366,7 +377,7 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
                 List<IMethod> methodsNeedingDiagnostics = new ArrayList<IMethod>();
                 if (!hasNoArgConstructor) {
                     for (IMethod m : constructorMethods) {
-                        if (hasAnnotation(type, m.getAnnotations(), Constants.INJECT_FQ_NAME)) {
+                        if (hasAnnotation(type, context.getSnapshot().getAnnotations(m), Constants.INJECT_FQ_NAME)) {
                             methodsNeedingDiagnostics.clear();
                             break;
                         } else {
@@ -388,8 +399,7 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
 
             if (isManagedBean) {
                 // Check if the class is a stateless session bean
-                boolean isStateless = DiagnosticUtils.getMatchedJavaElementNames(type, typeAnnotations,
-                                                                                 new String[] { Constants.STATELESS_FQ_NAME }).size() > 0;
+                boolean isStateless = typeAnnotations.get(STATELESS);
                 boolean isClassGeneric = type.getTypeParameters().length != 0;
                 Range range = PositionUtils.toNameRange(type, context.getUtils());
                 validateSingletonSessionBean(context, uri, diagnostics, type, typeAnnotations, managedBeanAnnotations,
@@ -462,7 +472,7 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
                     ILocalVariable[] params = method.getParameters();
 
                     for (ILocalVariable param : params) {
-                        IAnnotation[] annotations = param.getAnnotations();
+                        IAnnotation[] annotations = context.getSnapshot().getAnnotations(param);
                         for (IAnnotation annotation : annotations) {
                             String matchedAnnotation = DiagnosticUtils.getMatchedJavaElementName(type,
                                                                                                  annotation.getElementName(),
@@ -522,7 +532,7 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
         List<String> foundInvalidScopes = new ArrayList<>();
 
         // Check each annotation to see if it's an invalid scope
-        for (IAnnotation annotation : type.getAnnotations()) {
+        for (IAnnotation annotation : context.getSnapshot().getAnnotations(type)) {
             String annotationName = annotation.getElementName();
 
             // Skip @Interceptor, @Decorator, and @Dependent annotations - these are not scopes we're checking
@@ -580,14 +590,13 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
      * @param uri
      * @param diagnostics
      * @param type
-     * @param typeAnnotations
+     * @param typeAnnotations the annotation IDs of the type
      * @param managedBeanAnnotations
      * @param range
      */
     private void validateSingletonSessionBean(JavaDiagnosticsContext context, String uri, List<Diagnostic> diagnostics,
-                                              IType type, String[] typeAnnotations, List<String> managedBeanAnnotations, Range range) {
-        boolean isSingletonSessionBean = DiagnosticUtils.getMatchedJavaElementNames(type, typeAnnotations,
-                                                                                    new String[] { Constants.SINGLETON_FQ_NAME }).size() > 0;
+                                              IType type, BitSet typeAnnotations, List<String> managedBeanAnnotations, Range range) {
+        boolean isSingletonSessionBean = typeAnnotations.get(SINGLETON);
         if (isSingletonSessionBean) {
             boolean hasInvalidSingletonScope = managedBeanAnnotations.stream().anyMatch(annotation -> !Constants.APPLICATION_SCOPED_FQ_NAME.equals(annotation)
                                                                                                       && !Constants.DEPENDENT_FQ_NAME.equals(annotation));
@@ -604,12 +613,10 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
                                     List<Diagnostic> diagnostics, IType type, String target) throws JavaModelException {
         // this method will be called to scan all methods looking for either @Produces annotations OR @Inject annotations. In either
         // scenario this method will then check for disallowed parameter annotations and add diagnostics to be displayed if detected.
-        Set<String> paramScopesSet;
-
         for (IMethod method : type.getMethods()) {
             IAnnotation targetAnnotation = null;
             boolean mutuallyExclusive = false;
-            for (IAnnotation annotation : method.getAnnotations()) {
+            for (IAnnotation annotation : context.getSnapshot().getAnnotations(method)) {
                 if (DiagnosticUtils.isMatchedJavaElement(type, annotation.getElementName(), target)) {
                     targetAnnotation = annotation;
                     break;
@@ -622,24 +629,17 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
             Set<String> invalidAnnotations = new TreeSet<>();
             ILocalVariable[] params = method.getParameters();
 
+            // look at the params of any method annotated @Produces or @Inject - check for invalid parameter annotations
+            BitSet invalidParams = Constants.PRODUCES_FQ_NAME.equals(target) ? INVALID_PRODUCER_PARAMS : INVALID_INITIALIZER_PARAMS;
             for (ILocalVariable param : params) {
-                List<String> paramScopes;
-                // look at the params of any method annotated @Produces - check for invalid parameter annotations
-                if (Constants.PRODUCES_FQ_NAME.equals(target)) {
-                    paramScopes = DiagnosticUtils.getMatchedJavaElementNames(type,
-                                                                             Stream.of(param.getAnnotations()).map(annotation -> annotation.getElementName()).toArray(String[]::new),
-                                                                             Constants.INVALID_PRODUCER_PARAMS_FQ);
-                } else { // look at the params of any method annotated @Inject - check for invalid parameter annotations
-                    paramScopes = DiagnosticUtils.getMatchedJavaElementNames(type,
-                                                                             Stream.of(param.getAnnotations()).map(annotation -> annotation.getElementName()).toArray(String[]::new),
-                                                                             Constants.INVALID_INITIALIZER_PARAMS_FQ);
-                }
-                for (String annotation : paramScopes) {
-                    invalidAnnotations.add("@" + DiagnosticUtils.getSimpleName(annotation));
+                BitSet paramAnnotations = context.getSnapshot().getAnnotationIds(type, param);
+                for (int id = invalidParams.nextSetBit(0); id >= 0; id = invalidParams.nextSetBit(id + 1)) {
+                    if (paramAnnotations.get(id)) {
+                        invalidAnnotations.add("@" + DiagnosticUtils.getSimpleName(ANNOTATION_IDS.getName(id)));
+                    }
                 }
 
-                paramScopesSet = new LinkedHashSet<>(paramScopes);
-                if (paramScopesSet.size() == Constants.INVALID_INITIALIZER_PARAMS_FQ.length && paramScopesSet.equals(Set.of(Constants.INVALID_INITIALIZER_PARAMS_FQ))) {
+                if (AnnotationIds.count(paramAnnotations, INVALID_INITIALIZER_PARAMS) == INVALID_INITIALIZER_PARAMS.cardinality()) {
                     mutuallyExclusive = true;
                 }
 
@@ -722,15 +722,16 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
      * hasConditionalObserverAnnotation
      * Checks if any parameter in the method has a conditional observer annotation.
      *
+     * @param snapshot the snapshot of the compilation unit
      * @param type the type
      * @param method the method to check
      * @return true if any parameter has a conditional observer annotation
      */
-    private boolean hasConditionalObserverAnnotation(IType type, IMethod method) {
+    private boolean hasConditionalObserverAnnotation(CompilationUnitSnapshot snapshot, IType type, IMethod method) {
         try {
             return Arrays.stream(method.getParameters()).flatMap(param -> {
                 try {
-                    return Arrays.stream(param.getAnnotations());
+                    return Arrays.stream(snapshot.getAnnotations(param));
                 } catch (JavaModelException e) {
                     return Stream.empty();
                 }
@@ -750,15 +751,16 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
     /**
      * Get the names of all parameters annotated with @Disposes in a method.
      *
+     * @param snapshot the snapshot of the compilation unit
      * @param type the type being checked
      * @param method the method to check
      * @return list of parameter names that have @Disposes annotation
      */
-    private List<String> getDisposesParamNames(IType type, IMethod method) {
+    private List<String> getDisposesParamNames(CompilationUnitSnapshot snapshot, IType type, IMethod method) {
         List<String> paramNames = new ArrayList<>();
         try {
             for (ILocalVariable param : method.getParameters()) {
-                for (IAnnotation annotation : param.getAnnotations()) {
+                for (IAnnotation annotation : snapshot.getAnnotations(param)) {
                     if (DiagnosticUtils.isMatchedJavaElement(type, annotation.getElementName(), Constants.DISPOSES_FQ_NAME)) {
                         paramNames.add(param.getElementName());
                         break;
@@ -795,14 +797,14 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
         // Collect erased FQ type names produced by @Produces methods and fields.
         Set<String> producerTypes = new HashSet<>();
         for (IMethod m : methods) {
-            if (!DiagnosticUtils.isConstructorMethod(m) && hasAnnotation(type, m.getAnnotations(), Constants.PRODUCES_FQ_NAME)) {
+            if (!DiagnosticUtils.isConstructorMethod(m) && hasAnnotation(type, context.getSnapshot().getAnnotations(m), Constants.PRODUCES_FQ_NAME)) {
                 String fqn = resolveTypeSignature(type, m.getReturnType());
                 if (fqn != null)
                     producerTypes.add(fqn);
             }
         }
         for (IField f : fields) {
-            if (hasAnnotation(type, f.getAnnotations(), Constants.PRODUCES_FQ_NAME)) {
+            if (hasAnnotation(type, context.getSnapshot().getAnnotations(f), Constants.PRODUCES_FQ_NAME)) {
                 String fqn = resolveTypeSignature(type, f.getTypeSignature());
                 if (fqn != null)
                     producerTypes.add(fqn);
@@ -817,7 +819,7 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
             // Find the sole @Disposes param; skip if there are 0 or >1 (>1 is a separate error).
             List<ILocalVariable> disposesParams = Arrays.stream(method.getParameters()).filter(p -> {
                 try {
-                    return hasAnnotation(type, p.getAnnotations(), Constants.DISPOSES_FQ_NAME);
+                    return hasAnnotation(type, context.getSnapshot().getAnnotations(p), Constants.DISPOSES_FQ_NAME);
                 } catch (JavaModelException e) {
                     return false;
                 }
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.lsp4jakarta.commons.JakartaClasspathChangeEvent;
+import org.eclipse.lsp4jakarta.jdt.core.IJakartaClasspathChangedListener;
+import org.eclipse.lsp4jakarta.jdt.core.utils.JDTJakartaUtils;
+
+/**
+ * Watches the Java model to notify {@link IJakartaClasspathChangedListener}
+ * when the classpath of Java projects changed (ex : a dependency added to the
+ * pom.xml) or when a Java project is added, removed, opened or closed.
+ */
+public class JakartaClasspathListenerManager implements IElementChangedListener {
+
+    private static final Logger LOGGER = Logger.getLogger(JakartaClasspathListenerManager.class.getName());
+
+    private static final int CLASSPATH_CHANGED_FLAGS = IJavaElementDelta.F_CLASSPATH_CHANGED
+                                                       | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_OPENED
+                                                       | IJavaElementDelta.F_CLOSED;
+
+    private static final JakartaClasspathListenerManager INSTANCE = new JakartaClasspathListenerManager();
+
+    public static JakartaClasspathListenerManager getInstance() {
+        return INSTANCE;
+    }
+
+    private final CopyOnWriteArrayList<IJakartaClasspathChangedListener> listeners;
+
+    private JakartaClasspathListenerManager() {
+        this.listeners = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Add the given classpath changed listener.
+     *
+     * @param listener the listener to add
+     */
+    public void addClasspathChangedListener(IJakartaClasspathChangedListener listener) {
+        listeners.addIfAbsent(listener);
+    }
+
+    /**
+     * Remove the given classpath changed listener.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeClasspathChangedListener(IJakartaClasspathChangedListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public void elementChanged(ElementChangedEvent event) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        Set<String> projectURIs = new HashSet<>();
+        boolean allProjects = false;
+        for (IJavaElementDelta delta : event.getDelta().getAffectedChildren()) {
+            if (delta.getElement().getElementType() != IJavaElement.JAVA_PROJECT || !isClasspathChanged(delta)) {
+                continue;
+            }
+            IProject project = delta.getElement().getJavaProject().getProject();
+            if (project.getLocation() != null) {
+                projectURIs.add(JDTJakartaUtils.getProjectURI(project));
+            } else {
+                // The project was removed, its URI cannot be computed anymore
+                allProjects = true;
+            }
+        }
+        if (!allProjects && projectURIs.isEmpty()) {
+            return;
+        }
+        JakartaClasspathChangeEvent classpathChangeEvent = new JakartaClasspathChangeEvent();
+        classpathChangeEvent.setProjectURIs(allProjects ? null : projectURIs);
+        for (IJakartaClasspathChangedListener listener : listeners) {
+            try {
+                listener.classpathChanged(classpathChangeEvent);
+            } catch (Exception e) {
+                LOGGER.log(Level.SEVERE, "Error while sending the classpath changed event", e);
+            }
+        }
+    }
+
+    private static boolean isClasspathChanged(IJavaElementDelta delta) {
+        return delta.getKind() == IJavaElementDelta.ADDED || delta.getKind() == IJavaElementDelta.REMOVED
+               || (delta.getFlags() & CLASSPATH_CHANGED_FLAGS) != 0;
+    }
+}
@@ -0,0 +1,262 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.batch;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4jakarta.commons.utils.JSONUtility;
+
+import com.google.gson.JsonParseException;
+
+/**
+ * Result cache of the Jakarta analyzer application, persisted between runs as
+ * a JSON file.
+ *
+ * <p>
+ * The diagnostics of a Java file are reused when:
+ * <ul>
+ * <li>the fingerprint of its project (analyzer version and resolved
+ * classpath) did not change,</li>
+ * <li>the hash of its content did not change,</li>
+ * <li>the hash of the content of the Java files declaring the source types its
+ * diagnostics depend on did not change.</li>
+ * </ul>
+ * The Java files are identified by their path relative to the root of the
+ * analyzed workspace, so the cache can be restored in another checkout.
+ * </p>
+ */
+public class AnalyzerCache {
+
+    private static final Logger LOGGER = Logger.getLogger(AnalyzerCache.class.getName());
+
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * Cached result of a Java file.
+     */
+    public static class FileEntry {
+
+        private String project;
+
+        private String contentHash;
+
+        // Fully qualified name of a source type -> hash of the content of its Java file
+        private Map<String, String> dependencies;
+
+        private List<String> declaredTypes;
+
+        private List<Diagnostic> diagnostics;
+
+        public FileEntry() {}
+
+        public FileEntry(String project, String contentHash, Map<String, String> dependencies, List<String> declaredTypes,
+                         List<Diagnostic> diagnostics) {
+            this.project = project;
+            this.contentHash = contentHash;
+            this.dependencies = dependencies;
+            this.declaredTypes = declaredTypes;
+            this.diagnostics = diagnostics;
+        }
+
+        public String getProject() {
+            return project;
+        }
+
+        public String getContentHash() {
+            return contentHash;
+        }
+
+        public Map<String, String> getDependencies() {
+            return dependencies != null ? dependencies : Map.of();
+        }
+
+        public List<String> getDeclaredTypes() {
+            return declaredTypes != null ? declaredTypes : List.of();
+        }
+
+        public List<Diagnostic> getDiagnostics() {
+            return diagnostics != null ? diagnostics : List.of();
+        }
+    }
+
+    /**
+     * Provides the hash of the content of the Java file declaring a source type.
+     */
+    @FunctionalInterface
+    public interface TypeHashProvider {
+
+        /**
+         * Returns the hash of the content of the Java file declaring the given
+         * source type and an empty string if the type is not found.
+         *
+         * @param typeName the fully qualified name of the type.
+         * @return the hash of the content of the Java file declaring the given
+         *         source type.
+         * @throws JavaModelException
+         */
+        String getTypeHash(String typeName) throws JavaModelException;
+    }
+
+    private int version;
+
+    // Project name -> fingerprint
+    private Map<String, String> fingerprints;
+
+    // Path relative to the workspace root -> cached result
+    private Map<String, FileEntry> files;
+
+    public AnalyzerCache() {
+        this.version = FORMAT_VERSION;
+        this.fingerprints = new HashMap<>();
+        this.files = new HashMap<>();
+    }
+
+    /**
+     * Returns the fingerprint of the given project when the cache was saved
+     * and null if the project was not analyzed.
+     *
+     * @param project the project name.
+     * @return the fingerprint of the given project and null if the project was
+     *         not analyzed.
+     */
+    public String getFingerprint(String project) {
+        return fingerprints.get(project);
+    }
+
+    public void setFingerprint(String project, String fingerprint) {
+        fingerprints.put(project, fingerprint);
+    }
+
+    /**
+     * Returns the cached result of the given Java file and null if the Java
+     * file was not analyzed.
+     *
+     * @param path the path of the Java file relative to the workspace root.
+     * @return the cached result of the given Java file and null if the Java
+     *         file was not analyzed.
+     */
+    public FileEntry getFile(String path) {
+        return files.get(path);
+    }
+
+    public void putFile(String path, FileEntry entry) {
+        files.put(path, entry);
+    }
+
+    public Map<String, FileEntry> getFiles() {
+        return files;
+    }
+
+    /**
+     * Returns true if the cached result of the given Java file can be reused:
+     * the Java file was analyzed in the same project with the same content, and
+     * the Java files declaring the source types its diagnostics depend on did
+     * not change. The fingerprint of the project is checked by the caller.
+     *
+     * @param path the path of the Java file relative to the workspace root.
+     * @param project the name of the project of the Java file.
+     * @param contentHash the hash of the current content of the Java file.
+     * @param typeHashes the hashes of the current content of the Java files
+     *            declaring the source types.
+     * @return true if the cached result of the given Java file can be reused.
+     * @throws JavaModelException
+     */
+    public boolean isUpToDate(String path, String project, String contentHash,
+                              TypeHashProvider typeHashes) throws JavaModelException {
+        FileEntry entry = files.get(path);
+        if (entry == null || !project.equals(entry.getProject()) || !contentHash.equals(entry.getContentHash())) {
+            return false;
+        }
+        for (Map.Entry<String, String> dependency : entry.getDependencies().entrySet()) {
+            if (!typeHashes.getTypeHash(dependency.getKey()).equals(dependency.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the paths of the cached Java files whose diagnostics depend on one
+     * of the given types.
+     *
+     * @param types the fully qualified names of the types.
+     * @return the paths of the cached Java files whose diagnostics depend on one
+     *         of the given types.
+     */
+    public Set<String> getDependentPaths(Set<String> types) {
+        Set<String> paths = new HashSet<>();
+        for (Map.Entry<String, FileEntry> entry : files.entrySet()) {
+            if (!Collections.disjoint(entry.getValue().getDependencies().keySet(), types)) {
+                paths.add(entry.getKey());
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * Loads the cache from the given file. An empty cache is returned when the
+     * file doesn't exist, is invalid or was written with another format.
+     *
+     * @param file the cache file.
+     * @return the cache.
+     */
+    public static AnalyzerCache load(Path file) {
+        if (file == null || !Files.exists(file)) {
+            return new AnalyzerCache();
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            AnalyzerCache cache = JSONUtility.getLsp4jGson().fromJson(reader, AnalyzerCache.class);
+            if (cache != null && cache.version == FORMAT_VERSION && cache.fingerprints != null && cache.files != null) {
+                return cache;
+            }
+            LOGGER.log(Level.INFO, "Ignore the analyzer cache '" + file + "' written with another format");
+        } catch (IOException | JsonParseException e) {
+            LOGGER.log(Level.WARNING, "Error while loading the analyzer cache '" + file + "'", e);
+        }
+        return new AnalyzerCache();
+    }
+
+    /**
+     * Saves the cache in the given file.
+     *
+     * @param file the cache file.
+     * @throws IOException
+     */
+    public void save(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        // Write a temporary file first so that a killed run doesn't leave a truncated cache
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            JSONUtility.getLsp4jGson().toJson(this, writer);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.batch;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Command line options of the Jakarta analyzer application.
+ */
+public class AnalyzerOptions {
+
+    /**
+     * Format of the report.
+     */
+    public enum ReportFormat {
+        SARIF, JSON;
+    }
+
+    public static final String USAGE = "Usage: -application org.eclipse.lsp4jakarta.jdt.core.analyzer" //
+                                       + " --workspace <dir>" //
+                                       + " [--format sarif|json]" //
+                                       + " [--output <file>]" //
+                                       + " [--changed-since <git ref>]" //
+                                       + " [--cache <file>]";
+
+    private Path workspace;
+
+    private ReportFormat format = ReportFormat.SARIF;
+
+    private Path output;
+
+    private String changedSince;
+
+    private Path cache;
+
+    private AnalyzerOptions() {}
+
+    /**
+     * Returns the real path of the root directory of the Maven or Gradle
+     * workspace to analyze.
+     *
+     * @return the real path of the root directory of the Maven or Gradle
+     *         workspace to analyze.
+     */
+    public Path getWorkspace() {
+        return workspace;
+    }
+
+    /**
+     * Returns the format of the report.
+     *
+     * @return the format of the report.
+     */
+    public ReportFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Returns the report file and null to write the report to the standard
+     * output.
+     *
+     * @return the report file and null to write the report to the standard
+     *         output.
+     */
+    public Path getOutput() {
+        return output;
+    }
+
+    /**
+     * Returns the git reference the changed files are computed from and null to
+     * analyze all the files. The Java files which depend on the changed files
+     * are only analyzed when they are in the cache (see {@link #getCache()}).
+     *
+     * @return the git reference the changed files are computed from and null to
+     *         analyze all the files.
+     */
+    public String getChangedSince() {
+        return changedSince;
+    }
+
+    /**
+     * Returns the file of the result cache and null if the results are not
+     * cached between runs.
+     *
+     * @return the file of the result cache and null if the results are not
+     *         cached between runs.
+     */
+    public Path getCache() {
+        return cache;
+    }
+
+    /**
+     * Parses the given application arguments.
+     *
+     * @param args the application arguments.
+     * @return the options.
+     * @throws IllegalArgumentException if the arguments are invalid.
+     */
+    public static AnalyzerOptions parse(String[] args) {
+        AnalyzerOptions options = new AnalyzerOptions();
+        if (args != null) {
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "--workspace":
+                        options.workspace = Paths.get(getValue(args, ++i, arg)).toAbsolutePath();
+                        break;
+                    case "--format":
+                        String format = getValue(args, ++i, arg);
+                        try {
+                            options.format = ReportFormat.valueOf(format.toUpperCase());
+                        } catch (IllegalArgumentException e) {
+                            throw new IllegalArgumentException("Unknown report format '" + format + "'\n" + USAGE);
+                        }
+                        break;
+                    case "--output":
+                        options.output = Paths.get(getValue(args, ++i, arg)).toAbsolutePath();
+                        break;
+                    case "--changed-since":
+                        options.changedSince = getValue(args, ++i, arg);
+                        break;
+                    case "--cache":
+                        options.cache = Paths.get(getValue(args, ++i, arg)).toAbsolutePath();
+                        break;
+                    default:
+                        if (arg.startsWith("--")) {
+                            throw new IllegalArgumentException("Unknown option '" + arg + "'\n" + USAGE);
+                        }
+                        // Ignore the arguments which are not for the analyzer (ex : -showlocation)
+                        break;
+                }
+            }
+        }
+        if (options.workspace == null) {
+            throw new IllegalArgumentException("Missing option '--workspace'\n" + USAGE);
+        }
+        if (!Files.isDirectory(options.workspace)) {
+            throw new IllegalArgumentException("The workspace '" + options.workspace + "' is not a directory\n" + USAGE);
+        }
+        try {
+            // The paths of the changed files given by git are real paths, resolve the
+            // symbolic links of the workspace to compare them
+            options.workspace = options.workspace.toRealPath();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("The workspace '" + options.workspace + "' cannot be resolved: "
+                                               + e.getMessage() + "\n" + USAGE);
+        }
+        return options;
+    }
+
+    private static String getValue(String[] args, int index, String option) {
+        if (index >= args.length || args[index].startsWith("--")) {
+            throw new IllegalArgumentException("Missing value for option '" + option + "'\n" + USAGE);
+        }
+        return args[index];
+    }
+}
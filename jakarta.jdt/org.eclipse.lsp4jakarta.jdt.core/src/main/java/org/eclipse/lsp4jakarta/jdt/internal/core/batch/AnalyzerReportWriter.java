@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.batch;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4jakarta.commons.utils.JSONUtility;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * Writes the diagnostics of the Jakarta analyzer application as a SARIF 2.1.0
+ * log or as a JSON report.
+ */
+public class AnalyzerReportWriter {
+
+    private static final String SARIF_SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json";
+
+    private static final String SARIF_VERSION = "2.1.0";
+
+    private static final String TOOL_NAME = "LSP4Jakarta";
+
+    private static final String TOOL_INFORMATION_URI = "https://github.com/eclipse/lsp4jakarta";
+
+    // uriBaseId of the locations, relative to the root of the analyzed workspace
+    private static final String SRCROOT = "SRCROOT";
+
+    private final String rootUri;
+
+    private final String version;
+
+    /**
+     * @param rootUri the URI of the root directory of the analyzed workspace.
+     * @param version the version of the analyzer.
+     */
+    public AnalyzerReportWriter(String rootUri, String version) {
+        this.rootUri = rootUri.endsWith("/") ? rootUri : rootUri + "/";
+        this.version = version;
+    }
+
+    /**
+     * Writes the given diagnostics as a SARIF log.
+     *
+     * @param diagnostics the diagnostics by Java file path relative to the
+     *            workspace root.
+     * @param writer the writer.
+     * @throws IOException
+     */
+    public void writeSarif(Map<String, List<Diagnostic>> diagnostics, Writer writer) throws IOException {
+        SortedMap<String, JsonObject> rules = new TreeMap<>();
+        JsonArray results = new JsonArray();
+        for (Map.Entry<String, List<Diagnostic>> file : new TreeMap<>(diagnostics).entrySet()) {
+            for (Diagnostic diagnostic : file.getValue()) {
+                String ruleId = getRuleId(diagnostic);
+                rules.computeIfAbsent(ruleId, id -> createRule(id, diagnostic));
+                results.add(createResult(ruleId, file.getKey(), diagnostic));
+            }
+        }
+
+        JsonObject driver = new JsonObject();
+        driver.addProperty("name", TOOL_NAME);
+        driver.addProperty("informationUri", TOOL_INFORMATION_URI);
+        driver.addProperty("version", version);
+        JsonArray rulesArray = new JsonArray();
+        rules.values().forEach(rulesArray::add);
+        driver.add("rules", rulesArray);
+        JsonObject tool = new JsonObject();
+        tool.add("driver", driver);
+
+        JsonObject srcRoot = new JsonObject();
+        srcRoot.addProperty("uri", rootUri);
+        JsonObject originalUriBaseIds = new JsonObject();
+        originalUriBaseIds.add(SRCROOT, srcRoot);
+
+        JsonObject run = new JsonObject();
+        run.add("tool", tool);
+        run.add("originalUriBaseIds", originalUriBaseIds);
+        run.add("results", results);
+        JsonArray runs = new JsonArray();
+        runs.add(run);
+
+        JsonObject log = new JsonObject();
+        log.addProperty("$schema", SARIF_SCHEMA);
+        log.addProperty("version", SARIF_VERSION);
+        log.add("runs", runs);
+        write(log, writer);
+    }
+
+    /**
+     * Writes the given diagnostics as a JSON report: the diagnostics (with the
+     * LSP format) of each Java file and a summary of the number of diagnostics by
+     * severity.
+     *
+     * @param diagnostics the diagnostics by Java file path relative to the
+     *            workspace root.
+     * @param writer the writer.
+     * @throws IOException
+     */
+    public void writeJson(Map<String, List<Diagnostic>> diagnostics, Writer writer) throws IOException {
+        JsonArray files = new JsonArray();
+        int errors = 0, warnings = 0, others = 0;
+        for (Map.Entry<String, List<Diagnostic>> file : new TreeMap<>(diagnostics).entrySet()) {
+            JsonObject fileObject = new JsonObject();
+            fileObject.addProperty("path", file.getKey());
+            fileObject.addProperty("uri", rootUri + file.getKey());
+            fileObject.add("diagnostics", JSONUtility.getLsp4jGson().toJsonTree(file.getValue()));
+            files.add(fileObject);
+            for (Diagnostic diagnostic : file.getValue()) {
+                if (diagnostic.getSeverity() == DiagnosticSeverity.Error) {
+                    errors++;
+                } else if (diagnostic.getSeverity() == DiagnosticSeverity.Warning) {
+                    warnings++;
+                } else {
+                    others++;
+                }
+            }
+        }
+        JsonObject summary = new JsonObject();
+        summary.addProperty("files", diagnostics.size());
+        summary.addProperty("errors", errors);
+        summary.addProperty("warnings", warnings);
+        summary.addProperty("others", others);
+
+        JsonObject report = new JsonObject();
+        report.addProperty("tool", TOOL_NAME);
+        report.addProperty("version", version);
+        report.addProperty("root", rootUri);
+        report.add("files", files);
+        report.add("summary", summary);
+        write(report, writer);
+    }
+
+    private static JsonObject createRule(String ruleId, Diagnostic diagnostic) {
+        JsonObject rule = new JsonObject();
+        rule.addProperty("id", ruleId);
+        if (diagnostic.getSource() != null) {
+            JsonObject properties = new JsonObject();
+            properties.addProperty("source", diagnostic.getSource());
+            rule.add("properties", properties);
+        }
+        return rule;
+    }
+
+    private static JsonObject createResult(String ruleId, String path, Diagnostic diagnostic) {
+        JsonObject message = new JsonObject();
+        message.addProperty("text", getMessage(diagnostic));
+
+        JsonObject artifactLocation = new JsonObject();
+        artifactLocation.addProperty("uri", path);
+        artifactLocation.addProperty("uriBaseId", SRCROOT);
+        JsonObject physicalLocation = new JsonObject();
+        physicalLocation.add("artifactLocation", artifactLocation);
+        Range range = diagnostic.getRange();
+        if (range != null) {
+            // SARIF lines and columns are 1-based
+            JsonObject region = new JsonObject();
+            region.addProperty("startLine", range.getStart().getLine() + 1);
+            region.addProperty("startColumn", range.getStart().getCharacter() + 1);
+            region.addProperty("endLine", range.getEnd().getLine() + 1);
+            region.addProperty("endColumn", range.getEnd().getCharacter() + 1);
+            physicalLocation.add("region", region);
+        }
+        JsonObject location = new JsonObject();
+        location.add("physicalLocation", physicalLocation);
+        JsonArray locations = new JsonArray();
+        locations.add(location);
+
+        JsonObject result = new JsonObject();
+        result.addProperty("ruleId", ruleId);
+        result.addProperty("level", getLevel(diagnostic.getSeverity()));
+        result.add("message", message);
+        result.add("locations", locations);
+        return result;
+    }
+
+    private static String getMessage(Diagnostic diagnostic) {
+        if (diagnostic.getMessage() == null) {
+            return "";
+        }
+        return diagnostic.getMessage().isLeft() ? diagnostic.getMessage().getLeft() : diagnostic.getMessage().getRight().getValue();
+    }
+
+    private static String getRuleId(Diagnostic diagnostic) {
+        if (diagnostic.getCode() != null) {
+            return diagnostic.getCode().isLeft() ? diagnostic.getCode().getLeft() : String.valueOf(diagnostic.getCode().getRight());
+        }
+        return diagnostic.getSource() != null ? diagnostic.getSource() : TOOL_NAME;
+    }
+
+    private static String getLevel(DiagnosticSeverity severity) {
+        if (severity == null) {
+            // The LSP default severity is an error
+            return "error";
+        }
+        switch (severity) {
+            case Error:
+                return "error";
+            case Warning:
+                return "warning";
+            default:
+                return "note";
+        }
+    }
+
+    private static void write(JsonObject json, Writer writer) throws IOException {
+        new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create().toJson(json, writer);
+        writer.flush();
+    }
+}
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.batch;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Computes the files changed since a git reference with the git command line.
+ */
+public class GitChanges {
+
+    private static final Set<String> BUILD_FILES = Set.of("pom.xml", "build.gradle", "build.gradle.kts", "settings.gradle",
+                                                          "settings.gradle.kts", "gradle.properties");
+
+    private GitChanges() {}
+
+    /**
+     * Returns the absolute paths of the files changed since the given git
+     * reference: the files of <code>git diff</code> (committed, staged and
+     * unstaged changes, including deleted files) and the untracked files.
+     *
+     * @param directory the real path of a directory of the git working tree.
+     * @param ref the git reference (ex : <code>origin/main</code>).
+     * @return the real absolute paths of the files changed since the given git
+     *         reference.
+     * @throws IOException if a git command fails or if the given directory is
+     *             not in the git working tree.
+     */
+    public static Set<Path> getChangedFiles(Path directory, String ref) throws IOException {
+        Path top = Paths.get(git(directory, "rev-parse", "--show-toplevel").get(0)).toRealPath();
+        if (!directory.startsWith(top)) {
+            // No changed file would be in the directory, and the analysis would
+            // silently report nothing
+            throw new IOException("The directory '" + directory + "' is not in the git working tree '" + top + "'");
+        }
+        Set<Path> changedFiles = new HashSet<>();
+        for (String file : git(top, "diff", "--name-only", ref, "--")) {
+            changedFiles.add(top.resolve(file).normalize());
+        }
+        for (String file : git(top, "ls-files", "--others", "--exclude-standard")) {
+            changedFiles.add(top.resolve(file).normalize());
+        }
+        return changedFiles;
+    }
+
+    /**
+     * Returns the paths, relative to the given root directory, of the Java files
+     * of the given changed files which are in the root directory, and null if a
+     * build file of the root directory changed: the classpath can change, so all
+     * the Java files must be analyzed.
+     *
+     * @param root the real path of the root directory.
+     * @param changedFiles the real absolute paths of the changed files.
+     * @return the paths of the changed Java files relative to the root directory
+     *         and null if a build file changed.
+     */
+    public static Set<String> getChangedJavaFiles(Path root, Set<Path> changedFiles) {
+        Set<String> changedPaths = new HashSet<>();
+        for (Path file : changedFiles) {
+            if (!file.startsWith(root)) {
+                continue;
+            }
+            if (isBuildFile(file)) {
+                return null;
+            }
+            if (file.toString().endsWith(".java")) {
+                changedPaths.add(root.relativize(file).toString().replace(File.separatorChar, '/'));
+            }
+        }
+        return changedPaths;
+    }
+
+    /**
+     * Returns true if the given file is a Maven or Gradle build file: its change
+     * can change the classpath of the projects and thus the diagnostics of all
+     * their files.
+     *
+     * @param file the file.
+     * @return true if the given file is a Maven or Gradle build file.
+     */
+    public static boolean isBuildFile(Path file) {
+        return BUILD_FILES.contains(file.getFileName().toString());
+    }
+
+    private static List<String> git(Path directory, String... args) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.add("-C");
+        command.add(directory.toString());
+        command.add("-c");
+        command.add("core.quotepath=off");
+        command.addAll(List.of(args));
+        // The error output is written to a file, so git never blocks on a full
+        // error pipe while the standard output is read
+        Path errorFile = Files.createTempFile("lsp4jakarta-git", ".err");
+        String output;
+        try {
+            Process process = new ProcessBuilder(command).redirectError(errorFile.toFile()).start();
+            process.getOutputStream().close();
+            output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            if (process.waitFor() != 0) {
+                String error = Files.readString(errorFile, StandardCharsets.UTF_8);
+                throw new IOException("'" + String.join(" ", command) + "' failed: " + error.strip());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while running '" + String.join(" ", command) + "'", e);
+        } finally {
+            Files.deleteIfExists(errorFile);
+        }
+        List<String> lines = new ArrayList<>();
+        for (String line : output.split("\n")) {
+            if (!line.isBlank()) {
+                lines.add(line.strip());
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,453 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.batch;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.equinox.app.IApplication;
+import org.eclipse.equinox.app.IApplicationContext;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.DocumentFormat;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsSettings;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaWorkspaceDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaWorkspaceDiagnosticsReport;
+import org.eclipse.lsp4jakarta.jdt.core.JakartaCorePlugin;
+import org.eclipse.lsp4jakarta.jdt.core.utils.HashUtils;
+import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4jakarta.jdt.core.utils.JDTJakartaUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.batch.AnalyzerCache.FileEntry;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsDependencyGraph;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.WorkspaceDiagnosticsManager;
+import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
+import org.osgi.framework.Bundle;
+
+/**
+ * Headless application which analyzes the Jakarta projects of a Maven or
+ * Gradle workspace and writes the diagnostics as a SARIF or JSON report, to
+ * enforce the Jakarta rules in a CI build without an editor.
+ *
+ * <p>
+ * The projects are imported with m2e or Buildship, then all the Java files are
+ * validated in parallel with the workspace validation sessions of
+ * {@link WorkspaceDiagnosticsManager}, so all the registered
+ * <code>javaFeatureParticipants</code> are executed. With
+ * <code>--changed-since &lt;ref&gt;</code>, only the Java files changed since
+ * the given git reference and the Java files which depend on them are
+ * analyzed. With <code>--cache &lt;file&gt;</code>, the diagnostics of the Java
+ * files which did not change since the previous run are reused (see
+ * {@link AnalyzerCache}).
+ * </p>
+ *
+ * <p>
+ * The dependencies of the Java files are only known from the cache of a
+ * previous run: without <code>--cache</code>, or for the Java files which are
+ * not in the cache, <code>--changed-since</code> only analyzes the changed
+ * Java files and misses the Java files whose diagnostics depend on the types
+ * they declare (ex : a subclass of a changed entity).
+ * </p>
+ *
+ * <p>
+ * The application exits with 0 when no error is reported, 1 when errors are
+ * reported and 2 when the analysis failed, including when some Java files
+ * could not be analyzed (a participant failed or timed out): the diagnostics
+ * of these files are not reported and the cache is not saved. The number of files validated at
+ * the same time can be configured with the system property
+ * <code>lsp4jakarta.executor.parallelism</code>, and the
+ * participants can be executed concurrently with
+ * <code>lsp4jakarta.diagnostics.concurrent</code>.
+ * </p>
+ */
+public class JakartaAnalyzerApplication implements IApplication {
+
+    private static final Logger LOGGER = Logger.getLogger(JakartaAnalyzerApplication.class.getName());
+
+    private static final Integer EXIT_NO_ERROR = 0;
+
+    private static final Integer EXIT_ERRORS = 1;
+
+    private static final Integer EXIT_FAILURE = 2;
+
+    private final IProgressMonitor monitor = new NullProgressMonitor();
+
+    /**
+     * A Java file of a Jakarta project.
+     */
+    private static class SourceFile {
+
+        private final String path;
+
+        private final String uri;
+
+        private final ICompilationUnit unit;
+
+        private final IJavaProject javaProject;
+
+        private final boolean classpathChanged;
+
+        SourceFile(String path, String uri, ICompilationUnit unit, IJavaProject javaProject, boolean classpathChanged) {
+            this.path = path;
+            this.uri = uri;
+            this.unit = unit;
+            this.javaProject = javaProject;
+            this.classpathChanged = classpathChanged;
+        }
+    }
+
+    // Handle identifier of a compilation unit -> hash of its content
+    private final Map<String, String> contentHashes = new HashMap<>();
+
+    // Project name + fully qualified type name -> hash of the content of the compilation unit of the type
+    private final Map<String, String> typeHashes = new HashMap<>();
+
+    @Override
+    public Object start(IApplicationContext context) throws Exception {
+        String[] args = (String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS);
+        AnalyzerOptions options;
+        try {
+            options = AnalyzerOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return EXIT_FAILURE;
+        }
+        try {
+            return analyze(options);
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error while analyzing the workspace '" + options.getWorkspace() + "'", e);
+            System.err.println("Analysis failed: " + e.getMessage());
+            return EXIT_FAILURE;
+        }
+    }
+
+    @Override
+    public void stop() {
+        monitor.setCanceled(true);
+    }
+
+    private Integer analyze(AnalyzerOptions options) throws CoreException, IOException {
+        long start = System.nanoTime();
+        // The report is written on the standard output when no output file is given
+        PrintStream console = options.getOutput() != null ? System.out : System.err;
+        Path root = options.getWorkspace();
+        String version = getVersion();
+
+        console.println("Importing the projects of '" + root + "'");
+        List<IProject> projects = WorkspaceImporter.importProjects(root, monitor);
+        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
+        AnalyzerCache cache = AnalyzerCache.load(options.getCache());
+        Map<String, SourceFile> sources = collectSourceFiles(root, projects, cache, version, utils);
+
+        // Select the Java files to report
+        if (options.getChangedSince() != null && options.getCache() == null) {
+            console.println("Warning: without --cache, the Java files which depend on the changed Java files are not analyzed");
+        }
+        Set<String> scope = options.getChangedSince() != null ? getChangedScope(root, options.getChangedSince(), sources, cache)
+                                                              : sources.keySet();
+
+        // Select the Java files to analyze, the other ones are reused from the cache
+        Map<String, SourceFile> toAnalyze = new LinkedHashMap<>();
+        for (String path : scope) {
+            SourceFile source = sources.get(path);
+            if (source != null && !isUpToDate(source, cache)) {
+                toAnalyze.put(source.uri, source);
+            }
+        }
+        console.println("Analyzing " + toAnalyze.size() + " of " + scope.size() + " Java files ("
+                        + (scope.size() - toAnalyze.size()) + " from cache)");
+        // The dependencies of all the analyzed Java files are read once they are all
+        // validated
+        JavaDiagnosticsDependencyGraph graph = JavaDiagnosticsDependencyGraph.getInstance();
+        graph.setGraphSize(Integer.MAX_VALUE);
+        Set<String> incompleteUris = new HashSet<>();
+        Map<String, List<Diagnostic>> analyzed = validate(new ArrayList<>(toAnalyze.keySet()), utils, incompleteUris,
+                                                          console);
+        if (monitor.isCanceled()) {
+            return EXIT_FAILURE;
+        }
+
+        // Update the cache with the analyzed Java files and remove the deleted ones
+        List<String> missingPaths = new ArrayList<>();
+        for (SourceFile source : toAnalyze.values()) {
+            List<Diagnostic> result = analyzed.get(source.uri);
+            if (result == null || incompleteUris.contains(source.uri)) {
+                // The validation of the file failed or a participant failed or timed out,
+                // its previous diagnostics are stale
+                cache.getFiles().remove(source.path);
+                missingPaths.add(source.path);
+                continue;
+            }
+            Map<String, String> dependencies = new TreeMap<>();
+            Set<String> dependencyTypes = graph.getDependencies(source.uri);
+            if (dependencyTypes != null) {
+                for (String type : dependencyTypes) {
+                    dependencies.put(type, getTypeHash(source.javaProject, type));
+                }
+            }
+            Set<String> declaredTypes = graph.getDeclaredTypes(source.uri);
+            cache.putFile(source.path, new FileEntry(source.javaProject.getElementName(), getContentHash(source.unit),
+                                                     dependencies,
+                                                     declaredTypes != null ? new ArrayList<>(declaredTypes) : null,
+                                                     result));
+        }
+        cache.getFiles().keySet().retainAll(sources.keySet());
+        if (options.getCache() != null && missingPaths.isEmpty()) {
+            // Don't save the results of a partial analysis
+            cache.save(options.getCache());
+        }
+
+        // Write the report with the diagnostics analyzed in this run or verified
+        // up to date, the missing files are not reported
+        Map<String, List<Diagnostic>> diagnostics = new TreeMap<>();
+        for (String path : scope) {
+            FileEntry entry = sources.containsKey(path) ? cache.getFile(path) : null;
+            if (entry != null && !entry.getDiagnostics().isEmpty()) {
+                diagnostics.put(path, entry.getDiagnostics());
+            }
+        }
+        writeReport(options, root, version, diagnostics);
+
+        int errors = 0, warnings = 0;
+        for (List<Diagnostic> fileDiagnostics : diagnostics.values()) {
+            for (Diagnostic diagnostic : fileDiagnostics) {
+                if (diagnostic.getSeverity() == null || diagnostic.getSeverity() == DiagnosticSeverity.Error) {
+                    errors++;
+                } else if (diagnostic.getSeverity() == DiagnosticSeverity.Warning) {
+                    warnings++;
+                }
+            }
+        }
+        console.println(String.format("Analyzed %d Java files in %.1fs: %d errors, %d warnings",
+                                      scope.size() - missingPaths.size(), (System.nanoTime() - start) / 1_000_000_000d,
+                                      errors, warnings));
+        if (!missingPaths.isEmpty()) {
+            Collections.sort(missingPaths);
+            System.err.println("Analysis failed: " + missingPaths.size() + " Java files could not be analyzed "
+                               + missingPaths);
+            return EXIT_FAILURE;
+        }
+        return errors > 0 ? EXIT_ERRORS : EXIT_NO_ERROR;
+    }
+
+    /**
+     * Returns the Java files of the Jakarta projects by path relative to the
+     * workspace root and updates the project fingerprints of the cache.
+     */
+    private Map<String, SourceFile> collectSourceFiles(Path root, List<IProject> projects, AnalyzerCache cache,
+                                                       String version, IJDTUtils utils) throws CoreException {
+        Map<String, SourceFile> sources = new LinkedHashMap<>();
+        for (IProject project : projects) {
+            if (!project.isOpen() || !project.hasNature(JavaCore.NATURE_ID)) {
+                continue;
+            }
+            IJavaProject javaProject = JavaCore.create(project);
+            if (!JDTJakartaUtils.isJakartaProject(javaProject)) {
+                continue;
+            }
+            String fingerprint = getFingerprint(javaProject, version);
+            boolean classpathChanged = !fingerprint.equals(cache.getFingerprint(project.getName()));
+            cache.setFingerprint(project.getName(), fingerprint);
+            for (ICompilationUnit unit : JDTJakartaUtils.getSourceCompilationUnits(javaProject)) {
+                IPath location = unit.getResource() != null ? unit.getResource().getLocation() : null;
+                if (location == null) {
+                    continue;
+                }
+                String path = root.relativize(location.toPath()).toString().replace(File.separatorChar, '/');
+                sources.put(path, new SourceFile(path, utils.toUri(unit), unit, javaProject, classpathChanged));
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * Returns the paths of the Java files changed since the given git reference
+     * and of the Java files whose cached diagnostics depend on the types they
+     * declare. All the Java files are returned when a build file changed.
+     */
+    private Set<String> getChangedScope(Path root, String ref, Map<String, SourceFile> sources,
+                                        AnalyzerCache cache) throws IOException, JavaModelException {
+        Set<String> changedPaths = GitChanges.getChangedJavaFiles(root, GitChanges.getChangedFiles(root, ref));
+        if (changedPaths == null) {
+            // The classpath can change, analyze everything
+            return sources.keySet();
+        }
+        Set<String> changedTypes = new HashSet<>();
+        for (String path : changedPaths) {
+            // Types declared before the change (renamed or deleted types) and after the change
+            FileEntry entry = cache.getFile(path);
+            if (entry != null) {
+                changedTypes.addAll(entry.getDeclaredTypes());
+            }
+            SourceFile source = sources.get(path);
+            if (source != null) {
+                for (IType type : source.unit.getAllTypes()) {
+                    changedTypes.add(type.getFullyQualifiedName());
+                }
+            }
+        }
+        // The dependencies of the Java files are only known from the cache
+        Set<String> scope = new HashSet<>(changedPaths);
+        scope.addAll(cache.getDependentPaths(changedTypes));
+        scope.retainAll(sources.keySet());
+        return scope;
+    }
+
+    /**
+     * Returns true if the cached diagnostics of the given Java file can be
+     * reused and false otherwise.
+     */
+    private boolean isUpToDate(SourceFile source, AnalyzerCache cache) throws JavaModelException {
+        return !source.classpathChanged
+               && cache.isUpToDate(source.path, source.javaProject.getElementName(), getContentHash(source.unit),
+                                   typeName -> getTypeHash(source.javaProject, typeName));
+    }
+
+    /**
+     * Validates the given Java files, returns their diagnostics by URI and
+     * collects the URIs of the Java files whose diagnostics are incomplete.
+     */
+    private Map<String, List<Diagnostic>> validate(List<String> uris, IJDTUtils utils, Set<String> incompleteUris,
+                                                   PrintStream console) throws JavaModelException {
+        Map<String, List<Diagnostic>> diagnostics = new HashMap<>();
+        if (uris.isEmpty()) {
+            return diagnostics;
+        }
+        JakartaJavaWorkspaceDiagnosticsParams params = new JakartaJavaWorkspaceDiagnosticsParams();
+        params.setUris(uris);
+        params.setSettings(new JakartaJavaDiagnosticsSettings(null));
+        params.setDocumentFormat(DocumentFormat.PlainText);
+        JakartaJavaWorkspaceDiagnosticsReport report;
+        do {
+            report = WorkspaceDiagnosticsManager.getInstance().workspaceDiagnostics(params, utils, monitor);
+            params.setSessionId(report.getSessionId());
+            for (PublishDiagnosticsParams fileDiagnostics : report.getDiagnostics()) {
+                diagnostics.put(fileDiagnostics.getUri(), fileDiagnostics.getDiagnostics());
+            }
+            if (report.getIncompleteUris() != null) {
+                incompleteUris.addAll(report.getIncompleteUris());
+            }
+            console.println(String.format("%d/%d files (%.1f files/s)", report.getProcessedFiles(), report.getTotalFiles(),
+                                          report.getFilesPerSecond()));
+        } while (!report.isDone());
+        return diagnostics;
+    }
+
+    /**
+     * Returns the fingerprint of the given project: the diagnostics of its Java
+     * files must be computed again when the analyzer or the resolved classpath
+     * changes.
+     */
+    private static String getFingerprint(IJavaProject javaProject, String version) throws JavaModelException {
+        StringBuilder fingerprint = new StringBuilder(version);
+        for (IClasspathEntry entry : javaProject.getResolvedClasspath(true)) {
+            fingerprint.append('\n').append(entry.getEntryKind()).append(':').append(entry.getPath());
+            if (entry.getEntryKind() == IClasspathEntry.CPE_LIBRARY) {
+                File file = entry.getPath().toFile();
+                if (!file.exists()) {
+                    // Workspace relative library
+                    IPath location = javaProject.getProject().getWorkspace().getRoot().getFile(entry.getPath()).getLocation();
+                    file = location != null ? location.toFile() : file;
+                }
+                fingerprint.append(':').append(file.length()).append(':').append(file.lastModified());
+            }
+        }
+        return HashUtils.hash(fingerprint.toString());
+    }
+
+    private String getContentHash(ICompilationUnit unit) throws JavaModelException {
+        String key = unit.getHandleIdentifier();
+        String hash = contentHashes.get(key);
+        if (hash == null) {
+            String source = unit.getSource();
+            hash = HashUtils.hash(source != null ? source : "");
+            contentHashes.put(key, hash);
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the hash of the content of the Java file declaring the given
+     * source type and an empty string if the type is not found.
+     */
+    private String getTypeHash(IJavaProject javaProject, String typeName) throws JavaModelException {
+        String key = javaProject.getElementName() + '/' + typeName;
+        String hash = typeHashes.get(key);
+        if (hash == null) {
+            IType type = javaProject.findType(typeName.replace('$', '.'));
+            ICompilationUnit unit = type != null ? type.getCompilationUnit() : null;
+            hash = unit != null ? getContentHash(unit) : "";
+            typeHashes.put(key, hash);
+        }
+        return hash;
+    }
+
+    private static void writeReport(AnalyzerOptions options, Path root, String version,
+                                    Map<String, List<Diagnostic>> diagnostics) throws IOException {
+        AnalyzerReportWriter reportWriter = new AnalyzerReportWriter(root.toUri().toString(), version);
+        Path output = options.getOutput();
+        if (output != null && output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        Writer writer = output != null ? Files.newBufferedWriter(output, StandardCharsets.UTF_8)
+                                       : new OutputStreamWriter(System.out, StandardCharsets.UTF_8);
+        try {
+            if (options.getFormat() == AnalyzerOptions.ReportFormat.JSON) {
+                reportWriter.writeJson(diagnostics, writer);
+            } else {
+                reportWriter.writeSarif(diagnostics, writer);
+            }
+        } finally {
+            if (output != null) {
+                writer.close();
+            } else {
+                // Don't close the standard output
+                writer.flush();
+            }
+        }
+    }
+
+    private static String getVersion() {
+        Bundle bundle = Platform.getBundle(JakartaCorePlugin.PLUGIN_ID);
+        return bundle != null ? bundle.getVersion().toString() : "unknown";
+    }
+}
@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.batch;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.buildship.core.BuildConfiguration;
+import org.eclipse.buildship.core.GradleCore;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceDescription;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.lsp4jakarta.jdt.core.JakartaCorePlugin;
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.project.LocalProjectScanner;
+import org.eclipse.m2e.core.project.MavenProjectInfo;
+import org.eclipse.m2e.core.project.ProjectImportConfiguration;
+
+/**
+ * Imports a Maven, Gradle or Eclipse workspace from disk in the Eclipse
+ * workspace of the analyzer application.
+ *
+ * <p>
+ * The auto build is disabled because the Jakarta diagnostics only need the
+ * sources and the resolved classpath of the projects. When the projects were
+ * already imported by a previous run (same <code>-data</code> directory), they
+ * are only refreshed.
+ * </p>
+ *
+ * <p>
+ * The import waits for the jobs of m2e, Buildship, JDT and the resources
+ * refresh at most the time given by the system property
+ * <code>lsp4jakarta.analyzer.importTimeout</code> (in milliseconds, 10
+ * minutes by default).
+ * </p>
+ */
+public class WorkspaceImporter {
+
+    private static final Logger LOGGER = Logger.getLogger(WorkspaceImporter.class.getName());
+
+    private static final String IMPORT_TIMEOUT_PROPERTY = "lsp4jakarta.analyzer.importTimeout";
+
+    private static final long DEFAULT_IMPORT_TIMEOUT = TimeUnit.MINUTES.toMillis(10);
+
+    // Packages of the jobs which import the projects and resolve their classpath
+    private static final List<String> IMPORT_JOB_PACKAGES = List.of("org.eclipse.m2e.", "org.eclipse.buildship.",
+                                                                    "org.eclipse.jdt.");
+
+    private WorkspaceImporter() {}
+
+    /**
+     * Imports the projects of the given directory and waits until their
+     * classpath is resolved.
+     *
+     * @param root the root directory of the workspace to import.
+     * @param monitor the progress monitor.
+     * @return the projects located in the given directory.
+     * @throws CoreException
+     */
+    public static List<IProject> importProjects(Path root, IProgressMonitor monitor) throws CoreException {
+        IWorkspace workspace = ResourcesPlugin.getWorkspace();
+        IWorkspaceDescription description = workspace.getDescription();
+        if (description.isAutoBuilding()) {
+            description.setAutoBuilding(false);
+            workspace.setDescription(description);
+        }
+        List<IProject> projects = getProjects(root);
+        if (!projects.isEmpty()) {
+            for (IProject project : projects) {
+                if (!project.isOpen()) {
+                    project.open(monitor);
+                }
+                project.refreshLocal(IResource.DEPTH_INFINITE, monitor);
+            }
+            if (isGradle(root)) {
+                // Synchronize is incremental, it takes the changes of the build files into account
+                importGradle(root, monitor);
+            }
+        } else if (Files.exists(root.resolve("pom.xml"))) {
+            importMaven(root, monitor);
+        } else if (isGradle(root)) {
+            importGradle(root, monitor);
+        } else if (Files.exists(root.resolve(IProjectDescription.DESCRIPTION_FILE_NAME))) {
+            importEclipse(root, monitor);
+        } else {
+            throw new IllegalArgumentException("No pom.xml, Gradle build or .project file found in '" + root + "'");
+        }
+        waitForJobs(monitor);
+        return getProjects(root);
+    }
+
+    private static void importMaven(Path root, IProgressMonitor monitor) throws CoreException {
+        LocalProjectScanner scanner = new LocalProjectScanner(List.of(root.toString()), false, MavenPlugin.getMavenModelManager());
+        try {
+            scanner.run(monitor);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OperationCanceledException();
+        }
+        List<MavenProjectInfo> infos = new ArrayList<>();
+        collectMavenProjects(scanner.getProjects(), infos);
+        MavenPlugin.getProjectConfigurationManager().importProjects(infos, new ProjectImportConfiguration(), monitor);
+    }
+
+    private static void collectMavenProjects(Collection<MavenProjectInfo> projects, List<MavenProjectInfo> infos) {
+        for (MavenProjectInfo project : projects) {
+            infos.add(project);
+            collectMavenProjects(project.getProjects(), infos);
+        }
+    }
+
+    private static void importGradle(Path root, IProgressMonitor monitor) throws CoreException {
+        BuildConfiguration configuration = BuildConfiguration.forRootProjectDirectory(root.toFile()).build();
+        IStatus status = GradleCore.getWorkspace().createBuild(configuration).synchronize(monitor).getStatus();
+        if (status.matches(IStatus.ERROR)) {
+            throw new CoreException(status);
+        }
+    }
+
+    private static void importEclipse(Path root, IProgressMonitor monitor) throws CoreException {
+        IWorkspace workspace = ResourcesPlugin.getWorkspace();
+        IPath descriptionPath = IPath.fromOSString(root.resolve(IProjectDescription.DESCRIPTION_FILE_NAME).toString());
+        IProjectDescription description = workspace.loadProjectDescription(descriptionPath);
+        IProject project = workspace.getRoot().getProject(description.getName());
+        project.create(description, monitor);
+        project.open(monitor);
+    }
+
+    private static boolean isGradle(Path root) {
+        return Files.exists(root.resolve("build.gradle")) || Files.exists(root.resolve("build.gradle.kts"))
+               || Files.exists(root.resolve("settings.gradle")) || Files.exists(root.resolve("settings.gradle.kts"));
+    }
+
+    /**
+     * Returns the projects of the Eclipse workspace located in the given
+     * directory.
+     */
+    private static List<IProject> getProjects(Path root) {
+        List<IProject> projects = new ArrayList<>();
+        for (IProject project : ResourcesPlugin.getWorkspace().getRoot().getProjects()) {
+            IPath location = project.getLocation();
+            if (location != null && location.toPath().normalize().startsWith(root)) {
+                projects.add(project);
+            }
+        }
+        return projects;
+    }
+
+    /**
+     * Waits until the import, the classpath resolution and the refresh jobs are
+     * done, including the jobs they schedule.
+     *
+     * @throws CoreException when the jobs are not done before the import
+     *             timeout.
+     */
+    private static void waitForJobs(IProgressMonitor monitor) throws CoreException {
+        long timeout = Long.getLong(IMPORT_TIMEOUT_PROPERTY, DEFAULT_IMPORT_TIMEOUT);
+        long deadline = System.currentTimeMillis() + timeout;
+        try {
+            List<Job> jobs;
+            while (!(jobs = getImportJobs()).isEmpty()) {
+                for (Job job : jobs) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0 || !job.join(remaining, monitor)) {
+                        String message = "The import of the projects is not done after " + timeout + "ms, the job '"
+                                         + job.getName() + "' is still running";
+                        throw new CoreException(new Status(IStatus.ERROR, JakartaCorePlugin.PLUGIN_ID, message));
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.log(Level.WARNING, "Interrupted while waiting for the import of the projects", e);
+        }
+    }
+
+    /**
+     * Returns the running and waiting jobs which import the projects, resolve
+     * their classpath or refresh their resources.
+     */
+    private static List<Job> getImportJobs() {
+        List<Job> jobs = new ArrayList<>();
+        for (Job job : Job.getJobManager().find(null)) {
+            if (job.getState() == Job.SLEEPING) {
+                continue;
+            }
+            if (job.belongsTo(ResourcesPlugin.FAMILY_MANUAL_REFRESH) || job.belongsTo(ResourcesPlugin.FAMILY_AUTO_REFRESH)
+                || IMPORT_JOB_PACKAGES.stream().anyMatch(job.getClass().getName()::startsWith)) {
+                jobs.add(job);
+            }
+        }
+        return jobs;
+    }
+}
@@ -25,7 +25,7 @@ public abstract class AbstractJavaFeatureDefinition<T> {
 
     private final IConfigurationElement element;
 
-    private T participant;
+    private volatile T participant;
 
     public AbstractJavaFeatureDefinition(IConfigurationElement element) {
         this.element = element;
@@ -33,9 +33,18 @@ public abstract class AbstractJavaFeatureDefinition<T> {
 
     protected T getParticipant() throws CoreException {
         if (participant == null) {
-            participant = (T) element.createExecutableExtension(CLASS_ATTR);
+            synchronized (this) {
+                if (participant == null) {
+                    participant = (T) element.createExecutableExtension(CLASS_ATTR);
+                }
+            }
         }
         return participant;
     }
 
+    @Override
+    public String toString() {
+        return element.getAttribute(CLASS_ATTR);
+    }
+
 }
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
+
+/**
+ * Global table which interns the fully qualified names of the known
+ * annotations to int IDs.
+ *
+ * <p>
+ * The annotations of a member are resolved once per snapshot to a
+ * {@link BitSet} of IDs (see
+ * {@link org.eclipse.lsp4jakarta.jdt.core.java.CompilationUnitSnapshot#getAnnotationIds}),
+ * and participants check them against masks built once from their constants
+ * (ex : "has a scope annotation" is {@link BitSet#intersects(BitSet)}), without
+ * allocating streams or arrays of names.
+ * </p>
+ */
+public class AnnotationIds {
+
+    private static final int[] NO_IDS = new int[0];
+
+    private static final AnnotationIds INSTANCE = new AnnotationIds();
+
+    public static AnnotationIds getInstance() {
+        return INSTANCE;
+    }
+
+    private final Map<String /* fully qualified name */, Integer> ids;
+
+    private final List<String> names;
+
+    private final Map<String /* simple name */, int[]> idsBySimpleName;
+
+    private AnnotationIds() {
+        this.ids = new ConcurrentHashMap<>();
+        this.names = new ArrayList<>();
+        this.idsBySimpleName = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the ID of the given annotation and creates it if needed.
+     *
+     * @param annotationFQName the fully qualified name of the annotation.
+     * @return the ID of the given annotation.
+     */
+    public int intern(String annotationFQName) {
+        Integer id = ids.get(annotationFQName);
+        if (id != null) {
+            return id;
+        }
+        synchronized (names) {
+            id = ids.get(annotationFQName);
+            if (id == null) {
+                id = names.size();
+                names.add(annotationFQName);
+                String simpleName = DiagnosticUtils.getSimpleName(annotationFQName);
+                int[] sameNameIds = idsBySimpleName.getOrDefault(simpleName, NO_IDS);
+                sameNameIds = Arrays.copyOf(sameNameIds, sameNameIds.length + 1);
+                sameNameIds[sameNameIds.length - 1] = id;
+                idsBySimpleName.put(simpleName, sameNameIds);
+                ids.put(annotationFQName, id);
+            }
+            return id;
+        }
+    }
+
+    /**
+     * Returns the mask of the given annotations.
+     *
+     * @param annotationFQNames the fully qualified names of the annotations.
+     * @return the mask of the given annotations.
+     */
+    public BitSet mask(String... annotationFQNames) {
+        return mask(Arrays.asList(annotationFQNames));
+    }
+
+    /**
+     * Returns the mask of the given annotations.
+     *
+     * @param annotationFQNames the fully qualified names of the annotations.
+     * @return the mask of the given annotations.
+     */
+    public BitSet mask(Collection<String> annotationFQNames) {
+        BitSet mask = new BitSet();
+        for (String annotationFQName : annotationFQNames) {
+            mask.set(intern(annotationFQName));
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the number of interned annotations.
+     *
+     * @return the number of interned annotations.
+     */
+    public int size() {
+        synchronized (names) {
+            return names.size();
+        }
+    }
+
+    /**
+     * Returns the fully qualified name of the annotation of the given ID.
+     *
+     * @param id the annotation ID.
+     * @return the fully qualified name of the annotation of the given ID.
+     */
+    public String getName(int id) {
+        synchronized (names) {
+            return names.get(id);
+        }
+    }
+
+    /**
+     * Returns the IDs of the annotations which have the simple name of the given
+     * simple or fully qualified name.
+     *
+     * @param name the simple or fully qualified name used in the source.
+     * @return the IDs of the annotations which can match the given name.
+     */
+    public int[] getCandidateIds(String name) {
+        return idsBySimpleName.getOrDefault(DiagnosticUtils.getSimpleName(name), NO_IDS);
+    }
+
+    /**
+     * Returns the number of annotations of the given mask which are in the given
+     * annotation IDs.
+     *
+     * @param annotationIds the annotation IDs of a member.
+     * @param mask the mask.
+     * @return the number of annotations of the given mask which are in the given
+     *         annotation IDs.
+     */
+    public static int count(BitSet annotationIds, BitSet mask) {
+        int count = 0;
+        for (int id = mask.nextSetBit(0); id >= 0; id = mask.nextSetBit(id + 1)) {
+            if (annotationIds.get(id)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the given annotation names which are in the given annotation IDs,
+     * in the order of the given collection.
+     *
+     * @param annotationIds the annotation IDs of a member.
+     * @param annotationFQNames the fully qualified names of the annotations.
+     * @return the given annotation names which are in the given annotation IDs.
+     */
+    public List<String> getNames(BitSet annotationIds, Collection<String> annotationFQNames) {
+        List<String> matched = new ArrayList<>();
+        for (String annotationFQName : annotationFQNames) {
+            if (annotationIds.get(intern(annotationFQName))) {
+                matched.add(annotationFQName);
+            }
+        }
+        return matched;
+    }
+}
@@ -0,0 +1,460 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+/**
+ * Bounded executor shared by the diagnostics participants, the workspace
+ * validation and the fix all of the JDT extension.
+ *
+ * <p>
+ * Each task runs with its own cancelable monitor, which is canceled when the
+ * task is canceled, when it runs longer than its timeout or when the monitor
+ * of the request which submitted it is canceled. The future of the task is
+ * completed at the same time, so the callers wait for the completion of their
+ * tasks instead of polling them.
+ * </p>
+ *
+ * <p>
+ * A task which keeps running {@link #ABANDON_DELAY}ms after its monitor is
+ * canceled is abandoned: its worker doesn't count in the bound any more and
+ * another worker is started (up to {@link #MAX_ABANDONED_WORKERS}), so a few
+ * hung participants don't starve the next validations. A canceled task which
+ * stops within this delay (the usual case) is not abandoned.
+ * </p>
+ *
+ * <p>
+ * A task submitted from a worker of the executor (ex : the participants of a
+ * workspace validation batch) runs in this worker, so a task never waits for
+ * a free worker while holding one. Its monitor is still canceled on timeout.
+ * </p>
+ *
+ * <p>
+ * The number of workers can be configured with the system property
+ * <code>lsp4jakarta.executor.parallelism</code>.
+ * </p>
+ */
+public class JakartaTaskExecutor {
+
+    private static final Logger LOGGER = Logger.getLogger(JakartaTaskExecutor.class.getName());
+
+    private static final String PARALLELISM_PROPERTY = "lsp4jakarta.executor.parallelism";
+
+    private static final int DEFAULT_PARALLELISM = Math.min(4, Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+
+    // Maximum number of workers started to replace the workers of abandoned tasks
+    static final int MAX_ABANDONED_WORKERS = 16;
+
+    // Time in milliseconds a canceled task can keep running before it is abandoned
+    static final long ABANDON_DELAY = 2000;
+
+    // Interval to check the cancellation of the monitors of the requests, which
+    // can only be polled
+    private static final long CANCEL_CHECK_INTERVAL = 100;
+
+    private static final long KEEP_ALIVE_TIME = 60;
+
+    private static final JakartaTaskExecutor INSTANCE = new JakartaTaskExecutor(Integer.getInteger(PARALLELISM_PROPERTY,
+                                                                                                   DEFAULT_PARALLELISM));
+
+    public static JakartaTaskExecutor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * The monitor of a task: canceled when the task is canceled or when the
+     * monitor of the request is canceled.
+     */
+    private static class TaskMonitor extends NullProgressMonitor {
+
+        private final IProgressMonitor requestMonitor;
+
+        TaskMonitor(IProgressMonitor requestMonitor) {
+            this.requestMonitor = requestMonitor;
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return super.isCanceled() || isRequestCanceled();
+        }
+
+        boolean isRequestCanceled() {
+            return requestMonitor != null && requestMonitor.isCanceled();
+        }
+    }
+
+    /**
+     * A task submitted to the executor.
+     *
+     * @param <T> the type of the result of the task.
+     */
+    public static class Task<T> {
+
+        private final JakartaTaskExecutor executor;
+
+        private final String name;
+
+        private final long timeout;
+
+        private final TaskMonitor monitor;
+
+        private final CompletableFuture<T> future;
+
+        private Thread worker;
+
+        private boolean inline;
+
+        private boolean abandoned;
+
+        // Generation of the workers which execute the task
+        private int generation;
+
+        Task(JakartaTaskExecutor executor, String name, IProgressMonitor requestMonitor, long timeout) {
+            this.executor = executor;
+            this.name = name;
+            this.timeout = timeout;
+            this.monitor = new TaskMonitor(requestMonitor);
+            this.future = new CompletableFuture<>();
+        }
+
+        /**
+         * Returns the future completed with the result of the task, with a
+         * {@link TimeoutException} when the task runs longer than its timeout,
+         * or canceled when the task or its request is canceled.
+         *
+         * @return the future of the task.
+         */
+        public CompletableFuture<T> getFuture() {
+            return future;
+        }
+
+        /**
+         * Returns the monitor given to the task.
+         *
+         * @return the monitor given to the task.
+         */
+        public IProgressMonitor getMonitor() {
+            return monitor;
+        }
+
+        /**
+         * Cancels the task: a task which is not started will not be executed, and
+         * the monitor of a running task is canceled.
+         */
+        public void cancel() {
+            if (future.cancel(false)) {
+                abandon();
+            }
+        }
+
+        void run(Function<IProgressMonitor, T> work) {
+            if (future.isDone()) {
+                // Canceled before its start
+                return;
+            }
+            if (monitor.isCanceled()) {
+                cancel();
+                return;
+            }
+            synchronized (this) {
+                worker = Thread.currentThread();
+            }
+            ScheduledFuture<?> timeoutFuture = timeout > 0 ? executor.schedule(this::timeOut, timeout) : null;
+            try {
+                future.complete(work.apply(monitor));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                if (timeoutFuture != null) {
+                    timeoutFuture.cancel(false);
+                }
+                synchronized (this) {
+                    worker = null;
+                    if (abandoned) {
+                        executor.releaseAbandonedWorker(this);
+                    }
+                }
+            }
+        }
+
+        private void timeOut() {
+            if (future.completeExceptionally(new TimeoutException("'" + name + "' timed out after " + timeout + "ms"))) {
+                abandon();
+            }
+        }
+
+        private void abandon() {
+            monitor.setCanceled(true);
+            synchronized (this) {
+                if (worker == null || inline) {
+                    return;
+                }
+            }
+            // Give the task some time to stop cooperatively
+            executor.schedule(this::checkAbandoned, ABANDON_DELAY);
+        }
+
+        private void checkAbandoned() {
+            synchronized (this) {
+                if (worker != null && !abandoned) {
+                    abandoned = executor.addAbandonedWorker(this);
+                }
+            }
+        }
+    }
+
+    /**
+     * A worker of the executor.
+     */
+    private static class Worker extends Thread {
+
+        private final JakartaTaskExecutor executor;
+
+        Worker(JakartaTaskExecutor executor, Runnable runnable, String name) {
+            super(runnable, name);
+            this.executor = executor;
+            setDaemon(true);
+        }
+    }
+
+    private final int parallelism;
+
+    private final Set<Task<?>> runningTasks;
+
+    private int abandonedWorkers;
+
+    // Incremented on shutdown, the abandoned workers of the previous workers
+    // don't count for the next ones
+    private int generation;
+
+    private ThreadPoolExecutor workers;
+
+    private ScheduledExecutorService watchdog;
+
+    /**
+     * Creates an executor which runs at most the given number of tasks at the
+     * same time. The shared executor is given by {@link #getInstance()}.
+     *
+     * @param parallelism the number of workers.
+     */
+    public JakartaTaskExecutor(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+        this.runningTasks = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Returns the number of workers which execute the tasks at the same time.
+     *
+     * @return the number of workers which execute the tasks at the same time.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Returns true if the current thread is a worker of the executor and false
+     * otherwise.
+     *
+     * @return true if the current thread is a worker of the executor and false
+     *         otherwise.
+     */
+    public boolean isWorkerThread() {
+        Thread thread = Thread.currentThread();
+        return thread instanceof Worker && ((Worker) thread).executor == this;
+    }
+
+    /**
+     * Submits the given work.
+     *
+     * @param <T> the type of the result of the work.
+     * @param name the name of the task, used in the timeout messages.
+     * @param work the work, called with the monitor of the task.
+     * @param requestMonitor the monitor of the request which submits the task
+     *            and null otherwise.
+     * @param timeout the maximum time in milliseconds the task can run and 0 to
+     *            not limit it.
+     * @return the submitted task.
+     */
+    public <T> Task<T> submit(String name, Function<IProgressMonitor, T> work, IProgressMonitor requestMonitor,
+                              long timeout) {
+        if (isWorkerThread()) {
+            // Run the nested task in the current worker
+            Task<T> task = new Task<>(this, name, requestMonitor, timeout);
+            task.inline = true;
+            task.run(work);
+            return task;
+        }
+        return enqueue(name, work, requestMonitor, timeout);
+    }
+
+    /**
+     * Submits the given work to the workers, even when the current thread is a
+     * worker (ex : a completion callback which submits the next task of a
+     * sequence). A worker must never wait for a task submitted with this method.
+     *
+     * @param <T> the type of the result of the work.
+     * @param name the name of the task, used in the timeout messages.
+     * @param work the work, called with the monitor of the task.
+     * @param requestMonitor the monitor of the request which submits the task
+     *            and null otherwise.
+     * @param timeout the maximum time in milliseconds the task can run and 0 to
+     *            not limit it.
+     * @return the submitted task.
+     */
+    public <T> Task<T> enqueue(String name, Function<IProgressMonitor, T> work, IProgressMonitor requestMonitor,
+                               long timeout) {
+        Task<T> task = new Task<>(this, name, requestMonitor, timeout);
+        runningTasks.add(task);
+        task.future.whenComplete((result, error) -> runningTasks.remove(task));
+        try {
+            ThreadPoolExecutor pool;
+            synchronized (this) {
+                pool = getWorkers();
+                task.generation = generation;
+            }
+            pool.execute(() -> task.run(work));
+        } catch (RejectedExecutionException e) {
+            // The executor is shut down
+            task.cancel();
+        }
+        return task;
+    }
+
+    /**
+     * Cancels the running tasks and stops the workers. The next submitted task
+     * starts new workers.
+     */
+    public void shutdown() {
+        ThreadPoolExecutor oldWorkers;
+        ScheduledExecutorService oldWatchdog;
+        synchronized (this) {
+            oldWorkers = workers;
+            oldWatchdog = watchdog;
+            workers = null;
+            watchdog = null;
+            abandonedWorkers = 0;
+            generation++;
+        }
+        for (Task<?> task : runningTasks) {
+            task.cancel();
+        }
+        runningTasks.clear();
+        if (oldWorkers != null) {
+            oldWorkers.shutdownNow();
+        }
+        if (oldWatchdog != null) {
+            oldWatchdog.shutdownNow();
+        }
+    }
+
+    private synchronized ThreadPoolExecutor getWorkers() {
+        if (workers == null) {
+            AtomicInteger count = new AtomicInteger();
+            workers = new ThreadPoolExecutor(parallelism, parallelism, KEEP_ALIVE_TIME, TimeUnit.SECONDS,
+                                             new LinkedBlockingQueue<>(),
+                                             runnable -> new Worker(this, runnable,
+                                                                    "lsp4jakarta-worker-" + count.incrementAndGet()));
+            workers.allowCoreThreadTimeOut(true);
+            getWatchdog().scheduleWithFixedDelay(this::cancelCanceledRequests, CANCEL_CHECK_INTERVAL,
+                                                 CANCEL_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+        }
+        return workers;
+    }
+
+    private synchronized ScheduledExecutorService getWatchdog() {
+        if (watchdog == null) {
+            watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "lsp4jakarta-worker-watchdog");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return watchdog;
+    }
+
+    private ScheduledFuture<?> schedule(Runnable runnable, long delay) {
+        try {
+            return getWatchdog().schedule(runnable, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // The executor is shut down
+            return null;
+        }
+    }
+
+    /**
+     * Cancels the tasks whose request is canceled.
+     */
+    private void cancelCanceledRequests() {
+        for (Task<?> task : runningTasks) {
+            if (task.monitor.isRequestCanceled()) {
+                task.cancel();
+            }
+        }
+    }
+
+    /**
+     * Starts a worker to replace the worker of the given abandoned task and
+     * returns true if the worker was started.
+     */
+    private synchronized boolean addAbandonedWorker(Task<?> task) {
+        if (workers == null || task.generation != generation || abandonedWorkers >= MAX_ABANDONED_WORKERS) {
+            LOGGER.log(Level.WARNING, "The task '" + task.name + "' doesn't stop after its cancellation");
+            return false;
+        }
+        abandonedWorkers++;
+        LOGGER.log(Level.WARNING, "The task '" + task.name + "' doesn't stop after its cancellation, start another worker");
+        resizeWorkers();
+        return true;
+    }
+
+    /**
+     * Stops the worker started to replace the worker of the given abandoned task
+     * which is now done.
+     */
+    private synchronized void releaseAbandonedWorker(Task<?> task) {
+        if (workers == null || task.generation != generation || abandonedWorkers == 0) {
+            return;
+        }
+        abandonedWorkers--;
+        resizeWorkers();
+    }
+
+    private void resizeWorkers() {
+        int size = parallelism + abandonedWorkers;
+        if (size > workers.getMaximumPoolSize()) {
+            workers.setMaximumPoolSize(size);
+            workers.setCorePoolSize(size);
+        } else {
+            workers.setCorePoolSize(size);
+            workers.setMaximumPoolSize(size);
+        }
+    }
+}
@@ -15,6 +15,8 @@ package org.eclipse.lsp4jakarta.jdt.internal.core.java;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -25,6 +27,7 @@ import org.eclipse.core.runtime.IExtensionRegistry;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.lsp4jakarta.jdt.core.JakartaCorePlugin;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction.JavaCodeActionDefinition;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction.JavaCodeActionIndex;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.completion.JavaCompletionDefinition;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsDefinition;
 
@@ -54,6 +57,8 @@ public class JavaFeaturesRegistry {
 
     private final List<JavaCodeActionDefinition> javaCodeActionDefinitions;
 
+    private final Map<String /* code action kind */, JavaCodeActionIndex> javaCodeActionIndexes;
+
     private boolean javaFeatureDefinitionsLoaded;
 
     public static JavaFeaturesRegistry getInstance() {
@@ -66,6 +71,7 @@ public class JavaFeaturesRegistry {
         javaCompletionDefinitions = new ArrayList<>();
         javaDiagnosticsDefinitions = new ArrayList<>();
         javaCodeActionDefinitions = new ArrayList<>();
+        javaCodeActionIndexes = new ConcurrentHashMap<>();
     }
 
     /**
@@ -90,6 +96,11 @@ public class JavaFeaturesRegistry {
         IConfigurationElement[] cf = registry.getConfigurationElementsFor(JakartaCorePlugin.PLUGIN_ID,
                                                                           EXTENSION_JAVA_FEATURE_PARTICIPANTS);
         addJavaFeatureDefinition(cf);
+
+        // Precompute the code action dispatch indexes of the declared kinds
+        for (JavaCodeActionDefinition definition : javaCodeActionDefinitions) {
+            getJavaCodeActionIndex(definition.getKind());
+        }
     }
 
     private void addJavaFeatureDefinition(IConfigurationElement[] cf) {
@@ -149,4 +160,19 @@ public class JavaFeaturesRegistry {
         return javaCodeActionDefinitions.stream().filter(definition -> codeActionKind.startsWith(definition.getKind())).collect(Collectors.toList());
     }
 
+    /**
+     * Returns the code action dispatch index of the given code action kind.
+     *
+     * @param codeActionKind the code action kind.
+     * @return the code action dispatch index of the given code action kind.
+     */
+    public JavaCodeActionIndex getJavaCodeActionIndex(String codeActionKind) {
+        JavaCodeActionIndex index = javaCodeActionIndexes.get(codeActionKind);
+        if (index == null) {
+            index = new JavaCodeActionIndex(getJavaCodeActionDefinitions(codeActionKind));
+            javaCodeActionIndexes.putIfAbsent(codeActionKind, index);
+        }
+        return index;
+    }
+
 }
@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IImportDeclaration;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+
+/**
+ * Workspace level cache of the name resolution tables of compilation units.
+ *
+ * <p>
+ * Participants check the names of hundreds of annotations, fields and methods
+ * of a compilation unit against fully qualified names. A
+ * {@link NameResolver} is built once per compilation unit and version: it
+ * indexes the imports of the compilation unit and memoizes the results of
+ * {@link IType#resolveType(String)} for the names which are not explicitly
+ * imported (same package types, <code>java.lang</code> types, on demand
+ * imports, fully qualified names).
+ * </p>
+ *
+ * <p>
+ * The resolver of a compilation unit is evicted when the compilation unit
+ * changes, and the cache is cleared when a change of the Java model can change
+ * the resolution of a name in another compilation unit: a type added or
+ * removed, or a classpath change.
+ * </p>
+ */
+@SuppressWarnings("restriction")
+public class NameResolverCache implements IElementChangedListener {
+
+    private static final int MAX_SIZE = 500;
+
+    private static final int CLASSPATH_FLAGS = IJavaElementDelta.F_CLASSPATH_CHANGED
+                                               | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+                                               | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+                                               | IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED;
+
+    // Marks a name which cannot be resolved (the concurrent maps don't support
+    // null values)
+    private static final String UNRESOLVED = "";
+
+    private static final NameResolverCache INSTANCE = new NameResolverCache();
+
+    public static NameResolverCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * The name resolution table of a compilation unit.
+     */
+    public static class NameResolver {
+
+        private final Set<String> singleTypeImports;
+
+        private final Set<String> onDemandImports;
+
+        private final Map<IType, Map<String, String>> resolvedNames;
+
+        private NameResolver(ICompilationUnit unit) throws JavaModelException {
+            this.singleTypeImports = new HashSet<>();
+            this.onDemandImports = new HashSet<>();
+            this.resolvedNames = new ConcurrentHashMap<>();
+            if (!unit.isOpen()) {
+                unit.open(null);
+            }
+            for (IImportDeclaration importDeclaration : unit.getImports()) {
+                String name = importDeclaration.getElementName();
+                if (importDeclaration.isOnDemand()) {
+                    onDemandImports.add(name.substring(0, name.lastIndexOf('.')));
+                } else {
+                    singleTypeImports.add(name);
+                }
+            }
+        }
+
+        /**
+         * Returns true if the compilation unit imports the given Java element,
+         * explicitly or with an on demand import of its package, and false
+         * otherwise.
+         *
+         * @param javaElementFQName the fully qualified name of the Java element.
+         * @return true if the compilation unit imports the given Java element and
+         *         false otherwise.
+         */
+        public boolean isImported(String javaElementFQName) {
+            if (singleTypeImports.contains(javaElementFQName)) {
+                return true;
+            }
+            int index = javaElementFQName.lastIndexOf('.');
+            return index != -1 && onDemandImports.contains(javaElementFQName.substring(0, index));
+        }
+
+        /**
+         * Returns the fully qualified name of the given name resolved in the scope
+         * of the given type and null if the name cannot be resolved or is
+         * ambiguous.
+         *
+         * @param type the type which uses the name.
+         * @param name the simple or fully qualified name.
+         * @return the fully qualified name of the given name and null otherwise.
+         * @throws JavaModelException
+         */
+        public String resolve(IType type, String name) throws JavaModelException {
+            Map<String, String> names = resolvedNames.computeIfAbsent(type, t -> new ConcurrentHashMap<>());
+            String fullyQualifiedName = names.get(name);
+            if (fullyQualifiedName == null) {
+                String[][] fqName = type.resolveType(name); // the call could be expensive
+                fullyQualifiedName = (fqName != null && fqName.length == 1) ? JavaModelUtil.concatenateName(fqName[0][0],
+                                                                                                             fqName[0][1]) : UNRESOLVED;
+                names.put(name, fullyQualifiedName);
+            }
+            return fullyQualifiedName != UNRESOLVED ? fullyQualifiedName : null;
+        }
+    }
+
+    private final Map<ICompilationUnit, NameResolver> resolvers;
+
+    // incremented on each eviction to detect a change while building a resolver
+    private final AtomicLong generation;
+
+    private boolean installed;
+
+    private NameResolverCache() {
+        this.resolvers = new ConcurrentHashMap<>();
+        this.generation = new AtomicLong();
+    }
+
+    /**
+     * Registers the cache to the Java model.
+     */
+    public synchronized void install() {
+        if (!installed) {
+            JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_RECONCILE | ElementChangedEvent.POST_CHANGE);
+            installed = true;
+        }
+    }
+
+    /**
+     * Unregisters the cache from the Java model.
+     */
+    public synchronized void uninstall() {
+        if (installed) {
+            JavaCore.removeElementChangedListener(this);
+            installed = false;
+        }
+        clear();
+    }
+
+    /**
+     * Returns the name resolver of the given compilation unit.
+     *
+     * @param unit the compilation unit.
+     * @return the name resolver of the given compilation unit.
+     * @throws JavaModelException
+     */
+    public NameResolver getResolver(ICompilationUnit unit) throws JavaModelException {
+        NameResolver resolver = resolvers.get(unit);
+        if (resolver != null) {
+            return resolver;
+        }
+        long currentGeneration = generation.get();
+        resolver = new NameResolver(unit);
+        if (resolvers.size() >= MAX_SIZE) {
+            resolvers.clear();
+        }
+        if (currentGeneration == generation.get()) {
+            // the Java model didn't change while building the resolver
+            resolvers.put(unit, resolver);
+        }
+        return resolver;
+    }
+
+    /**
+     * Clears the cache.
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        resolvers.clear();
+    }
+
+    @Override
+    public void elementChanged(ElementChangedEvent event) {
+        if (!resolvers.isEmpty()) {
+            update(event.getDelta());
+        }
+    }
+
+    private void update(IJavaElementDelta delta) {
+        if (canChangeOtherResolvers(delta)) {
+            clear();
+        } else {
+            evictChangedUnits(delta);
+        }
+    }
+
+    private void evictChangedUnits(IJavaElementDelta delta) {
+        IJavaElement element = delta.getElement();
+        if (element.getElementType() == IJavaElement.COMPILATION_UNIT) {
+            generation.incrementAndGet();
+            resolvers.remove(element);
+            return;
+        }
+        for (IJavaElementDelta child : delta.getAffectedChildren()) {
+            evictChangedUnits(child);
+        }
+    }
+
+    private static boolean canChangeOtherResolvers(IJavaElementDelta delta) {
+        int elementType = delta.getElement().getElementType();
+        int kind = delta.getKind();
+        int flags = delta.getFlags();
+        switch (elementType) {
+            case IJavaElement.JAVA_MODEL:
+                break;
+            case IJavaElement.COMPILATION_UNIT:
+                if (kind != IJavaElementDelta.CHANGED) {
+                    return true;
+                }
+                if ((flags & IJavaElementDelta.F_CONTENT) != 0 && (flags & IJavaElementDelta.F_FINE_GRAINED) == 0) {
+                    // the content changed without details (ex : file changed on the disk)
+                    return true;
+                }
+                break;
+            case IJavaElement.TYPE:
+                return kind != IJavaElementDelta.CHANGED;
+            default:
+                if (elementType > IJavaElement.TYPE) {
+                    // members and imports are local to their compilation unit
+                    return false;
+                }
+                // project, package fragment root, package fragment
+                if (kind != IJavaElementDelta.CHANGED || (flags & CLASSPATH_FLAGS) != 0) {
+                    return true;
+                }
+        }
+        for (IJavaElementDelta child : delta.getAffectedChildren()) {
+            if (canChangeOtherResolvers(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
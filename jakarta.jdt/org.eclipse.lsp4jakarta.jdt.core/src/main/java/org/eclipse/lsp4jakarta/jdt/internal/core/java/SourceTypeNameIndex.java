@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameRequestor;
+
+/**
+ * In-memory index of the simple names of the classes declared in the sources
+ * of a Java project.
+ *
+ * <p>
+ * The index of a project is built once with the JDT index (one
+ * {@link SearchEngine#searchAllTypeNames} call) and then updated with the
+ * Java element deltas: the classes of added or changed compilation units are
+ * added, and the index of a project is dropped (and built again on the next
+ * query) when a compilation unit or a type is removed or when its classpath
+ * changes.
+ * </p>
+ */
+public class SourceTypeNameIndex implements IElementChangedListener {
+
+    private static final int CLASSPATH_FLAGS = IJavaElementDelta.F_CLASSPATH_CHANGED
+                                               | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+                                               | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_OPENED
+                                               | IJavaElementDelta.F_CLOSED;
+
+    private static final SourceTypeNameIndex INSTANCE = new SourceTypeNameIndex();
+
+    public static SourceTypeNameIndex getInstance() {
+        return INSTANCE;
+    }
+
+    private final Map<IJavaProject, Set<String>> indexes;
+
+    private final AtomicLong generation;
+
+    private boolean installed;
+
+    private SourceTypeNameIndex() {
+        this.indexes = new ConcurrentHashMap<>();
+        this.generation = new AtomicLong();
+    }
+
+    /**
+     * Registers the index to the Java model.
+     */
+    public synchronized void install() {
+        if (!installed) {
+            JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_RECONCILE | ElementChangedEvent.POST_CHANGE);
+            installed = true;
+        }
+    }
+
+    /**
+     * Unregisters the index from the Java model.
+     */
+    public synchronized void uninstall() {
+        if (installed) {
+            JavaCore.removeElementChangedListener(this);
+            installed = false;
+        }
+        generation.incrementAndGet();
+        indexes.clear();
+    }
+
+    /**
+     * Returns true if a class with the given simple name is declared in the
+     * sources of the given project and false otherwise.
+     *
+     * @param javaProject the Java project.
+     * @param simpleName the simple name of the class.
+     * @return true if a class with the given simple name is declared in the
+     *         sources of the given project and false otherwise.
+     * @throws CoreException
+     */
+    public boolean hasSourceClass(IJavaProject javaProject, String simpleName) throws CoreException {
+        Set<String> index = indexes.get(javaProject);
+        if (index == null) {
+            long currentGeneration = generation.get();
+            index = buildIndex(javaProject);
+            if (currentGeneration == generation.get()) {
+                // the Java model didn't change while building the index
+                indexes.put(javaProject, index);
+            }
+        }
+        return index.contains(simpleName);
+    }
+
+    private static Set<String> buildIndex(IJavaProject javaProject) throws CoreException {
+        Set<String> index = ConcurrentHashMap.newKeySet();
+        IJavaSearchScope scope = SearchEngine.createJavaSearchScope(new IJavaProject[] { javaProject },
+                                                                    IJavaSearchScope.SOURCES);
+        new SearchEngine().searchAllTypeNames(null, SearchPattern.R_PATTERN_MATCH, null, SearchPattern.R_PATTERN_MATCH,
+                                              IJavaSearchConstants.CLASS, scope, new TypeNameRequestor() {
+
+                                                  @Override
+                                                  public void acceptType(int modifiers, char[] packageName, char[] simpleTypeName,
+                                                                         char[][] enclosingTypeNames, String path) {
+                                                      index.add(new String(simpleTypeName));
+                                                  }
+                                              }, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, null);
+        return index;
+    }
+
+    @Override
+    public void elementChanged(ElementChangedEvent event) {
+        if (!indexes.isEmpty()) {
+            update(event.getDelta());
+        }
+    }
+
+    private void update(IJavaElementDelta delta) {
+        IJavaElement element = delta.getElement();
+        switch (element.getElementType()) {
+            case IJavaElement.JAVA_MODEL:
+                break;
+            case IJavaElement.COMPILATION_UNIT:
+                updateCompilationUnit(delta, (ICompilationUnit) element);
+                return;
+            case IJavaElement.CLASS_FILE:
+                return;
+            default:
+                if (element.getElementType() > IJavaElement.COMPILATION_UNIT) {
+                    return;
+                }
+                // project, package fragment root, package fragment
+                if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & CLASSPATH_FLAGS) != 0) {
+                    invalidate(element.getJavaProject());
+                    return;
+                }
+        }
+        for (IJavaElementDelta child : delta.getAffectedChildren()) {
+            update(child);
+        }
+    }
+
+    private void updateCompilationUnit(IJavaElementDelta delta, ICompilationUnit unit) {
+        IJavaProject javaProject = unit.getJavaProject();
+        Set<String> index = indexes.get(javaProject);
+        if (index == null) {
+            return;
+        }
+        if (delta.getKind() == IJavaElementDelta.REMOVED || hasRemovedType(delta)) {
+            // the removed names can be declared by other compilation units
+            invalidate(javaProject);
+            return;
+        }
+        try {
+            for (IType type : unit.getAllTypes()) {
+                if (type.isClass()) {
+                    index.add(type.getElementName());
+                }
+            }
+        } catch (JavaModelException e) {
+            invalidate(javaProject);
+        }
+    }
+
+    private static boolean hasRemovedType(IJavaElementDelta delta) {
+        if ((delta.getFlags() & IJavaElementDelta.F_FINE_GRAINED) == 0 && (delta.getFlags() & IJavaElementDelta.F_CONTENT) != 0) {
+            // the content changed without details (ex : file changed on the disk)
+            return true;
+        }
+        for (IJavaElementDelta child : delta.getAffectedChildren()) {
+            if (child.getElement().getElementType() == IJavaElement.TYPE) {
+                if (child.getKind() == IJavaElementDelta.REMOVED || (child.getFlags() & IJavaElementDelta.F_MODIFIERS) != 0
+                    || hasRemovedType(child)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void invalidate(IJavaProject javaProject) {
+        generation.incrementAndGet();
+        indexes.remove(javaProject);
+    }
+}
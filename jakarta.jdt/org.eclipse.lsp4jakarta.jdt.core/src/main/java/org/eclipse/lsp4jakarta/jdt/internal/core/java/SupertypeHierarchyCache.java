@@ -0,0 +1,268 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Workspace level cache of the super type hierarchies of types.
+ *
+ * <p>
+ * Computing a super type hierarchy is expensive and the same hierarchy is
+ * needed by several participants and several requests. The hierarchies are
+ * cached by type handle and the names of all super types are indexed to answer
+ * {@link SupertypeHierarchy#isSubtypeOf(String)} in constant time.
+ * </p>
+ *
+ * <p>
+ * The cache is cleared when a change of the Java model can change a hierarchy:
+ * a type added or removed, a super type declaration changed, or a classpath
+ * change.
+ * </p>
+ */
+public class SupertypeHierarchyCache implements IElementChangedListener {
+
+    private static final int MAX_SIZE = 2000;
+
+    private static final int CLASSPATH_FLAGS = IJavaElementDelta.F_CLASSPATH_CHANGED
+                                               | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+                                               | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+                                               | IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED;
+
+    private static final SupertypeHierarchyCache INSTANCE = new SupertypeHierarchyCache();
+
+    public static SupertypeHierarchyCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * The super type hierarchy of a type.
+     */
+    public static class SupertypeHierarchy {
+
+        private final IType type;
+
+        private final ITypeHierarchy hierarchy;
+
+        private final Set<String> qualifiedNames;
+
+        private final Set<String> simpleNames;
+
+        private SupertypeHierarchy(IType type, ITypeHierarchy hierarchy) {
+            this.type = type;
+            this.hierarchy = hierarchy;
+            this.qualifiedNames = new HashSet<>();
+            this.simpleNames = new HashSet<>();
+            addType(type);
+            for (IType superType : hierarchy.getAllSupertypes(type)) {
+                addType(superType);
+            }
+        }
+
+        private void addType(IType t) {
+            qualifiedNames.add(t.getFullyQualifiedName());
+            simpleNames.add(t.getElementName());
+        }
+
+        /**
+         * Returns the JDT super type hierarchy.
+         *
+         * @return the JDT super type hierarchy.
+         */
+        public ITypeHierarchy getHierarchy() {
+            return hierarchy;
+        }
+
+        /**
+         * Returns all super classes and super interfaces of the type.
+         *
+         * @return all super classes and super interfaces of the type.
+         */
+        public IType[] getAllSupertypes() {
+            return hierarchy.getAllSupertypes(type);
+        }
+
+        /**
+         * Returns true if the type is the given type or one of its sub types and
+         * false otherwise.
+         *
+         * @param fullyQualifiedName the fully qualified name of the super type.
+         * @return true if the type is the given type or one of its sub types and
+         *         false otherwise.
+         */
+        public boolean isSubtypeOf(String fullyQualifiedName) {
+            return qualifiedNames.contains(fullyQualifiedName);
+        }
+
+        /**
+         * Returns true if the type or one of its super types has the given simple
+         * name and false otherwise.
+         *
+         * @param simpleName the simple name of the super type.
+         * @return true if the type or one of its super types has the given simple
+         *         name and false otherwise.
+         */
+        public boolean hasSupertypeNamed(String simpleName) {
+            return simpleNames.contains(simpleName);
+        }
+    }
+
+    private static class Entry {
+
+        private final long generation;
+
+        private final SupertypeHierarchy hierarchy;
+
+        Entry(long generation, SupertypeHierarchy hierarchy) {
+            this.generation = generation;
+            this.hierarchy = hierarchy;
+        }
+    }
+
+    private final Map<IType, Entry> hierarchies;
+
+    private final AtomicLong generation;
+
+    private boolean installed;
+
+    private SupertypeHierarchyCache() {
+        this.hierarchies = new ConcurrentHashMap<>();
+        this.generation = new AtomicLong();
+    }
+
+    /**
+     * Registers the cache to the Java model.
+     */
+    public synchronized void install() {
+        if (!installed) {
+            JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_RECONCILE | ElementChangedEvent.POST_CHANGE);
+            installed = true;
+        }
+    }
+
+    /**
+     * Unregisters the cache from the Java model.
+     */
+    public synchronized void uninstall() {
+        if (installed) {
+            JavaCore.removeElementChangedListener(this);
+            installed = false;
+        }
+        clear();
+    }
+
+    /**
+     * Returns the super type hierarchy of the given type.
+     *
+     * @param type the type.
+     * @return the super type hierarchy of the given type.
+     * @throws JavaModelException
+     */
+    public SupertypeHierarchy getSupertypeHierarchy(IType type) throws JavaModelException {
+        long currentGeneration = generation.get();
+        Entry entry = hierarchies.get(type);
+        if (entry != null && entry.generation == currentGeneration) {
+            return entry.hierarchy;
+        }
+        SupertypeHierarchy hierarchy = new SupertypeHierarchy(type, type.newSupertypeHierarchy(null));
+        if (hierarchies.size() >= MAX_SIZE) {
+            hierarchies.clear();
+        }
+        if (currentGeneration == generation.get()) {
+            // the Java model didn't change while computing the hierarchy
+            hierarchies.put(type, new Entry(currentGeneration, hierarchy));
+        }
+        return hierarchy;
+    }
+
+    /**
+     * Returns true if the given type is the given super type or one of its sub
+     * types and false otherwise.
+     *
+     * @param type the type.
+     * @param superTypeName the fully qualified name of the super type.
+     * @return true if the given type is the given super type or one of its sub
+     *         types and false otherwise.
+     * @throws JavaModelException
+     */
+    public boolean isSubtypeOf(IType type, String superTypeName) throws JavaModelException {
+        return type != null && getSupertypeHierarchy(type).isSubtypeOf(superTypeName);
+    }
+
+    /**
+     * Clears the cache.
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        hierarchies.clear();
+    }
+
+    @Override
+    public void elementChanged(ElementChangedEvent event) {
+        if (!hierarchies.isEmpty() && canChangeHierarchies(event.getDelta())) {
+            clear();
+        }
+    }
+
+    private static boolean canChangeHierarchies(IJavaElementDelta delta) {
+        int elementType = delta.getElement().getElementType();
+        int kind = delta.getKind();
+        int flags = delta.getFlags();
+        switch (elementType) {
+            case IJavaElement.JAVA_MODEL:
+                break;
+            case IJavaElement.COMPILATION_UNIT:
+                if (kind != IJavaElementDelta.CHANGED) {
+                    return true;
+                }
+                if ((flags & IJavaElementDelta.F_CONTENT) != 0 && (flags & IJavaElementDelta.F_FINE_GRAINED) == 0) {
+                    // the content changed without details (ex : file changed on the disk)
+                    return true;
+                }
+                break;
+            case IJavaElement.TYPE:
+                if (kind != IJavaElementDelta.CHANGED || (flags & IJavaElementDelta.F_SUPER_TYPES) != 0) {
+                    return true;
+                }
+                break;
+            default:
+                if (elementType > IJavaElement.TYPE) {
+                    // members don't change the hierarchies
+                    return false;
+                }
+                // project, package fragment root, package fragment
+                if (kind != IJavaElementDelta.CHANGED || (flags & CLASSPATH_FLAGS) != 0) {
+                    return true;
+                }
+        }
+        for (IJavaElementDelta child : delta.getAffectedChildren()) {
+            if (canChangeHierarchies(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -13,17 +13,16 @@
 *******************************************************************************/
 package org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.manipulation.CoreASTProvider;
 import org.eclipse.lsp4j.CodeAction;
@@ -31,9 +30,13 @@ import org.eclipse.lsp4j.CodeActionContext;
 import org.eclipse.lsp4j.CodeActionKind;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.eclipse.lsp4j.WorkspaceEdit;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaCodeActionParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaFixAllParams;
 import org.eclipse.lsp4jakarta.commons.codeaction.CodeActionResolveData;
+import org.eclipse.lsp4jakarta.commons.codeaction.JakartaCodeActionKind;
+import org.eclipse.lsp4jakarta.commons.trace.RequestTrace;
 import org.eclipse.lsp4jakarta.jdt.core.java.codeaction.ExtendedCodeAction;
 import org.eclipse.lsp4jakarta.jdt.core.java.codeaction.IJavaCodeActionParticipant;
 import org.eclipse.lsp4jakarta.jdt.core.java.codeaction.JavaCodeActionContext;
@@ -41,6 +44,8 @@ import org.eclipse.lsp4jakarta.jdt.core.java.codeaction.JavaCodeActionResolveCon
 import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.JavaFeaturesRegistry;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.corrections.DiagnosticsHelper;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.metrics.ParticipantMetrics;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.metrics.ParticipantStats;
 
 /**
  * Code action handler.
@@ -53,6 +58,22 @@ import org.eclipse.lsp4jakarta.jdt.internal.core.java.corrections.DiagnosticsHel
  */
 public class CodeActionHandler {
 
+    private final FixAllHandler fixAllHandler;
+
+    private final ParticipantStats codeActionStats;
+
+    private final ParticipantStats resolveCodeActionStats;
+
+    private final ParticipantStats fixAllStats;
+
+    public CodeActionHandler() {
+        this.fixAllHandler = new FixAllHandler();
+        ParticipantMetrics metrics = ParticipantMetrics.getInstance();
+        this.codeActionStats = metrics.get(ParticipantMetrics.CODE_ACTION_REQUEST, ParticipantMetrics.ALL_PARTICIPANTS);
+        this.resolveCodeActionStats = metrics.get(ParticipantMetrics.RESOLVE_CODE_ACTION_REQUEST, ParticipantMetrics.ALL_PARTICIPANTS);
+        this.fixAllStats = metrics.get(ParticipantMetrics.FIX_ALL_REQUEST, ParticipantMetrics.ALL_PARTICIPANTS);
+    }
+
     /**
      * Returns all the code actions applicable for the context given by the
      * parameters.
@@ -65,12 +86,29 @@ public class CodeActionHandler {
      * @param monitor the progress monitor
      * @return all the code actions applicable for the context given by the
      *         parameters
+     * @throws JavaModelException
      */
     public List<? extends CodeAction> codeAction(JakartaJavaCodeActionParams params, IJDTUtils utils,
-                                                 IProgressMonitor monitor) {
+                                                 IProgressMonitor monitor) throws JavaModelException {
+        long start = System.nanoTime();
+        try {
+            return collectCodeActions(params, utils, monitor);
+        } catch (JavaModelException | RuntimeException e) {
+            codeActionStats.recordError();
+            throw e;
+        } finally {
+            codeActionStats.record(start);
+        }
+    }
+
+    private List<? extends CodeAction> collectCodeActions(JakartaJavaCodeActionParams params, IJDTUtils utils,
+                                                          IProgressMonitor monitor) throws JavaModelException {
+        RequestTrace trace = RequestTrace.current();
         // Get the compilation unit
         String uri = params.getUri();
+        long spanStart = System.nanoTime();
         ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        trace.span("resolveUnit", spanStart);
         if (unit == null) {
             return Collections.emptyList();
         }
@@ -79,7 +117,9 @@ public class CodeActionHandler {
         int start = DiagnosticsHelper.getStartOffset(unit, params.getRange(), utils);
         int end = DiagnosticsHelper.getEndOffset(unit, params.getRange(), utils);
         JavaCodeActionContext context = new JavaCodeActionContext(unit, start, end - start, utils, params);
+        spanStart = System.nanoTime();
         context.setASTRoot(getASTRoot(unit, monitor));
+        trace.span("ast", spanStart);
 
         // Collect the available code action kinds
         List<String> codeActionKinds = new ArrayList<>();
@@ -91,64 +131,65 @@ public class CodeActionHandler {
         }
 
         List<CodeAction> codeActions = new ArrayList<>();
-        Map<String, List<JavaCodeActionDefinition>> forDiagnostics = new HashMap<>();
+        List<Diagnostic> diagnostics = params.getContext().getDiagnostics();
+        Map<JavaCodeActionDefinition, Boolean> adaptedDefinitions = new HashMap<>();
+
+        boolean fixAll = false;
 
+        spanStart = System.nanoTime();
         // Loop for each code action kinds to process the proper code actions
         for (String codeActionKind : codeActionKinds) {
-            // Get list of code action definition for the given kind
-            List<JavaCodeActionDefinition> codeActionDefinitions = JavaFeaturesRegistry.getInstance().getJavaCodeActionDefinitions(codeActionKind).stream().filter(definition -> definition.isAdaptedForCodeAction(context,
-                                                                                                                                                                                                                   monitor)).collect(Collectors.toList());
-            if (codeActionDefinitions != null) {
-                // Loop for each code action definition
-                for (JavaCodeActionDefinition definition : codeActionDefinitions) {
-                    String forDiagnostic = definition.getTargetDiagnostic();
-                    if (forDiagnostic != null) {
-                        // The code action definition is for a given diagnostic code (QuickFix), store
-                        // it
-                        List<JavaCodeActionDefinition> definitionsFor = forDiagnostics.get(forDiagnostic);
-                        if (definitionsFor == null) {
-                            definitionsFor = new ArrayList<>();
-                            forDiagnostics.put(forDiagnostic, definitionsFor);
-                        }
-                        definitionsFor.add(definition);
-                    } else {
-                        // Collect the code actions
-                        codeActions.addAll(definition.getCodeActions(context, null, monitor));
-                    }
+            if (!fixAll && JakartaCodeActionKind.isFixAll(codeActionKind)) {
+                // Fix all the diagnostics of the file which have an unambiguous quick fix
+                fixAll = true;
+                CodeAction fixAllCodeAction = fixAllHandler.fixAllInFile(uri, params.isResourceOperationSupported(), utils, monitor);
+                if (fixAllCodeAction != null) {
+                    codeActions.add(fixAllCodeAction);
                 }
             }
-        }
-
-        if (!forDiagnostics.isEmpty()) {
-            // It exists code action to fix diagnostics, loop for each diagnostics
-            params.getContext().getDiagnostics().forEach(diagnostic -> {
+            // Get the code action definitions for the given kind
+            JavaCodeActionIndex index = JavaFeaturesRegistry.getInstance().getJavaCodeActionIndex(codeActionKind);
+            for (JavaCodeActionDefinition definition : index.getGeneralDefinitions()) {
+                if (isAdaptedForCodeAction(definition, adaptedDefinitions, context, monitor)) {
+                    // Collect the code actions
+                    codeActions.addAll(definition.getCodeActions(context, null, monitor));
+                }
+            }
+            if (diagnostics == null) {
+                continue;
+            }
+            // Loop for each diagnostics, only the code action definitions registered with
+            // the "for" source#code or "for" code of the diagnostics are consulted
+            for (Diagnostic diagnostic : diagnostics) {
                 String code = getCode(diagnostic);
                 if (code != null) {
-                    // Try to get code action definition registered with the "for" source#code
-                    String key = diagnostic.getSource() + "#" + code;
-                    List<JavaCodeActionDefinition> definitionsFor = forDiagnostics.get(key);
-                    if (definitionsFor == null) {
-                        // Try to get code action definition registered with the "for" code
-                        definitionsFor = forDiagnostics.get(code);
-                    }
-                    if (definitionsFor != null) {
-                        for (JavaCodeActionDefinition definition : definitionsFor) {
+                    for (JavaCodeActionDefinition definition : index.getDefinitionsFor(diagnostic.getSource(), code)) {
+                        if (isAdaptedForCodeAction(definition, adaptedDefinitions, context, monitor)) {
                             // Collect the code actions to fix the given diagnostic
                             codeActions.addAll(definition.getCodeActions(context, diagnostic, monitor));
                         }
                     }
                 }
-            });
+            }
         }
+        trace.span("participants", spanStart);
         if (!params.isResolveSupported()) {
-            List<CodeAction> resolvedCodeActions = codeActions.stream().map(codeAction -> {
-                if (codeAction.getEdit() != null || codeAction.getCommand() != null) {
-                    // CodeAction is already resolved
-                    // (eg. command to update settings to ignore a property from validation)
-                    return codeAction;
+            // the code actions share the AST of the invocation and the ASTs of the
+            // other modified compilation units
+            spanStart = System.nanoTime();
+            List<CodeAction> resolvedCodeActions = new ArrayList<>(codeActions.size());
+            try (CodeActionResolveSession session = CodeActionResolveSession.open(unit, context.getASTRoot())) {
+                for (CodeAction codeAction : codeActions) {
+                    if (codeAction.getEdit() != null || codeAction.getCommand() != null) {
+                        // CodeAction is already resolved
+                        // (eg. command to update settings to ignore a property from validation)
+                        resolvedCodeActions.add(codeAction);
+                    } else {
+                        resolvedCodeActions.add(resolveCodeAction(codeAction, session, utils));
+                    }
                 }
-                return this.resolveCodeAction(codeAction, utils, monitor);
-            }).collect(Collectors.toList());
+            }
+            trace.span("resolve", spanStart);
 
             ExtendedCodeAction.sort(resolvedCodeActions);
             return resolvedCodeActions;
@@ -167,14 +208,39 @@ public class CodeActionHandler {
      * @return the given unresolved CodeAction with the workspace edit resolved
      */
     public CodeAction resolveCodeAction(CodeAction unresolved, IJDTUtils utils, IProgressMonitor monitor) {
+        long start = System.nanoTime();
+        try {
+            CodeActionResolveData data = (CodeActionResolveData) unresolved.getData();
+            ICompilationUnit unit = utils.resolveCompilationUnit(data.getDocumentUri());
+            if (unit == null) {
+                return null;
+            }
+            try (CodeActionResolveSession session = CodeActionResolveSession.open(unit, getASTRoot(unit, monitor))) {
+                return resolveCodeAction(unresolved, session, utils);
+            }
+        } catch (RuntimeException e) {
+            resolveCodeActionStats.recordError();
+            throw e;
+        } finally {
+            resolveCodeActionStats.record(start);
+        }
+    }
+
+    private static CodeAction resolveCodeAction(CodeAction unresolved, CodeActionResolveSession session, IJDTUtils utils) {
+        ResolvedCodeActionCache cache = ResolvedCodeActionCache.getInstance();
+        String contentHash = session.getContentHash();
+        WorkspaceEdit edit = cache.get(unresolved, contentHash);
+        if (edit != null) {
+            // the same code action was already resolved for the same content
+            unresolved.setEdit(edit);
+            return unresolved;
+        }
+        long generation = cache.getGeneration();
+
         CodeActionResolveData data = (CodeActionResolveData) unresolved.getData();
         String participantId = data.getParticipantId();
         String uri = data.getDocumentUri();
-
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
-        if (unit == null) {
-            return null;
-        }
+        ICompilationUnit unit = session.getCompilationUnit();
 
         int start = DiagnosticsHelper.getStartOffset(unit, data.getRange(), utils);
         int end = DiagnosticsHelper.getEndOffset(unit, data.getRange(), utils);
@@ -187,34 +253,62 @@ public class CodeActionHandler {
         params.setTextDocument(new VersionedTextDocumentIdentifier(uri, null));
 
         JavaCodeActionResolveContext context = new JavaCodeActionResolveContext(unit, start, end - start, utils, params, unresolved);
-        context.setASTRoot(getASTRoot(unit, monitor));
+        context.setASTRoot(session.getASTRoot());
+
+        IJavaCodeActionParticipant participant = JavaFeaturesRegistry.getInstance().getJavaCodeActionIndex(unresolved.getKind()).getDefinition(participantId);
+        CodeAction resolved = participant.resolveCodeAction(context);
+        if (resolved != null) {
+            cache.put(unresolved, contentHash, resolved.getEdit(), session.getModifiedUnits(), generation);
+        }
+        return resolved;
+    }
 
-        IJavaCodeActionParticipant participant = JavaFeaturesRegistry.getInstance().getJavaCodeActionDefinitions(unresolved.getKind()).stream().filter(definition -> participantId.equals(definition.getParticipantId())).findFirst().orElse(null);
-        return participant.resolveCodeAction(context);
+    /**
+     * Returns the workspace edit which fixes all the diagnostics with an
+     * unambiguous quick fix of the Java file or the project given by the
+     * parameters.
+     *
+     * @param params the fix all parameters
+     * @param utils the JDT utils
+     * @param monitor the progress monitor
+     * @return the workspace edit which fixes all the diagnostics with an
+     *         unambiguous quick fix and null if there is nothing to fix
+     * @throws JavaModelException
+     */
+    public WorkspaceEdit fixAll(JakartaJavaFixAllParams params, IJDTUtils utils,
+                                IProgressMonitor monitor) throws JavaModelException {
+        long start = System.nanoTime();
+        try {
+            return fixAllHandler.fixAll(params, utils, monitor);
+        } catch (JavaModelException | RuntimeException e) {
+            fixAllStats.recordError();
+            throw e;
+        } finally {
+            fixAllStats.record(start);
+        }
     }
 
-    private static CompilationUnit getASTRoot(ICompilationUnit unit, IProgressMonitor monitor) {
+    static CompilationUnit getASTRoot(ICompilationUnit unit, IProgressMonitor monitor) {
         return CoreASTProvider.getInstance().getAST(unit, CoreASTProvider.WAIT_YES, monitor);
     }
 
-    private static String getCode(Diagnostic diagnostic) {
-        Object code = null;
-        try {
-            Field f = diagnostic.getClass().getDeclaredField("code");
-            f.setAccessible(true);
-            code = f.get(diagnostic);
-        } catch (Exception e) {
-            e.printStackTrace();
+    /**
+     * Returns true if the given definition is adapted for the code action
+     * context, and calls the participant only once per request.
+     */
+    static boolean isAdaptedForCodeAction(JavaCodeActionDefinition definition,
+                                          Map<JavaCodeActionDefinition, Boolean> adaptedDefinitions,
+                                          JavaCodeActionContext context, IProgressMonitor monitor) {
+        Boolean adapted = adaptedDefinitions.get(definition);
+        if (adapted == null) {
+            adapted = definition.isAdaptedForCodeAction(context, monitor);
+            adaptedDefinitions.put(definition, adapted);
         }
-        return getCodeString(code);
+        return adapted;
     }
 
-    private static String getCodeString(Object codeObject) {
-        if (codeObject instanceof String) {
-            return ((String) codeObject);
-        }
-        @SuppressWarnings("unchecked")
-        Either<String, Number> code = (Either<String, Number>) codeObject;
+    static String getCode(Diagnostic diagnostic) {
+        Either<String, Integer> code = diagnostic.getCode();
         if (code == null || code.isRight()) {
             return null;
         }
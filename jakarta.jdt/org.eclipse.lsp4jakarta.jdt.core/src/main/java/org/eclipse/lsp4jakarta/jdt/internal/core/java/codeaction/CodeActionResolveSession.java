@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
+import org.eclipse.lsp4jakarta.jdt.core.utils.HashUtils;
+
+/**
+ * Session which resolves the code actions of a Java file.
+ *
+ * <p>
+ * The compilation unit and its AST are resolved once and shared by all the
+ * code actions resolved with the session. The proposals which modify another
+ * compilation unit than the invocation one get its AST with
+ * {@link #getQuickFixAST(CompilationUnit, ICompilationUnit)}, so it is parsed
+ * once per session instead of once per proposal.
+ * </p>
+ *
+ * <p>
+ * The proposals build new nodes in the shared ASTs, so the code actions of a
+ * session are resolved sequentially, in the thread which opened the session.
+ * The session is bound to this thread until it is closed: the invocation AST
+ * comes from the {@link org.eclipse.jdt.core.manipulation.CoreASTProvider} and
+ * is shared by the concurrent requests on the same Java file, so it cannot
+ * identify the session of a request.
+ * </p>
+ */
+@SuppressWarnings("restriction")
+public class CodeActionResolveSession implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(CodeActionResolveSession.class.getName());
+
+    // Open session of the current request
+    private static final ThreadLocal<CodeActionResolveSession> CURRENT_SESSION = new ThreadLocal<>();
+
+    private final ICompilationUnit unit;
+
+    private final Map<ICompilationUnit, CompilationUnit> quickFixASTs;
+
+    private final CompilationUnit astRoot;
+
+    // Session opened before this one in the same thread
+    private final CodeActionResolveSession previous;
+
+    private String contentHash;
+
+    private CodeActionResolveSession(ICompilationUnit unit, CompilationUnit astRoot, CodeActionResolveSession previous) {
+        this.unit = unit;
+        this.astRoot = astRoot;
+        this.previous = previous;
+        this.quickFixASTs = new HashMap<>();
+    }
+
+    /**
+     * Opens a resolve session for the given compilation unit and its AST in the
+     * current thread. The session must be closed by the same thread.
+     *
+     * @param unit the compilation unit.
+     * @param astRoot the AST of the compilation unit.
+     * @return the resolve session.
+     */
+    public static CodeActionResolveSession open(ICompilationUnit unit, CompilationUnit astRoot) {
+        CodeActionResolveSession session = new CodeActionResolveSession(unit, astRoot, CURRENT_SESSION.get());
+        CURRENT_SESSION.set(session);
+        return session;
+    }
+
+    /**
+     * Returns the compilation unit of the session.
+     *
+     * @return the compilation unit of the session.
+     */
+    public ICompilationUnit getCompilationUnit() {
+        return unit;
+    }
+
+    /**
+     * Returns the AST of the compilation unit of the session.
+     *
+     * @return the AST of the compilation unit of the session.
+     */
+    public CompilationUnit getASTRoot() {
+        return astRoot;
+    }
+
+    /**
+     * Returns the compilation unit of the session and the compilation units whose
+     * quick fix AST was used by the proposals.
+     *
+     * @return the compilation units the resolved edits were computed from.
+     */
+    public Set<ICompilationUnit> getModifiedUnits() {
+        Set<ICompilationUnit> units = new HashSet<>(quickFixASTs.keySet());
+        units.add(unit);
+        return units;
+    }
+
+    /**
+     * Returns the hash of the content of the compilation unit when the session
+     * was opened and null if the content cannot be read.
+     *
+     * @return the hash of the content of the compilation unit.
+     */
+    public synchronized String getContentHash() {
+        if (contentHash == null) {
+            try {
+                String source = unit.getSource();
+                if (source != null) {
+                    contentHash = HashUtils.hash(source);
+                }
+            } catch (JavaModelException e) {
+                LOGGER.log(Level.WARNING, "Error while reading the content of '" + unit.getElementName() + "'", e);
+            }
+        }
+        return contentHash;
+    }
+
+    /**
+     * Returns the quick fix AST of the given compilation unit, shared by the
+     * proposals created for the given invocation AST while the session of the
+     * current thread is open.
+     *
+     * @param invocationRoot the AST of the code action invocation.
+     * @param cu the compilation unit to modify.
+     * @return the quick fix AST of the given compilation unit.
+     */
+    public static CompilationUnit getQuickFixAST(CompilationUnit invocationRoot, ICompilationUnit cu) {
+        CodeActionResolveSession session = CURRENT_SESSION.get();
+        if (session == null || invocationRoot == null || session.astRoot != invocationRoot) {
+            return ASTResolving.createQuickFixAST(cu, null);
+        }
+        return session.quickFixASTs.computeIfAbsent(cu, unit -> ASTResolving.createQuickFixAST(unit, null));
+    }
+
+    @Override
+    public void close() {
+        if (CURRENT_SESSION.get() == this) {
+            if (previous != null) {
+                CURRENT_SESSION.set(previous);
+            } else {
+                CURRENT_SESSION.remove();
+            }
+        }
+        quickFixASTs.clear();
+    }
+}
@@ -0,0 +1,405 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.CodeActionContext;
+import org.eclipse.lsp4j.CodeActionKind;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.eclipse.lsp4j.WorkspaceEdit;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaCodeActionParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaFixAllParams;
+import org.eclipse.lsp4jakarta.commons.codeaction.CodeActionResolveData;
+import org.eclipse.lsp4jakarta.commons.codeaction.JakartaCodeActionKind;
+import org.eclipse.lsp4jakarta.jdt.core.PropertiesManagerForJava;
+import org.eclipse.lsp4jakarta.jdt.core.java.codeaction.ExtendedCodeAction;
+import org.eclipse.lsp4jakarta.jdt.core.java.codeaction.JavaCodeActionResolveContext;
+import org.eclipse.lsp4jakarta.jdt.core.java.corrections.proposal.ChangeCorrectionProposal;
+import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4jakarta.jdt.core.utils.JDTJakartaUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.Messages;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.JakartaTaskExecutor;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.JakartaTaskExecutor.Task;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.JavaFeaturesRegistry;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction.FixMerger.Fix;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.corrections.DiagnosticsHelper;
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.CompositeChange;
+import org.eclipse.ltk.core.refactoring.TextChange;
+import org.eclipse.text.edits.DeleteEdit;
+import org.eclipse.text.edits.InsertEdit;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.RangeMarker;
+import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
+
+/**
+ * Fix all handler.
+ *
+ * <p>
+ * Fixes in one workspace edit all the diagnostics of a Java file, or of the
+ * Java files of a project, which have an unambiguous quick fix: one code
+ * action participant targets the diagnostic (see the
+ * <code>targetDiagnostic</code> attribute of the code action participants) and
+ * it returns one code action for it.
+ * </p>
+ *
+ * <p>
+ * The fixes of a Java file share the AST of the file (see
+ * {@link CodeActionResolveSession}), and the text edits of their changes are
+ * merged in one edit per compilation unit by {@link FixMerger}. An edit
+ * identical to an edit of a previous fix (ex : the same import) is merged with
+ * it, and a fix which overlaps the edits of a previous fix is skipped (a next
+ * fix all applies it).
+ * The fixes of the Java files are collected concurrently on the shared
+ * {@link JakartaTaskExecutor}, with at most as many Java files in the executor
+ * as its number of workers (see <code>lsp4jakarta.executor.parallelism</code>),
+ * and merged in the order of the Java files.
+ * </p>
+ */
+public class FixAllHandler {
+
+    private static final Logger LOGGER = Logger.getLogger(FixAllHandler.class.getName());
+
+    private final JakartaTaskExecutor taskExecutor;
+
+    public FixAllHandler() {
+        this(JakartaTaskExecutor.getInstance());
+    }
+
+    /**
+     * @param taskExecutor the executor of the collect of the fixes of the Java
+     *            files.
+     */
+    public FixAllHandler(JakartaTaskExecutor taskExecutor) {
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Code action context which collects the changes of the proposals instead of
+     * converting them to workspace edits.
+     */
+    private static class FixAllContext extends JavaCodeActionResolveContext {
+
+        private final List<Change> changes;
+
+        FixAllContext(ITypeRoot typeRoot, int selectionOffset, int selectionLength, IJDTUtils utils,
+                      JakartaJavaCodeActionParams params, CodeAction unresolved, List<Change> changes) {
+            super(typeRoot, selectionOffset, selectionLength, utils, params, unresolved);
+            this.changes = changes;
+        }
+
+        @Override
+        public CodeAction convertToCodeAction(ChangeCorrectionProposal proposal, Diagnostic... diagnostics) throws CoreException {
+            changes.add(proposal.getChange());
+            ExtendedCodeAction codeAction = new ExtendedCodeAction(proposal.getName());
+            codeAction.setKind(proposal.getKind());
+            codeAction.setDiagnostics(Arrays.asList(diagnostics));
+            return codeAction;
+        }
+
+        @Override
+        public WorkspaceEdit convertToWorkspaceEdit(ChangeCorrectionProposal proposal) throws CoreException {
+            changes.add(proposal.getChange());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the workspace edit which fixes the diagnostics of the Java file (or
+     * of the Java files of its project) of the given parameters and null if there
+     * is nothing to fix.
+     *
+     * @param params the fix all parameters.
+     * @param utils the JDT utils.
+     * @param monitor the progress monitor.
+     * @return the workspace edit which fixes the diagnostics and null if there is
+     *         nothing to fix.
+     * @throws JavaModelException
+     */
+    public WorkspaceEdit fixAll(JakartaJavaFixAllParams params, IJDTUtils utils,
+                                IProgressMonitor monitor) throws JavaModelException {
+        ICompilationUnit unit = utils.resolveCompilationUnit(params.getUri());
+        if (unit == null) {
+            return null;
+        }
+        List<String> uris = params.isProject() ? getSourceUris(unit.getJavaProject(), utils) : Collections.singletonList(params.getUri());
+        return fixAll(uris, params.isResourceOperationSupported(), utils, monitor);
+    }
+
+    /**
+     * Returns the source action which fixes the diagnostics of the given Java
+     * file and null if there is nothing to fix.
+     *
+     * @param uri the Java file uri.
+     * @param resourceOperationSupported true if the client supports resource
+     *            operations.
+     * @param utils the JDT utils.
+     * @param monitor the progress monitor.
+     * @return the source action which fixes the diagnostics of the given Java
+     *         file and null if there is nothing to fix.
+     * @throws JavaModelException
+     */
+    public CodeAction fixAllInFile(String uri, boolean resourceOperationSupported, IJDTUtils utils,
+                                   IProgressMonitor monitor) throws JavaModelException {
+        WorkspaceEdit edit = fixAll(Collections.singletonList(uri), resourceOperationSupported, utils, monitor);
+        if (edit == null) {
+            return null;
+        }
+        ExtendedCodeAction codeAction = new ExtendedCodeAction(Messages.getMessage("FixAllInFile"));
+        codeAction.setKind(JakartaCodeActionKind.SourceFixAll);
+        codeAction.setEdit(edit);
+        return codeAction;
+    }
+
+    private WorkspaceEdit fixAll(List<String> uris, boolean resourceOperationSupported, IJDTUtils utils,
+                                 IProgressMonitor monitor) throws JavaModelException {
+        SubMonitor progress = SubMonitor.convert(monitor, uris.size() + 1);
+        // Collect the diagnostics of all files (concurrently if enabled)
+        List<PublishDiagnosticsParams> publishDiagnostics = PropertiesManagerForJava.getInstance().diagnostics(new JakartaJavaDiagnosticsParams(uris),
+                                                                                                             utils, progress.newChild(1));
+        if (monitor.isCanceled()) {
+            return null;
+        }
+
+        FixMerger merger = new FixMerger();
+        int parallelism = taskExecutor.getParallelism();
+        if (publishDiagnostics.size() == 1 || parallelism <= 1) {
+            for (PublishDiagnosticsParams fileDiagnostics : publishDiagnostics) {
+                if (monitor.isCanceled()) {
+                    return null;
+                }
+                progress.subTask(fileDiagnostics.getUri());
+                merger.addAll(collectFixes(fileDiagnostics.getUri(), fileDiagnostics.getDiagnostics(),
+                                           resourceOperationSupported, utils, monitor));
+                progress.worked(1);
+            }
+            return merger.toWorkspaceEdit(resourceOperationSupported, utils);
+        }
+
+        // Collect the fixes of the files concurrently, and merge them in the order of
+        // the files as soon as they are available. The task of a file is canceled by
+        // the executor when the monitor is canceled.
+        List<Task<List<Fix>>> tasks = new ArrayList<>(publishDiagnostics.size());
+        try {
+            for (int i = 0; i < publishDiagnostics.size(); i++) {
+                // Submit the next files while the file to merge is collected
+                while (tasks.size() < Math.min(i + parallelism, publishDiagnostics.size())) {
+                    PublishDiagnosticsParams fileDiagnostics = publishDiagnostics.get(tasks.size());
+                    tasks.add(taskExecutor.submit("Fix all of '" + fileDiagnostics.getUri() + "'",
+                                                  taskMonitor -> collectFixes(fileDiagnostics.getUri(),
+                                                                              fileDiagnostics.getDiagnostics(),
+                                                                              resourceOperationSupported, utils,
+                                                                              taskMonitor),
+                                                  monitor, 0));
+                }
+                List<Fix> fixes = getFixes(tasks.get(i));
+                if (monitor.isCanceled()) {
+                    return null;
+                }
+                progress.subTask(publishDiagnostics.get(i).getUri());
+                merger.addAll(fixes);
+                progress.worked(1);
+            }
+        } finally {
+            // Tasks which are not started yet will not be executed
+            tasks.forEach(Task::cancel);
+        }
+        return merger.toWorkspaceEdit(resourceOperationSupported, utils);
+    }
+
+    /**
+     * Returns the fixes of the given diagnostics of the given Java file.
+     */
+    private static List<Fix> collectFixes(String uri, List<Diagnostic> diagnostics, boolean resourceOperationSupported,
+                                          IJDTUtils utils, IProgressMonitor monitor) {
+        if (diagnostics.isEmpty()) {
+            return Collections.emptyList();
+        }
+        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        if (unit == null) {
+            return Collections.emptyList();
+        }
+        JavaCodeActionIndex index = JavaFeaturesRegistry.getInstance().getJavaCodeActionIndex(CodeActionKind.QuickFix);
+        Map<JavaCodeActionDefinition, Boolean> adaptedDefinitions = new HashMap<>();
+        List<Fix> fixes = new ArrayList<>();
+        try (CodeActionResolveSession session = CodeActionResolveSession.open(unit, CodeActionHandler.getASTRoot(unit, monitor))) {
+            for (Diagnostic diagnostic : diagnostics) {
+                if (monitor.isCanceled()) {
+                    break;
+                }
+                String code = CodeActionHandler.getCode(diagnostic);
+                if (code == null) {
+                    continue;
+                }
+                List<JavaCodeActionDefinition> definitions = index.getDefinitionsFor(diagnostic.getSource(), code);
+                if (definitions.size() != 1) {
+                    // No fix or several alternative fixes
+                    continue;
+                }
+                Fix fix = collectFix(definitions.get(0), diagnostic, uri, session, adaptedDefinitions,
+                                     resourceOperationSupported, utils, monitor);
+                if (fix != null) {
+                    fixes.add(fix);
+                }
+            }
+        } catch (CoreException e) {
+            LOGGER.log(Level.SEVERE, "Error while collecting the fixes of '" + uri + "'", e);
+        }
+        return fixes;
+    }
+
+    /**
+     * Returns the fix of the given diagnostic and null if the participant doesn't
+     * return exactly one code action for the diagnostic.
+     */
+    private static Fix collectFix(JavaCodeActionDefinition definition, Diagnostic diagnostic, String uri,
+                                  CodeActionResolveSession session, Map<JavaCodeActionDefinition, Boolean> adaptedDefinitions,
+                                  boolean resourceOperationSupported, IJDTUtils utils, IProgressMonitor monitor) throws CoreException {
+        ICompilationUnit unit = session.getCompilationUnit();
+        int start = DiagnosticsHelper.getStartOffset(unit, diagnostic.getRange(), utils);
+        int end = DiagnosticsHelper.getEndOffset(unit, diagnostic.getRange(), utils);
+
+        var params = new JakartaJavaCodeActionParams();
+        params.setContext(new CodeActionContext(Collections.singletonList(diagnostic)));
+        params.setResourceOperationSupported(resourceOperationSupported);
+        params.setResolveSupported(true);
+        params.setRange(diagnostic.getRange());
+        params.setTextDocument(new VersionedTextDocumentIdentifier(uri, null));
+
+        List<Change> changes = new ArrayList<>();
+        FixAllContext context = new FixAllContext(unit, start, end - start, utils, params, null, changes);
+        context.setASTRoot(session.getASTRoot());
+        if (!CodeActionHandler.isAdaptedForCodeAction(definition, adaptedDefinitions, context, monitor)) {
+            return null;
+        }
+        List<? extends CodeAction> codeActions = definition.getCodeActions(context, diagnostic, monitor);
+        if (codeActions == null || codeActions.size() != 1) {
+            // The fix is ambiguous
+            return null;
+        }
+        if (changes.isEmpty()) {
+            // The code action must be resolved to get its change
+            CodeAction unresolved = codeActions.get(0);
+            if (!(unresolved.getData() instanceof CodeActionResolveData)) {
+                return null;
+            }
+            FixAllContext resolveContext = new FixAllContext(unit, start, end - start, utils, params, unresolved, changes);
+            resolveContext.setASTRoot(session.getASTRoot());
+            definition.resolveCodeAction(resolveContext);
+        }
+        Map<ICompilationUnit, List<TextEdit>> edits = new LinkedHashMap<>();
+        for (Change change : changes) {
+            if (!collectTextEdits(change, edits)) {
+                return null;
+            }
+        }
+        return edits.isEmpty() ? null : new Fix(uri, unit, edits);
+    }
+
+    /**
+     * Collects the leaf text edits of the given change by modified compilation
+     * unit and returns false if the change cannot be merged.
+     */
+    private static boolean collectTextEdits(Change change, Map<ICompilationUnit, List<TextEdit>> edits) {
+        if (change instanceof CompositeChange) {
+            for (Change child : ((CompositeChange) change).getChildren()) {
+                if (!collectTextEdits(child, edits)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (!(change instanceof TextChange)) {
+            // Resource changes are not merged
+            return false;
+        }
+        TextChange textChange = (TextChange) change;
+        TextEdit edit = textChange.getEdit();
+        if (edit == null) {
+            return true;
+        }
+        Object modifiedElement = textChange.getModifiedElement();
+        if (!(modifiedElement instanceof IJavaElement)) {
+            return false;
+        }
+        ICompilationUnit unit = (ICompilationUnit) ((IJavaElement) modifiedElement).getAncestor(IJavaElement.COMPILATION_UNIT);
+        if (unit == null) {
+            return false;
+        }
+        return collectLeafEdits(edit, edits.computeIfAbsent(unit, u -> new ArrayList<>()));
+    }
+
+    private static boolean collectLeafEdits(TextEdit edit, List<TextEdit> leaves) {
+        if (edit instanceof MultiTextEdit || edit instanceof RangeMarker) {
+            for (TextEdit child : edit.getChildren()) {
+                if (!collectLeafEdits(child, leaves)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if ((edit instanceof ReplaceEdit || edit instanceof InsertEdit || edit instanceof DeleteEdit) && !edit.hasChildren()) {
+            leaves.add(edit);
+            return true;
+        }
+        // Move and copy edits are not merged
+        return false;
+    }
+
+    /**
+     * Waits for the fixes of a Java file and returns an empty list if the
+     * collect fails or is canceled.
+     */
+    private static List<Fix> getFixes(Task<List<Fix>> task) {
+        try {
+            return task.getFuture().join();
+        } catch (CompletionException e) {
+            LOGGER.log(Level.SEVERE, "Error while collecting the fixes", e.getCause());
+        } catch (CancellationException e) {
+            // The monitor is canceled
+        }
+        return Collections.emptyList();
+    }
+
+    private static List<String> getSourceUris(IJavaProject project, IJDTUtils utils) throws JavaModelException {
+        List<String> uris = new ArrayList<>();
+        for (ICompilationUnit unit : JDTJakartaUtils.getSourceCompilationUnits(project)) {
+            uris.add(utils.toUri(unit));
+        }
+        return uris;
+    }
+}
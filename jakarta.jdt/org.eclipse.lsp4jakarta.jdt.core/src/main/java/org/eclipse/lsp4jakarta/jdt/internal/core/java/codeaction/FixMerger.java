@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
+import org.eclipse.lsp4j.WorkspaceEdit;
+import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.ChangeUtil;
+import org.eclipse.text.edits.InsertEdit;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
+
+/**
+ * Merges the text edits of the fixes collected by {@link FixAllHandler} in one
+ * edit per compilation unit.
+ *
+ * <p>
+ * An edit identical to an edit of a previous fix (ex : the same import) is
+ * merged with it, and a fix which overlaps the edits of a previous fix is
+ * skipped.
+ * </p>
+ */
+public class FixMerger {
+
+    private static final Logger LOGGER = Logger.getLogger(FixMerger.class.getName());
+
+    private static final TextEdit[] NO_EDITS = new TextEdit[0];
+
+    /**
+     * The text edits of the fix of a diagnostic.
+     */
+    public static class Fix {
+
+        private final String uri;
+
+        private final ICompilationUnit unit;
+
+        // leaf text edits by modified compilation unit
+        private final Map<ICompilationUnit, List<TextEdit>> edits;
+
+        /**
+         * Fix of a diagnostic of the given Java file.
+         *
+         * @param uri the URI of the Java file of the diagnostic.
+         * @param unit the compilation unit of the Java file of the diagnostic.
+         * @param edits the leaf text edits (insert, replace and delete edits) of the
+         *            fix by modified compilation unit.
+         */
+        public Fix(String uri, ICompilationUnit unit, Map<ICompilationUnit, List<TextEdit>> edits) {
+            this.uri = uri;
+            this.unit = unit;
+            this.edits = edits;
+        }
+    }
+
+    private final Map<ICompilationUnit, MultiTextEdit> edits = new LinkedHashMap<>();
+
+    private final Map<ICompilationUnit, String> uris = new HashMap<>();
+
+    /**
+     * Adds the edits of the given fixes, in order.
+     *
+     * @param fixes the fixes.
+     */
+    public void addAll(List<Fix> fixes) {
+        for (Fix fix : fixes) {
+            add(fix);
+        }
+    }
+
+    /**
+     * Adds the edits of the given fix and returns false if they overlap the edits
+     * of a previous fix.
+     *
+     * @param fix the fix.
+     * @return false if the edits of the given fix overlap the edits of a previous
+     *         fix and true otherwise.
+     */
+    public boolean add(Fix fix) {
+        uris.putIfAbsent(fix.unit, fix.uri);
+        // Check all the edits of the fix before adding them
+        Map<ICompilationUnit, List<TextEdit>> toAdd = new LinkedHashMap<>();
+        for (Map.Entry<ICompilationUnit, List<TextEdit>> entry : fix.edits.entrySet()) {
+            MultiTextEdit unitEdit = edits.get(entry.getKey());
+            TextEdit[] previousEdits = unitEdit != null ? unitEdit.getChildren() : NO_EDITS;
+            List<TextEdit> unitEdits = new ArrayList<>();
+            for (TextEdit edit : entry.getValue()) {
+                if (containsSameEdit(previousEdits, edit)) {
+                    // Merged with the identical edit of a previous fix
+                    continue;
+                }
+                if (overlaps(previousEdits, edit)) {
+                    return false;
+                }
+                unitEdits.add(edit);
+            }
+            toAdd.put(entry.getKey(), unitEdits);
+        }
+        for (Map.Entry<ICompilationUnit, List<TextEdit>> entry : toAdd.entrySet()) {
+            MultiTextEdit unitEdit = edits.computeIfAbsent(entry.getKey(), unit -> new MultiTextEdit());
+            for (TextEdit edit : entry.getValue()) {
+                unitEdit.addChild(edit.copy());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the merged edits of the compilation unit and null if no fix modifies
+     * it.
+     *
+     * @param unit the compilation unit.
+     * @return the merged edits of the compilation unit and null if no fix modifies
+     *         it.
+     */
+    public MultiTextEdit getEdit(ICompilationUnit unit) {
+        return edits.get(unit);
+    }
+
+    /**
+     * Returns the workspace edit of the merged edits and null if there is no
+     * edit.
+     *
+     * @param resourceOperationSupported true if the client supports resource
+     *            operations.
+     * @param utils the JDT utilities.
+     * @return the workspace edit of the merged edits and null if there is no
+     *         edit.
+     */
+    public WorkspaceEdit toWorkspaceEdit(boolean resourceOperationSupported, IJDTUtils utils) {
+        WorkspaceEdit workspaceEdit = new WorkspaceEdit();
+        for (Map.Entry<ICompilationUnit, MultiTextEdit> entry : edits.entrySet()) {
+            ICompilationUnit unit = entry.getKey();
+            String uri = uris.get(unit);
+            if (uri == null) {
+                uri = utils.toUri(unit);
+            }
+            CompilationUnitChange change = new CompilationUnitChange(unit.getElementName(), unit);
+            change.setEdit(entry.getValue());
+            try {
+                WorkspaceEdit unitEdit = ChangeUtil.convertToWorkspaceEdit(change, uri, utils, resourceOperationSupported);
+                if (unitEdit.getDocumentChanges() != null) {
+                    if (workspaceEdit.getDocumentChanges() == null) {
+                        workspaceEdit.setDocumentChanges(new ArrayList<>());
+                    }
+                    workspaceEdit.getDocumentChanges().addAll(unitEdit.getDocumentChanges());
+                }
+                if (unitEdit.getChanges() != null) {
+                    workspaceEdit.getChanges().putAll(unitEdit.getChanges());
+                }
+            } catch (CoreException e) {
+                LOGGER.log(Level.SEVERE, "Error while converting the fixes of '" + uri + "'", e);
+            }
+        }
+        return ChangeUtil.hasChanges(workspaceEdit) ? workspaceEdit : null;
+    }
+
+    private static boolean containsSameEdit(TextEdit[] edits, TextEdit edit) {
+        for (TextEdit other : edits) {
+            if (other.getOffset() == edit.getOffset() && other.getLength() == edit.getLength()
+                && Objects.equals(getText(other), getText(edit))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean overlaps(TextEdit[] edits, TextEdit edit) {
+        for (TextEdit other : edits) {
+            if (overlaps(other, edit)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean overlaps(TextEdit edit1, TextEdit edit2) {
+        if (edit1.getLength() == 0 || edit2.getLength() == 0) {
+            // An insertion overlaps a replaced region only when it is strictly inside
+            // it, insertions at the same offset are applied in the order of the fixes
+            TextEdit insertion = edit1.getLength() == 0 ? edit1 : edit2;
+            TextEdit other = insertion == edit1 ? edit2 : edit1;
+            return other.getLength() > 0 && insertion.getOffset() > other.getOffset()
+                   && insertion.getOffset() < other.getExclusiveEnd();
+        }
+        return edit1.getOffset() < edit2.getExclusiveEnd() && edit2.getOffset() < edit1.getExclusiveEnd();
+    }
+
+    private static String getText(TextEdit edit) {
+        if (edit instanceof ReplaceEdit) {
+            return ((ReplaceEdit) edit).getText();
+        }
+        if (edit instanceof InsertEdit) {
+            return ((InsertEdit) edit).getText();
+        }
+        return "";
+    }
+}
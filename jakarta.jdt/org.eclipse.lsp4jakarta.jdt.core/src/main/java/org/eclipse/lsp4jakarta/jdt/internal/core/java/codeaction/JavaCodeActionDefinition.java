@@ -30,6 +30,8 @@ import org.eclipse.lsp4jakarta.jdt.core.java.codeaction.IJavaCodeActionParticipa
 import org.eclipse.lsp4jakarta.jdt.core.java.codeaction.JavaCodeActionContext;
 import org.eclipse.lsp4jakarta.jdt.core.java.codeaction.JavaCodeActionResolveContext;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.AbstractJavaFeatureDefinition;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.metrics.ParticipantMetrics;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.metrics.ParticipantStats;
 
 /**
  * Wrapper class around {@link IJavaCodeActionParticipant} participants.
@@ -46,10 +48,18 @@ public class JavaCodeActionDefinition extends AbstractJavaFeatureDefinition<IJav
     private final String kind;
     private final String targetDiagnostic;
 
+    private final ParticipantStats isAdaptedStats;
+    private final ParticipantStats getCodeActionsStats;
+    private final ParticipantStats resolveStats;
+
     public JavaCodeActionDefinition(IConfigurationElement element) {
         super(element);
         this.kind = getKind(element);
         this.targetDiagnostic = element.getAttribute(TARGET_DIAGNOSTIC_ATTR);
+        ParticipantMetrics metrics = ParticipantMetrics.getInstance();
+        this.isAdaptedStats = metrics.get(ParticipantMetrics.IS_ADAPTED_FOR_CODE_ACTION, toString());
+        this.getCodeActionsStats = metrics.get(ParticipantMetrics.GET_CODE_ACTIONS, toString());
+        this.resolveStats = metrics.get(ParticipantMetrics.RESOLVE_CODE_ACTION, toString());
     }
 
     private static String getKind(IConfigurationElement element) throws InvalidRegistryObjectException {
@@ -69,33 +79,49 @@ public class JavaCodeActionDefinition extends AbstractJavaFeatureDefinition<IJav
 
     @Override
     public boolean isAdaptedForCodeAction(JavaCodeActionContext context, IProgressMonitor monitor) {
+        long start = System.nanoTime();
         try {
             return getParticipant().isAdaptedForCodeAction(context, monitor);
         } catch (Exception e) {
+            isAdaptedStats.recordError();
             LOGGER.log(Level.SEVERE, "Error while calling isAdaptedForCodeAction", e);
             return false;
+        } finally {
+            isAdaptedStats.record(start);
         }
     }
 
     @Override
     public List<? extends CodeAction> getCodeActions(JavaCodeActionContext context, Diagnostic diagnostic,
                                                      IProgressMonitor monitor) {
+        long start = System.nanoTime();
         try {
             List<? extends CodeAction> codeActions = getParticipant().getCodeActions(context, diagnostic, monitor);
             return codeActions != null ? codeActions : Collections.emptyList();
         } catch (Exception e) {
+            getCodeActionsStats.recordError();
             LOGGER.log(Level.SEVERE, "Error while calling getCodeActions", e);
             return Collections.emptyList();
+        } finally {
+            getCodeActionsStats.record(start);
         }
     }
 
     @Override
     public CodeAction resolveCodeAction(JavaCodeActionResolveContext context) {
+        long start = System.nanoTime();
         try {
             return getParticipant().resolveCodeAction(context);
         } catch (CoreException e) {
+            resolveStats.recordError();
             LOGGER.log(Level.WARNING, "Unable to get CodeAction participant", e);
             return context.getUnresolved();
+        } catch (RuntimeException e) {
+            // Counted here but handled by the caller
+            resolveStats.recordError();
+            throw e;
+        } finally {
+            resolveStats.record(start);
         }
     }
 
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dispatch index of the code action definitions of a code action kind.
+ *
+ * <p>
+ * The definitions which fix a diagnostic (with a <code>targetDiagnostic</code>
+ * attribute) are indexed by diagnostic source and code, so a code action
+ * request only consults (and instantiates) the participants of the diagnostics
+ * of the request.
+ * </p>
+ */
+public class JavaCodeActionIndex {
+
+    private final List<JavaCodeActionDefinition> definitions;
+
+    private final List<JavaCodeActionDefinition> generalDefinitions;
+
+    private final Map<String /* source */, Map<String /* code */, List<JavaCodeActionDefinition>>> definitionsBySourceAndCode;
+
+    private final Map<String /* code */, List<JavaCodeActionDefinition>> definitionsByCode;
+
+    private final Map<String /* participant id */, JavaCodeActionDefinition> definitionsByParticipantId;
+
+    public JavaCodeActionIndex(List<JavaCodeActionDefinition> definitions) {
+        this.definitions = Collections.unmodifiableList(new ArrayList<>(definitions));
+        List<JavaCodeActionDefinition> general = new ArrayList<>();
+        Map<String, Map<String, List<JavaCodeActionDefinition>>> bySourceAndCode = new HashMap<>();
+        Map<String, List<JavaCodeActionDefinition>> byCode = new HashMap<>();
+        for (JavaCodeActionDefinition definition : definitions) {
+            String targetDiagnostic = definition.getTargetDiagnostic();
+            if (targetDiagnostic == null) {
+                general.add(definition);
+                continue;
+            }
+            // the target diagnostic is "source#code" or "code"
+            int index = targetDiagnostic.indexOf('#');
+            if (index != -1) {
+                Map<String, List<JavaCodeActionDefinition>> sourceDefinitions = bySourceAndCode.computeIfAbsent(targetDiagnostic.substring(0, index),
+                                                                                                                source -> new HashMap<>());
+                sourceDefinitions.computeIfAbsent(targetDiagnostic.substring(index + 1), code -> new ArrayList<>()).add(definition);
+            } else {
+                byCode.computeIfAbsent(targetDiagnostic, code -> new ArrayList<>()).add(definition);
+            }
+        }
+        this.generalDefinitions = Collections.unmodifiableList(general);
+        this.definitionsBySourceAndCode = bySourceAndCode;
+        this.definitionsByCode = byCode;
+        this.definitionsByParticipantId = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns all the code action definitions of the kind.
+     *
+     * @return all the code action definitions of the kind.
+     */
+    public List<JavaCodeActionDefinition> getDefinitions() {
+        return definitions;
+    }
+
+    /**
+     * Returns the code action definitions which don't target a diagnostic.
+     *
+     * @return the code action definitions which don't target a diagnostic.
+     */
+    public List<JavaCodeActionDefinition> getGeneralDefinitions() {
+        return generalDefinitions;
+    }
+
+    /**
+     * Returns the code action definitions which fix the diagnostic of the given
+     * source and code.
+     *
+     * @param source the diagnostic source.
+     * @param code the diagnostic code.
+     * @return the code action definitions which fix the diagnostic of the given
+     *         source and code.
+     */
+    public List<JavaCodeActionDefinition> getDefinitionsFor(String source, String code) {
+        if (source != null) {
+            Map<String, List<JavaCodeActionDefinition>> byCode = definitionsBySourceAndCode.get(source);
+            List<JavaCodeActionDefinition> definitionsFor = byCode != null ? byCode.get(code) : null;
+            if (definitionsFor != null) {
+                return definitionsFor;
+            }
+        }
+        return definitionsByCode.getOrDefault(code, Collections.emptyList());
+    }
+
+    /**
+     * Returns the code action definition of the given participant id and null
+     * otherwise.
+     *
+     * @param participantId the participant id.
+     * @return the code action definition of the given participant id and null
+     *         otherwise.
+     */
+    public JavaCodeActionDefinition getDefinition(String participantId) {
+        JavaCodeActionDefinition found = definitionsByParticipantId.get(participantId);
+        if (found == null) {
+            // the participant id is given by the participant, only the participants
+            // before the searched one are instantiated
+            for (JavaCodeActionDefinition definition : definitions) {
+                if (participantId.equals(definition.getParticipantId())) {
+                    definitionsByParticipantId.put(participantId, definition);
+                    return definition;
+                }
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.WorkspaceEdit;
+import org.eclipse.lsp4jakarta.commons.codeaction.CodeActionResolveData;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsDependencyGraph;
+
+/**
+ * Cache of the workspace edits of the resolved code actions.
+ *
+ * <p>
+ * A workspace edit is cached by the resolve data, the kind and the diagnostics
+ * of the code action and by the content of the Java file, so a repeated
+ * resolve of the same code action (ex : the client resolves the code action
+ * when it is selected and then when it is applied) doesn't compute the edit
+ * again.
+ * </p>
+ *
+ * <p>
+ * An edit can modify other Java files than the one of the code action (ex :
+ * the super class), so an edit is evicted when one of the Java files it was
+ * computed from changes, or when a type the Java file of the code action
+ * depends on changes (see {@link JavaDiagnosticsDependencyGraph}). The cache
+ * is cleared when a Java file is added or removed and when the classpath
+ * changes.
+ * </p>
+ */
+public class ResolvedCodeActionCache implements IElementChangedListener {
+
+    private static final int MAX_SIZE = 100;
+
+    private static final ResolvedCodeActionCache INSTANCE = new ResolvedCodeActionCache();
+
+    public static ResolvedCodeActionCache getInstance() {
+        return INSTANCE;
+    }
+
+    private static class Key {
+
+        private final CodeActionResolveData data;
+
+        private final String kind;
+
+        private final List<Diagnostic> diagnostics;
+
+        private final String contentHash;
+
+        Key(CodeAction unresolved, String contentHash) {
+            this.data = (CodeActionResolveData) unresolved.getData();
+            this.kind = unresolved.getKind();
+            this.diagnostics = unresolved.getDiagnostics();
+            this.contentHash = contentHash;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(data, kind, diagnostics, contentHash);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return Objects.equals(data, other.data) && Objects.equals(kind, other.kind)
+                   && Objects.equals(diagnostics, other.diagnostics) && Objects.equals(contentHash, other.contentHash);
+        }
+    }
+
+    private static class Entry {
+
+        private final WorkspaceEdit edit;
+
+        // handle identifiers of the compilation units the edit was computed from
+        private final Set<String> units;
+
+        // fully qualified names of the types the Java file of the code action depends
+        // on and null if they are not known
+        private final Set<String> dependencies;
+
+        Entry(WorkspaceEdit edit, Set<String> units, Set<String> dependencies) {
+            this.edit = edit;
+            this.units = units;
+            this.dependencies = dependencies;
+        }
+
+        boolean isAffected(Set<String> changedUnits, Set<String> changedTypes) {
+            return dependencies == null || !Collections.disjoint(units, changedUnits)
+                   || !Collections.disjoint(dependencies, changedTypes);
+        }
+    }
+
+    private final Map<Key, Entry> edits;
+
+    // incremented on each clear to detect a change while resolving a code action
+    private final AtomicLong generation;
+
+    private boolean installed;
+
+    private ResolvedCodeActionCache() {
+        this.edits = new LinkedHashMap<>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > MAX_SIZE;
+            }
+        };
+        this.generation = new AtomicLong();
+    }
+
+    /**
+     * Registers the cache to the Java model.
+     */
+    public synchronized void install() {
+        if (!installed) {
+            JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_RECONCILE | ElementChangedEvent.POST_CHANGE);
+            installed = true;
+        }
+    }
+
+    /**
+     * Unregisters the cache from the Java model.
+     */
+    public synchronized void uninstall() {
+        if (installed) {
+            JavaCore.removeElementChangedListener(this);
+            installed = false;
+        }
+        clear();
+    }
+
+    /**
+     * Returns the current generation of the cache, to give to
+     * {@link #put(CodeAction, String, WorkspaceEdit, Set, long)}.
+     *
+     * @return the current generation of the cache.
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Returns the cached workspace edit of the given unresolved code action and
+     * null otherwise.
+     *
+     * @param unresolved the unresolved code action.
+     * @param contentHash the hash of the content of the Java file.
+     * @return the cached workspace edit of the given unresolved code action and
+     *         null otherwise.
+     */
+    public WorkspaceEdit get(CodeAction unresolved, String contentHash) {
+        if (contentHash == null || !(unresolved.getData() instanceof CodeActionResolveData)) {
+            return null;
+        }
+        synchronized (edits) {
+            Entry entry = edits.get(new Key(unresolved, contentHash));
+            return entry != null ? entry.edit : null;
+        }
+    }
+
+    /**
+     * Caches the workspace edit of the given unresolved code action if the Java
+     * model didn't change since the given generation.
+     *
+     * @param unresolved the unresolved code action.
+     * @param contentHash the hash of the content of the Java file.
+     * @param edit the resolved workspace edit.
+     * @param units the compilation units the edit was computed from.
+     * @param fromGeneration the generation of the cache when the resolve
+     *            started.
+     */
+    public void put(CodeAction unresolved, String contentHash, WorkspaceEdit edit, Set<ICompilationUnit> units,
+                    long fromGeneration) {
+        if (contentHash == null || edit == null || !(unresolved.getData() instanceof CodeActionResolveData)) {
+            return;
+        }
+        Set<String> handleIdentifiers = new HashSet<>();
+        units.forEach(unit -> handleIdentifiers.add(unit.getHandleIdentifier()));
+        String uri = ((CodeActionResolveData) unresolved.getData()).getDocumentUri();
+        Set<String> dependencies = uri != null ? JavaDiagnosticsDependencyGraph.getInstance().getDependencies(uri) : null;
+        Entry entry = new Entry(edit, handleIdentifiers, dependencies != null ? new HashSet<>(dependencies) : null);
+        synchronized (edits) {
+            if (fromGeneration == generation.get()) {
+                edits.put(new Key(unresolved, contentHash), entry);
+            }
+        }
+    }
+
+    /**
+     * Clears the cache.
+     */
+    public void clear() {
+        synchronized (edits) {
+            generation.incrementAndGet();
+            edits.clear();
+        }
+    }
+
+    @Override
+    public void elementChanged(ElementChangedEvent event) {
+        synchronized (edits) {
+            if (edits.isEmpty()) {
+                return;
+            }
+        }
+        Set<String> changedUnits = new HashSet<>();
+        Set<String> changedTypes = new HashSet<>();
+        if (!collectChangedUnits(event.getDelta(), changedUnits, changedTypes)) {
+            // a compilation unit was added or removed or the classpath changed, it can
+            // change the resolution of any type
+            clear();
+            return;
+        }
+        if (changedUnits.isEmpty()) {
+            return;
+        }
+        synchronized (edits) {
+            // an edit which is being resolved can be computed from the changed units
+            generation.incrementAndGet();
+            edits.values().removeIf(entry -> entry.isAffected(changedUnits, changedTypes));
+        }
+    }
+
+    /**
+     * Collects the handle identifiers and the declared types of the changed
+     * compilation units of the given delta, and returns false if a compilation
+     * unit was added or removed or if the classpath changed.
+     */
+    private static boolean collectChangedUnits(IJavaElementDelta delta, Set<String> changedUnits,
+                                               Set<String> changedTypes) {
+        IJavaElement element = delta.getElement();
+        if (element.getElementType() == IJavaElement.COMPILATION_UNIT) {
+            if (delta.getKind() != IJavaElementDelta.CHANGED) {
+                return false;
+            }
+            changedUnits.add(element.getHandleIdentifier());
+            try {
+                for (IType type : ((ICompilationUnit) element).getAllTypes()) {
+                    changedTypes.add(type.getFullyQualifiedName());
+                }
+            } catch (JavaModelException e) {
+                return false;
+            }
+            return true;
+        }
+        if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & (IJavaElementDelta.F_CLASSPATH_CHANGED
+                                                                                 | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+            return false;
+        }
+        for (IJavaElementDelta child : delta.getAffectedChildren()) {
+            if (!collectChangedUnits(child, changedUnits, changedTypes)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
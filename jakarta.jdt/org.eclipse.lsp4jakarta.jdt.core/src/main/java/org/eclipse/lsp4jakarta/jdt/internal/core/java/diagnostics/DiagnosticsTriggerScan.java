@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.jdt.core.IAnnotatable;
+import org.eclipse.jdt.core.IAnnotation;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.ILocalVariable;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4jakarta.jdt.core.java.CompilationUnitSnapshot;
+
+/**
+ * Names referenced by a compilation unit, collected in a single pass over the
+ * annotations of its types and members and the super types of its types.
+ *
+ * <p>
+ * Only the source buffer and the Java model are used (no AST is built), so the
+ * scan is cheap compared to the participants it allows to skip. The match
+ * methods are conservative: they may return true for a unit which finally
+ * doesn't produce any diagnostic, but never return false for a unit which
+ * could.
+ * </p>
+ */
+public class DiagnosticsTriggerScan {
+
+    private String source;
+
+    private final Set<String> qualifiedNames = new HashSet<>();
+
+    private final Set<String> annotationSimpleNames = new HashSet<>();
+
+    private boolean declaresSuperTypes;
+
+    private DiagnosticsTriggerScan() {}
+
+    /**
+     * Scans the given compilation unit snapshot.
+     *
+     * @param snapshot the compilation unit snapshot.
+     * @return the names referenced by the compilation unit.
+     * @throws JavaModelException
+     */
+    public static DiagnosticsTriggerScan scan(CompilationUnitSnapshot snapshot) throws JavaModelException {
+        DiagnosticsTriggerScan scan = new DiagnosticsTriggerScan();
+        scan.source = snapshot.getCompilationUnit().getSource();
+        for (IType type : snapshot.getAllTypes()) {
+            scan.addAnnotations(snapshot, type);
+            String superclassName = type.getSuperclassName();
+            if (superclassName != null) {
+                scan.addSuperType(superclassName);
+            }
+            for (String superInterfaceName : type.getSuperInterfaceNames()) {
+                scan.addSuperType(superInterfaceName);
+            }
+            for (IField field : type.getFields()) {
+                scan.addAnnotations(snapshot, field);
+            }
+            for (IMethod method : type.getMethods()) {
+                scan.addAnnotations(snapshot, method);
+                for (ILocalVariable parameter : method.getParameters()) {
+                    scan.addAnnotations(snapshot, parameter);
+                }
+            }
+        }
+        return scan;
+    }
+
+    private void addAnnotations(CompilationUnitSnapshot snapshot, IAnnotatable element) throws JavaModelException {
+        for (IAnnotation annotation : snapshot.getAnnotations(element)) {
+            String name = annotation.getElementName();
+            annotationSimpleNames.add(getSimpleName(name));
+            addQualifiedName(name);
+        }
+    }
+
+    private void addSuperType(String name) {
+        declaresSuperTypes = true;
+        int typeArgumentsStart = name.indexOf('<');
+        addQualifiedName(typeArgumentsStart != -1 ? name.substring(0, typeArgumentsStart) : name);
+    }
+
+    private void addQualifiedName(String name) {
+        if (name.indexOf('.') != -1) {
+            qualifiedNames.add(name);
+        }
+    }
+
+    private static String getSimpleName(String name) {
+        int index = name.lastIndexOf('.');
+        return index != -1 ? name.substring(index + 1) : name;
+    }
+
+    /**
+     * Returns true if the source of the compilation unit contains a qualified
+     * name of the given package (or one of its sub packages) and false otherwise.
+     *
+     * <p>
+     * The source is searched instead of the imports to take care of fully
+     * qualified usages in method bodies.
+     * </p>
+     *
+     * @param packageName the package name (ex : jakarta.persistence).
+     * @return true if the compilation unit can reference the given package and
+     *         false otherwise.
+     */
+    public boolean referencesPackage(String packageName) {
+        return source == null || source.contains(packageName + ".");
+    }
+
+    /**
+     * Returns true if the compilation unit uses an annotation which can be the
+     * given annotation and false otherwise.
+     *
+     * <p>
+     * The annotation is matched with its simple name, which covers explicit
+     * imports, on-demand imports and fully qualified usages.
+     * </p>
+     *
+     * @param annotationName the annotation fully qualified name.
+     * @return true if the compilation unit can use the given annotation and false
+     *         otherwise.
+     */
+    public boolean mayUseAnnotation(String annotationName) {
+        return annotationSimpleNames.contains(getSimpleName(annotationName));
+    }
+
+    /**
+     * Returns true if a type of the compilation unit can be a sub type of the
+     * given type and false otherwise.
+     *
+     * <p>
+     * As the super type can be inherited from a type declared in an other
+     * compilation unit, any type which declares an explicit super class or super
+     * interface matches.
+     * </p>
+     *
+     * @param superType the super type fully qualified name.
+     * @return true if a type of the compilation unit can be a sub type of the
+     *         given type and false otherwise.
+     */
+    public boolean mayHaveSuperType(String superType) {
+        return declaresSuperTypes || qualifiedNames.contains(superType);
+    }
+}
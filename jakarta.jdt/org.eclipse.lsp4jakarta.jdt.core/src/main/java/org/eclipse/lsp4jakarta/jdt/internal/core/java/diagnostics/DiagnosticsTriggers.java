@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.core.runtime.IConfigurationElement;
+
+/**
+ * Trigger set declared by a diagnostics participant with the
+ * <code>packages</code>, <code>annotations</code> and <code>superTypes</code>
+ * attributes of the <code>diagnostics</code> element.
+ *
+ * <p>
+ * A participant which declares no trigger is always called.
+ * </p>
+ */
+public class DiagnosticsTriggers {
+
+    private static final String PACKAGES_ATTR = "packages";
+    private static final String ANNOTATIONS_ATTR = "annotations";
+    private static final String SUPER_TYPES_ATTR = "superTypes";
+
+    private final List<String> packages;
+
+    private final List<String> annotationNames;
+
+    private final List<String> superTypes;
+
+    public DiagnosticsTriggers(IConfigurationElement element) {
+        this.packages = split(element.getAttribute(PACKAGES_ATTR));
+        this.annotationNames = split(element.getAttribute(ANNOTATIONS_ATTR));
+        this.superTypes = split(element.getAttribute(SUPER_TYPES_ATTR));
+    }
+
+    private static List<String> split(String value) {
+        if (StringUtils.isBlank(value)) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+    }
+
+    /**
+     * Returns true if the participant doesn't declare any trigger and false
+     * otherwise.
+     *
+     * @return true if the participant doesn't declare any trigger and false
+     *         otherwise.
+     */
+    public boolean isEmpty() {
+        return packages.isEmpty() && annotationNames.isEmpty() && superTypes.isEmpty();
+    }
+
+    /**
+     * Returns true if one of the triggers can match the scanned compilation unit
+     * and false otherwise.
+     *
+     * @param scan the names referenced by the compilation unit.
+     * @return true if one of the triggers can match the scanned compilation unit
+     *         and false otherwise.
+     */
+    public boolean matches(DiagnosticsTriggerScan scan) {
+        for (String packageName : packages) {
+            if (scan.referencesPackage(packageName)) {
+                return true;
+            }
+        }
+        for (String annotationName : annotationNames) {
+            if (scan.mayUseAnnotation(annotationName)) {
+                return true;
+            }
+        }
+        for (String superType : superTypes) {
+            if (scan.mayHaveSuperType(superType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,459 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4jakarta.commons.DocumentFormat;
+import org.eclipse.lsp4jakarta.commons.JakartaClasspathChangeEvent;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsSettings;
+import org.eclipse.lsp4jakarta.jdt.core.IJakartaClasspathChangedListener;
+import org.eclipse.lsp4jakarta.jdt.core.utils.HashUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.JakartaClasspathListenerManager;
+
+/**
+ * Bounded LRU cache of the diagnostics collected for a Java file.
+ *
+ * <p>
+ * An entry is identified by the URI of the Java file, the hash of its content,
+ * the hash of the diagnostics settings and the classpath generation, so the
+ * same content validated again (ex : on save, after an undo) returns the
+ * previous diagnostics without calling any participant.
+ * </p>
+ *
+ * <p>
+ * The diagnostics of a file can also depend on other source types (see
+ * {@link JavaDiagnosticsDependencyGraph}): the entries of the files which
+ * depend on a compilation unit are evicted when this compilation unit changes.
+ * The entries of the files whose dependencies are no longer recorded by the
+ * graph are removed. A classpath change increments the classpath generation,
+ * which invalidates all entries.
+ * </p>
+ *
+ * <p>
+ * The cache also computes the result ids of the pull diagnostics (see
+ * {@link #getResultId}): a result id changes when the content of the Java
+ * file, the diagnostics settings, the classpath generation or a dependency of
+ * the file changes, so an unchanged result id means that the previous
+ * diagnostics of the file are still valid, even if they are no longer cached,
+ * as long as the dependencies of the file are recorded by the graph and
+ * didn't change during its validation.
+ * </p>
+ *
+ * <p>
+ * The cache size can be configured with the
+ * <code>lsp4jakarta.diagnostics.cacheSize</code> system property (0 disables
+ * the cache).
+ * </p>
+ */
+public class JavaDiagnosticsCache implements IElementChangedListener, IJakartaClasspathChangedListener {
+
+    private static final Logger LOGGER = Logger.getLogger(JavaDiagnosticsCache.class.getName());
+
+    private static final String CACHE_SIZE_PROPERTY = "lsp4jakarta.diagnostics.cacheSize";
+
+    private static final int DEFAULT_CACHE_SIZE = 500;
+
+    private static final JavaDiagnosticsCache INSTANCE = new JavaDiagnosticsCache(Integer.getInteger(CACHE_SIZE_PROPERTY,
+                                                                                                     DEFAULT_CACHE_SIZE));
+
+    public static JavaDiagnosticsCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Identifies the diagnostics of a Java file content.
+     */
+    public static class Key {
+
+        private final String uri;
+
+        private final String contentHash;
+
+        private final int settingsHash;
+
+        private final long classpathGeneration;
+
+        // not part of the identity, used to detect an invalidation during the
+        // validation
+        private final long invalidationCount;
+
+        private Key(String uri, String contentHash, int settingsHash, long classpathGeneration,
+                    long invalidationCount) {
+            this.uri = uri;
+            this.contentHash = contentHash;
+            this.settingsHash = settingsHash;
+            this.classpathGeneration = classpathGeneration;
+            this.invalidationCount = invalidationCount;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(uri, contentHash, settingsHash, classpathGeneration);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return uri.equals(other.uri) && contentHash.equals(other.contentHash) && settingsHash == other.settingsHash
+                   && classpathGeneration == other.classpathGeneration;
+        }
+    }
+
+    private final int cacheSize;
+
+    private final Map<Key, List<Diagnostic>> entries;
+
+    private final AtomicLong classpathGeneration;
+
+    private final AtomicLong invalidationCount;
+
+    private final AtomicLong hitCount;
+
+    private final AtomicLong missCount;
+
+    // Identifies this instance in the result ids, so the result ids of a
+    // previous session are never unchanged
+    private final String instanceId;
+
+    // Incremented on each clear to change all the result ids
+    private final AtomicLong clearCount;
+
+    // Incremented when a dependency of a Java file changes to change its result
+    // id
+    private final Map<String /* Java file URI */, Long> dependencyVersions;
+
+    private volatile boolean resultIdsRequested;
+
+    private boolean installed;
+
+    JavaDiagnosticsCache(int cacheSize) {
+        this.cacheSize = cacheSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, List<Diagnostic>> eldest) {
+                return size() > JavaDiagnosticsCache.this.cacheSize;
+            }
+        };
+        this.classpathGeneration = new AtomicLong();
+        this.invalidationCount = new AtomicLong();
+        this.hitCount = new AtomicLong();
+        this.missCount = new AtomicLong();
+        this.instanceId = UUID.randomUUID().toString();
+        this.clearCount = new AtomicLong();
+        this.dependencyVersions = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Registers the cache to the Java model and to the classpath changes.
+     */
+    public synchronized void install() {
+        if (!installed) {
+            JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_RECONCILE | ElementChangedEvent.POST_CHANGE);
+            JakartaClasspathListenerManager.getInstance().addClasspathChangedListener(this);
+            installed = true;
+        }
+    }
+
+    /**
+     * Unregisters the cache from the Java model and from the classpath changes.
+     */
+    public synchronized void uninstall() {
+        if (installed) {
+            JavaCore.removeElementChangedListener(this);
+            JakartaClasspathListenerManager.getInstance().removeClasspathChangedListener(this);
+            installed = false;
+        }
+        clear();
+    }
+
+    /**
+     * Returns true if the cache is enabled and false otherwise.
+     *
+     * @return true if the cache is enabled and false otherwise.
+     */
+    public boolean isEnabled() {
+        return cacheSize > 0;
+    }
+
+    /**
+     * Returns the key of the diagnostics of the given Java file and null if the
+     * content of the Java file cannot be read.
+     *
+     * @param uri the Java file URI.
+     * @param typeRoot the Java file.
+     * @param documentFormat the document format.
+     * @param settings the diagnostics settings.
+     * @return the key of the diagnostics of the given Java file and null if the
+     *         content of the Java file cannot be read.
+     */
+    public Key createKey(String uri, ITypeRoot typeRoot, DocumentFormat documentFormat,
+                         JakartaJavaDiagnosticsSettings settings) {
+        if (!isEnabled()) {
+            return null;
+        }
+        try {
+            String source = typeRoot.getSource();
+            if (source == null) {
+                return null;
+            }
+            int settingsHash = Objects.hash(documentFormat, settings != null ? settings.getPatterns() : null);
+            return new Key(uri, HashUtils.hash(source), settingsHash, classpathGeneration.get(), invalidationCount.get());
+        } catch (JavaModelException e) {
+            LOGGER.log(Level.WARNING, "Error while reading the content of '" + uri + "'", e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the result id of the diagnostics of the given Java file and null
+     * if the content of the Java file cannot be read.
+     *
+     * @param uri the Java file URI.
+     * @param typeRoot the Java file.
+     * @param documentFormat the document format.
+     * @param settings the diagnostics settings.
+     * @return the result id of the diagnostics of the given Java file and null
+     *         if the content of the Java file cannot be read.
+     */
+    public String getResultId(String uri, ITypeRoot typeRoot, DocumentFormat documentFormat,
+                              JakartaJavaDiagnosticsSettings settings) {
+        resultIdsRequested = true;
+        try {
+            String source = typeRoot.getSource();
+            if (source == null) {
+                return null;
+            }
+            int settingsHash = Objects.hash(documentFormat, settings != null ? settings.getPatterns() : null);
+            return HashUtils.hash(instanceId + ':' + HashUtils.hash(source) + ':' + settingsHash + ':'
+                                  + classpathGeneration.get() + ':' + clearCount.get() + ':'
+                                  + dependencyVersions.getOrDefault(uri, 0L));
+        } catch (JavaModelException e) {
+            LOGGER.log(Level.WARNING, "Error while reading the content of '" + uri + "'", e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the number of invalidations (a dependency or the classpath
+     * changed), to detect an invalidation during a validation.
+     *
+     * @return the number of invalidations.
+     */
+    public long getInvalidationCount() {
+        return invalidationCount.get();
+    }
+
+    /**
+     * Returns the cached diagnostics for the given key and null otherwise.
+     *
+     * @param key the diagnostics key.
+     * @return the cached diagnostics for the given key and null otherwise.
+     */
+    public List<Diagnostic> get(Key key) {
+        List<Diagnostic> diagnostics;
+        synchronized (entries) {
+            diagnostics = entries.get(key);
+        }
+        if (diagnostics == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return new ArrayList<>(diagnostics);
+    }
+
+    /**
+     * Caches the given diagnostics. The diagnostics of a request whose
+     * participants failed or timed out must not be cached.
+     *
+     * @param key the diagnostics key.
+     * @param diagnostics the diagnostics collected for the key.
+     */
+    public void put(Key key, List<Diagnostic> diagnostics) {
+        synchronized (entries) {
+            if (key.invalidationCount != invalidationCount.get()) {
+                // a dependency or the classpath changed during the validation, the
+                // diagnostics can be outdated
+                return;
+            }
+            entries.put(key, new ArrayList<>(diagnostics));
+        }
+    }
+
+    /**
+     * Evicts the cached diagnostics of the given Java files since one of their
+     * dependencies changed.
+     *
+     * @param uris the Java file URIs.
+     */
+    public void evict(Set<String> uris) {
+        if (uris.isEmpty()) {
+            return;
+        }
+        synchronized (entries) {
+            invalidationCount.incrementAndGet();
+            entries.keySet().removeIf(key -> uris.contains(key.uri));
+            for (String uri : uris) {
+                dependencyVersions.merge(uri, 1L, Long::sum);
+            }
+        }
+        JavaDiagnosticsDependencyGraph.getInstance().invalidate(uris);
+    }
+
+    /**
+     * Removes the cached diagnostics of the given Java files whose dependencies
+     * are no longer recorded by {@link JavaDiagnosticsDependencyGraph}. Unlike
+     * {@link #evict(Set)}, the validations in progress of the other files can
+     * still cache their diagnostics.
+     *
+     * @param uris the Java file URIs.
+     */
+    public void remove(Set<String> uris) {
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> uris.contains(key.uri));
+            for (String uri : uris) {
+                dependencyVersions.merge(uri, 1L, Long::sum);
+            }
+        }
+    }
+
+    /**
+     * Evicts all cached diagnostics.
+     */
+    public void clear() {
+        synchronized (entries) {
+            invalidationCount.incrementAndGet();
+            clearCount.incrementAndGet();
+            entries.clear();
+            dependencyVersions.clear();
+        }
+        JavaDiagnosticsDependencyGraph.getInstance().invalidateAll();
+    }
+
+    @Override
+    public void classpathChanged(JakartaClasspathChangeEvent event) {
+        classpathGeneration.incrementAndGet();
+        clear();
+    }
+
+    @Override
+    public void elementChanged(ElementChangedEvent event) {
+        JavaDiagnosticsDependencyGraph graph = JavaDiagnosticsDependencyGraph.getInstance();
+        synchronized (entries) {
+            if (entries.isEmpty() && !resultIdsRequested && graph.isEmpty()) {
+                return;
+            }
+        }
+        Set<String> changedTypes = new HashSet<>();
+        List<ICompilationUnit> removedUnits = new ArrayList<>();
+        if (!collectChangedTypes(event.getDelta(), changedTypes, removedUnits)) {
+            // a compilation unit was added or removed, it can change the resolution of
+            // any type
+            removedUnits.forEach(graph::remove);
+            clear();
+            return;
+        }
+        if (!changedTypes.isEmpty()) {
+            evict(graph.getDependentUris(changedTypes));
+        }
+    }
+
+    /**
+     * Collects the types declared by the changed compilation units of the given
+     * delta and the removed compilation units, and returns false if a
+     * compilation unit was added or removed.
+     */
+    private static boolean collectChangedTypes(IJavaElementDelta delta, Set<String> changedTypes,
+                                               List<ICompilationUnit> removedUnits) {
+        IJavaElement element = delta.getElement();
+        if (element.getElementType() == IJavaElement.COMPILATION_UNIT) {
+            if (delta.getKind() != IJavaElementDelta.CHANGED) {
+                if (delta.getKind() == IJavaElementDelta.REMOVED) {
+                    removedUnits.add((ICompilationUnit) element);
+                }
+                return false;
+            }
+            try {
+                for (IType type : ((ICompilationUnit) element).getAllTypes()) {
+                    changedTypes.add(type.getFullyQualifiedName());
+                }
+            } catch (JavaModelException e) {
+                return false;
+            }
+            return true;
+        }
+        boolean changed = true;
+        for (IJavaElementDelta child : delta.getAffectedChildren()) {
+            // Visit all children to collect all removed compilation units
+            changed &= collectChangedTypes(child, changedTypes, removedUnits);
+        }
+        return changed;
+    }
+
+    /**
+     * Returns the number of validations which returned the cached diagnostics.
+     *
+     * @return the number of cache hits.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the number of validations which called the participants.
+     *
+     * @return the number of cache misses.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Resets the hit and miss counts.
+     */
+    public void resetCounts() {
+        hitCount.set(0);
+        missCount.set(0);
+    }
+}
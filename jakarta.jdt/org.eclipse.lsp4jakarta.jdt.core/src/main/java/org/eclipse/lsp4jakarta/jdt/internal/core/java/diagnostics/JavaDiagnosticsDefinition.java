@@ -19,10 +19,14 @@ import java.util.logging.Logger;
 
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.AbstractJavaFeatureDefinition;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsExecutor.DiagnosticsRequest;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.metrics.ParticipantMetrics;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.metrics.ParticipantStats;
 
 /**
  * Wrapper class around java participants {@link IJavaDiagnosticsParticipant}.
@@ -33,48 +37,167 @@ import org.eclipse.lsp4jakarta.jdt.internal.core.java.AbstractJavaFeatureDefinit
 public class JavaDiagnosticsDefinition extends AbstractJavaFeatureDefinition<IJavaDiagnosticsParticipant> implements IJavaDiagnosticsParticipant {
     private static final Logger LOGGER = Logger.getLogger(JavaDiagnosticsDefinition.class.getName());
 
+    private static final String TRIGGER_SCAN_KEY = DiagnosticsTriggerScan.class.getName();
+
+    private final DiagnosticsTriggers triggers;
+
+    private final ParticipantStats isAdaptedStats;
+
+    private final ParticipantStats beginStats;
+
+    private final ParticipantStats collectStats;
+
+    private final ParticipantStats endStats;
+
     public JavaDiagnosticsDefinition(IConfigurationElement element) {
         super(element);
+        this.triggers = new DiagnosticsTriggers(element);
+        ParticipantMetrics metrics = ParticipantMetrics.getInstance();
+        this.isAdaptedStats = metrics.get(ParticipantMetrics.IS_ADAPTED_FOR_DIAGNOSTICS, toString());
+        this.beginStats = metrics.get(ParticipantMetrics.BEGIN_DIAGNOSTICS, toString());
+        this.collectStats = metrics.get(ParticipantMetrics.COLLECT_DIAGNOSTICS, toString());
+        this.endStats = metrics.get(ParticipantMetrics.END_DIAGNOSTICS, toString());
     }
 
     // -------------- Diagnostics
 
     @Override
     public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) {
+        long start = System.nanoTime();
         try {
+            if (!isTriggered(context)) {
+                // Skip the participant without loading its class.
+                return false;
+            }
             return getParticipant().isAdaptedForDiagnostics(context, monitor);
         } catch (Exception e) {
+            isAdaptedStats.recordError();
             LOGGER.log(Level.SEVERE, "Error while calling isAdaptedForDiagnostics", e);
             return false;
+        } finally {
+            isAdaptedStats.record(start);
+        }
+    }
+
+    /**
+     * Returns true if the triggers declared in the plugin.xml match the
+     * compilation unit of the given context and false otherwise.
+     *
+     * @param context the diagnostics context.
+     * @return true if the participant must be called and false otherwise.
+     * @throws JavaModelException
+     */
+    private boolean isTriggered(JavaDiagnosticsContext context) throws JavaModelException {
+        if (triggers.isEmpty() || context.getCompilationUnit() == null) {
+            return true;
         }
+        // The scan is shared by all the definitions of the request
+        DiagnosticsTriggerScan scan;
+        synchronized (context) {
+            scan = (DiagnosticsTriggerScan) context.get(TRIGGER_SCAN_KEY);
+            if (scan == null) {
+                scan = DiagnosticsTriggerScan.scan(context.getSnapshot());
+                context.put(TRIGGER_SCAN_KEY, scan);
+            }
+        }
+        return triggers.matches(scan);
     }
 
     @Override
     public void beginDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) {
+        beginDiagnostics(context, null, monitor);
+    }
+
+    /**
+     * Calls beginDiagnostics of the participant and marks the given request as
+     * incomplete if it fails.
+     */
+    void beginDiagnostics(DiagnosticsRequest request, IProgressMonitor monitor) {
+        beginDiagnostics(request.getContext(), request, monitor);
+    }
+
+    private void beginDiagnostics(JavaDiagnosticsContext context, DiagnosticsRequest request, IProgressMonitor monitor) {
+        long start = System.nanoTime();
         try {
             getParticipant().beginDiagnostics(context, monitor);
         } catch (Exception e) {
+            setIncomplete(request);
+            beginStats.recordError();
             LOGGER.log(Level.SEVERE, "Error while calling beginDiagnostics", e);
+        } finally {
+            beginStats.record(start);
         }
     }
 
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) {
+        return collectDiagnostics(context, null, monitor);
+    }
+
+    /**
+     * Collects the diagnostics of the participant and marks the given request
+     * as incomplete if it fails.
+     */
+    List<Diagnostic> collectDiagnostics(DiagnosticsRequest request, IProgressMonitor monitor) {
+        return collectDiagnostics(request.getContext(), request, monitor);
+    }
+
+    private List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, DiagnosticsRequest request,
+                                                IProgressMonitor monitor) {
+        long start = System.nanoTime();
         try {
-            return getParticipant().collectDiagnostics(context, monitor);
+            List<Diagnostic> diagnostics = getParticipant().collectDiagnostics(context, monitor);
+            if (diagnostics != null) {
+                collectStats.recordDiagnostics(diagnostics.size());
+            }
+            return diagnostics;
         } catch (Exception e) {
+            setIncomplete(request);
+            collectStats.recordError();
             LOGGER.log(Level.SEVERE, "Error while collecting diagnostics", e);
             return null;
+        } finally {
+            collectStats.record(start);
         }
     }
 
     @Override
     public void endDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) {
+        endDiagnostics(context, null, monitor);
+    }
+
+    /**
+     * Calls endDiagnostics of the participant and marks the given request as
+     * incomplete if it fails.
+     */
+    void endDiagnostics(DiagnosticsRequest request, IProgressMonitor monitor) {
+        endDiagnostics(request.getContext(), request, monitor);
+    }
+
+    private void endDiagnostics(JavaDiagnosticsContext context, DiagnosticsRequest request, IProgressMonitor monitor) {
+        long start = System.nanoTime();
         try {
             getParticipant().endDiagnostics(context, monitor);
         } catch (Exception e) {
+            setIncomplete(request);
+            endStats.recordError();
             LOGGER.log(Level.SEVERE, "Error while calling endDiagnostics", e);
+        } finally {
+            endStats.record(start);
+        }
+    }
+
+    private static void setIncomplete(DiagnosticsRequest request) {
+        if (request != null) {
+            request.setIncomplete();
         }
     }
 
+    /**
+     * Records a call of the participant abandoned after the participant timeout.
+     */
+    void recordTimeout() {
+        collectStats.recordTimeout();
+    }
+
 }
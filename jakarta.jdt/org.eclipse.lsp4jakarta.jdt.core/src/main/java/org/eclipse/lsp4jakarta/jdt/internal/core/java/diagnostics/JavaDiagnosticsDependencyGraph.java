@@ -0,0 +1,524 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.jdt.core.IAnnotatable;
+import org.eclipse.jdt.core.IAnnotation;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IImportDeclaration;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.Signature;
+import org.eclipse.lsp4jakarta.jdt.core.java.CompilationUnitSnapshot;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
+import org.eclipse.lsp4jakarta.jdt.core.utils.TypeHierarchyUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.ManagedBean;
+
+/**
+ * Records, for each validated Java file, the source types its diagnostics
+ * depend on, to validate again only the files affected by a save.
+ *
+ * <p>
+ * The dependencies of a file are:
+ * </p>
+ * <ul>
+ * <li>the super types of its types, since participants walk the type
+ * hierarchy (ex : inherited entity annotations).</li>
+ * <li>the annotation types used by its types and members, since participants
+ * check meta annotations (ex : qualifiers, interceptor bindings).</li>
+ * <li>the types (and type arguments) of its fields, method return types and
+ * method parameters, since participants check the declaration of these types
+ * (ex : bean validation constraints, persistence map keys, producers, JSON-B
+ * properties).</li>
+ * <li>the types recorded by the participants with
+ * {@link JavaDiagnosticsContext#addDependency(IType)} (ex : the injected
+ * types).</li>
+ * </ul>
+ *
+ * <p>
+ * Resolving these types is costly, so the dependencies collected from the
+ * declarations are reused while the declarations of the file don't change (a
+ * change inside a method body doesn't resolve anything) and no dependency of
+ * the file changed (ex : a super class which now extends another class).
+ * </p>
+ *
+ * <p>
+ * Only source types are recorded: binary types don't change when a file is
+ * saved. A file which was never validated, or whose dependencies are no longer
+ * recorded, is considered as affected by any change.
+ * </p>
+ *
+ * <p>
+ * The graph keeps the dependencies of the most recently validated files, up to
+ * the number given by the <code>lsp4jakarta.diagnostics.dependencyGraphSize</code>
+ * system property. The cached diagnostics of a file whose dependencies are
+ * removed from the graph are evicted from {@link JavaDiagnosticsCache}, since
+ * they can no longer be invalidated when a dependency changes.
+ * </p>
+ */
+public class JavaDiagnosticsDependencyGraph {
+
+    private static final Logger LOGGER = Logger.getLogger(JavaDiagnosticsDependencyGraph.class.getName());
+
+    private static final String GRAPH_SIZE_PROPERTY = "lsp4jakarta.diagnostics.dependencyGraphSize";
+
+    private static final int DEFAULT_GRAPH_SIZE = 2000;
+
+    private static final String[] LIBRARY_PACKAGES = { "java.", "javax.", "jakarta." };
+
+    private static final JavaDiagnosticsDependencyGraph INSTANCE = new JavaDiagnosticsDependencyGraph(Integer.getInteger(GRAPH_SIZE_PROPERTY,
+                                                                                                                         DEFAULT_GRAPH_SIZE));
+
+    public static JavaDiagnosticsDependencyGraph getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * The types declared by a Java file and the types its diagnostics depend on.
+     */
+    private static class FileDependencies {
+
+        private final String handleIdentifier;
+
+        private final Set<String> declaredTypes;
+
+        // The dependencies collected from the declarations of the file
+        private final Set<String> declarationDependencies;
+
+        private final Set<String> dependencies;
+
+        // The declarations of the file when its dependencies were collected, null
+        // when the declaration dependencies must be collected again
+        private String declarationsKey;
+
+        FileDependencies(String handleIdentifier, Set<String> declaredTypes, Set<String> declarationDependencies,
+                         Set<String> dependencies, String declarationsKey) {
+            this.handleIdentifier = handleIdentifier;
+            this.declaredTypes = declaredTypes;
+            this.declarationDependencies = declarationDependencies;
+            this.dependencies = dependencies;
+            this.declarationsKey = declarationsKey;
+        }
+    }
+
+    private volatile int graphSize;
+
+    // Access ordered, guarded by itself
+    private final Map<String /* Java file URI */, FileDependencies> files;
+
+    // Incremented when dependencies are invalidated, to not reuse the declaration
+    // dependencies collected at the same time
+    private final AtomicLong invalidationCount;
+
+    /**
+     * Creates a graph which records the dependencies of at most the given number
+     * of Java files. The shared graph is given by {@link #getInstance()}.
+     *
+     * @param graphSize the maximum number of Java files whose dependencies are
+     *            recorded.
+     */
+    public JavaDiagnosticsDependencyGraph(int graphSize) {
+        this.graphSize = graphSize;
+        this.files = new LinkedHashMap<>(16, 0.75f, true);
+        this.invalidationCount = new AtomicLong();
+    }
+
+    /**
+     * Sets the maximum number of Java files whose dependencies are recorded (ex
+     * : the analyzer reads the dependencies of all the Java files once they are
+     * all validated).
+     *
+     * @param graphSize the maximum number of Java files whose dependencies are
+     *            recorded.
+     */
+    public void setGraphSize(int graphSize) {
+        this.graphSize = graphSize;
+    }
+
+    /**
+     * Updates the dependencies of the Java file of the given context once its
+     * diagnostics are collected.
+     *
+     * @param context the diagnostics context.
+     */
+    public void update(JavaDiagnosticsContext context) {
+        String uri = context.getUri();
+        long invalidation = invalidationCount.get();
+        List<String> removedUris = new ArrayList<>();
+        try {
+            CompilationUnitSnapshot snapshot = context.getSnapshot();
+            String declarationsKey = getDeclarationsKey(snapshot);
+            FileDependencies previous;
+            synchronized (files) {
+                previous = files.get(uri);
+            }
+            Set<String> declarationDependencies;
+            if (previous != null && declarationsKey.equals(previous.declarationsKey)) {
+                declarationDependencies = previous.declarationDependencies;
+            } else {
+                declarationDependencies = new HashSet<>();
+                collectDependencies(snapshot, declarationDependencies);
+            }
+            Set<String> declaredTypes = getDeclaredTypes(snapshot);
+            Set<String> dependencies = new HashSet<>(declarationDependencies);
+            dependencies.addAll(context.getDependencies());
+            dependencies.removeAll(declaredTypes);
+            synchronized (files) {
+                // The declaration dependencies can be outdated when a dependency changed
+                // while they were collected
+                files.put(uri, new FileDependencies(context.getTypeRoot().getHandleIdentifier(), declaredTypes,
+                                                    declarationDependencies, dependencies,
+                                                    invalidation == invalidationCount.get() ? declarationsKey : null));
+                // Remove the least recently validated files
+                Iterator<String> iterator = files.keySet().iterator();
+                while (files.size() > graphSize && iterator.hasNext()) {
+                    removedUris.add(iterator.next());
+                    iterator.remove();
+                }
+            }
+        } catch (JavaModelException e) {
+            LOGGER.log(Level.WARNING, "Error while collecting the dependencies of '" + uri + "'", e);
+            synchronized (files) {
+                if (files.remove(uri) != null) {
+                    removedUris.add(uri);
+                }
+            }
+        }
+        if (!removedUris.isEmpty()) {
+            JavaDiagnosticsCache.getInstance().remove(new HashSet<>(removedUris));
+        }
+    }
+
+    /**
+     * Removes the dependencies of the given removed compilation unit.
+     *
+     * @param unit the removed compilation unit.
+     * @return the URIs of the Java files whose dependencies were removed.
+     */
+    public Set<String> remove(ICompilationUnit unit) {
+        String handleIdentifier = unit.getHandleIdentifier();
+        Set<String> removedUris = new HashSet<>();
+        synchronized (files) {
+            Iterator<Map.Entry<String, FileDependencies>> iterator = files.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, FileDependencies> entry = iterator.next();
+                if (handleIdentifier.equals(entry.getValue().handleIdentifier)) {
+                    removedUris.add(entry.getKey());
+                    iterator.remove();
+                }
+            }
+        }
+        return removedUris;
+    }
+
+    /**
+     * Collects again the declaration dependencies of the given Java files on
+     * their next update, since a dependency of these files changed.
+     *
+     * @param uris the Java file URIs.
+     */
+    public void invalidate(Set<String> uris) {
+        invalidationCount.incrementAndGet();
+        synchronized (files) {
+            for (String uri : uris) {
+                FileDependencies file = files.get(uri);
+                if (file != null) {
+                    file.declarationsKey = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects again the declaration dependencies of all Java files on their next
+     * update (ex : a compilation unit was added, the classpath changed).
+     */
+    public void invalidateAll() {
+        invalidationCount.incrementAndGet();
+        synchronized (files) {
+            files.values().forEach(file -> file.declarationsKey = null);
+        }
+    }
+
+    /**
+     * Returns true if no dependency is recorded and false otherwise.
+     *
+     * @return true if no dependency is recorded and false otherwise.
+     */
+    public boolean isEmpty() {
+        synchronized (files) {
+            return files.isEmpty();
+        }
+    }
+
+    /**
+     * Returns the Java files of the given list which must be validated again
+     * when the given Java files changed.
+     *
+     * @param uris the Java file URIs to filter.
+     * @param changedTypeRoots the changed Java files by URI.
+     * @return the Java files of the given list which must be validated again.
+     */
+    public List<String> getAffectedUris(List<String> uris, Map<String, ITypeRoot> changedTypeRoots) {
+        Set<String> changedTypes = new HashSet<>();
+        for (Map.Entry<String, ITypeRoot> changed : changedTypeRoots.entrySet()) {
+            // The types declared before the change (ex : a renamed class) and after
+            FileDependencies previous = getFile(changed.getKey());
+            if (previous != null) {
+                changedTypes.addAll(previous.declaredTypes);
+            }
+            ITypeRoot typeRoot = changed.getValue();
+            if (typeRoot == null) {
+                if (previous == null) {
+                    // The changed types are unknown
+                    return uris;
+                }
+                continue;
+            }
+            try {
+                if (typeRoot instanceof ICompilationUnit) {
+                    for (IType type : ((ICompilationUnit) typeRoot).getAllTypes()) {
+                        changedTypes.add(type.getFullyQualifiedName());
+                    }
+                }
+            } catch (JavaModelException e) {
+                LOGGER.log(Level.WARNING, "Error while collecting the types of '" + changed.getKey() + "'", e);
+                return uris;
+            }
+        }
+
+        List<String> affectedUris = new ArrayList<>();
+        for (String uri : uris) {
+            if (changedTypeRoots.containsKey(uri) || isAffected(getFile(uri), changedTypes)) {
+                affectedUris.add(uri);
+            }
+        }
+        return affectedUris;
+    }
+
+    /**
+     * Returns the Java files whose diagnostics depend on one of the given types.
+     *
+     * @param types the fully qualified names of the types.
+     * @return the Java files whose diagnostics depend on one of the given types.
+     */
+    public Set<String> getDependentUris(Set<String> types) {
+        Set<String> dependentUris = new HashSet<>();
+        synchronized (files) {
+            files.forEach((uri, file) -> {
+                if (!Collections.disjoint(file.dependencies, types)) {
+                    dependentUris.add(uri);
+                }
+            });
+        }
+        return dependentUris;
+    }
+
+    /**
+     * Returns the fully qualified names of the source types the diagnostics of
+     * the given Java file depend on and null if the dependencies of the Java file
+     * are not recorded.
+     *
+     * @param uri the Java file URI.
+     * @return the fully qualified names of the source types the diagnostics of
+     *         the given Java file depend on and null if the dependencies of the
+     *         Java file are not recorded.
+     */
+    public Set<String> getDependencies(String uri) {
+        FileDependencies file = getFile(uri);
+        return file != null ? Collections.unmodifiableSet(file.dependencies) : null;
+    }
+
+    /**
+     * Returns the fully qualified names of the types declared by the given Java
+     * file when it was validated and null if the dependencies of the Java file
+     * are not recorded.
+     *
+     * @param uri the Java file URI.
+     * @return the fully qualified names of the types declared by the given Java
+     *         file and null if the dependencies of the Java file are not
+     *         recorded.
+     */
+    public Set<String> getDeclaredTypes(String uri) {
+        FileDependencies file = getFile(uri);
+        return file != null ? Collections.unmodifiableSet(file.declaredTypes) : null;
+    }
+
+    private FileDependencies getFile(String uri) {
+        synchronized (files) {
+            return files.get(uri);
+        }
+    }
+
+    private static boolean isAffected(FileDependencies file, Set<String> changedTypes) {
+        if (file == null) {
+            // never validated
+            return true;
+        }
+        return !Collections.disjoint(file.dependencies, changedTypes);
+    }
+
+    private static Set<String> getDeclaredTypes(CompilationUnitSnapshot snapshot) throws JavaModelException {
+        Set<String> declaredTypes = new HashSet<>();
+        for (IType type : snapshot.getAllTypes()) {
+            declaredTypes.add(type.getFullyQualifiedName());
+        }
+        return declaredTypes;
+    }
+
+    /**
+     * Returns the names used by the declarations of the given compilation unit:
+     * the declaration dependencies are the same while these names don't change.
+     */
+    private static String getDeclarationsKey(CompilationUnitSnapshot snapshot) throws JavaModelException {
+        StringBuilder key = new StringBuilder();
+        for (IImportDeclaration importDeclaration : snapshot.getImports()) {
+            key.append(importDeclaration.getElementName()).append(';');
+        }
+        for (IType type : snapshot.getAllTypes()) {
+            key.append('\n').append(type.getFullyQualifiedName()).append(':').append(type.getSuperclassName());
+            for (String superInterfaceName : type.getSuperInterfaceNames()) {
+                key.append(',').append(superInterfaceName);
+            }
+            appendAnnotations(snapshot, type, key);
+            for (IField field : type.getFields()) {
+                key.append('\n').append(field.getTypeSignature());
+                appendAnnotations(snapshot, field, key);
+            }
+            for (IMethod method : type.getMethods()) {
+                key.append('\n').append(method.getReturnType());
+                for (String parameterType : method.getParameterTypes()) {
+                    key.append(',').append(parameterType);
+                }
+                appendAnnotations(snapshot, method, key);
+            }
+        }
+        return key.toString();
+    }
+
+    private static void appendAnnotations(CompilationUnitSnapshot snapshot, IAnnotatable element,
+                                          StringBuilder key) throws JavaModelException {
+        for (IAnnotation annotation : snapshot.getAnnotations(element)) {
+            key.append('@').append(annotation.getElementName());
+        }
+    }
+
+    private static void collectDependencies(CompilationUnitSnapshot snapshot,
+                                            Set<String> dependencies) throws JavaModelException {
+        // Types resolved by their name in the scope of a type
+        Map<String, IType> resolvedTypes = new HashMap<>();
+        for (IType type : snapshot.getAllTypes()) {
+            // Super classes
+            Set<IType> hierarchy = new HashSet<>();
+            TypeHierarchyUtils.collectSuperTypes(type, hierarchy);
+            hierarchy.forEach(superType -> addDependency(superType, dependencies));
+            // Super interfaces
+            for (String superInterfaceName : type.getSuperInterfaceNames()) {
+                addDependency(resolve(type, superInterfaceName, resolvedTypes), dependencies);
+            }
+            // Annotations and member types
+            addAnnotationDependencies(snapshot, type, type, resolvedTypes, dependencies);
+            for (IField field : type.getFields()) {
+                addAnnotationDependencies(snapshot, type, field, resolvedTypes, dependencies);
+                addSignatureDependencies(type, field.getTypeSignature(), resolvedTypes, dependencies);
+            }
+            for (IMethod method : type.getMethods()) {
+                addAnnotationDependencies(snapshot, type, method, resolvedTypes, dependencies);
+                addSignatureDependencies(type, method.getReturnType(), resolvedTypes, dependencies);
+                for (String parameterType : method.getParameterTypes()) {
+                    addSignatureDependencies(type, parameterType, resolvedTypes, dependencies);
+                }
+            }
+        }
+    }
+
+    private static void addAnnotationDependencies(CompilationUnitSnapshot snapshot, IType type, IAnnotatable element,
+                                                  Map<String, IType> resolvedTypes,
+                                                  Set<String> dependencies) throws JavaModelException {
+        for (IAnnotation annotation : snapshot.getAnnotations(element)) {
+            addDependency(resolve(type, annotation.getElementName(), resolvedTypes), dependencies);
+        }
+    }
+
+    /**
+     * Adds the source types of the given type signature and of its type
+     * arguments (ex : the key and value types of a map).
+     */
+    private static void addSignatureDependencies(IType type, String signature, Map<String, IType> resolvedTypes,
+                                                 Set<String> dependencies) throws JavaModelException {
+        String elementType = Signature.getElementType(signature);
+        switch (Signature.getTypeSignatureKind(elementType)) {
+            case Signature.CLASS_TYPE_SIGNATURE:
+                String name = Signature.toString(Signature.getTypeErasure(elementType));
+                addDependency(resolve(type, name, resolvedTypes), dependencies);
+                for (String typeArgument : Signature.getTypeArguments(elementType)) {
+                    addSignatureDependencies(type, typeArgument, resolvedTypes, dependencies);
+                }
+                break;
+            case Signature.WILDCARD_TYPE_SIGNATURE:
+                if (elementType.length() > 1) {
+                    // The bound of ? extends or ? super
+                    addSignatureDependencies(type, elementType.substring(1), resolvedTypes, dependencies);
+                }
+                break;
+            default:
+                // Primitive types and type variables
+        }
+    }
+
+    /**
+     * Returns the source type of the given name resolved in the scope of the
+     * given type and null if the type is not found or comes from a library.
+     */
+    private static IType resolve(IType type, String name, Map<String, IType> resolvedTypes) throws JavaModelException {
+        if (resolvedTypes.containsKey(name)) {
+            return resolvedTypes.get(name);
+        }
+        String fullyQualifiedName = ManagedBean.getFullyQualifiedClassName(type, name);
+        IType resolvedType = fullyQualifiedName == null || isLibraryType(fullyQualifiedName) ? null
+                                                                                               : type.getJavaProject().findType(fullyQualifiedName);
+        resolvedTypes.put(name, resolvedType);
+        return resolvedType;
+    }
+
+    private static boolean isLibraryType(String fullyQualifiedName) {
+        for (String libraryPackage : LIBRARY_PACKAGES) {
+            if (fullyQualifiedName.startsWith(libraryPackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void addDependency(IType type, Set<String> dependencies) {
+        if (type != null && !type.isBinary()) {
+            dependencies.add(type.getFullyQualifiedName());
+        }
+    }
+}
@@ -0,0 +1,303 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.JakartaTaskExecutor;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.JakartaTaskExecutor.Task;
+
+/**
+ * Executes the diagnostics participants of one or several Java files.
+ *
+ * <p>
+ * By default, the participants of a Java file are called serially in the
+ * calling thread: the begin step of all participants, then their collect step,
+ * then their end step.
+ * </p>
+ *
+ * <p>
+ * The concurrent mode is opt-in: every (file, participant) pair is submitted
+ * to the shared {@link JakartaTaskExecutor} and the collected diagnostics of a
+ * file are merged in the order of its participants as soon as they are all
+ * done, so the result doesn't depend on the scheduling. Each participant runs
+ * its begin, collect and end steps in sequence, possibly at the same time as
+ * the other participants of the same file, so a participant must not expect
+ * that the begin step of the other participants was called before its collect
+ * step (see {@link IJavaDiagnosticsParticipant}). The monitor of a
+ * participant is canceled when it runs longer than the participant timeout
+ * (its diagnostics are then ignored with a warning) or when the request is
+ * canceled.
+ * </p>
+ *
+ * <p>
+ * The executor can be configured with the system properties:
+ * </p>
+ * <ul>
+ * <li><code>lsp4jakarta.diagnostics.concurrent</code>: true to execute the
+ * participants concurrently (false by default). The number of participants
+ * executed at the same time is given by
+ * <code>lsp4jakarta.executor.parallelism</code>.</li>
+ * <li><code>lsp4jakarta.diagnostics.participantTimeout</code>: the maximum time
+ * in milliseconds a participant can run in the concurrent mode before its
+ * diagnostics are ignored.</li>
+ * </ul>
+ */
+public class JavaDiagnosticsExecutor {
+
+    private static final Logger LOGGER = Logger.getLogger(JavaDiagnosticsExecutor.class.getName());
+
+    private static final String CONCURRENT_PROPERTY = "lsp4jakarta.diagnostics.concurrent";
+
+    private static final String PARTICIPANT_TIMEOUT_PROPERTY = "lsp4jakarta.diagnostics.participantTimeout";
+
+    private static final long DEFAULT_PARTICIPANT_TIMEOUT = 10000;
+
+    private static final JavaDiagnosticsExecutor INSTANCE = new JavaDiagnosticsExecutor(Boolean.getBoolean(CONCURRENT_PROPERTY),
+                                                                                        Long.getLong(PARTICIPANT_TIMEOUT_PROPERTY,
+                                                                                                     DEFAULT_PARTICIPANT_TIMEOUT),
+                                                                                        JakartaTaskExecutor.getInstance());
+
+    public static JavaDiagnosticsExecutor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * The participants to execute for a Java file and the list which collects
+     * their diagnostics.
+     */
+    public static class DiagnosticsRequest {
+
+        private final JavaDiagnosticsContext context;
+
+        private final List<JavaDiagnosticsDefinition> definitions;
+
+        private final List<Diagnostic> diagnostics;
+
+        private volatile boolean incomplete;
+
+        public DiagnosticsRequest(JavaDiagnosticsContext context, List<JavaDiagnosticsDefinition> definitions,
+                                  List<Diagnostic> diagnostics) {
+            this.context = context;
+            this.definitions = definitions;
+            this.diagnostics = diagnostics;
+        }
+
+        public JavaDiagnosticsContext getContext() {
+            return context;
+        }
+
+        public List<Diagnostic> getDiagnostics() {
+            return diagnostics;
+        }
+
+        /**
+         * Returns true if a participant of the request failed, timed out or was
+         * canceled, so the diagnostics must not be cached, and false otherwise.
+         *
+         * @return true if the diagnostics of the request are incomplete and false
+         *         otherwise.
+         */
+        public boolean isIncomplete() {
+            return incomplete;
+        }
+
+        void setIncomplete() {
+            incomplete = true;
+        }
+    }
+
+    private final boolean concurrent;
+
+    private final long participantTimeout;
+
+    private final JakartaTaskExecutor taskExecutor;
+
+    /**
+     * Creates an executor of the diagnostics participants. The executor
+     * configured with the system properties is given by {@link #getInstance()}.
+     *
+     * @param concurrent true to execute the participants concurrently.
+     * @param participantTimeout the maximum time in milliseconds a participant can
+     *            run in the concurrent mode.
+     * @param taskExecutor the executor of the participants in the concurrent
+     *            mode.
+     */
+    public JavaDiagnosticsExecutor(boolean concurrent, long participantTimeout, JakartaTaskExecutor taskExecutor) {
+        this.concurrent = concurrent;
+        this.participantTimeout = participantTimeout;
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Returns true if the participants are executed concurrently and false
+     * otherwise.
+     *
+     * @return true if the participants are executed concurrently and false
+     *         otherwise.
+     */
+    public boolean isConcurrent() {
+        return concurrent;
+    }
+
+    /**
+     * Executes the participants of the given requests and adds their diagnostics
+     * to the diagnostics list of each request.
+     *
+     * @param requests the diagnostics requests.
+     * @param monitor the progress monitor.
+     */
+    public void collectDiagnostics(List<DiagnosticsRequest> requests, IProgressMonitor monitor) {
+        collectDiagnostics(requests, null, monitor);
+    }
+
+    /**
+     * Executes the participants of the given requests, adds their diagnostics to
+     * the diagnostics list of each request and notifies the given listener as
+     * soon as all the participants of a request are done, so the diagnostics of
+     * a file can be published without waiting for the slowest file. In the
+     * serial mode, the requests are executed and notified in order.
+     *
+     * @param requests the diagnostics requests.
+     * @param listener the listener notified (in the calling thread) when the
+     *            diagnostics of a request are collected and null otherwise.
+     * @param monitor the progress monitor.
+     */
+    public void collectDiagnostics(List<DiagnosticsRequest> requests, Consumer<DiagnosticsRequest> listener,
+                                   IProgressMonitor monitor) {
+        if (!isConcurrent()) {
+            for (DiagnosticsRequest request : requests) {
+                if (monitor.isCanceled()) {
+                    return;
+                }
+                collectDiagnosticsSerially(request, monitor);
+                if (listener != null) {
+                    listener.accept(request);
+                }
+            }
+            return;
+        }
+
+        // Fan out all participants of all files, and queue each request when all
+        // its participants are done
+        BlockingQueue<Integer> doneRequests = new LinkedBlockingQueue<>();
+        List<List<Task<List<Diagnostic>>>> tasksPerRequest = new ArrayList<>(requests.size());
+        try {
+            for (int i = 0; i < requests.size(); i++) {
+                DiagnosticsRequest request = requests.get(i);
+                List<Task<List<Diagnostic>>> tasks = new ArrayList<>(request.definitions.size());
+                tasksPerRequest.add(tasks);
+                for (JavaDiagnosticsDefinition definition : request.definitions) {
+                    tasks.add(taskExecutor.submit(definition + " for '" + request.context.getUri() + "'",
+                                                  participantMonitor -> {
+                                                      definition.beginDiagnostics(request, participantMonitor);
+                                                      try {
+                                                          return definition.collectDiagnostics(request, participantMonitor);
+                                                      } finally {
+                                                          definition.endDiagnostics(request, participantMonitor);
+                                                      }
+                                                  }, monitor, participantTimeout));
+                }
+                int index = i;
+                CompletableFuture.allOf(tasks.stream().map(Task::getFuture).toArray(CompletableFuture[]::new)) //
+                        .whenComplete((result, error) -> doneRequests.add(index));
+            }
+
+            // Merge the diagnostics of each request, in the order of its participants,
+            // as soon as all its participants are done
+            for (int remaining = requests.size(); remaining > 0; remaining--) {
+                int index = doneRequests.take();
+                if (monitor.isCanceled()) {
+                    return;
+                }
+                DiagnosticsRequest request = requests.get(index);
+                List<Task<List<Diagnostic>>> tasks = tasksPerRequest.get(index);
+                for (int j = 0; j < tasks.size(); j++) {
+                    List<Diagnostic> collectedDiagnostics = getDiagnostics(tasks.get(j), request.definitions.get(j),
+                                                                           request);
+                    if (collectedDiagnostics != null && !collectedDiagnostics.isEmpty()) {
+                        request.diagnostics.addAll(collectedDiagnostics);
+                    }
+                }
+                if (listener != null) {
+                    listener.accept(request);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Tasks which are not started yet will not be executed, the monitor of
+            // the running tasks is canceled
+            tasksPerRequest.forEach(tasks -> tasks.forEach(Task::cancel));
+        }
+    }
+
+    private static void collectDiagnosticsSerially(DiagnosticsRequest request, IProgressMonitor monitor) {
+        List<JavaDiagnosticsDefinition> definitions = request.definitions;
+        // Begin, collect, end participants
+        definitions.forEach(definition -> definition.beginDiagnostics(request, monitor));
+        definitions.forEach(definition -> {
+            List<Diagnostic> collectedDiagnostics = definition.collectDiagnostics(request, monitor);
+            if (collectedDiagnostics != null && !collectedDiagnostics.isEmpty()) {
+                request.diagnostics.addAll(collectedDiagnostics);
+            }
+        });
+        definitions.forEach(definition -> definition.endDiagnostics(request, monitor));
+        if (monitor.isCanceled()) {
+            request.setIncomplete();
+        }
+    }
+
+    /**
+     * Returns the diagnostics of the given done participant and null if the
+     * participant failed, timed out or was canceled, in which case the given
+     * request is marked as incomplete.
+     */
+    private List<Diagnostic> getDiagnostics(Task<List<Diagnostic>> task, JavaDiagnosticsDefinition definition,
+                                            DiagnosticsRequest request) {
+        try {
+            List<Diagnostic> diagnostics = task.getFuture().join();
+            if (!task.getMonitor().isCanceled()) {
+                return diagnostics;
+            }
+            // The monitor of the participant was canceled while it was running, its
+            // diagnostics can be partial
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                definition.recordTimeout();
+                LOGGER.log(Level.WARNING, "Diagnostics participant '" + definition + "' timed out after "
+                                          + participantTimeout + "ms for '" + request.context.getUri() + "'");
+            } else {
+                LOGGER.log(Level.SEVERE, "Error while collecting diagnostics", e.getCause());
+            }
+        } catch (CancellationException e) {
+            // Canceled task
+        }
+        request.setIncomplete();
+        return null;
+    }
+}
@@ -0,0 +1,406 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaWorkspaceDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaWorkspaceDiagnosticsReport;
+import org.eclipse.lsp4jakarta.jdt.core.PropertiesManagerForJava;
+import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4jakarta.jdt.core.utils.JDTJakartaUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.JakartaTaskExecutor;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.JakartaTaskExecutor.Task;
+
+/**
+ * Validates all the Java files of the source folders of the Jakarta projects
+ * of the workspace (or a given list of Java files).
+ *
+ * <p>
+ * A validation session enumerates the source compilation units of the
+ * projects, splits them in batches and validates the batches on the shared
+ * {@link JakartaTaskExecutor} with {@link PropertiesManagerForJava#diagnostics},
+ * so the diagnostics cache and the participants executor are shared with the
+ * validation of the opened files. A session submits the next batch when a
+ * batch is done and never has more batches in the executor than its number of
+ * workers, so the validation of the opened files is not queued behind the
+ * whole workspace. The diagnostics of the validated files are queued and
+ * returned by chunks: each request of the session waits until a chunk is full,
+ * all the files are validated or a short delay elapsed, so the caller can
+ * report the progress and the throughput while the validation runs.
+ * </p>
+ *
+ * <p>
+ * A session is canceled when a request asks for it, when a chunk request is
+ * canceled or when no chunk is requested for a while.
+ * </p>
+ *
+ * <p>
+ * The number of batches validated at the same time is the parallelism of the
+ * shared executor (see <code>lsp4jakarta.executor.parallelism</code>).
+ * </p>
+ */
+public class WorkspaceDiagnosticsManager {
+
+    private static final Logger LOGGER = Logger.getLogger(WorkspaceDiagnosticsManager.class.getName());
+
+    private static final int DEFAULT_CHUNK_SIZE = 100;
+
+    private static final int BATCH_SIZE = 10;
+
+    // Maximum time a chunk request waits for a full chunk
+    private static final long CHUNK_TIMEOUT = 1000;
+
+    // Maximum time between two chunk requests before the session is canceled
+    private static final long SESSION_TIMEOUT = TimeUnit.MINUTES.toMillis(5);
+
+    // Interval to check the cancellation of a chunk request, whose monitor can
+    // only be polled. A chunk request is woken up as soon as diagnostics are
+    // queued.
+    private static final long CANCEL_CHECK_INTERVAL = 100;
+
+    private static final WorkspaceDiagnosticsManager INSTANCE = new WorkspaceDiagnosticsManager(JakartaTaskExecutor.getInstance());
+
+    public static WorkspaceDiagnosticsManager getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * A workspace validation session.
+     */
+    private static class Session {
+
+        private final String id;
+
+        private final int totalFiles;
+
+        // Guarded by the session, which is notified when diagnostics are queued or
+        // when all the batches are done
+        private final Deque<PublishDiagnosticsParams> results;
+
+        private final Set<String> incompleteUris;
+
+        private final AtomicInteger processedFiles;
+
+        private final IProgressMonitor monitor;
+
+        private final long startTime;
+
+        private final List<List<String>> batches;
+
+        private final Set<Task<Void>> runningTasks;
+
+        private final CompletableFuture<Void> all;
+
+        // Guarded by the session
+        private int nextBatch;
+
+        private int runningBatches;
+
+        private volatile long lastAccess;
+
+        Session(int totalFiles) {
+            this.id = UUID.randomUUID().toString();
+            this.totalFiles = totalFiles;
+            this.results = new ArrayDeque<>();
+            this.incompleteUris = ConcurrentHashMap.newKeySet();
+            this.processedFiles = new AtomicInteger();
+            this.monitor = new NullProgressMonitor();
+            this.startTime = System.nanoTime();
+            this.batches = new ArrayList<>();
+            this.runningTasks = ConcurrentHashMap.newKeySet();
+            this.all = new CompletableFuture<>();
+            this.lastAccess = System.currentTimeMillis();
+            // Wake up the chunk request when all the batches are done
+            all.whenComplete((result, error) -> {
+                synchronized (this) {
+                    notifyAll();
+                }
+            });
+        }
+
+        /**
+         * Submits the next batch of the session to the given executor, and
+         * completes the session when all the batches are done.
+         */
+        void submitNextBatch(JakartaTaskExecutor taskExecutor, JakartaJavaWorkspaceDiagnosticsParams params,
+                             IJDTUtils utils) {
+            List<String> batch;
+            synchronized (this) {
+                if (monitor.isCanceled() || nextBatch >= batches.size()) {
+                    if (runningBatches == 0) {
+                        all.complete(null);
+                    }
+                    return;
+                }
+                batch = batches.get(nextBatch++);
+                runningBatches++;
+            }
+            // Submitted from the completion of the previous batch, which can run in a
+            // worker
+            Task<Void> task = taskExecutor.enqueue("Workspace validation of " + batch.size() + " Java files",
+                                                   taskMonitor -> {
+                                                       validate(batch, params, utils, taskMonitor);
+                                                       return null;
+                                                   }, monitor, 0);
+            runningTasks.add(task);
+            task.getFuture().whenComplete((result, error) -> {
+                runningTasks.remove(task);
+                if (error != null && !task.getFuture().isCancelled()) {
+                    LOGGER.log(Level.SEVERE, "Error while validating the Java files " + batch, error);
+                }
+                synchronized (this) {
+                    runningBatches--;
+                }
+                submitNextBatch(taskExecutor, params, utils);
+            });
+        }
+
+        private void validate(List<String> uris, JakartaJavaWorkspaceDiagnosticsParams params, IJDTUtils utils,
+                              IProgressMonitor taskMonitor) {
+            if (taskMonitor.isCanceled()) {
+                return;
+            }
+            try {
+                JakartaJavaDiagnosticsParams diagnosticsParams = new JakartaJavaDiagnosticsParams(uris, params.getSettings());
+                diagnosticsParams.setDocumentFormat(params.getDocumentFormat());
+                // Queue the diagnostics of each file as soon as they are collected
+                PropertiesManagerForJava.getInstance().diagnostics(diagnosticsParams, utils, this::addResult,
+                                                                   incompleteUris, taskMonitor);
+            } catch (Exception e) {
+                LOGGER.log(Level.SEVERE, "Error while validating the Java files " + uris, e);
+                // The diagnostics of the files of the batch which were not queued are missing
+                incompleteUris.addAll(uris);
+            } finally {
+                processedFiles.addAndGet(uris.size());
+            }
+        }
+
+        private synchronized void addResult(PublishDiagnosticsParams result) {
+            results.add(result);
+            notifyAll();
+        }
+
+        JakartaJavaWorkspaceDiagnosticsReport nextChunk(int chunkSize, IProgressMonitor requestMonitor) {
+            lastAccess = System.currentTimeMillis();
+            List<PublishDiagnosticsParams> chunk = new ArrayList<>();
+            long deadline = lastAccess + CHUNK_TIMEOUT;
+            boolean done;
+            synchronized (this) {
+                try {
+                    while (true) {
+                        while (chunk.size() < chunkSize && !results.isEmpty()) {
+                            chunk.add(results.poll());
+                        }
+                        long remaining = deadline - System.currentTimeMillis();
+                        if (chunk.size() >= chunkSize || all.isDone()
+                            || remaining <= 0) {
+                            break;
+                        }
+                        if (requestMonitor.isCanceled()) {
+                            cancel();
+                            break;
+                        }
+                        wait(Math.min(remaining, CANCEL_CHECK_INTERVAL));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancel();
+                }
+                done = monitor.isCanceled() || (all.isDone() && results.isEmpty());
+            }
+            lastAccess = System.currentTimeMillis();
+            JakartaJavaWorkspaceDiagnosticsReport report = createReport(chunk);
+            report.setDone(done);
+            return report;
+        }
+
+        JakartaJavaWorkspaceDiagnosticsReport createReport(List<PublishDiagnosticsParams> chunk) {
+            JakartaJavaWorkspaceDiagnosticsReport report = new JakartaJavaWorkspaceDiagnosticsReport(id, chunk);
+            List<String> chunkIncompleteUris = new ArrayList<>();
+            for (PublishDiagnosticsParams fileDiagnostics : chunk) {
+                if (incompleteUris.contains(fileDiagnostics.getUri())) {
+                    chunkIncompleteUris.add(fileDiagnostics.getUri());
+                }
+            }
+            if (!chunkIncompleteUris.isEmpty()) {
+                report.setIncompleteUris(chunkIncompleteUris);
+            }
+            int processed = processedFiles.get();
+            double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000d;
+            report.setProcessedFiles(processed);
+            report.setTotalFiles(totalFiles);
+            report.setFilesPerSecond(elapsedSeconds > 0 ? processed / elapsedSeconds : 0);
+            return report;
+        }
+
+        boolean isExpired(long now) {
+            return now - lastAccess > SESSION_TIMEOUT;
+        }
+
+        void cancel() {
+            monitor.setCanceled(true);
+            // The tasks which are not started will not be executed, the monitor of the
+            // running tasks is canceled
+            runningTasks.forEach(Task::cancel);
+            synchronized (this) {
+                if (runningBatches == 0) {
+                    all.complete(null);
+                }
+            }
+        }
+    }
+
+    private final JakartaTaskExecutor taskExecutor;
+
+    private final Map<String, Session> sessions;
+
+    private WorkspaceDiagnosticsManager(JakartaTaskExecutor taskExecutor) {
+        this.taskExecutor = taskExecutor;
+        this.sessions = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Starts the validation of the Java files of the Jakarta projects, or
+     * returns the next chunk of diagnostics of the validation session given by
+     * the parameters.
+     *
+     * @param params the workspace diagnostics parameters.
+     * @param utils the JDT utils.
+     * @param monitor the progress monitor.
+     * @return the next chunk of diagnostics of the validation session.
+     * @throws JavaModelException
+     */
+    public JakartaJavaWorkspaceDiagnosticsReport workspaceDiagnostics(JakartaJavaWorkspaceDiagnosticsParams params,
+                                                                      IJDTUtils utils,
+                                                                      IProgressMonitor monitor) throws JavaModelException {
+        expireSessions();
+        Session session;
+        if (params.getSessionId() == null) {
+            if (params.isCancel()) {
+                return createDoneReport(null);
+            }
+            session = start(params, utils, monitor);
+        } else {
+            session = sessions.get(params.getSessionId());
+            if (session == null) {
+                // Unknown, expired or canceled session
+                return createDoneReport(params.getSessionId());
+            }
+            if (params.isCancel()) {
+                sessions.remove(session.id);
+                session.cancel();
+                JakartaJavaWorkspaceDiagnosticsReport report = session.createReport(Collections.emptyList());
+                report.setDone(true);
+                return report;
+            }
+        }
+        int chunkSize = params.getChunkSize() > 0 ? params.getChunkSize() : DEFAULT_CHUNK_SIZE;
+        JakartaJavaWorkspaceDiagnosticsReport report = session.nextChunk(chunkSize, monitor);
+        if (report.isDone()) {
+            sessions.remove(session.id);
+        }
+        return report;
+    }
+
+    /**
+     * Cancels all the validation sessions.
+     */
+    public void cancelAll() {
+        for (Session session : sessions.values()) {
+            session.cancel();
+        }
+        sessions.clear();
+    }
+
+    private Session start(JakartaJavaWorkspaceDiagnosticsParams params, IJDTUtils utils,
+                          IProgressMonitor monitor) throws JavaModelException {
+        List<String> uris = params.getUris() != null ? params.getUris() : getSourceUris(params.getProjectUris(), utils, monitor);
+        Session session = new Session(uris.size());
+        for (int i = 0; i < uris.size(); i += BATCH_SIZE) {
+            session.batches.add(uris.subList(i, Math.min(i + BATCH_SIZE, uris.size())));
+        }
+        if (monitor.isCanceled()) {
+            session.cancel();
+        }
+        sessions.put(session.id, session);
+        // Each done batch submits the next one
+        int parallelism = Math.max(1, Math.min(taskExecutor.getParallelism(), session.batches.size()));
+        for (int i = 0; i < parallelism; i++) {
+            session.submitNextBatch(taskExecutor, params, utils);
+        }
+        return session;
+    }
+
+    private void expireSessions() {
+        long now = System.currentTimeMillis();
+        sessions.values().removeIf(session -> {
+            if (session.isExpired(now)) {
+                LOGGER.log(Level.INFO, "Cancel the expired workspace validation session '" + session.id + "'");
+                session.cancel();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static JakartaJavaWorkspaceDiagnosticsReport createDoneReport(String sessionId) {
+        JakartaJavaWorkspaceDiagnosticsReport report = new JakartaJavaWorkspaceDiagnosticsReport(sessionId, Collections.emptyList());
+        report.setDone(true);
+        return report;
+    }
+
+    /**
+     * Returns the uris of the Java files of the source folders of the given
+     * Jakarta projects (all the Jakarta projects if null).
+     */
+    private static List<String> getSourceUris(List<String> projectUris, IJDTUtils utils,
+                                              IProgressMonitor monitor) throws JavaModelException {
+        List<String> uris = new ArrayList<>();
+        for (IJavaProject javaProject : JDTJakartaUtils.getJavaProjects()) {
+            if (monitor.isCanceled()) {
+                break;
+            }
+            if (projectUris != null && !projectUris.contains(JDTJakartaUtils.getProjectURI(javaProject))) {
+                continue;
+            }
+            if (!JDTJakartaUtils.isJakartaProject(javaProject)) {
+                continue;
+            }
+            for (ICompilationUnit unit : JDTJakartaUtils.getSourceCompilationUnits(javaProject)) {
+                uris.add(utils.toUri(unit));
+            }
+        }
+        return uris;
+    }
+}
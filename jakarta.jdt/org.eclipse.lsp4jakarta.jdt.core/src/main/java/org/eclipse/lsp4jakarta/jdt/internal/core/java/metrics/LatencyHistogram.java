@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of durations in nanoseconds.
+ *
+ * <p>
+ * Each power of two is split in {@link #SUB_BUCKETS} linear buckets, so a
+ * recorded duration costs one atomic increment and the percentiles are known
+ * with a relative error lower than 1/{@link #SUB_BUCKETS} (12.5%), from 1ns to
+ * about 18 minutes. Longer durations are counted in the last bucket.
+ * </p>
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    // The highest power of two of the durations which are not in the last bucket
+    private static final int MAX_EXPONENT = 40;
+
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Records the given duration.
+     *
+     * @param nanos the duration in nanoseconds.
+     */
+    public void record(long nanos) {
+        counts.incrementAndGet(getIndex(nanos));
+    }
+
+    /**
+     * Returns the upper bound in nanoseconds of the bucket which contains the
+     * given percentile of the recorded durations and 0 if there is no recorded
+     * duration.
+     *
+     * @param percentile the percentile, between 0 and 100.
+     * @return the upper bound in nanoseconds of the bucket which contains the
+     *         given percentile.
+     */
+    public long getPercentile(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += snapshot[i];
+            if (count >= rank) {
+                return getUpperBound(i);
+            }
+        }
+        return getUpperBound(BUCKETS - 1);
+    }
+
+    /**
+     * Removes the recorded durations.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    /**
+     * Returns the index of the bucket of the given duration.
+     *
+     * @param nanos the duration in nanoseconds.
+     * @return the index of the bucket of the given duration.
+     */
+    public static int getIndex(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) Math.max(0, nanos);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the highest duration in nanoseconds of the bucket of the given
+     * index.
+     *
+     * @param index the bucket index.
+     * @return the highest duration in nanoseconds of the bucket.
+     */
+    public static long getUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4jakarta.commons.JakartaJavaMetricsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaMetricsReport;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaParticipantMetrics;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.ls.CompilationUnitConsistencyTracker;
+
+/**
+ * The metrics (calls, errors, timeouts, produced diagnostics and latency
+ * percentiles) of the operations of the diagnostics and code action
+ * participants, to find the slow participants without a profiler, the hits
+ * and misses of the diagnostics cache and the waits for the Java model of the
+ * compilation units to become consistent.
+ *
+ * <p>
+ * The metrics can be dumped periodically in the log with the system property
+ * <code>lsp4jakarta.metrics.logInterval</code>: the interval in seconds between
+ * two dumps (0, the default, disables the dumps). The interval can also be
+ * changed with the <code>jakarta/java/metrics</code> command.
+ * </p>
+ */
+public class ParticipantMetrics {
+
+    private static final Logger LOGGER = Logger.getLogger(ParticipantMetrics.class.getName());
+
+    private static final String LOG_INTERVAL_PROPERTY = "lsp4jakarta.metrics.logInterval";
+
+    // Participant of the operations of the code action handler
+    public static final String ALL_PARTICIPANTS = "*";
+
+    // Operations of the diagnostics participants
+    public static final String IS_ADAPTED_FOR_DIAGNOSTICS = "isAdaptedForDiagnostics";
+    public static final String BEGIN_DIAGNOSTICS = "beginDiagnostics";
+    public static final String COLLECT_DIAGNOSTICS = "collectDiagnostics";
+    public static final String END_DIAGNOSTICS = "endDiagnostics";
+
+    // Operations of the code action participants
+    public static final String IS_ADAPTED_FOR_CODE_ACTION = "isAdaptedForCodeAction";
+    public static final String GET_CODE_ACTIONS = "getCodeActions";
+    public static final String RESOLVE_CODE_ACTION = "resolveCodeAction";
+
+    // Operations of the code action handler
+    public static final String CODE_ACTION_REQUEST = "codeActionRequest";
+    public static final String RESOLVE_CODE_ACTION_REQUEST = "resolveCodeActionRequest";
+    public static final String FIX_ALL_REQUEST = "fixAllRequest";
+
+    private static final ParticipantMetrics INSTANCE = new ParticipantMetrics(Long.getLong(LOG_INTERVAL_PROPERTY, 0));
+
+    public static ParticipantMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    private final Map<String, ParticipantStats> stats;
+
+    private volatile long startTime;
+
+    private ScheduledExecutorService logExecutor;
+
+    private ScheduledFuture<?> logFuture;
+
+    ParticipantMetrics(long logInterval) {
+        this.stats = new ConcurrentHashMap<>();
+        this.startTime = System.currentTimeMillis();
+        setLogInterval(logInterval);
+    }
+
+    /**
+     * Returns the metrics of the given operation of the given participant.
+     *
+     * <p>
+     * The returned instance is the same for the life of the JDT extension, the
+     * callers keep it to not look it up at each call.
+     * </p>
+     *
+     * @param operation the operation.
+     * @param participant the class name of the participant.
+     * @return the metrics of the given operation of the given participant.
+     */
+    public ParticipantStats get(String operation, String participant) {
+        return stats.computeIfAbsent(operation + '#' + participant, k -> new ParticipantStats(operation, participant));
+    }
+
+    /**
+     * Returns the metrics report and updates the metrics like requested by the
+     * given parameters.
+     *
+     * @param params the metrics parameters.
+     * @return the metrics report.
+     */
+    public JakartaJavaMetricsReport getReport(JakartaJavaMetricsParams params) {
+        JakartaJavaMetricsReport report = getReport();
+        if (params != null) {
+            if (params.isReset()) {
+                reset();
+            }
+            if (params.getLogInterval() != null) {
+                setLogInterval(params.getLogInterval());
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Returns the metrics of the operations which were called since the last
+     * reset, sorted by decreasing total time.
+     *
+     * @return the metrics report.
+     */
+    public JakartaJavaMetricsReport getReport() {
+        List<JakartaJavaParticipantMetrics> metrics = new ArrayList<>();
+        for (ParticipantStats participantStats : stats.values()) {
+            if (!participantStats.isEmpty()) {
+                metrics.add(participantStats.toMetrics());
+            }
+        }
+        metrics.sort(Comparator.comparingDouble(JakartaJavaParticipantMetrics::getTotalTime).reversed());
+        JakartaJavaMetricsReport report = new JakartaJavaMetricsReport(startTime, System.currentTimeMillis(), metrics);
+        JavaDiagnosticsCache cache = JavaDiagnosticsCache.getInstance();
+        report.setDiagnosticsCacheHits(cache.getHitCount());
+        report.setDiagnosticsCacheMisses(cache.getMissCount());
+        CompilationUnitConsistencyTracker tracker = CompilationUnitConsistencyTracker.getInstance();
+        report.setConsistencyWaitCount(tracker.getWaitCount());
+        report.setConsistencyWaitTotalTime(tracker.getTotalWaitTime());
+        report.setConsistencyWaitMaxTime(tracker.getMaxWaitTime());
+        return report;
+    }
+
+    /**
+     * Resets the metrics.
+     */
+    public void reset() {
+        stats.values().forEach(ParticipantStats::reset);
+        JavaDiagnosticsCache.getInstance().resetCounts();
+        CompilationUnitConsistencyTracker.getInstance().resetCounts();
+        startTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Dumps the metrics in the log every given seconds.
+     *
+     * @param logInterval the interval in seconds between two dumps and 0 to
+     *            disable the dumps.
+     */
+    public synchronized void setLogInterval(long logInterval) {
+        if (logFuture != null) {
+            logFuture.cancel(false);
+            logFuture = null;
+        }
+        if (logInterval <= 0) {
+            return;
+        }
+        if (logExecutor == null) {
+            logExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "LSP4Jakarta metrics");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        logFuture = logExecutor.scheduleAtFixedRate(this::log, logInterval, logInterval, TimeUnit.SECONDS);
+    }
+
+    private void log() {
+        JakartaJavaMetricsReport report = getReport();
+        if (report.getMetrics().isEmpty()) {
+            return;
+        }
+        StringBuilder message = new StringBuilder("LSP4Jakarta participant metrics (times in ms):");
+        message.append(String.format("%n%-24s hits=%d, misses=%d", "diagnosticsCache", report.getDiagnosticsCacheHits(),
+                                     report.getDiagnosticsCacheMisses()));
+        message.append(String.format("%n%-24s waits=%d, total=%d, max=%d", "consistencyWaits",
+                                     report.getConsistencyWaitCount(), report.getConsistencyWaitTotalTime(),
+                                     report.getConsistencyWaitMaxTime()));
+        for (JakartaJavaParticipantMetrics metrics : report.getMetrics()) {
+            message.append(String.format("%n%-24s %s: calls=%d, total=%.1f, p50=%.3f, p99=%.3f, max=%.1f, diagnostics=%d, errors=%d, timeouts=%d",
+                                         metrics.getOperation(), metrics.getParticipant(), metrics.getCalls(),
+                                         metrics.getTotalTime(), metrics.getP50(), metrics.getP99(), metrics.getMaxTime(),
+                                         metrics.getDiagnostics(), metrics.getErrors(), metrics.getTimeouts()));
+        }
+        LOGGER.info(message.toString());
+    }
+}
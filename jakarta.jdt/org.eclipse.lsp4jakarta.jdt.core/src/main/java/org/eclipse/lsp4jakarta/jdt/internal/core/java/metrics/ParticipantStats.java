@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.lsp4jakarta.commons.JakartaJavaParticipantMetrics;
+
+/**
+ * The counters and the latency histogram of an operation of a participant.
+ *
+ * <p>
+ * The counters are updated without lock by the threads which call the
+ * participant:
+ * </p>
+ *
+ * <pre>
+ * long start = System.nanoTime();
+ * try {
+ *     ...
+ * } catch (Exception e) {
+ *     stats.recordError();
+ * } finally {
+ *     stats.record(start);
+ * }
+ * </pre>
+ */
+public class ParticipantStats {
+
+    private final String operation;
+
+    private final String participant;
+
+    private final LongAdder calls = new LongAdder();
+
+    private final LongAdder errors = new LongAdder();
+
+    private final LongAdder timeouts = new LongAdder();
+
+    private final LongAdder diagnostics = new LongAdder();
+
+    private final LongAdder totalTime = new LongAdder();
+
+    private final LongAccumulator maxTime = new LongAccumulator(Math::max, 0);
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    ParticipantStats(String operation, String participant) {
+        this.operation = operation;
+        this.participant = participant;
+    }
+
+    /**
+     * Records a call started at the given time.
+     *
+     * @param startTime the start time of the call given by
+     *            {@link System#nanoTime()}.
+     */
+    public void record(long startTime) {
+        long time = System.nanoTime() - startTime;
+        calls.increment();
+        totalTime.add(time);
+        maxTime.accumulate(time);
+        histogram.record(time);
+    }
+
+    /**
+     * Records a call which failed with an exception.
+     */
+    public void recordError() {
+        errors.increment();
+    }
+
+    /**
+     * Records a call abandoned after the participant timeout.
+     */
+    public void recordTimeout() {
+        timeouts.increment();
+    }
+
+    /**
+     * Records the given number of produced diagnostics.
+     *
+     * @param count the number of produced diagnostics.
+     */
+    public void recordDiagnostics(int count) {
+        diagnostics.add(count);
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public String getParticipant() {
+        return participant;
+    }
+
+    /**
+     * Returns true if the operation was never called and false otherwise.
+     *
+     * @return true if the operation was never called and false otherwise.
+     */
+    boolean isEmpty() {
+        return calls.sum() == 0 && errors.sum() == 0 && timeouts.sum() == 0;
+    }
+
+    /**
+     * Returns the current values of the metrics.
+     *
+     * @return the current values of the metrics.
+     */
+    JakartaJavaParticipantMetrics toMetrics() {
+        JakartaJavaParticipantMetrics metrics = new JakartaJavaParticipantMetrics(operation, participant);
+        metrics.setCalls(calls.sum());
+        metrics.setErrors(errors.sum());
+        metrics.setTimeouts(timeouts.sum());
+        metrics.setDiagnostics(diagnostics.sum());
+        metrics.setTotalTime(toMillis(totalTime.sum()));
+        long max = maxTime.get();
+        // The bucket upper bounds can be greater than the recorded times
+        metrics.setP50(toMillis(Math.min(max, histogram.getPercentile(50))));
+        metrics.setP99(toMillis(Math.min(max, histogram.getPercentile(99))));
+        metrics.setMaxTime(toMillis(max));
+        return metrics;
+    }
+
+    void reset() {
+        calls.reset();
+        errors.reset();
+        timeouts.reset();
+        diagnostics.reset();
+        totalTime.reset();
+        maxTime.reset();
+        histogram.reset();
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -13,9 +13,17 @@
 *******************************************************************************/
 package org.eclipse.lsp4jakarta.jdt.internal.core.ls;
 
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.eclipse.jdt.ls.core.internal.IDelegateCommandHandler;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+import org.eclipse.lsp4jakarta.commons.JakartaClasspathChangeEvent;
+import org.eclipse.lsp4jakarta.jdt.core.IJakartaClasspathChangedListener;
+import org.eclipse.lsp4jakarta.jdt.core.JakartaCorePlugin;
 
 /**
  * Abstract class for MicroProfile JDT LS command handler
@@ -27,19 +35,54 @@ public abstract class AbstractJakartaDelegateCommandHandler implements IDelegate
 
     private static final Logger LOGGER = Logger.getLogger(AbstractJakartaDelegateCommandHandler.class.getName());
 
+    private static final String CLASSPATH_CHANGED_COMMAND = "jakarta/classpathChanged";
+
+    private static final IJakartaClasspathChangedListener LISTENER = new JakartaClasspathChangedListener();
+
     private static boolean initialized;
 
+    /**
+     * Forwards the classpath changes to the client, which notifies the Jakarta
+     * language server to reload the project information.
+     */
+    private static class JakartaClasspathChangedListener implements IJakartaClasspathChangedListener {
+
+        // Sends the events in order without blocking the thread which notifies the
+        // Java model changes
+        private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lsp4jakarta-classpath-changed");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        @Override
+        public void classpathChanged(JakartaClasspathChangeEvent event) {
+            executor.execute(() -> {
+                try {
+                    // Execute client command with a timeout of 5 seconds to avoid blocking the
+                    // next events.
+                    JavaLanguageServerPlugin.getInstance().getClientConnection().executeClientCommand(Duration.ofSeconds(5),
+                                                                                                    CLASSPATH_CHANGED_COMMAND,
+                                                                                                    event);
+                } catch (Exception e) {
+                    LOGGER.log(Level.WARNING, "Error while sending the classpath changed event to the client", e);
+                }
+            });
+        }
+    }
+
     public AbstractJakartaDelegateCommandHandler() {
         initialize();
     }
 
     /**
-     * Add MicroProfile properties changed listener if needed.
+     * Add the classpath changed listener if needed.
      */
     private static synchronized void initialize() {
         if (initialized) {
             return;
         }
+        JakartaCorePlugin.getDefault().addClasspathChangedListener(LISTENER);
         initialized = true;
     }
 }
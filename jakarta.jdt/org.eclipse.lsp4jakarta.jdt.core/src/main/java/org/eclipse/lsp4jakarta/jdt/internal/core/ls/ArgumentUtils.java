@@ -23,6 +23,7 @@ import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4jakarta.commons.JakartaTraceContext;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -49,6 +50,10 @@ public class ArgumentUtils {
     private static final String CHARACTER_PROPERTY = "character";
     private static final String LINE_PROPERTY = "line";
     private static final String URI_PROPERTY = "uri";
+    private static final String REQUEST_ID_PROPERTY = "requestId";
+    private static final String START_TIME_PROPERTY = "startTime";
+    private static final String SEND_TIME_PROPERTY = "sendTime";
+    private static final String FILE_PROPERTY = "file";
 
     private static final Logger LOGGER = Logger.getLogger(ArgumentUtils.class.getName());
 
@@ -75,6 +80,11 @@ public class ArgumentUtils {
         return result != null && result instanceof Number ? ((Number) result).intValue() : 0;
     }
 
+    public static long getLong(Map<String, Object> obj, String key) {
+        Object result = obj.get(key);
+        return result != null && result instanceof Number ? ((Number) result).longValue() : 0;
+    }
+
     public static TextDocumentIdentifier getTextDocumentIdentifier(Map<String, Object> obj, String key) {
         Map<String, Object> textDocumentIdentifierObj = (Map<String, Object>) obj.get(key);
         if (textDocumentIdentifierObj == null) {
@@ -94,6 +104,18 @@ public class ArgumentUtils {
         return new Position(line, character);
     }
 
+    public static JakartaTraceContext getTraceContext(Map<String, Object> obj, String key) {
+        Map<String, Object> traceObj = getObject(obj, key);
+        if (traceObj == null) {
+            return null;
+        }
+        JakartaTraceContext trace = new JakartaTraceContext(getString(traceObj, REQUEST_ID_PROPERTY),
+                                                            getLong(traceObj, START_TIME_PROPERTY),
+                                                            getString(traceObj, FILE_PROPERTY));
+        trace.setSendTime(getLong(traceObj, SEND_TIME_PROPERTY));
+        return trace;
+    }
+
     public static Range getRange(Map<String, Object> obj, String key) {
         Map<String, Object> rangeObj = (Map<String, Object>) obj.get(key);
         if (rangeObj == null) {
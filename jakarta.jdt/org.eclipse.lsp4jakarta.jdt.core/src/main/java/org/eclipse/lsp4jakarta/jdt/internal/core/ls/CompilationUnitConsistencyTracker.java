@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.ls;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Tracks the compilation units which are waiting for their Java model to become
+ * consistent with their buffer.
+ *
+ * <p>
+ * Instead of polling {@link ICompilationUnit#isConsistent()}, a caller waits on
+ * a future which is completed when JDT reports a reconcile or a change of the
+ * Java model. As a reconcile without structural change doesn't always fire a
+ * delta, the consistency is also re-checked at a low frequency while waiting.
+ * </p>
+ *
+ * <p>
+ * The number of waits and the time spent waiting are recorded to detect
+ * reconcile stalls.
+ * </p>
+ */
+public class CompilationUnitConsistencyTracker implements IElementChangedListener {
+
+    private static final Logger LOGGER = Logger.getLogger(CompilationUnitConsistencyTracker.class.getName());
+
+    private static final long RECHECK_INTERVAL = 100;
+
+    private static final long SLOW_WAIT_THRESHOLD = 500;
+
+    private static final CompilationUnitConsistencyTracker INSTANCE = new CompilationUnitConsistencyTracker();
+
+    public static CompilationUnitConsistencyTracker getInstance() {
+        return INSTANCE;
+    }
+
+    private final Map<ICompilationUnit, CompletableFuture<Void>> pendingUnits;
+
+    private final AtomicLong waitCount;
+
+    private final AtomicLong totalWaitTime;
+
+    private final AtomicLong maxWaitTime;
+
+    private boolean installed;
+
+    private CompilationUnitConsistencyTracker() {
+        this.pendingUnits = new ConcurrentHashMap<>();
+        this.waitCount = new AtomicLong();
+        this.totalWaitTime = new AtomicLong();
+        this.maxWaitTime = new AtomicLong();
+    }
+
+    /**
+     * Registers the tracker to the Java model.
+     */
+    public synchronized void install() {
+        if (!installed) {
+            JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_RECONCILE | ElementChangedEvent.POST_CHANGE);
+            installed = true;
+        }
+    }
+
+    /**
+     * Unregisters the tracker from the Java model and releases the waiting
+     * callers.
+     */
+    public synchronized void uninstall() {
+        if (installed) {
+            JavaCore.removeElementChangedListener(this);
+            installed = false;
+        }
+        pendingUnits.values().forEach(future -> future.complete(null));
+        pendingUnits.clear();
+    }
+
+    @Override
+    public void elementChanged(ElementChangedEvent event) {
+        if (pendingUnits.isEmpty()) {
+            return;
+        }
+        // Release every unit which became consistent
+        pendingUnits.forEach((unit, future) -> {
+            if (isConsistent(unit)) {
+                pendingUnits.remove(unit, future);
+                future.complete(null);
+            }
+        });
+    }
+
+    /**
+     * Waits until the given compilation unit is consistent or the given timeout
+     * expires.
+     *
+     * @param unit the compilation unit.
+     * @param timeout the timeout in milliseconds.
+     * @return true if the compilation unit is consistent and false if the timeout
+     *         expired.
+     */
+    public boolean waitForConsistency(ICompilationUnit unit, long timeout) {
+        if (isConsistent(unit)) {
+            return true;
+        }
+        install();
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeout);
+        CompletableFuture<Void> future = null;
+        try {
+            while (!isConsistent(unit)) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                // The future is shared by all the callers waiting for the same unit
+                future = pendingUnits.computeIfAbsent(unit, u -> new CompletableFuture<>());
+                try {
+                    future.get(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(RECHECK_INTERVAL)), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    // Re-check the consistency
+                } catch (ExecutionException e) {
+                    return isConsistent(unit);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return isConsistent(unit);
+                }
+            }
+            return true;
+        } finally {
+            if (future != null && pendingUnits.remove(unit, future)) {
+                // The unit became consistent without a delta or the wait timed out:
+                // don't keep the future of the unit, the other callers waiting on
+                // it re-check the consistency and register a new one if needed
+                future.complete(null);
+            }
+            recordWait(unit, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    private void recordWait(ICompilationUnit unit, long waitTime) {
+        waitCount.incrementAndGet();
+        totalWaitTime.addAndGet(waitTime);
+        maxWaitTime.accumulateAndGet(waitTime, Math::max);
+        if (waitTime >= SLOW_WAIT_THRESHOLD) {
+            LOGGER.log(Level.INFO, "Waited " + waitTime + "ms for '" + unit.getElementName() + "' to be consistent");
+        }
+    }
+
+    private static boolean isConsistent(ICompilationUnit unit) {
+        try {
+            return unit.isConsistent();
+        } catch (JavaModelException e) {
+            // The unit doesn't exist anymore, don't wait for it
+            return true;
+        }
+    }
+
+    /**
+     * Resets the wait counts.
+     */
+    public void resetCounts() {
+        waitCount.set(0);
+        totalWaitTime.set(0);
+        maxWaitTime.set(0);
+    }
+
+    /**
+     * Returns the number of times a caller had to wait for a compilation unit to
+     * become consistent.
+     *
+     * @return the number of waits.
+     */
+    public long getWaitCount() {
+        return waitCount.get();
+    }
+
+    /**
+     * Returns the total time in milliseconds spent waiting for compilation units
+     * to become consistent.
+     *
+     * @return the total wait time in milliseconds.
+     */
+    public long getTotalWaitTime() {
+        return totalWaitTime.get();
+    }
+
+    /**
+     * Returns the longest time in milliseconds spent waiting for a compilation
+     * unit to become consistent.
+     *
+     * @return the longest wait time in milliseconds.
+     */
+    public long getMaxWaitTime() {
+        return maxWaitTime.get();
+    }
+}
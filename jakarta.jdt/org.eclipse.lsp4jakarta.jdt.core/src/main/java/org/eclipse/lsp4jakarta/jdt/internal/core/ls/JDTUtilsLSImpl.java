@@ -14,9 +14,12 @@
 package org.eclipse.lsp4jakarta.jdt.internal.core.ls;
 
 import java.io.Reader;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Scanner;
 
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.jobs.Job;
@@ -52,13 +55,67 @@ public class JDTUtilsLSImpl implements IJDTUtils {
 
     private static final int COMPILATION_UNIT_UPDATE_TIMEOUT = 3000;
 
+    private static final long RESOLVED_UNIT_CACHE_TTL = 2000;
+
+    private static final int RESOLVED_UNIT_CACHE_SIZE = 100;
+
     private static final IJDTUtils INSTANCE = new JDTUtilsLSImpl();
 
     public static IJDTUtils getInstance() {
         return INSTANCE;
     }
 
-    private JDTUtilsLSImpl() {}
+    /**
+     * A compilation unit resolved from an uri, kept for a short time since the
+     * same uri is resolved by several features for a same document change.
+     *
+     * <p>
+     * The unit is resolved again when the file is saved, created or deleted (its
+     * modification stamp changes) or when the document is opened or closed (the
+     * unit becomes or is no longer a working copy), since another unit can then
+     * be resolved for the uri.
+     * </p>
+     */
+    private static class ResolvedUnit {
+
+        private final ICompilationUnit unit;
+
+        private final long modificationStamp;
+
+        private final boolean workingCopy;
+
+        private final long expirationTime;
+
+        ResolvedUnit(ICompilationUnit unit, long expirationTime) {
+            this.unit = unit;
+            this.modificationStamp = getModificationStamp(unit);
+            this.workingCopy = unit.isWorkingCopy();
+            this.expirationTime = expirationTime;
+        }
+
+        boolean isValid(long now) {
+            return expirationTime >= now && modificationStamp == getModificationStamp(unit)
+                   && workingCopy == unit.isWorkingCopy() && unit.exists();
+        }
+
+        private static long getModificationStamp(ICompilationUnit unit) {
+            IResource resource = unit.getResource();
+            return resource != null ? resource.getModificationStamp() : IResource.NULL_STAMP;
+        }
+    }
+
+    // Resolved units by uri, in access order to evict the least recently used
+    private final Map<String, ResolvedUnit> resolvedUnits;
+
+    @SuppressWarnings("serial")
+    private JDTUtilsLSImpl() {
+        this.resolvedUnits = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ResolvedUnit> eldest) {
+                return size() > RESOLVED_UNIT_CACHE_SIZE;
+            }
+        };
+    }
 
     @Override
     public IFile findFile(String uriString) {
@@ -67,20 +124,41 @@ public class JDTUtilsLSImpl implements IJDTUtils {
 
     @Override
     public ICompilationUnit resolveCompilationUnit(String uriString) {
-        ICompilationUnit unit = JDTUtils.resolveCompilationUnit(uriString);
-        if (unit != null) {
-            try {
-                // Give underlying resource time to catch up
-                // (timeout at COMPILATION_UNIT_UPDATE_TIMEOUT milliseconds).
-                long endTime = System.currentTimeMillis() + COMPILATION_UNIT_UPDATE_TIMEOUT;
-                while (!unit.isConsistent() && System.currentTimeMillis() < endTime) {
+        ICompilationUnit unit = getCachedCompilationUnit(uriString);
+        if (unit == null) {
+            unit = JDTUtils.resolveCompilationUnit(uriString);
+            if (unit != null) {
+                ResolvedUnit resolvedUnit = new ResolvedUnit(unit, System.currentTimeMillis() + RESOLVED_UNIT_CACHE_TTL);
+                synchronized (resolvedUnits) {
+                    resolvedUnits.put(uriString, resolvedUnit);
                 }
-            } catch (JavaModelException e) {
             }
         }
+        if (unit != null) {
+            // Give underlying resource time to catch up
+            // (timeout at COMPILATION_UNIT_UPDATE_TIMEOUT milliseconds).
+            CompilationUnitConsistencyTracker.getInstance().waitForConsistency(unit, COMPILATION_UNIT_UPDATE_TIMEOUT);
+        }
         return unit;
     }
 
+    private ICompilationUnit getCachedCompilationUnit(String uriString) {
+        ResolvedUnit resolvedUnit;
+        synchronized (resolvedUnits) {
+            resolvedUnit = resolvedUnits.get(uriString);
+        }
+        if (resolvedUnit == null) {
+            return null;
+        }
+        if (!resolvedUnit.isValid(System.currentTimeMillis())) {
+            synchronized (resolvedUnits) {
+                resolvedUnits.remove(uriString, resolvedUnit);
+            }
+            return null;
+        }
+        return resolvedUnit.unit;
+    }
+
     @Override
     public IClassFile resolveClassFile(String uriString) {
         return JDTUtils.resolveClassFile(uriString);
@@ -23,7 +23,9 @@ import static org.eclipse.lsp4jakarta.jdt.internal.core.ls.ArgumentUtils.getRang
 import static org.eclipse.lsp4jakarta.jdt.internal.core.ls.ArgumentUtils.getString;
 import static org.eclipse.lsp4jakarta.jdt.internal.core.ls.ArgumentUtils.getStringList;
 import static org.eclipse.lsp4jakarta.jdt.internal.core.ls.ArgumentUtils.getTextDocumentIdentifier;
+import static org.eclipse.lsp4jakarta.jdt.internal.core.ls.ArgumentUtils.getTraceContext;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -39,15 +41,24 @@ import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.WorkspaceEdit;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaCodeActionParams;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaCompletionParams;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaCompletionResult;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsReport;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsSettings;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaFileInfo;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaFileInfoParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaFixAllParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaMetricsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaMetricsReport;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaWorkspaceDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaWorkspaceDiagnosticsReport;
+import org.eclipse.lsp4jakarta.commons.JakartaTraceContext;
 import org.eclipse.lsp4jakarta.commons.JavaCursorContextResult;
 import org.eclipse.lsp4jakarta.commons.codeaction.CodeActionResolveData;
+import org.eclipse.lsp4jakarta.commons.trace.RequestTrace;
 import org.eclipse.lsp4jakarta.commons.utils.JSONUtility;
 import org.eclipse.lsp4jakarta.jdt.core.PropertiesManagerForJava;
 
@@ -61,6 +72,10 @@ public class JakartaDelegateCommandHandlerForJava extends AbstractJakartaDelegat
     private static final String JAVA_CODEACTION_RESOLVE_COMMAND_ID = "jakarta/java/codeActionResolve";
     private static final String JAVA_COMPLETION_COMMAND_ID = "jakarta/java/completion";
     private static final String JAVA_DIAGNOSTICS_COMMAND_ID = "jakarta/java/diagnostics";
+    private static final String JAVA_PULL_DIAGNOSTICS_COMMAND_ID = "jakarta/java/pullDiagnostics";
+    private static final String JAVA_FIX_ALL_COMMAND_ID = "jakarta/java/fixAll";
+    private static final String JAVA_WORKSPACE_DIAGNOSTICS_COMMAND_ID = "jakarta/java/workspaceDiagnostics";
+    private static final String JAVA_METRICS_COMMAND_ID = "jakarta/java/metrics";
 
     public JakartaDelegateCommandHandlerForJava() {}
 
@@ -87,6 +102,14 @@ public class JakartaDelegateCommandHandlerForJava extends AbstractJakartaDelegat
                 return getCompletionForJava(arguments, commandId, monitor);
             case JAVA_DIAGNOSTICS_COMMAND_ID:
                 return getDiagnosticsForJava(arguments, commandId, monitor);
+            case JAVA_PULL_DIAGNOSTICS_COMMAND_ID:
+                return pullDiagnosticsForJava(arguments, commandId, monitor);
+            case JAVA_FIX_ALL_COMMAND_ID:
+                return fixAllForJava(arguments, commandId, monitor);
+            case JAVA_WORKSPACE_DIAGNOSTICS_COMMAND_ID:
+                return getWorkspaceDiagnosticsForJava(arguments, commandId, monitor);
+            case JAVA_METRICS_COMMAND_ID:
+                return getMetricsForJava(arguments);
             default:
                 throw new UnsupportedOperationException(String.format("Unsupported command '%s'!", commandId));
         }
@@ -147,12 +170,15 @@ public class JakartaDelegateCommandHandlerForJava extends AbstractJakartaDelegat
      */
     private static JakartaJavaCompletionResult getCompletionForJava(List<Object> arguments, String commandId,
                                                                     IProgressMonitor monitor) throws JavaModelException, CoreException {
+        long start = System.nanoTime();
         JakartaJavaCompletionParams params = createJakartaJavaCompletionParams(arguments, commandId);
-        CompletionList completionList = PropertiesManagerForJava.getInstance().completion(params,
-                                                                                          JDTUtilsLSImpl.getInstance(), monitor);
-        JavaCursorContextResult cursorContext = PropertiesManagerForJava.getInstance().javaCursorContext(params,
-                                                                                                         JDTUtilsLSImpl.getInstance(), monitor);
-        return new JakartaJavaCompletionResult(completionList, cursorContext);
+        try (RequestTrace trace = startTrace(commandId, params.getTrace(), start)) {
+            CompletionList completionList = PropertiesManagerForJava.getInstance().completion(params,
+                                                                                              JDTUtilsLSImpl.getInstance(), monitor);
+            JavaCursorContextResult cursorContext = PropertiesManagerForJava.getInstance().javaCursorContext(params,
+                                                                                                             JDTUtilsLSImpl.getInstance(), monitor);
+            return new JakartaJavaCompletionResult(completionList, cursorContext);
+        }
     }
 
     /**
@@ -182,6 +208,7 @@ public class JakartaDelegateCommandHandlerForJava extends AbstractJakartaDelegat
                                                                   commandId));
         }
         JakartaJavaCompletionParams params = new JakartaJavaCompletionParams(javaFileUri, position);
+        params.setTrace(getTraceContext(obj, "trace"));
         return params;
     }
 
@@ -198,9 +225,12 @@ public class JakartaDelegateCommandHandlerForJava extends AbstractJakartaDelegat
     private static List<? extends CodeAction> getCodeActionForJava(List<Object> arguments, String commandId,
                                                                    IProgressMonitor monitor) throws JavaModelException, CoreException {
         // Create java code action parameter
+        long start = System.nanoTime();
         JakartaJavaCodeActionParams params = createJakartaJavaCodeActionParams(arguments, commandId);
-        // Return code action from the code action parameter
-        return PropertiesManagerForJava.getInstance().codeAction(params, JDTUtilsLSImpl.getInstance(), monitor);
+        try (RequestTrace trace = startTrace(commandId, params.getTrace(), start)) {
+            // Return code action from the code action parameter
+            return PropertiesManagerForJava.getInstance().codeAction(params, JDTUtilsLSImpl.getInstance(), monitor);
+        }
     }
 
     /**
@@ -236,6 +266,7 @@ public class JakartaDelegateCommandHandlerForJava extends AbstractJakartaDelegat
         params.setResourceOperationSupported(resourceOperationSupported);
         params.setCommandConfigurationUpdateSupported(commandConfigurationUpdateSupported);
         params.setResolveSupported(resolveSupported);
+        params.setTrace(getTraceContext(obj, "trace"));
         return params;
     }
 
@@ -297,9 +328,50 @@ public class JakartaDelegateCommandHandlerForJava extends AbstractJakartaDelegat
     private static List<PublishDiagnosticsParams> getDiagnosticsForJava(List<Object> arguments, String commandId,
                                                                         IProgressMonitor monitor) throws JavaModelException {
         // Create java diagnostics parameter
+        long start = System.nanoTime();
+        JakartaJavaDiagnosticsParams params = createJakartaJavaDiagnosticsParams(arguments, commandId);
+        try (RequestTrace trace = startTrace(commandId, params.getTrace(), start)) {
+            // Return diagnostics from parameter
+            return PropertiesManagerForJava.getInstance().diagnostics(params, JDTUtilsLSImpl.getInstance(), monitor);
+        }
+    }
+
+    /**
+     * Returns the pulled diagnostics for a given java file URIs in arguments map
+     *
+     * @param arguments map of diagnostics data from Jakarta LS
+     * @param commandId String name of command message
+     * @param monitor
+     * @return the pulled diagnostics as List<JakartaJavaDiagnosticsReport>
+     * @throws JavaModelException
+     */
+    private static List<JakartaJavaDiagnosticsReport> pullDiagnosticsForJava(List<Object> arguments, String commandId,
+                                                                             IProgressMonitor monitor) throws JavaModelException {
+        // Create java diagnostics parameter
+        long start = System.nanoTime();
         JakartaJavaDiagnosticsParams params = createJakartaJavaDiagnosticsParams(arguments, commandId);
-        // Return diagnostics from parameter
-        return PropertiesManagerForJava.getInstance().diagnostics(params, JDTUtilsLSImpl.getInstance(), monitor);
+        try (RequestTrace trace = startTrace(commandId, params.getTrace(), start)) {
+            // Return the pulled diagnostics from parameter
+            return PropertiesManagerForJava.getInstance().pullDiagnostics(params, JDTUtilsLSImpl.getInstance(), monitor);
+        }
+    }
+
+    /**
+     * Returns the trace of the given command in the client hop, with the time
+     * spent to transport the request from the language server and to parse its
+     * parameters.
+     *
+     * @param commandId String name of command message
+     * @param context the trace context of the request and null if the request is
+     *            not traced
+     * @param parseStart the time when the parsing of the parameters started
+     * @return the trace of the given command
+     */
+    private static RequestTrace startTrace(String commandId, JakartaTraceContext context, long parseStart) {
+        RequestTrace trace = RequestTrace.start(RequestTrace.CLIENT_HOP, commandId, context);
+        trace.spanSinceSend("transport");
+        trace.span("parseParams", parseStart);
+        return trace;
     }
 
     /**
@@ -330,6 +402,131 @@ public class JakartaDelegateCommandHandlerForJava extends AbstractJakartaDelegat
             List<String> patterns = getStringList(settingsObj, "patterns");
             settings = new JakartaJavaDiagnosticsSettings(patterns);
         }
-        return new JakartaJavaDiagnosticsParams(javaFileUri, settings);
+        JakartaJavaDiagnosticsParams params = new JakartaJavaDiagnosticsParams(javaFileUri, settings);
+        params.setChangedUris(getStringList(obj, "changedUris"));
+        Map<String, Object> previousResultIdsObj = getObject(obj, "previousResultIds");
+        if (previousResultIdsObj != null) {
+            Map<String, String> previousResultIds = new HashMap<>();
+            previousResultIdsObj.forEach((uri, resultId) -> previousResultIds.put(uri, (String) resultId));
+            params.setPreviousResultIds(previousResultIds);
+        }
+        params.setTrace(getTraceContext(obj, "trace"));
+        return params;
+    }
+
+    /**
+     * Returns the workspace edit which fixes all the diagnostics with an
+     * unambiguous quick fix of the Java file or the project given in arguments
+     * map
+     *
+     * @param arguments map of fix all data from Jakarta LS
+     * @param commandId String name of command message
+     * @param monitor
+     * @return the workspace edit which fixes all the diagnostics and null if
+     *         there is nothing to fix
+     * @throws JavaModelException
+     */
+    private static WorkspaceEdit fixAllForJava(List<Object> arguments, String commandId,
+                                               IProgressMonitor monitor) throws JavaModelException {
+        // Create java fix all parameter
+        JakartaJavaFixAllParams params = createJakartaJavaFixAllParams(arguments, commandId);
+        // Return the fixes from parameter
+        return PropertiesManagerForJava.getInstance().fixAll(params, JDTUtilsLSImpl.getInstance(), monitor);
+    }
+
+    /**
+     * Returns the java fix all parameters from the given arguments map.
+     *
+     * @param arguments JakartaJavaFixAllParams @see
+     *            org.eclipse.lsp4jakarta.commons.JakartaJavaFixAllParams
+     * @param commandId String name of command message
+     *
+     * @return the java fix all parameters
+     */
+    private static JakartaJavaFixAllParams createJakartaJavaFixAllParams(List<Object> arguments, String commandId) {
+        Map<String, Object> obj = getFirst(arguments);
+        if (obj == null) {
+            throw new UnsupportedOperationException(String.format(
+                                                                  "Command '%s' must be called with one JakartaJavaFixAllParams argument!", commandId));
+        }
+        String javaFileUri = getString(obj, "uri");
+        if (javaFileUri == null) {
+            throw new UnsupportedOperationException(String.format(
+                                                                  "Command '%s' must be called with required JakartaJavaFixAllParams.uri (java URI)!",
+                                                                  commandId));
+        }
+        JakartaJavaFixAllParams params = new JakartaJavaFixAllParams(javaFileUri, getBoolean(obj, "project"));
+        params.setResourceOperationSupported(getBoolean(obj, "resourceOperationSupported"));
+        return params;
+    }
+
+    /**
+     * Starts the validation of the Java files of the Jakarta projects or returns
+     * the next chunk of diagnostics of the validation session given in
+     * arguments map
+     *
+     * @param arguments map of workspace diagnostics data from Jakarta LS
+     * @param commandId String name of command message
+     * @param monitor
+     * @return the next chunk of diagnostics of the validation session
+     * @throws JavaModelException
+     */
+    private static JakartaJavaWorkspaceDiagnosticsReport getWorkspaceDiagnosticsForJava(List<Object> arguments, String commandId,
+                                                                                        IProgressMonitor monitor) throws JavaModelException {
+        // Create java workspace diagnostics parameter
+        JakartaJavaWorkspaceDiagnosticsParams params = createJakartaJavaWorkspaceDiagnosticsParams(arguments, commandId);
+        // Return the next chunk of diagnostics from parameter
+        return PropertiesManagerForJava.getInstance().workspaceDiagnostics(params, JDTUtilsLSImpl.getInstance(), monitor);
+    }
+
+    /**
+     * Returns the java workspace diagnostics parameters from the given
+     * arguments map.
+     *
+     * @param arguments JakartaJavaWorkspaceDiagnosticsParams @see
+     *            org.eclipse.lsp4jakarta.commons.JakartaJavaWorkspaceDiagnosticsParams
+     * @param commandId String name of command message
+     *
+     * @return the java workspace diagnostics parameters
+     */
+    private static JakartaJavaWorkspaceDiagnosticsParams createJakartaJavaWorkspaceDiagnosticsParams(List<Object> arguments,
+                                                                                                     String commandId) {
+        Map<String, Object> obj = getFirst(arguments);
+        if (obj == null) {
+            throw new UnsupportedOperationException(String.format(
+                                                                  "Command '%s' must be called with one JakartaJavaWorkspaceDiagnosticsParams argument!",
+                                                                  commandId));
+        }
+        JakartaJavaWorkspaceDiagnosticsParams params = new JakartaJavaWorkspaceDiagnosticsParams(getString(obj, "sessionId"));
+        params.setProjectUris(getStringList(obj, "projectUris"));
+        params.setUris(getStringList(obj, "uris"));
+        Map<String, Object> settingsObj = getObject(obj, "settings");
+        if (settingsObj != null) {
+            List<String> patterns = getStringList(settingsObj, "patterns");
+            params.setSettings(new JakartaJavaDiagnosticsSettings(patterns));
+        }
+        params.setChunkSize(getInt(obj, "chunkSize"));
+        params.setCancel(getBoolean(obj, "cancel"));
+        return params;
+    }
+
+    /**
+     * Returns the metrics of the diagnostics and code action participants.
+     *
+     * @param arguments optional JakartaJavaMetricsParams @see
+     *            org.eclipse.lsp4jakarta.commons.JakartaJavaMetricsParams
+     * @return the metrics of the diagnostics and code action participants
+     */
+    private static JakartaJavaMetricsReport getMetricsForJava(List<Object> arguments) {
+        JakartaJavaMetricsParams params = new JakartaJavaMetricsParams();
+        Map<String, Object> obj = getFirst(arguments);
+        if (obj != null) {
+            params.setReset(getBoolean(obj, "reset"));
+            Object logInterval = obj.get("logInterval");
+            if (logInterval instanceof Number) {
+                params.setLogInterval(((Number) logInterval).longValue());
+            }
+        }
+        return PropertiesManagerForJava.getInstance().metrics(params);
     }
 }
@@ -41,15 +41,14 @@ import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.jdt.core.JakartaCorePlugin;
+import org.eclipse.lsp4jakarta.jdt.core.java.CompilationUnitSnapshot;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.ManagedBean;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.Primitive;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 
 /**
  * Dependency injection diagnostics participant that manages the use of
@@ -65,8 +64,7 @@ public class DependencyInjectionDiagnosticsParticipant implements IJavaDiagnosti
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        ICompilationUnit unit = context.getCompilationUnit();
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
@@ -74,12 +72,12 @@ public class DependencyInjectionDiagnosticsParticipant implements IJavaDiagnosti
         }
 
         IType[] alltypes;
-        alltypes = unit.getAllTypes();
+        alltypes = context.getSnapshot().getAllTypes();
         for (IType type : alltypes) {
             String invalidInjectMsg = Messages.getMessage("InjectInvalidQualifiersOnField");
             IField[] allFields = type.getFields();
             IType parent = type.getDeclaringType();
-            boolean isCdiScoped = hasCdiScopeAnnotation(type);
+            boolean isCdiScoped = hasCdiScopeAnnotation(context.getSnapshot(), type);
             //https://jakarta.ee/specifications/dependency-injection/2.0/apidocs/
             //Under Scope
             //A scope annotation should not have attributes.
@@ -87,7 +85,7 @@ public class DependencyInjectionDiagnosticsParticipant implements IJavaDiagnosti
             if (type.isAnnotation()) {
                 Range range = PositionUtils.toNameRange(type, context.getUtils());
                 //Checks if type annotation contains @Scope
-                boolean containsScope = containsAnnotation(type, type.getAnnotations(), Constants.SCOPE_FQ_NAME);
+                boolean containsScope = containsAnnotation(type, context.getSnapshot().getAnnotations(type), Constants.SCOPE_FQ_NAME);
                 //Checks if there are any attributes inside the type
                 boolean hasAttributes = type.getMethods().length > 0 || type.getFields().length > 0;
                 if (containsScope && hasAttributes) {
@@ -102,7 +100,7 @@ public class DependencyInjectionDiagnosticsParticipant implements IJavaDiagnosti
                                                         context.getUtils());
                 Set<String> fqNames = new HashSet<>();
                 boolean hasInject = false;
-                for (IAnnotation annotation : field.getAnnotations()) {
+                for (IAnnotation annotation : context.getSnapshot().getAnnotations(field)) {
                     if (DiagnosticUtils.isMatchedAnnotation(unit, annotation, INJECT_FQ_NAME)) {
                         hasInject = true;
                     } else {
@@ -112,10 +110,10 @@ public class DependencyInjectionDiagnosticsParticipant implements IJavaDiagnosti
                 if (fqNames.equals(Constants.IMPLICIT_QUALIFIERS)) {
                     continue;
                 } else {
-                    List<IAnnotation> qualifiers = getQualifiers(field.getAnnotations(), unit, type);
+                    List<IAnnotation> qualifiers = getQualifiers(context.getSnapshot().getAnnotations(field), unit, type);
                     if (hasInject && qualifiers.size() > 1 && !isCdiScoped) {
                         // To check if inner class's parent is CDI scope annotated, then do not throw the diagnostics for invalid qualifier
-                        if (parent != null && hasCdiScopeAnnotation(parent))
+                        if (parent != null && hasCdiScopeAnnotation(context.getSnapshot(), parent))
                             continue;
                         else
                             diagnostics.add(
@@ -125,7 +123,7 @@ public class DependencyInjectionDiagnosticsParticipant implements IJavaDiagnosti
                                                                      DiagnosticSeverity.Error));
                     }
                 }
-                if (containsAnnotation(type, field.getAnnotations(), INJECT_FQ_NAME)) {
+                if (containsAnnotation(type, context.getSnapshot().getAnnotations(field), INJECT_FQ_NAME)) {
 
                     if (Flags.isFinal(field.getFlags())) {
                         String msg = Messages.getMessage("InjectNoFinalField");
@@ -152,9 +150,9 @@ public class DependencyInjectionDiagnosticsParticipant implements IJavaDiagnosti
 
                 Range range = PositionUtils.toNameRange(method, context.getUtils());
                 int methodFlag = method.getFlags();
-                if (containsAnnotation(type, method.getAnnotations(), INJECT_FQ_NAME)) {
+                if (containsAnnotation(type, context.getSnapshot().getAnnotations(method), INJECT_FQ_NAME)) {
                     for (ILocalVariable param : method.getParameters()) {
-                        IAnnotation[] paramAnnotations = param.getAnnotations();
+                        IAnnotation[] paramAnnotations = context.getSnapshot().getAnnotations(param);
                         Set<String> paramAnnotationsFQNames = Arrays.stream(paramAnnotations).filter(Objects::nonNull).map(ann -> {
                             try {
                                 return ManagedBean.getFullyQualifiedClassName(type, ann.getElementName());
@@ -166,10 +164,10 @@ public class DependencyInjectionDiagnosticsParticipant implements IJavaDiagnosti
                         if (paramAnnotationsFQNames.equals(Constants.IMPLICIT_QUALIFIERS)) {
                             continue;
                         } else {
-                            List<IAnnotation> qualifiers = getQualifiers(param.getAnnotations(), unit, type);
+                            List<IAnnotation> qualifiers = getQualifiers(context.getSnapshot().getAnnotations(param), unit, type);
                             if (qualifiers.size() > 1 && !isCdiScoped) {
                                 // To check if inner class's parent is CDI scope annotated, then do not throw the diagnostics for invalid qualifier
-                                if (parent != null && hasCdiScopeAnnotation(parent))
+                                if (parent != null && hasCdiScopeAnnotation(context.getSnapshot(), parent))
                                     continue;
                                 else
                                     diagnostics.add(
@@ -255,13 +253,14 @@ public class DependencyInjectionDiagnosticsParticipant implements IJavaDiagnosti
     }
 
     /**
+     * @param snapshot
      * @param type
      * @return
      * @throws JavaModelException
      * @description Checks if annotation is CDI bean annotation
      */
-    private boolean hasCdiScopeAnnotation(IType type) throws JavaModelException {
-        return Arrays.stream(type.getAnnotations()).filter(Objects::nonNull).anyMatch(annotation -> {
+    private boolean hasCdiScopeAnnotation(CompilationUnitSnapshot snapshot, IType type) throws JavaModelException {
+        return Arrays.stream(snapshot.getAnnotations(type)).filter(Objects::nonNull).anyMatch(annotation -> {
             try {
                 return isCdiAnnotation(annotation.getElementName(), type);
             } catch (JavaModelException e) {
@@ -358,6 +357,8 @@ public class DependencyInjectionDiagnosticsParticipant implements IJavaDiagnosti
             // Further consideration is required.
             Range range = PositionUtils.toNameRange(variable, context.getUtils());
             IType variableType = ManagedBean.variableSignatureToType(variable);
+            // The checks below depend on the declaration of the injected type
+            context.addDependency(variableType);
 
             // Check if the type is a primitive.
             if (Primitive.isPrimitive(variable)) {
@@ -14,14 +14,14 @@
 package org.eclipse.lsp4jakarta.jdt.internal.ejb;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.Flags;
-import org.eclipse.jdt.core.IAnnotation;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
@@ -29,14 +29,14 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4jakarta.jdt.core.java.CompilationUnitSnapshot;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.helpers.ConstructorInfoDiagnosticHelper;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.AnnotationIds;
 
 import com.google.gson.Gson;
 
@@ -45,18 +45,33 @@ import com.google.gson.Gson;
  */
 public class EjbDiagnosticsParticipant implements IJavaDiagnosticsParticipant {
 
+    private static final AnnotationIds ANNOTATION_IDS = AnnotationIds.getInstance();
+
+    private static final List<String> SESSION_BEAN_ANNOTATIONS = Arrays.asList(Constants.SESSION_BEAN_ANNOTATIONS);
+
+    private static final List<String> SESSION_SYNC_ANNOTATIONS = Arrays.asList(Constants.SESSION_SYNC_ANNOTATIONS);
+
+    private static final List<String> INTERCEPTOR_OR_DECORATOR = Arrays.asList(Constants.INTERCEPTOR_FQ_NAME,
+                                                                              Constants.DECORATOR_FQ_NAME);
+
+    static {
+        // Intern the annotations before the annotations of the snapshots are resolved
+        ANNOTATION_IDS.mask(SESSION_BEAN_ANNOTATIONS);
+        ANNOTATION_IDS.mask(SESSION_SYNC_ANNOTATIONS);
+        ANNOTATION_IDS.mask(INTERCEPTOR_OR_DECORATOR);
+    }
+
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
         String uri = context.getUri();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        ICompilationUnit unit = context.getCompilationUnit();
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
             return diagnostics;
         }
 
-        IType[] types = unit.getAllTypes();
+        IType[] types = context.getSnapshot().getAllTypes();
         for (IType type : types) {
             // Check if the operation has been cancelled by the user
             if (monitor.isCanceled()) {
@@ -67,10 +82,8 @@ public class EjbDiagnosticsParticipant implements IJavaDiagnosticsParticipant {
                 continue;
             }
 
-            String[] typeAnnotations = Stream.of(type.getAnnotations()).map(annotation -> annotation.getElementName()).toArray(String[]::new);
-            List<String> sessionBeanAnnotations = DiagnosticUtils.getMatchedJavaElementNames(type,
-                                                                                             typeAnnotations,
-                                                                                             Constants.SESSION_BEAN_ANNOTATIONS);
+            BitSet typeAnnotations = context.getSnapshot().getAnnotationIds(type, type);
+            List<String> sessionBeanAnnotations = ANNOTATION_IDS.getNames(typeAnnotations, SESSION_BEAN_ANNOTATIONS);
 
             if (!sessionBeanAnnotations.isEmpty()) {
                 int typeFlags = type.getFlags();
@@ -112,12 +125,7 @@ public class EjbDiagnosticsParticipant implements IJavaDiagnosticsParticipant {
                                                              DiagnosticSeverity.Error));
                 }
                 // Check for @Interceptor or @Decorator annotations
-                List<String> invalidAnnotations = DiagnosticUtils.getMatchedJavaElementNames(type,
-                                                                                             typeAnnotations,
-                                                                                             new String[] {
-                                                                                                            Constants.INTERCEPTOR_FQ_NAME,
-                                                                                                            Constants.DECORATOR_FQ_NAME
-                                                                                             });
+                List<String> invalidAnnotations = ANNOTATION_IDS.getNames(typeAnnotations, INTERCEPTOR_OR_DECORATOR);
 
                 if (!invalidAnnotations.isEmpty()) {
                     String message = Messages.getMessage("InvalidSessionBeanWithInterceptorOrDecorator");
@@ -161,7 +169,7 @@ public class EjbDiagnosticsParticipant implements IJavaDiagnosticsParticipant {
                                             ICompilationUnit unit, IType type,
                                             List<Diagnostic> diagnostics) throws JavaModelException {
         for (IMethod method : type.getMethods()) {
-            List<String> matchedAnnotations = getSessionSyncAnnotations(unit, type, method);
+            List<String> matchedAnnotations = getSessionSyncAnnotations(context.getSnapshot(), type, method);
             if (matchedAnnotations.isEmpty()) {
                 continue;
             }
@@ -225,17 +233,15 @@ public class EjbDiagnosticsParticipant implements IJavaDiagnosticsParticipant {
      * Returns the list of session synchronization annotation FQ names present on
      * the given method.
      *
-     * @param unit the compilation unit
+     * @param snapshot the snapshot of the compilation unit
      * @param type the declaring type
      * @param method the method to check
      * @return matched session sync annotation FQ names, never null
      * @throws JavaModelException if there is an error accessing the Java model
      */
-    private List<String> getSessionSyncAnnotations(ICompilationUnit unit, IType type,
+    private List<String> getSessionSyncAnnotations(CompilationUnitSnapshot snapshot, IType type,
                                                    IMethod method) throws JavaModelException {
-        String[] methodAnnotationNames = Stream.of(method.getAnnotations()).map(IAnnotation::getElementName).toArray(String[]::new);
-        return DiagnosticUtils.getMatchedJavaElementNames(type, methodAnnotationNames,
-                                                          Constants.SESSION_SYNC_ANNOTATIONS);
+        return ANNOTATION_IDS.getNames(snapshot.getAnnotationIds(type, method), SESSION_SYNC_ANNOTATIONS);
     }
 
     /**
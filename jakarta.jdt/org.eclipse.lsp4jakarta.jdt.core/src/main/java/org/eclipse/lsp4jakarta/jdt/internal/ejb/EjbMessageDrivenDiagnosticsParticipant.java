@@ -30,11 +30,9 @@ import static org.eclipse.lsp4jakarta.jdt.core.ejb.EjbConstants.MESSAGE_LISTENER
 
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 
 /**
  * Jakarta Enterprise Beans @MessageDriven annotation diagnostic participant.
@@ -50,19 +48,18 @@ public class EjbMessageDrivenDiagnosticsParticipant implements IJavaDiagnosticsP
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        ICompilationUnit unit = context.getCompilationUnit();
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
             return diagnostics;
         }
 
-        for (IType type : unit.getAllTypes()) {
+        for (IType type : context.getSnapshot().getAllTypes()) {
             IAnnotation messageDrivenAnnotation = null;
 
             // Check if the class has @MessageDriven annotation
-            for (IAnnotation annotation : type.getAnnotations()) {
+            for (IAnnotation annotation : context.getSnapshot().getAnnotations(type)) {
                 if (DiagnosticUtils.isMatchedJavaElement(type, annotation.getElementName(),
                                                          MESSAGE_DRIVEN_FQ_NAME)) {
                     messageDrivenAnnotation = annotation;
@@ -26,11 +26,9 @@ import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 
 /**
  * {@code @FacesValidator} annotation diagnostic participant.
@@ -43,16 +41,15 @@ public class FacesDiagnosticsParticipant implements IJavaDiagnosticsParticipant
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        ICompilationUnit unit = context.getCompilationUnit();
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
             return diagnostics;
         }
 
-        for (IType type : unit.getAllTypes()) {
-            IAnnotation[] allAnnotations = type.getAnnotations();
+        for (IType type : context.getSnapshot().getAllTypes()) {
+            IAnnotation[] allAnnotations = context.getSnapshot().getAnnotations(type);
             boolean isFacesValidatorAnnotated = false;
 
             for (IAnnotation annotation : allAnnotations) {
@@ -14,11 +14,11 @@
 package org.eclipse.lsp4jakarta.jdt.internal.interceptor;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -39,14 +39,14 @@ import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.commons.utils.InterModuleCommonUtils;
 import org.eclipse.lsp4jakarta.jdt.core.ASTUtils;
+import org.eclipse.lsp4jakarta.jdt.core.java.CompilationUnitSnapshot;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.helpers.ConstructorInfoDiagnosticHelper;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.AnnotationIds;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.ManagedBean;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -61,18 +61,26 @@ public class InterceptorDiagnosticsParticipant implements IJavaDiagnosticsPartic
 
     private static final Logger LOGGER = Logger.getLogger(InterceptorDiagnosticsParticipant.class.getName());
 
+    private static final AnnotationIds ANNOTATION_IDS = AnnotationIds.getInstance();
+
+    private static final BitSet LIFECYCLE_CALLBACKS = ANNOTATION_IDS.mask(Constants.LIFECYCLE_CALLBACK_INTERCEPTOR_METHODS);
+
+    static {
+        // Intern the annotations before the annotations of the snapshots are resolved
+        ANNOTATION_IDS.mask(Constants.INTERCEPTOR_METHODS);
+    }
+
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        ICompilationUnit unit = context.getCompilationUnit();
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
             return diagnostics;
         }
 
-        IType[] types = unit.getAllTypes();
+        IType[] types = context.getSnapshot().getAllTypes();
         for (IType type : types) {
             int typeFlag = type.getFlags();
             boolean isInterceptorType = InterModuleCommonUtils.isInterceptorReferencedType(type, unit);
@@ -110,7 +118,7 @@ public class InterceptorDiagnosticsParticipant implements IJavaDiagnosticsPartic
                     validateInterceptorMethodModifiers(context, uri, diagnostics, type, method);
 
                     // Collect methods by annotation type for duplicate detection
-                    List<String> interceptorAnnotations = getInterceptorMethodAnnotations(type, method);
+                    List<String> interceptorAnnotations = getInterceptorMethodAnnotations(context.getSnapshot(), type, method);
                     for (String annotationFqn : interceptorAnnotations) {
                         methodsByAnnotation.computeIfAbsent(annotationFqn, k -> new ArrayList<>()).add(method);
                     }
@@ -120,7 +128,7 @@ public class InterceptorDiagnosticsParticipant implements IJavaDiagnosticsPartic
                 validateUniqueInterceptorMethods(context, uri, diagnostics, methodsByAnnotation);
             }
         }
-        List<MethodDeclaration> allMethodDeclarations = ASTUtils.getMethodDeclarations(unit);
+        List<MethodDeclaration> allMethodDeclarations = context.getSnapshot().getMethodDeclarations();
         //Used to get the list of method declarations for interceptor methods that doesn't use proceed method
         List<MethodDeclaration> invocationContextMethodInvocations = allMethodDeclarations.stream().filter(methodDecl -> {
             try {
@@ -195,7 +203,7 @@ public class InterceptorDiagnosticsParticipant implements IJavaDiagnosticsPartic
     private void validateInterceptorMethodModifiers(JavaDiagnosticsContext context, String uri,
                                                     List<Diagnostic> diagnostics, IType type,
                                                     IMethod method) throws JavaModelException {
-        List<String> interceptorAnnotations = getInterceptorMethodAnnotations(type, method);
+        List<String> interceptorAnnotations = getInterceptorMethodAnnotations(context.getSnapshot(), type, method);
 
         if (interceptorAnnotations.isEmpty()) {
             return;
@@ -228,15 +236,15 @@ public class InterceptorDiagnosticsParticipant implements IJavaDiagnosticsPartic
     /**
      * Gets the list of interceptor method annotations present on a method.
      *
+     * @param snapshot the snapshot of the compilation unit
      * @param type the declaring type
      * @param method the method to check
      * @return list of matched interceptor annotation FQ names
      * @throws JavaModelException if there's an error accessing the Java model
      */
-    private List<String> getInterceptorMethodAnnotations(IType type, IMethod method) throws JavaModelException {
-        return DiagnosticUtils.getMatchedJavaElementNames(type,
-                                                          Stream.of(method.getAnnotations()).map(IAnnotation::getElementName).toArray(String[]::new),
-                                                          Constants.INTERCEPTOR_METHODS.toArray(String[]::new));
+    private List<String> getInterceptorMethodAnnotations(CompilationUnitSnapshot snapshot, IType type,
+                                                         IMethod method) throws JavaModelException {
+        return ANNOTATION_IDS.getNames(snapshot.getAnnotationIds(type, method), Constants.INTERCEPTOR_METHODS);
     }
 
     /**
@@ -256,9 +264,7 @@ public class InterceptorDiagnosticsParticipant implements IJavaDiagnosticsPartic
     private void validateStaticModifier(JavaDiagnosticsContext context, String uri,
                                         List<Diagnostic> diagnostics, IType type, IMethod method, String annotationNames,
                                         JsonArray annotationData, List<String> interceptorAnnotations) throws JavaModelException {
-        boolean isLifecycleCallback = !DiagnosticUtils.getMatchedJavaElementNames(type,
-                                                                                  Stream.of(method.getAnnotations()).map(IAnnotation::getElementName).toArray(String[]::new),
-                                                                                  Constants.LIFECYCLE_CALLBACK_INTERCEPTOR_METHODS).isEmpty();
+        boolean isLifecycleCallback = context.getSnapshot().getAnnotationIds(type, method).intersects(LIFECYCLE_CALLBACKS);
 
         if (isLifecycleCallback) {
             createMethodModifierDiagnostic(context, uri, diagnostics, method, annotationNames,
@@ -349,7 +355,7 @@ public class InterceptorDiagnosticsParticipant implements IJavaDiagnosticsPartic
     private void checkNegativePriority(IType type, ICompilationUnit unit, String uri,
                                        List<Diagnostic> diagnostics, JavaDiagnosticsContext context) throws JavaModelException {
         IAnnotation priorityAnnotation = null;
-        for (IAnnotation annotation : type.getAnnotations()) {
+        for (IAnnotation annotation : context.getSnapshot().getAnnotations(type)) {
             if (DiagnosticUtils.isMatchedAnnotation(unit, annotation, PRIORITY_FQ_NAME)) {
                 priorityAnnotation = annotation;
                 break;
@@ -391,7 +397,7 @@ public class InterceptorDiagnosticsParticipant implements IJavaDiagnosticsPartic
                                          List<Diagnostic> diagnostics, JavaDiagnosticsContext context) throws JavaModelException {
         boolean hasInterceptorBinding = false;
         // Get all annotations on the interceptor class
-        IAnnotation[] annotations = type.getAnnotations();
+        IAnnotation[] annotations = context.getSnapshot().getAnnotations(type);
         for (IAnnotation annotation : annotations) {
             // Check if this annotation is an interceptor binding
             if (ManagedBean.hasMetaAnnotation(annotation, type, unit, Constants.INTERCEPTOR_BINDING_FQ_NAME)) {
@@ -58,7 +58,7 @@ public class ClassConstructorDiagnosticsParticipant implements IJavaDiagnosticsP
                 }
                 boolean isRootResource = false;
                 boolean isProviderResource = false;
-                IAnnotation[] annotationList = type.getAnnotations();
+                IAnnotation[] annotationList = context.getSnapshot().getAnnotations(type);
 
                 for (IAnnotation annotation : annotationList) {
                     String matchedAnnotation = DiagnosticUtils.getMatchedJavaElementName(type,
@@ -30,12 +30,10 @@ import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.ManagedBean;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 
 public class JaxrsDiagnosticsParticipant implements IJavaDiagnosticsParticipant {
 
@@ -44,15 +42,14 @@ public class JaxrsDiagnosticsParticipant implements IJavaDiagnosticsParticipant
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        ICompilationUnit unit = context.getCompilationUnit();
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
             return diagnostics;
         }
 
-        IType[] alltypes = unit.getAllTypes();
+        IType[] alltypes = context.getSnapshot().getAllTypes();
 
         for (IType type : alltypes) {
             if (!type.isClass()) {
@@ -61,7 +58,7 @@ public class JaxrsDiagnosticsParticipant implements IJavaDiagnosticsParticipant
 
             boolean isJaxrsClass = false;
             // Iterate class level annotations
-            for (IAnnotation annotation : type.getAnnotations()) {
+            for (IAnnotation annotation : context.getSnapshot().getAnnotations(type)) {
                 isJaxrsClass = DiagnosticUtils.isMatchedJavaElement(type, annotation.getElementName(),
                                                                     Constants.PATH_ANNOTATION);
             }
@@ -86,7 +83,7 @@ public class JaxrsDiagnosticsParticipant implements IJavaDiagnosticsParticipant
         for (IMethod method : methods) {
             if (DiagnosticUtils.isConstructorMethod(method) || validateSetterMethod(method)) {
                 for (ILocalVariable param : method.getParameters()) {
-                    Stream.of(param.getAnnotations()).filter(paramAnnotation -> {
+                    Stream.of(context.getSnapshot().getAnnotations(param)).filter(paramAnnotation -> {
                         try {
                             return ManagedBean.hasMetaAnnotation(paramAnnotation, type, unit,
                                                                  Constants.CONSTRAINT_ANNOTATION);
@@ -66,7 +66,7 @@ public class ResourceMethodDiagnosticsParticipant implements IJavaDiagnosticsPar
                 boolean isInterface = type.isInterface();
 
                 for (IMethod method : methods) {
-                    IAnnotation[] methodAnnotations = method.getAnnotations();
+                    IAnnotation[] methodAnnotations = context.getSnapshot().getAnnotations(method);
                     boolean isResourceMethod = false;
                     boolean isValid = true;
                     boolean isPublic = Flags.isPublic(method.getFlags());
@@ -95,7 +95,7 @@ public class ResourceMethodDiagnosticsParticipant implements IJavaDiagnosticsPar
                         ILocalVariable[] parameters = method.getParameters();
                         for (ILocalVariable param : parameters) {
                             boolean isEntityParam = true;
-                            IAnnotation[] annotations = param.getAnnotations();
+                            IAnnotation[] annotations = context.getSnapshot().getAnnotations(param);
                             for (IAnnotation annotation : annotations) {
                                 String matchedAnnotation = DiagnosticUtils.getMatchedJavaElementName(type,
                                                                                                      annotation.getElementName(), Constants.SET_OF_NON_ENTITY_PARAM_ANNOTATIONS);
@@ -47,16 +47,15 @@ import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.jdt.core.ASTUtils;
 import org.eclipse.lsp4jakarta.commons.utils.JsonPropertyUtils;
 import org.eclipse.lsp4jakarta.jdt.core.ASTUtils;
+import org.eclipse.lsp4jakarta.jdt.core.java.CompilationUnitSnapshot;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaErrorCode;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.helpers.ConstructorInfoDiagnosticHelper;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.TypeHierarchyUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 import static java.util.stream.Collectors.toList;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -73,15 +72,14 @@ public class JsonbDiagnosticsParticipant implements IJavaDiagnosticsParticipant
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        ICompilationUnit unit = context.getCompilationUnit();
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
             return diagnostics;
         }
 
-        IType[] types = unit.getAllTypes();
+        IType[] types = context.getSnapshot().getAllTypes();
         IMethod[] methods;
         IAnnotation[] allAnnotations;
         boolean jsonbtypeParent = false; //Variable for checking parent class is JSONB type or not
@@ -106,7 +104,7 @@ public class JsonbDiagnosticsParticipant implements IJavaDiagnosticsParticipant
             // methods
             for (IMethod method : type.getMethods()) {
                 if (DiagnosticUtils.isConstructorMethod(method) || Flags.isStatic(method.getFlags())) {
-                    allAnnotations = method.getAnnotations();
+                    allAnnotations = context.getSnapshot().getAnnotations(method);
                     for (IAnnotation annotation : allAnnotations) {
                         if (DiagnosticUtils.isMatchedJavaElement(type, annotation.getElementName(),
                                                                  Constants.JSONB_CREATOR))
@@ -134,7 +132,7 @@ public class JsonbDiagnosticsParticipant implements IJavaDiagnosticsParticipant
             Set<String> uniquePropertyNames = new LinkedHashSet<String>();
             //Checks whether parent class is JSONB type by checking class level annotations
             if (!isInnerClass) {
-                jsonbtypeParent = Arrays.stream(type.getAnnotations()).anyMatch(annotation -> {
+                jsonbtypeParent = Arrays.stream(context.getSnapshot().getAnnotations(type)).anyMatch(annotation -> {
                     try {
                         return JsonPropertyUtils.isJsonbType(type, annotation);
                     } catch (JavaModelException e) {
@@ -150,7 +148,7 @@ public class JsonbDiagnosticsParticipant implements IJavaDiagnosticsParticipant
             for (IField field : type.getFields()) {
                 //Checks whether class fields have JSONB annotations
                 if (!isInnerClass && !jsonbtypeParent) {
-                    jsonbtypeParent = Arrays.stream(field.getAnnotations()).anyMatch(annotation -> {
+                    jsonbtypeParent = Arrays.stream(context.getSnapshot().getAnnotations(field)).anyMatch(annotation -> {
                         try {
                             return JsonPropertyUtils.isJsonbType(type, annotation);
                         } catch (JavaModelException e) {
@@ -203,7 +201,7 @@ public class JsonbDiagnosticsParticipant implements IJavaDiagnosticsParticipant
      */
     private void collectJsonbFromJsonNullParameterDiagnostics(ICompilationUnit unit, JavaDiagnosticsContext context,
                                                               String uri, List<Diagnostic> diagnostics) throws JavaModelException {
-        List<MethodInvocation> allMethodInvocations = ASTUtils.getMethodInvocations(unit);
+        List<MethodInvocation> allMethodInvocations = context.getSnapshot().getMethodInvocations();
         List<MethodInvocation> fromJsonInvocations = allMethodInvocations.stream().filter(mi -> isMatchedJsonbFromJson(mi)).collect(toList());
 
         for (MethodInvocation methodInvocation : fromJsonInvocations) {
@@ -272,7 +270,7 @@ public class JsonbDiagnosticsParticipant implements IJavaDiagnosticsParticipant
      */
     private void collectClosableDiagnostics(JavaDiagnosticsContext context, String uri, List<Diagnostic> diagnostics,
                                             ICompilationUnit unit) throws JavaModelException {
-        List<MethodInvocation> allMethodInvocations = ASTUtils.getMethodInvocations(unit);
+        List<MethodInvocation> allMethodInvocations = context.getSnapshot().getMethodInvocations();
         Map<MethodDeclaration, JsonbThreadSafetyAnalysis> analysisMap = new HashMap<>();
         Map<MethodInvocation, IMethodBinding> bindingCache = new HashMap<>(allMethodInvocations.size());
         for (MethodInvocation methodInvocation : allMethodInvocations) {
@@ -564,7 +562,7 @@ public class JsonbDiagnosticsParticipant implements IJavaDiagnosticsParticipant
                                                            JavaDiagnosticsContext context, String uri, List<Diagnostic> diagnostics, IType type) throws JavaModelException {
         Set<IType> hierarchy = new LinkedHashSet<>();
         TypeHierarchyUtils.collectSuperTypes(type, hierarchy);
-        Map<String, List<IField>> jsonbMap = buildPropertyMap(uniquePropertyNames, hierarchy, unit);
+        Map<String, List<IField>> jsonbMap = buildPropertyMap(context.getSnapshot(), uniquePropertyNames, hierarchy, unit);
         for (Map.Entry<String, List<IField>> entry : jsonbMap.entrySet()) { // Iterates through set of all key values pairs inside the map
             List<IField> fields = entry.getValue();
             if (fields.size() > Constants.MAX_DUPLICATE_PROPERTY_COUNT) {
@@ -577,17 +575,18 @@ public class JsonbDiagnosticsParticipant implements IJavaDiagnosticsParticipant
     }
 
     /**
+     * @param snapshot
      * @param uniquePropertyNames
      * @param hierarchy
      * @return Map<String, List<IField>> jsonbMap
      * @throws JavaModelException
      * @description This method collects the property name and fields using the same name if it's duplicated and builds it into a Map.
      */
-    private Map<String, List<IField>> buildPropertyMap(Set<String> uniquePropertyNames, Set<IType> hierarchy, ICompilationUnit unit) throws JavaModelException {
+    private Map<String, List<IField>> buildPropertyMap(CompilationUnitSnapshot snapshot, Set<String> uniquePropertyNames, Set<IType> hierarchy, ICompilationUnit unit) throws JavaModelException {
         Map<String, List<IField>> jsonbMap = new HashMap<>();
         for (IType finaltype : hierarchy) {
             for (IField field : finaltype.getFields()) { // Iterates through all fields in super and subclass
-                for (IAnnotation annotation : field.getAnnotations()) {
+                for (IAnnotation annotation : snapshot.getAnnotations(field)) {
                     if (DiagnosticUtils.isMatchedAnnotation(unit, annotation, Constants.JSONB_PROPERTY)) {
                         String propertyName = JsonPropertyUtils.extractPropertyNameFromJsonField(annotation);
                         if (propertyName != null) {
@@ -618,7 +617,7 @@ public class JsonbDiagnosticsParticipant implements IJavaDiagnosticsParticipant
      */
     private Set<String> collectJsonbUniquePropertyNames(ICompilationUnit unit, JavaDiagnosticsContext context, String uri,
                                                         List<Diagnostic> diagnostics, IType type, Set<String> propertyNames, IField field) throws JavaModelException {
-        for (IAnnotation annotation : field.getAnnotations()) {
+        for (IAnnotation annotation : context.getSnapshot().getAnnotations(field)) {
             if (DiagnosticUtils.isMatchedAnnotation(unit, annotation, Constants.JSONB_PROPERTY)) { // Checks whether annotation is JsonbProperty
                 String propertyName = JsonPropertyUtils.extractPropertyNameFromJsonField(annotation);
                 if (propertyName != null) {
@@ -642,7 +641,7 @@ public class JsonbDiagnosticsParticipant implements IJavaDiagnosticsParticipant
     private void createJsonbPropertyUniquenessDiagnostics(JavaDiagnosticsContext context, String uri,
                                                           List<Diagnostic> diagnostics, IField field, IType type) throws JavaModelException {
         String msg = Messages.getMessage("ErrorMessageJsonbPropertyUniquenessField");
-        List<String> jsonbAnnotationsForField = getJsonbAnnotationNames(type, field);
+        List<String> jsonbAnnotationsForField = getJsonbAnnotationNames(context.getSnapshot(), type, field);
         Range range = PositionUtils.toNameRange(field, context.getUtils());
         diagnostics.add(context.createDiagnostic(uri, msg, range, Constants.DIAGNOSTIC_SOURCE,
                                                  (JsonArray) (new Gson().toJsonTree(jsonbAnnotationsForField)),
@@ -651,14 +650,14 @@ public class JsonbDiagnosticsParticipant implements IJavaDiagnosticsParticipant
 
     private void collectJsonbTransientFieldDiagnostics(JavaDiagnosticsContext context, String uri,
                                                        ICompilationUnit unit, IType type, List<Diagnostic> diagnostics, IField field) throws JavaModelException {
-        List<String> jsonbAnnotationsForField = getJsonbAnnotationNames(type, field);
+        List<String> jsonbAnnotationsForField = getJsonbAnnotationNames(context.getSnapshot(), type, field);
         if (jsonbAnnotationsForField.contains(Constants.JSONB_TRANSIENT_FQ_NAME)) {
             boolean hasAccessorConflict = false;
             // Diagnostics on the accessors of the field are created when they are
             // annotated with Jsonb annotations other than JsonbTransient.
             List<IMethod> accessors = DiagnosticUtils.getFieldAccessors(unit, field);
             for (IMethod accessor : accessors) {
-                List<String> jsonbAnnotationsForAccessor = getJsonbAnnotationNames(type, accessor);
+                List<String> jsonbAnnotationsForAccessor = getJsonbAnnotationNames(context.getSnapshot(), type, accessor);
                 if (hasJsonbAnnotationOtherThanTransient(jsonbAnnotationsForAccessor)) {
                     Range range = PositionUtils.toNameRange(accessor, context.getUtils());
                     createJsonbTransientDiagnostic(context, uri, range, unit, diagnostics, accessor,
@@ -682,10 +681,10 @@ public class JsonbDiagnosticsParticipant implements IJavaDiagnosticsParticipant
                                                           ICompilationUnit unit, IType type,
                                                           List<Diagnostic> diagnostics, IField field) throws JavaModelException {
         boolean createDiagnosticForField = false;
-        List<String> jsonbAnnotationsForField = getJsonbAnnotationNames(type, field);
+        List<String> jsonbAnnotationsForField = getJsonbAnnotationNames(context.getSnapshot(), type, field);
         List<IMethod> accessors = DiagnosticUtils.getFieldAccessors(unit, field);
         for (IMethod accessor : accessors) {
-            List<String> jsonbAnnotationsForAccessor = getJsonbAnnotationNames(type, accessor);
+            List<String> jsonbAnnotationsForAccessor = getJsonbAnnotationNames(context.getSnapshot(), type, accessor);
             boolean hasFieldConflict = false;
             if (jsonbAnnotationsForAccessor.contains(Constants.JSONB_TRANSIENT_FQ_NAME)) {
                 // Diagnostic is created if the field of this accessor has a annotation other
@@ -733,9 +732,10 @@ public class JsonbDiagnosticsParticipant implements IJavaDiagnosticsParticipant
         return true;
     }
 
-    private List<String> getJsonbAnnotationNames(IType type, IAnnotatable annotable) throws JavaModelException {
+    private List<String> getJsonbAnnotationNames(CompilationUnitSnapshot snapshot, IType type,
+                                                 IAnnotatable annotable) throws JavaModelException {
         List<String> jsonbAnnotationNames = new ArrayList<String>();
-        IAnnotation annotations[] = annotable.getAnnotations();
+        IAnnotation annotations[] = snapshot.getAnnotations(annotable);
         for (IAnnotation annotation : annotations) {
             String matchedAnnotation = DiagnosticUtils.getMatchedJavaElementName(type, annotation.getElementName(),
                                                                                  Constants.JSONB_ANNOTATIONS.toArray(String[]::new));
@@ -36,14 +36,13 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4jakarta.jdt.core.java.CompilationUnitSnapshot;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.TypeHierarchyUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 
 /**
  * Persistence diagnostic participant for {@code @PersistenceContext} injection rules.
@@ -76,17 +75,16 @@ public class PersistenceContextDiagnosticsParticipant implements IJavaDiagnostic
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        ICompilationUnit unit = context.getCompilationUnit();
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
             return diagnostics;
         }
 
-        for (IType type : unit.getAllTypes()) {
+        for (IType type : context.getSnapshot().getAllTypes()) {
             // Check @PersistenceContext on the type itself
-            IAnnotation typeAnnotation = findPersistenceContextAnnotation(unit, type.getAnnotations());
+            IAnnotation typeAnnotation = findPersistenceContextAnnotation(unit, context.getSnapshot().getAnnotations(type));
             if (typeAnnotation != null) {
                 checkAnnotation(context, uri, unit, type, PositionUtils.toNameRange(type, context.getUtils()),
                                 typeAnnotation, diagnostics);
@@ -94,7 +92,7 @@ public class PersistenceContextDiagnosticsParticipant implements IJavaDiagnostic
 
             // Check @PersistenceContext on fields
             for (IField field : type.getFields()) {
-                IAnnotation fieldAnnotation = findPersistenceContextAnnotation(unit, field.getAnnotations());
+                IAnnotation fieldAnnotation = findPersistenceContextAnnotation(unit, context.getSnapshot().getAnnotations(field));
                 if (fieldAnnotation != null) {
                     checkAnnotation(context, uri, unit, type, PositionUtils.toNameRange(field, context.getUtils()),
                                     fieldAnnotation, diagnostics);
@@ -103,7 +101,7 @@ public class PersistenceContextDiagnosticsParticipant implements IJavaDiagnostic
 
             // Check @PersistenceContext on methods
             for (IMethod method : type.getMethods()) {
-                IAnnotation methodAnnotation = findPersistenceContextAnnotation(unit, method.getAnnotations());
+                IAnnotation methodAnnotation = findPersistenceContextAnnotation(unit, context.getSnapshot().getAnnotations(method));
                 if (methodAnnotation != null) {
                     checkAnnotation(context, uri, unit, type, PositionUtils.toNameRange(method, context.getUtils()),
                                     methodAnnotation, diagnostics);
@@ -119,7 +117,7 @@ public class PersistenceContextDiagnosticsParticipant implements IJavaDiagnostic
     private void checkAnnotation(JavaDiagnosticsContext context, String uri, ICompilationUnit unit, IType type,
                                  Range range, IAnnotation pcAnnotation, List<Diagnostic> diagnostics) throws CoreException {
         // Rule 1: the enclosing class must be a container-managed component.
-        if (!isManagedComponent(unit, type)) {
+        if (!isManagedComponent(context.getSnapshot(), unit, type)) {
             diagnostics.add(context.createDiagnostic(uri,
                                                      Messages.getMessage("PersistenceContextNotInManagedComponent"),
                                                      range, Constants.DIAGNOSTIC_SOURCE, null,
@@ -129,7 +127,7 @@ public class PersistenceContextDiagnosticsParticipant implements IJavaDiagnostic
 
         // Rule 2: EXTENDED is only valid in a @Stateful EJB.
         if (isExtendedContext(pcAnnotation)
-            && !DiagnosticUtils.isMatchedAnnotation(unit, type.getAnnotations(), STATEFUL_FQ_NAME)) {
+            && !DiagnosticUtils.isMatchedAnnotation(unit, context.getSnapshot().getAnnotations(type), STATEFUL_FQ_NAME)) {
             diagnostics.add(context.createDiagnostic(uri,
                                                      Messages.getMessage("ExtendedPersistenceContextInNonStatefulBean"),
                                                      range, Constants.DIAGNOSTIC_SOURCE, null,
@@ -160,8 +158,8 @@ public class PersistenceContextDiagnosticsParticipant implements IJavaDiagnostic
      * <li>Inherits from {@code HttpServlet} (checked via {@link TypeHierarchyUtils})</li>
      * </ul>
      */
-    private boolean isManagedComponent(ICompilationUnit unit, IType type) throws CoreException {
-        IAnnotation[] typeAnnotations = type.getAnnotations();
+    private boolean isManagedComponent(CompilationUnitSnapshot snapshot, ICompilationUnit unit, IType type) throws CoreException {
+        IAnnotation[] typeAnnotations = snapshot.getAnnotations(type);
 
         return MANAGED_COMPONENT_ANNOTATIONS.stream().anyMatch(fqn -> {
             try {
@@ -22,7 +22,6 @@ import java.util.logging.Logger;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jdt.core.Flags;
 
 /**
@@ -45,14 +44,13 @@ import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.JDTTypeUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.helpers.ConstructorInfoDiagnosticHelper;
 import org.eclipse.lsp4jakarta.jdt.core.utils.TypeHierarchyUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SupertypeHierarchyCache;
 
 /**
  * Persistence diagnostic participant that manages the use of @Entity
@@ -68,8 +66,7 @@ public class PersistenceEntityDiagnosticsParticipant implements IJavaDiagnostics
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        ICompilationUnit unit = context.getCompilationUnit();
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
@@ -79,9 +76,9 @@ public class PersistenceEntityDiagnosticsParticipant implements IJavaDiagnostics
         IType[] alltypes;
         IAnnotation[] allAnnotations;
 
-        alltypes = unit.getAllTypes();
+        alltypes = context.getSnapshot().getAllTypes();
         for (IType type : alltypes) {
-            allAnnotations = type.getAnnotations();
+            allAnnotations = context.getSnapshot().getAnnotations(type);
 
             IAnnotation EntityAnnotation = null;
             IAnnotation inheritanceAnnotation = null;
@@ -108,12 +105,12 @@ public class PersistenceEntityDiagnosticsParticipant implements IJavaDiagnostics
                 // Get the Methods of the annotated Class
                 for (IMethod method : type.getMethods()) {
                     // check @version annotation usage on methods
-                    if (DiagnosticUtils.isMatchedAnnotation(unit, method.getAnnotations(), Constants.VERSION)) {
+                    if (DiagnosticUtils.isMatchedAnnotation(unit, context.getSnapshot().getAnnotations(method), Constants.VERSION)) {
                         versionMembers.add(method);
                         validateFieldOrPropertyType(method, type, diagnostics, context, Constants.VERSION);
                     }
                     // check @Id annotation usage on methods
-                    if (DiagnosticUtils.isMatchedAnnotation(unit, method.getAnnotations(), Constants.ID)) {
+                    if (DiagnosticUtils.isMatchedAnnotation(unit, context.getSnapshot().getAnnotations(method), Constants.ID)) {
                         validateFieldOrPropertyType(method, type, diagnostics, context, Constants.ID);
                     }
 
@@ -127,15 +124,15 @@ public class PersistenceEntityDiagnosticsParticipant implements IJavaDiagnostics
                     }
 
                     // Check if any method has @Id or @EmbeddedId annotation
-                    if (!hasPrimaryKey && hasPrimaryKeyAnnotation(type, method.getAnnotations())) {
+                    if (!hasPrimaryKey && hasPrimaryKeyAnnotation(type, context.getSnapshot().getAnnotations(method))) {
                         hasPrimaryKey = true;
                     }
 
                     // Track @EmbeddedId and @Id members for identifier conflict checks
-                    if (DiagnosticUtils.isMatchedAnnotation(unit, method.getAnnotations(), Constants.EMBEDDEDID)) {
+                    if (DiagnosticUtils.isMatchedAnnotation(unit, context.getSnapshot().getAnnotations(method), Constants.EMBEDDEDID)) {
                         embeddedIdMembers.add(method);
                     }
-                    if (DiagnosticUtils.isMatchedAnnotation(unit, method.getAnnotations(), Constants.ID)) {
+                    if (DiagnosticUtils.isMatchedAnnotation(unit, context.getSnapshot().getAnnotations(method), Constants.ID)) {
                         idMembers.add(method);
                     }
 
@@ -147,12 +144,12 @@ public class PersistenceEntityDiagnosticsParticipant implements IJavaDiagnostics
                 for (IField field : type.getFields()) {
 
                     // check @version annotation usage on fields
-                    if (DiagnosticUtils.isMatchedAnnotation(unit, field.getAnnotations(), Constants.VERSION)) {
+                    if (DiagnosticUtils.isMatchedAnnotation(unit, context.getSnapshot().getAnnotations(field), Constants.VERSION)) {
                         versionMembers.add(field);
                         validateFieldOrPropertyType(field, type, diagnostics, context, Constants.VERSION);
                     }
                     // check @Id annotation usage on fields
-                    if (DiagnosticUtils.isMatchedAnnotation(unit, field.getAnnotations(), Constants.ID)) {
+                    if (DiagnosticUtils.isMatchedAnnotation(unit, context.getSnapshot().getAnnotations(field), Constants.ID)) {
                         validateFieldOrPropertyType(field, type, diagnostics, context, Constants.ID);
                     }
 
@@ -171,15 +168,15 @@ public class PersistenceEntityDiagnosticsParticipant implements IJavaDiagnostics
                     }
 
                     // Check if any field has @Id or @EmbeddedId annotation
-                    if (!hasPrimaryKey && hasPrimaryKeyAnnotation(type, field.getAnnotations())) {
+                    if (!hasPrimaryKey && hasPrimaryKeyAnnotation(type, context.getSnapshot().getAnnotations(field))) {
                         hasPrimaryKey = true;
                     }
 
                     // Track @EmbeddedId and @Id members for identifier conflict checks
-                    if (DiagnosticUtils.isMatchedAnnotation(unit, field.getAnnotations(), Constants.EMBEDDEDID)) {
+                    if (DiagnosticUtils.isMatchedAnnotation(unit, context.getSnapshot().getAnnotations(field), Constants.EMBEDDEDID)) {
                         embeddedIdMembers.add(field);
                     }
-                    if (DiagnosticUtils.isMatchedAnnotation(unit, field.getAnnotations(), Constants.ID)) {
+                    if (DiagnosticUtils.isMatchedAnnotation(unit, context.getSnapshot().getAnnotations(field), Constants.ID)) {
                         idMembers.add(field);
                     }
 
@@ -321,11 +318,11 @@ public class PersistenceEntityDiagnosticsParticipant implements IJavaDiagnostics
         Range range = null;
 
         if (member instanceof IMethod) {
-            allAnnotations = ((IMethod) member).getAnnotations();
+            allAnnotations = context.getSnapshot().getAnnotations((IMethod) member);
             typeFQ = JDTTypeUtils.getResolvedResultTypeName((IMethod) member);
             range = PositionUtils.toNameRange((IMethod) member, context.getUtils());
         } else if (member instanceof IField) {
-            allAnnotations = ((IField) member).getAnnotations();
+            allAnnotations = context.getSnapshot().getAnnotations((IField) member);
             typeFQ = JDTTypeUtils.getResolvedTypeName((IField) member);
             range = PositionUtils.toNameRange((IField) member, context.getUtils());
         }
@@ -465,7 +462,7 @@ public class PersistenceEntityDiagnosticsParticipant implements IJavaDiagnostics
      * @throws JavaModelException
      */
     private boolean hasVersionInParentEntity(ICompilationUnit unit, IType type) throws JavaModelException {
-        ITypeHierarchy hierarchy = type.newSupertypeHierarchy(new NullProgressMonitor());
+        ITypeHierarchy hierarchy = SupertypeHierarchyCache.getInstance().getSupertypeHierarchy(type).getHierarchy();
         IType superclass = hierarchy.getSuperclass(type);
 
         while (superclass != null && !superclass.getFullyQualifiedName().equals(Constants.OBJECT)) {
@@ -33,7 +33,6 @@ import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMemberValuePair;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
@@ -41,12 +40,11 @@ import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.jdt.core.JakartaCorePlugin;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.JDTTypeUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SupertypeHierarchyCache;
 
 /**
  * Persistence diagnostic participant that manages the use
@@ -62,15 +60,14 @@ public class PersistenceMapKeyDiagnosticsParticipant implements IJavaDiagnostics
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        ICompilationUnit unit = context.getCompilationUnit();
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
             return diagnostics;
         }
 
-        IType[] alltypes = unit.getAllTypes();
+        IType[] alltypes = context.getSnapshot().getAllTypes();
         IMethod[] methods;
         IField[] fields;
 
@@ -143,9 +140,9 @@ public class PersistenceMapKeyDiagnosticsParticipant implements IJavaDiagnostics
             allAnnotations = null;
 
             if (member instanceof IMethod) {
-                allAnnotations = ((IMethod) member).getAnnotations();
+                allAnnotations = context.getSnapshot().getAnnotations((IMethod) member);
             } else if (member instanceof IField) {
-                allAnnotations = ((IField) member).getAnnotations();
+                allAnnotations = context.getSnapshot().getAnnotations((IField) member);
             }
 
             for (IAnnotation annotation : allAnnotations) {
@@ -258,14 +255,7 @@ public class PersistenceMapKeyDiagnosticsParticipant implements IJavaDiagnostics
                 isMap = true;
             } else {
                 IType returnType = javaProject.findType(fqName);
-                ITypeHierarchy hierarchy = returnType.newTypeHierarchy(null);
-                IType[] interfaces = hierarchy.getAllSuperInterfaces(returnType);
-
-                for (IType superInterface : interfaces) {
-                    if (Constants.MAP_INTERFACE_FQDN.equals(superInterface.getFullyQualifiedName())) {
-                        isMap = true;
-                    }
-                }
+                isMap = SupertypeHierarchyCache.getInstance().isSubtypeOf(returnType, Constants.MAP_INTERFACE_FQDN);
             }
         }
 
@@ -394,10 +384,7 @@ public class PersistenceMapKeyDiagnosticsParticipant implements IJavaDiagnostics
             isMap = true;
         } else {
             IType fieldType = javaProject.findType(fqName);
-            if (fieldType != null) {
-                ITypeHierarchy hierarchy = fieldType.newTypeHierarchy(null);
-                isMap = Arrays.stream(hierarchy.getAllSuperInterfaces(fieldType)).map(IType::getFullyQualifiedName).anyMatch(Constants.MAP_INTERFACE_FQDN::equals);
-            }
+            isMap = SupertypeHierarchyCache.getInstance().isSubtypeOf(fieldType, Constants.MAP_INTERFACE_FQDN);
         }
 
         // Not a Map — @MapKeyEnumerated is invalid on List, Set, or plain fields.
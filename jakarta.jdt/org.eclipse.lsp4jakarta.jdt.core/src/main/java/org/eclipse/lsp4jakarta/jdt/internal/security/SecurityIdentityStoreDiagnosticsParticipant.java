@@ -14,14 +14,11 @@ package org.eclipse.lsp4jakarta.jdt.internal.security;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.BitSet;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.jdt.core.IAnnotation;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.lsp4j.Diagnostic;
@@ -29,11 +26,10 @@ import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.AnnotationIds;
 
 import com.google.gson.Gson;
 
@@ -48,42 +44,45 @@ import com.google.gson.Gson;
  */
 public class SecurityIdentityStoreDiagnosticsParticipant implements IJavaDiagnosticsParticipant {
 
+    private static final AnnotationIds ANNOTATION_IDS = AnnotationIds.getInstance();
+
+    // Identity store definition annotations to check
+    private static final List<String> IDENTITY_STORE_ANNOTATIONS = Arrays.asList(Constants.LDAP_IDENTITY_STORE_DEFINITION_FQ_NAME,
+                                                                                 Constants.DATABASE_IDENTITY_STORE_DEFINITION_FQ_NAME);
+
+    private static final int APPLICATION_SCOPED = ANNOTATION_IDS.intern(Constants.APPLICATION_SCOPED_FQ_NAME);
+
+    static {
+        // Intern the annotations before the annotations of the snapshots are resolved
+        ANNOTATION_IDS.mask(IDENTITY_STORE_ANNOTATIONS);
+        ANNOTATION_IDS.mask(Constants.SCOPE_FQ_NAMES);
+    }
+
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
         String uri = context.getUri();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        ICompilationUnit unit = context.getCompilationUnit();
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
             return diagnostics;
         }
 
-        // Identity store definition annotations to check
-        List<String> identityStoreAnnotations = Arrays.asList(
-                                                              Constants.LDAP_IDENTITY_STORE_DEFINITION_FQ_NAME,
-                                                              Constants.DATABASE_IDENTITY_STORE_DEFINITION_FQ_NAME);
-
-        for (IType type : unit.getAllTypes()) {
+        for (IType type : context.getSnapshot().getAllTypes()) {
             // Get all annotations on the type
-            IAnnotation[] typeAnnotations = type.getAnnotations();
-            List<String> annotationNames = Stream.of(typeAnnotations).map(annotation -> annotation.getElementName()).collect(Collectors.toList());
+            BitSet typeAnnotations = context.getSnapshot().getAnnotationIds(type, type);
 
             // Check if type has any identity store definition annotation
-            List<String> identityStoreDefAnnotations = DiagnosticUtils.getMatchedJavaElementNames(
-                                                                                                  type, annotationNames, identityStoreAnnotations);
+            List<String> identityStoreDefAnnotations = ANNOTATION_IDS.getNames(typeAnnotations, IDENTITY_STORE_ANNOTATIONS);
 
             if (!identityStoreDefAnnotations.isEmpty()) {
                 // Type has an identity store definition annotation
                 // Now check if it has @ApplicationScoped
-                boolean hasApplicationScoped = !DiagnosticUtils.getMatchedJavaElementNames(
-                                                                                           type, annotationNames,
-                                                                                           Collections.singletonList(Constants.APPLICATION_SCOPED_FQ_NAME)).isEmpty();
+                boolean hasApplicationScoped = typeAnnotations.get(APPLICATION_SCOPED);
 
                 if (!hasApplicationScoped) {
                     // Check if it has any other scope annotation
-                    List<String> foundScopes = DiagnosticUtils.getMatchedJavaElementNames(
-                                                                                          type, annotationNames, Constants.SCOPE_FQ_NAMES);
+                    List<String> foundScopes = ANNOTATION_IDS.getNames(typeAnnotations, Constants.SCOPE_FQ_NAMES);
 
                     // Get the identity store annotation name for the diagnostic message
                     String identityStoreAnnotationSimpleName = DiagnosticUtils.getSimpleName(identityStoreDefAnnotations.get(0));
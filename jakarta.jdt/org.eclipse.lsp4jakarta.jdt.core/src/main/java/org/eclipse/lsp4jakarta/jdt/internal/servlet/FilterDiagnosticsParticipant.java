@@ -27,11 +27,9 @@ import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 
 /**
  * @WebFilter annotation diagnostic participant.
@@ -44,8 +42,7 @@ public class FilterDiagnosticsParticipant implements IJavaDiagnosticsParticipant
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        ICompilationUnit unit = context.getCompilationUnit();
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
@@ -54,9 +51,9 @@ public class FilterDiagnosticsParticipant implements IJavaDiagnosticsParticipant
 
         IAnnotation[] allAnnotations;
 
-        IType[] alltypes = unit.getAllTypes();
+        IType[] alltypes = context.getSnapshot().getAllTypes();
         for (IType type : alltypes) {
-            allAnnotations = type.getAnnotations();
+            allAnnotations = context.getSnapshot().getAnnotations(type);
             IAnnotation webFilterAnnotation = null;
 
             for (IAnnotation annotation : allAnnotations) {
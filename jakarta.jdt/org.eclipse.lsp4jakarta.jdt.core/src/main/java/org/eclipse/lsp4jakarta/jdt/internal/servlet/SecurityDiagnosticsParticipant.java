@@ -24,14 +24,13 @@ import org.eclipse.jdt.core.IType;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4jakarta.jdt.core.java.CompilationUnitSnapshot;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.TypeHierarchyUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 
 /**
  * Security diagnostic participant.
@@ -46,15 +45,14 @@ public class SecurityDiagnosticsParticipant implements IJavaDiagnosticsParticipa
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        ICompilationUnit unit = context.getCompilationUnit();
         List<Diagnostic> diagnostics = new ArrayList<>();
         if (unit == null) {
             return diagnostics;
         }
-        IType[] alltypes = unit.getAllTypes();
+        IType[] alltypes = context.getSnapshot().getAllTypes();
         for (IType type : alltypes) {
-            IAnnotation declareRolesAnnotation = findDeclareRolesAnnotation(type);
+            IAnnotation declareRolesAnnotation = findDeclareRolesAnnotation(context.getSnapshot(), type);
             boolean implementsServlet = TypeHierarchyUtils.inheritsFrom(type, Constants.SERVLET_FQ_NAME);
             if (declareRolesAnnotation != null && !implementsServlet) {
                 Range range = PositionUtils.toNameRange(type, context.getUtils());
@@ -70,12 +68,13 @@ public class SecurityDiagnosticsParticipant implements IJavaDiagnosticsParticipa
     /**
      * Finds the @DeclareRoles annotation on the given type using streams.
      *
+     * @param snapshot the snapshot of the compilation unit
      * @param type the type to search
      * @return the @DeclareRoles annotation if found, null otherwise
      * @throws CoreException if an error occurs while accessing the type's annotations
      */
-    private IAnnotation findDeclareRolesAnnotation(IType type) throws CoreException {
-        IAnnotation[] allAnnotations = type.getAnnotations();
+    private IAnnotation findDeclareRolesAnnotation(CompilationUnitSnapshot snapshot, IType type) throws CoreException {
+        IAnnotation[] allAnnotations = snapshot.getAnnotations(type);
         for (IAnnotation annotation : allAnnotations) {
             if (DiagnosticUtils.isMatchedJavaElement(type, annotation.getElementName(),
                                                      Constants.DECLARE_ROLES_FQ_NAME)) {
@@ -28,12 +28,10 @@ import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.jdt.core.JakartaCorePlugin;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.TypeHierarchyUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 
 /**
  * Servlet diagnostic participant.
@@ -48,8 +46,7 @@ public class ServletDiagnosticsParticipant implements IJavaDiagnosticsParticipan
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        ICompilationUnit unit = context.getCompilationUnit();
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
@@ -58,9 +55,9 @@ public class ServletDiagnosticsParticipant implements IJavaDiagnosticsParticipan
         IType[] alltypes;
         IAnnotation[] allAnnotations;
 
-        alltypes = unit.getAllTypes();
+        alltypes = context.getSnapshot().getAllTypes();
         for (IType type : alltypes) {
-            allAnnotations = type.getAnnotations();
+            allAnnotations = context.getSnapshot().getAnnotations(type);
 
             IAnnotation webServletAnnotation = null;
             for (IAnnotation annotation : allAnnotations) {
@@ -16,12 +16,12 @@ package org.eclipse.lsp4jakarta.jdt.internal.websocket;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -40,15 +40,15 @@ import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.jdt.core.JakartaCorePlugin;
+import org.eclipse.lsp4jakarta.jdt.core.java.CompilationUnitSnapshot;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.helpers.ConstructorInfoDiagnosticHelper;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.TypeHierarchyUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.AnnotationIds;
 
 import com.google.gson.JsonArray;
 
@@ -57,14 +57,15 @@ import com.google.gson.JsonArray;
  */
 public class WebSocketDiagnosticsParticipant implements IJavaDiagnosticsParticipant {
 
+    private static final BitSet WS_ANNOTATIONS = AnnotationIds.getInstance().mask(Constants.WS_ANNOTATION_CLASS);
+
     /**
      * {@inheritDoc}
      */
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        ICompilationUnit unit = context.getCompilationUnit();
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
@@ -74,16 +75,16 @@ public class WebSocketDiagnosticsParticipant implements IJavaDiagnosticsParticip
         IType[] alltypes;
         HashMap<String, Boolean> checkWSEnd = null;
 
-        alltypes = unit.getAllTypes();
+        alltypes = context.getSnapshot().getAllTypes();
         for (IType type : alltypes) {
-            checkWSEnd = isWSEndpoint(type);
+            checkWSEnd = isWSEndpoint(context.getSnapshot(), type);
             // checks if the class uses annotation to create a WebSocket endpoint
             if (checkWSEnd.get(Constants.IS_ANNOTATION)) {
                 // WebSocket Invalid Parameters Diagnostic
                 invalidParamsCheck(context, uri, type, unit, diagnostics);
 
                 /* @PathParam Value Mismatch Warning */
-                List<String> endpointPathVars = findAndProcessEndpointURI(type);
+                List<String> endpointPathVars = findAndProcessEndpointURI(context.getSnapshot(), type);
                 /*
                  * WebSocket endpoint annotations must be attached to a class, and thus is
                  * guaranteed to be processed before any of the member method annotations
@@ -114,7 +115,7 @@ public class WebSocketDiagnosticsParticipant implements IJavaDiagnosticsParticip
         Set<String> visitedAnnotations = new HashSet<>();
 
         for (IMethod method : type.getMethods()) {
-            for (IAnnotation annotation : method.getAnnotations()) {
+            for (IAnnotation annotation : context.getSnapshot().getAnnotations(method)) {
                 String annotationName = annotation.getElementName();
 
                 if (isLifecycleAnnotation(type, annotationName)) {
@@ -146,7 +147,7 @@ public class WebSocketDiagnosticsParticipant implements IJavaDiagnosticsParticip
                                     List<Diagnostic> diagnostics) throws JavaModelException {
         IMethod[] allMethods = type.getMethods();
         for (IMethod method : allMethods) {
-            IAnnotation[] allAnnotations = method.getAnnotations();
+            IAnnotation[] allAnnotations = context.getSnapshot().getAnnotations(method);
             Set<String> specialParamTypes = null, rawSpecialParamTypes = null;
 
             for (IAnnotation annotation : allAnnotations) {
@@ -193,7 +194,7 @@ public class WebSocketDiagnosticsParticipant implements IJavaDiagnosticsParticip
 
                         if (!isSpecialType) {
                             // check that if parameter is not a specialType, it has a @PathParam annotation
-                            IAnnotation[] param_annotations = param.getAnnotations();
+                            IAnnotation[] param_annotations = context.getSnapshot().getAnnotations(param);
                             boolean hasPathParamAnnot = Arrays.asList(param_annotations).stream().anyMatch(annot -> {
                                 try {
                                     return DiagnosticUtils.isMatchedJavaElement(type, annot.getElementName(),
@@ -232,7 +233,7 @@ public class WebSocketDiagnosticsParticipant implements IJavaDiagnosticsParticip
         for (IMethod method : typeMethods) {
             ILocalVariable[] methodParams = method.getParameters();
             for (ILocalVariable param : methodParams) {
-                IAnnotation[] paramAnnotations = param.getAnnotations();
+                IAnnotation[] paramAnnotations = context.getSnapshot().getAnnotations(param);
                 for (IAnnotation annotation : paramAnnotations) {
                     if (DiagnosticUtils.isMatchedJavaElement(type, annotation.getElementName(),
                                                              Constants.PATHPARAM_ANNOTATION)) {
@@ -272,12 +273,12 @@ public class WebSocketDiagnosticsParticipant implements IJavaDiagnosticsParticip
         IAnnotation onMessageBinaryUsed = null;
         IAnnotation onMessagePongUsed = null;
         for (IMethod method : typeMethods) {
-            IAnnotation[] allAnnotations = method.getAnnotations();
+            IAnnotation[] allAnnotations = context.getSnapshot().getAnnotations(method);
             for (IAnnotation annotation : allAnnotations) {
                 if (DiagnosticUtils.isMatchedJavaElement(type, annotation.getElementName(), Constants.ON_MESSAGE)) {
                     ILocalVariable[] allParams = method.getParameters();
                     for (ILocalVariable param : allParams) {
-                        if (!isParamPath(type, param)) {
+                        if (!isParamPath(context.getSnapshot(), type, param)) {
                             String signature = param.getTypeSignature();
                             String formatSignature = signature.replace("/", ".");
                             String resolvedTypeName = JavaModelUtil.getResolvedTypeName(formatSignature, type);
@@ -362,7 +363,7 @@ public class WebSocketDiagnosticsParticipant implements IJavaDiagnosticsParticip
      */
     private void serverEndpointErrorCheck(JavaDiagnosticsContext context, String uri, IType type,
                                           List<Diagnostic> diagnostics, ICompilationUnit unit) throws JavaModelException {
-        IAnnotation[] annotations = type.getAnnotations();
+        IAnnotation[] annotations = context.getSnapshot().getAnnotations(type);
         for (IAnnotation annotation : annotations) {
             if (DiagnosticUtils.isMatchedJavaElement(type, annotation.getElementName(),
                                                      Constants.SERVER_ENDPOINT_ANNOTATION)) {
@@ -426,13 +427,14 @@ public class WebSocketDiagnosticsParticipant implements IJavaDiagnosticsParticip
      * Finds a WebSocket EndPoint annotation and extracts all variable parameters in
      * the EndPoint URI
      *
+     * @param snapshot the snapshot of the compilation unit
      * @param type representing the class
      * @return List of variable parameters in the EndPoint URI if one exists, null
      *         otherwise
      */
-    private List<String> findAndProcessEndpointURI(IType type) throws JavaModelException {
+    private List<String> findAndProcessEndpointURI(CompilationUnitSnapshot snapshot, IType type) throws JavaModelException {
         String endpointURI = null;
-        IAnnotation[] typeAnnotations = type.getAnnotations();
+        IAnnotation[] typeAnnotations = snapshot.getAnnotations(type);
         String[] targetAnnotations = { Constants.SERVER_ENDPOINT_ANNOTATION, Constants.CLIENT_ENDPOINT_ANNOTATION };
         for (IAnnotation annotation : typeAnnotations) {
             String matchedAnnotation = DiagnosticUtils.getMatchedJavaElementName(type, annotation.getElementName(),
@@ -480,11 +482,12 @@ public class WebSocketDiagnosticsParticipant implements IJavaDiagnosticsParticip
      * https://jakarta.ee/specifications/websocket/2.0/websocket-spec-2.0.html#applications
      * are met: class is annotated or class implements Endpoint class
      *
+     * @param snapshot the snapshot of the compilation unit
      * @param type the type representing the class
      * @return the conditions for a class to be a WebSocket endpoint
      * @throws JavaModelException
      */
-    private HashMap<String, Boolean> isWSEndpoint(IType type) throws JavaModelException {
+    private HashMap<String, Boolean> isWSEndpoint(CompilationUnitSnapshot snapshot, IType type) throws JavaModelException {
         HashMap<String, Boolean> wsEndpoint = new HashMap<>();
 
         // check trivial case
@@ -496,9 +499,7 @@ public class WebSocketDiagnosticsParticipant implements IJavaDiagnosticsParticip
 
         // Check that class follows
         // https://jakarta.ee/specifications/websocket/2.0/websocket-spec-2.0.html#applications
-        List<String> endpointAnnotations = DiagnosticUtils.getMatchedJavaElementNames(type,
-                                                                                      Stream.of(type.getAnnotations()).map(annotation -> annotation.getElementName()).toArray(String[]::new),
-                                                                                      Constants.WS_ANNOTATION_CLASS);
+        boolean isAnnotated = snapshot.getAnnotationIds(type, type).intersects(WS_ANNOTATIONS);
 
         boolean useSuperclass = false;
         try {
@@ -507,14 +508,14 @@ public class WebSocketDiagnosticsParticipant implements IJavaDiagnosticsParticip
             JakartaCorePlugin.logException(Constants.DIAGNOSTIC_ERR_MSG, e);
         }
 
-        wsEndpoint.put(Constants.IS_ANNOTATION, (endpointAnnotations.size() > 0));
+        wsEndpoint.put(Constants.IS_ANNOTATION, isAnnotated);
         wsEndpoint.put(Constants.IS_SUPERCLASS, useSuperclass);
 
         return wsEndpoint;
     }
 
-    private boolean isParamPath(IType type, ILocalVariable param) throws JavaModelException {
-        IAnnotation[] allVariableAnnotations = param.getAnnotations();
+    private boolean isParamPath(CompilationUnitSnapshot snapshot, IType type, ILocalVariable param) throws JavaModelException {
+        IAnnotation[] allVariableAnnotations = snapshot.getAnnotations(param);
         for (IAnnotation variableAnnotation : allVariableAnnotations) {
             if (DiagnosticUtils.isMatchedJavaElement(type, variableAnnotation.getElementName(),
                                                      Constants.PATH_PARAM_ANNOTATION)) {
@@ -0,0 +1,134 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.batch;
+
+import static org.eclipse.lsp4jakarta.jdt.test.core.JakartaForJavaAssert.d;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4jakarta.jdt.internal.core.batch.AnalyzerCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.batch.AnalyzerCache.FileEntry;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for the result cache of the Jakarta analyzer application.
+ */
+public class AnalyzerCacheTest {
+
+    private static final String ENTITY = "src/main/java/a/Entity.java";
+
+    private static final String CHILD = "src/main/java/a/Child.java";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void upToDate() throws Exception {
+        AnalyzerCache cache = createCache();
+        Map<String, String> typeHashes = new HashMap<>();
+        typeHashes.put("a.Entity", "entity-hash");
+        assertTrue(cache.isUpToDate(CHILD, "project", "child-hash", typeHashes::get));
+        assertTrue(cache.isUpToDate(ENTITY, "project", "entity-hash", typeHashes::get));
+    }
+
+    @Test
+    public void notUpToDate() throws Exception {
+        AnalyzerCache cache = createCache();
+        Map<String, String> typeHashes = new HashMap<>();
+        typeHashes.put("a.Entity", "entity-hash");
+        // The content changed
+        assertFalse(cache.isUpToDate(CHILD, "project", "new-child-hash", typeHashes::get));
+        // The Java file moved to another project
+        assertFalse(cache.isUpToDate(CHILD, "other", "child-hash", typeHashes::get));
+        // The Java file was not analyzed
+        assertFalse(cache.isUpToDate("src/main/java/a/New.java", "project", "new-hash", typeHashes::get));
+        // A dependency changed or was deleted
+        typeHashes.put("a.Entity", "new-entity-hash");
+        assertFalse(cache.isUpToDate(CHILD, "project", "child-hash", typeHashes::get));
+        typeHashes.put("a.Entity", "");
+        assertFalse(cache.isUpToDate(CHILD, "project", "child-hash", typeHashes::get));
+    }
+
+    @Test
+    public void dependentPaths() {
+        AnalyzerCache cache = createCache();
+        assertEquals(Collections.singleton(CHILD), cache.getDependentPaths(Collections.singleton("a.Entity")));
+        assertEquals(Collections.emptySet(), cache.getDependentPaths(Collections.singleton("a.Child")));
+        Set<String> types = new HashSet<>(Arrays.asList("a.Unknown", "a.Entity"));
+        assertEquals(Collections.singleton(CHILD), cache.getDependentPaths(types));
+    }
+
+    @Test
+    public void saveAndLoad() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("cache/analyzer.json");
+        AnalyzerCache cache = createCache();
+        cache.setFingerprint("project", "fingerprint");
+        cache.save(file);
+        assertFalse(Files.exists(file.resolveSibling("analyzer.json.tmp")));
+
+        AnalyzerCache loaded = AnalyzerCache.load(file);
+        assertEquals("fingerprint", loaded.getFingerprint("project"));
+        FileEntry child = loaded.getFile(CHILD);
+        assertNotNull(child);
+        assertEquals("project", child.getProject());
+        assertEquals("child-hash", child.getContentHash());
+        assertEquals(Collections.singletonMap("a.Entity", "entity-hash"), child.getDependencies());
+        assertEquals(Arrays.asList("a.Child"), child.getDeclaredTypes());
+        assertEquals(1, child.getDiagnostics().size());
+        assertEquals("Message", child.getDiagnostics().get(0).getMessage().getLeft());
+        assertTrue(loaded.isUpToDate(CHILD, "project", "child-hash", type -> "entity-hash"));
+    }
+
+    @Test
+    public void ignoreInvalidCache() throws Exception {
+        assertTrue(AnalyzerCache.load(null).getFiles().isEmpty());
+        assertTrue(AnalyzerCache.load(folder.getRoot().toPath().resolve("missing.json")).getFiles().isEmpty());
+
+        Path file = folder.newFile("invalid.json").toPath();
+        Files.write(file, "{ invalid".getBytes(StandardCharsets.UTF_8));
+        assertTrue(AnalyzerCache.load(file).getFiles().isEmpty());
+
+        // Written with another format
+        Files.write(file, "{ \"version\": 0, \"fingerprints\": {}, \"files\": { \"A.java\": {} } }".getBytes(StandardCharsets.UTF_8));
+        AnalyzerCache cache = AnalyzerCache.load(file);
+        assertTrue(cache.getFiles().isEmpty());
+        assertNull(cache.getFingerprint("project"));
+    }
+
+    private static AnalyzerCache createCache() {
+        AnalyzerCache cache = new AnalyzerCache();
+        cache.putFile(ENTITY, new FileEntry("project", "entity-hash", Collections.emptyMap(), Arrays.asList("a.Entity"),
+                                            Collections.emptyList()));
+        cache.putFile(CHILD, new FileEntry("project", "child-hash", Collections.singletonMap("a.Entity", "entity-hash"),
+                                           Arrays.asList("a.Child"),
+                                           Arrays.asList(d(1, 0, 5, "Message", DiagnosticSeverity.Error, "jakarta-persistence",
+                                                           "Code"))));
+        return cache;
+    }
+}
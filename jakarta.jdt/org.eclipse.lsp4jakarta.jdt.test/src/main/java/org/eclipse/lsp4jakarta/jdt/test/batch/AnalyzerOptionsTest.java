@@ -0,0 +1,100 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.batch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeNoException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.lsp4jakarta.jdt.internal.core.batch.AnalyzerOptions;
+import org.eclipse.lsp4jakarta.jdt.internal.core.batch.AnalyzerOptions.ReportFormat;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for the command line options of the Jakarta analyzer application.
+ */
+public class AnalyzerOptionsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void parseDefaultOptions() throws Exception {
+        Path workspace = folder.newFolder("workspace").toPath();
+        AnalyzerOptions options = AnalyzerOptions.parse(new String[] { "--workspace", workspace.toString() });
+        assertEquals(workspace.toRealPath(), options.getWorkspace());
+        assertEquals(ReportFormat.SARIF, options.getFormat());
+        assertNull(options.getOutput());
+        assertNull(options.getChangedSince());
+        assertNull(options.getCache());
+    }
+
+    @Test
+    public void parseAllOptions() throws Exception {
+        Path workspace = folder.newFolder("workspace").toPath();
+        AnalyzerOptions options = AnalyzerOptions.parse(new String[] { "-showlocation", "--workspace", workspace.toString(),
+                                                                       "--format", "json", "--output", "report.json",
+                                                                       "--changed-since", "origin/main", "--cache",
+                                                                       "cache.json" });
+        assertEquals(ReportFormat.JSON, options.getFormat());
+        assertTrue(options.getOutput().isAbsolute());
+        assertEquals("report.json", options.getOutput().getFileName().toString());
+        assertEquals("origin/main", options.getChangedSince());
+        assertTrue(options.getCache().isAbsolute());
+        assertEquals("cache.json", options.getCache().getFileName().toString());
+    }
+
+    @Test
+    public void resolveWorkspaceLink() throws Exception {
+        Path workspace = folder.newFolder("workspace").toPath();
+        Path link = folder.getRoot().toPath().resolve("link");
+        try {
+            Files.createSymbolicLink(link, workspace);
+        } catch (UnsupportedOperationException | IOException e) {
+            // Symbolic links are not supported by the file system
+            assumeNoException(e);
+        }
+        AnalyzerOptions options = AnalyzerOptions.parse(new String[] { "--workspace", link.resolve("..").resolve("link").toString() });
+        assertEquals(workspace.toRealPath(), options.getWorkspace());
+    }
+
+    @Test
+    public void rejectInvalidOptions() throws Exception {
+        Path workspace = folder.newFolder("workspace").toPath();
+        assertInvalid("Missing option '--workspace'");
+        assertInvalid("is not a directory", "--workspace", workspace.resolve("missing").toString());
+        assertInvalid("Missing value for option '--format'", "--workspace", workspace.toString(), "--format");
+        assertInvalid("Missing value for option '--output'", "--workspace", workspace.toString(), "--output", "--cache",
+                      "cache.json");
+        assertInvalid("Unknown report format 'xml'", "--workspace", workspace.toString(), "--format", "xml");
+        assertInvalid("Unknown option '--unknown'", "--workspace", workspace.toString(), "--unknown");
+    }
+
+    private static void assertInvalid(String expectedMessage, String... args) {
+        try {
+            AnalyzerOptions.parse(args);
+            fail("The options are valid");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains(expectedMessage));
+            assertTrue(e.getMessage().contains(AnalyzerOptions.USAGE));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.batch;
+
+import static org.eclipse.lsp4jakarta.jdt.test.core.JakartaForJavaAssert.d;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4jakarta.jdt.internal.core.batch.AnalyzerReportWriter;
+import org.junit.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Tests for the SARIF and JSON reports of the Jakarta analyzer application.
+ */
+public class AnalyzerReportWriterTest {
+
+    private static final Diagnostic ERROR = d(2, 4, 10, "Error message", DiagnosticSeverity.Error, "jakarta-cdi",
+                                              "InvalidInjectionPoint");
+
+    private static final Diagnostic WARNING = d(5, 0, 3, "Warning message", DiagnosticSeverity.Warning,
+                                                "jakarta-persistence", "NoPublicConstructor");
+
+    private static final Diagnostic INFO = d(7, 1, 2, "Info message", DiagnosticSeverity.Information,
+                                             "jakarta-persistence", null);
+
+    @Test
+    public void writeSarif() throws Exception {
+        JsonObject log = writeSarif(createDiagnostics());
+        assertEquals("2.1.0", log.get("version").getAsString());
+        JsonObject run = log.getAsJsonArray("runs").get(0).getAsJsonObject();
+        JsonObject driver = run.getAsJsonObject("tool").getAsJsonObject("driver");
+        assertEquals("LSP4Jakarta", driver.get("name").getAsString());
+        assertEquals("1.0.0", driver.get("version").getAsString());
+        assertEquals("file:///workspace/",
+                     run.getAsJsonObject("originalUriBaseIds").getAsJsonObject("SRCROOT").get("uri").getAsString());
+
+        // One rule per code, or per source when there is no code, sorted by id
+        JsonArray rules = driver.getAsJsonArray("rules");
+        assertEquals(3, rules.size());
+        assertEquals("InvalidInjectionPoint", rules.get(0).getAsJsonObject().get("id").getAsString());
+        assertEquals("NoPublicConstructor", rules.get(1).getAsJsonObject().get("id").getAsString());
+        assertEquals("jakarta-persistence", rules.get(2).getAsJsonObject().get("id").getAsString());
+
+        // The results are sorted by path
+        JsonArray results = run.getAsJsonArray("results");
+        assertEquals(3, results.size());
+        JsonObject result = results.get(0).getAsJsonObject();
+        assertEquals("InvalidInjectionPoint", result.get("ruleId").getAsString());
+        assertEquals("error", result.get("level").getAsString());
+        assertEquals("Error message", result.getAsJsonObject("message").get("text").getAsString());
+        JsonObject physicalLocation = result.getAsJsonArray("locations").get(0).getAsJsonObject().getAsJsonObject("physicalLocation");
+        assertEquals("src/main/java/a/A.java", physicalLocation.getAsJsonObject("artifactLocation").get("uri").getAsString());
+        assertEquals("SRCROOT", physicalLocation.getAsJsonObject("artifactLocation").get("uriBaseId").getAsString());
+        // SARIF lines and columns are 1-based
+        JsonObject region = physicalLocation.getAsJsonObject("region");
+        assertEquals(3, region.get("startLine").getAsInt());
+        assertEquals(5, region.get("startColumn").getAsInt());
+        assertEquals(3, region.get("endLine").getAsInt());
+        assertEquals(11, region.get("endColumn").getAsInt());
+
+        assertEquals("warning", results.get(1).getAsJsonObject().get("level").getAsString());
+        assertEquals("note", results.get(2).getAsJsonObject().get("level").getAsString());
+        assertEquals("jakarta-persistence", results.get(2).getAsJsonObject().get("ruleId").getAsString());
+    }
+
+    @Test
+    public void writeEmptySarif() throws Exception {
+        JsonObject log = writeSarif(Collections.emptyMap());
+        JsonObject run = log.getAsJsonArray("runs").get(0).getAsJsonObject();
+        assertEquals(0, run.getAsJsonArray("results").size());
+        assertEquals(0, run.getAsJsonObject("tool").getAsJsonObject("driver").getAsJsonArray("rules").size());
+    }
+
+    @Test
+    public void writeJson() throws Exception {
+        StringWriter writer = new StringWriter();
+        new AnalyzerReportWriter("file:///workspace", "1.0.0").writeJson(createDiagnostics(), writer);
+        JsonObject report = JsonParser.parseString(writer.toString()).getAsJsonObject();
+        assertEquals("file:///workspace/", report.get("root").getAsString());
+
+        JsonArray files = report.getAsJsonArray("files");
+        assertEquals(2, files.size());
+        JsonObject file = files.get(0).getAsJsonObject();
+        assertEquals("src/main/java/a/A.java", file.get("path").getAsString());
+        assertEquals("file:///workspace/src/main/java/a/A.java", file.get("uri").getAsString());
+        assertEquals(1, file.getAsJsonArray("diagnostics").size());
+        assertEquals("InvalidInjectionPoint",
+                     file.getAsJsonArray("diagnostics").get(0).getAsJsonObject().get("code").getAsString());
+
+        JsonObject summary = report.getAsJsonObject("summary");
+        assertEquals(2, summary.get("files").getAsInt());
+        assertEquals(1, summary.get("errors").getAsInt());
+        assertEquals(1, summary.get("warnings").getAsInt());
+        assertEquals(1, summary.get("others").getAsInt());
+    }
+
+    @Test
+    public void dontEscapeMessages() throws Exception {
+        Diagnostic diagnostic = d(0, 0, 1, "The @Inject annotation <must> not be used", DiagnosticSeverity.Error,
+                                  "jakarta-cdi", "Code");
+        StringWriter writer = new StringWriter();
+        new AnalyzerReportWriter("file:///workspace/", "1.0.0").writeSarif(Collections.singletonMap("A.java",
+                                                                                                    Arrays.asList(diagnostic)),
+                                                                           writer);
+        assertFalse(writer.toString().contains("\\u003c"));
+    }
+
+    private static Map<String, List<Diagnostic>> createDiagnostics() {
+        // Not sorted by path
+        Map<String, List<Diagnostic>> diagnostics = new LinkedHashMap<>();
+        diagnostics.put("src/main/java/b/B.java", Arrays.asList(WARNING, INFO));
+        diagnostics.put("src/main/java/a/A.java", Arrays.asList(ERROR));
+        return diagnostics;
+    }
+
+    private static JsonObject writeSarif(Map<String, List<Diagnostic>> diagnostics) throws Exception {
+        StringWriter writer = new StringWriter();
+        new AnalyzerReportWriter("file:///workspace", "1.0.0").writeSarif(diagnostics, writer);
+        return JsonParser.parseString(writer.toString()).getAsJsonObject();
+    }
+}
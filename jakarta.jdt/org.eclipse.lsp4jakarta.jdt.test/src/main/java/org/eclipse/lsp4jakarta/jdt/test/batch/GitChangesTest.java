@@ -0,0 +1,128 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.batch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeNoException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.lsp4jakarta.jdt.internal.core.batch.GitChanges;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for the files changed since a git reference, which select the Java
+ * files analyzed with <code>--changed-since</code>.
+ */
+public class GitChangesTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void changedJavaFiles() throws Exception {
+        Path root = folder.getRoot().toPath().toRealPath().resolve("workspace");
+        Set<Path> changedFiles = new HashSet<>(Arrays.asList(root.resolve("module/src/main/java/a/A.java"),
+                                                             root.resolve("module/src/main/resources/application.properties"),
+                                                             root.resolve("src/main/java/b/B.java"),
+                                                             // Outside of the workspace
+                                                             root.resolveSibling("other/src/main/java/C.java"),
+                                                             root.resolveSibling("pom.xml")));
+        assertEquals(new HashSet<>(Arrays.asList("module/src/main/java/a/A.java", "src/main/java/b/B.java")),
+                     GitChanges.getChangedJavaFiles(root, changedFiles));
+        assertEquals(Collections.emptySet(), GitChanges.getChangedJavaFiles(root, Collections.emptySet()));
+    }
+
+    @Test
+    public void changedBuildFile() throws Exception {
+        Path root = folder.getRoot().toPath().toRealPath().resolve("workspace");
+        for (String buildFile : Arrays.asList("pom.xml", "module/build.gradle", "settings.gradle.kts")) {
+            Set<Path> changedFiles = new HashSet<>(Arrays.asList(root.resolve("src/main/java/a/A.java"),
+                                                                 root.resolve(buildFile)));
+            assertNull(buildFile, GitChanges.getChangedJavaFiles(root, changedFiles));
+        }
+    }
+
+    @Test
+    public void changedFilesOfGitWorkingTree() throws Exception {
+        Path top = folder.newFolder("repository").toPath().toRealPath();
+        git(top, "init", "-q");
+        write(top.resolve("workspace/src/main/java/a/A.java"), "class A {}");
+        write(top.resolve("workspace/src/main/java/a/B.java"), "class B {}");
+        git(top, "add", ".");
+        git(top, "-c", "user.name=test", "-c", "user.email=test@example.com", "commit", "-q", "-m", "initial");
+
+        // Unstaged and untracked changes
+        write(top.resolve("workspace/src/main/java/a/A.java"), "class A { int a; }");
+        write(top.resolve("workspace/src/main/java/a/C.java"), "class C {}");
+        Path workspace = top.resolve("workspace");
+        assertEquals(new HashSet<>(Arrays.asList("src/main/java/a/A.java", "src/main/java/a/C.java")),
+                     GitChanges.getChangedJavaFiles(workspace, GitChanges.getChangedFiles(workspace, "HEAD")));
+    }
+
+    @Test
+    public void rejectDirectoryOutsideOfGitWorkingTree() throws Exception {
+        Path top = folder.newFolder("repository").toPath().toRealPath();
+        git(top, "init", "-q");
+        Path link = folder.getRoot().toPath().resolve("link");
+        try {
+            Files.createSymbolicLink(link, top);
+        } catch (UnsupportedOperationException | IOException e) {
+            // Symbolic links are not supported by the file system
+            assumeNoException(e);
+        }
+        // The changed files of git are real paths, they would never be in the
+        // directory
+        try {
+            GitChanges.getChangedFiles(link, "HEAD");
+            fail("The directory is not a real path of the git working tree");
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("is not in the git working tree"));
+        }
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void git(Path directory, String... args) throws Exception {
+        String[] command = new String[args.length + 3];
+        command[0] = "git";
+        command[1] = "-C";
+        command[2] = directory.toString();
+        System.arraycopy(args, 0, command, 3, args.length);
+        Process process;
+        try {
+            process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        } catch (IOException e) {
+            // git is not installed
+            assumeNoException(e);
+            return;
+        }
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertEquals(output, 0, process.waitFor());
+    }
+}
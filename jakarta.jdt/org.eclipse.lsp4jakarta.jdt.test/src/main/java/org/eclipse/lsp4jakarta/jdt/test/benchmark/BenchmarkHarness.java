@@ -0,0 +1,298 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * Measures operations of the JDT extension in the running workspace, like JMH
+ * does in a forked JVM: warmup iterations, then measurement iterations which
+ * repeat the operation for a given time and record its average time, the bytes
+ * it allocates and the garbage collections.
+ *
+ * <p>
+ * JMH can't fork an Eclipse workspace, so the operations are measured in the
+ * test JVM. The results are written with the JSON format of JMH
+ * (<code>-rf json</code>) to compare them with the same tools.
+ * </p>
+ *
+ * <p>
+ * The iterations can be configured with the system properties
+ * <code>lsp4jakarta.benchmark.warmupIterations</code>,
+ * <code>lsp4jakarta.benchmark.measurementIterations</code> and
+ * <code>lsp4jakarta.benchmark.iterationTime</code> (in milliseconds).
+ * </p>
+ */
+public class BenchmarkHarness {
+
+    private static final Logger LOGGER = Logger.getLogger(BenchmarkHarness.class.getName());
+
+    public static final String PROPERTY_PREFIX = "lsp4jakarta.benchmark.";
+
+    // Two-sided 99.9% quantiles of the Student's t-distribution by degrees of freedom, like the score errors of JMH
+    private static final double[] T_QUANTILES = { 636.619, 31.599, 12.924, 8.610, 6.869, 5.959, 5.408, 5.041, 4.781,
+                                                  4.587, 4.437, 4.318, 4.221, 4.140, 4.073, 4.015, 3.965, 3.922,
+                                                  3.883, 3.850, 3.819, 3.792, 3.768, 3.745, 3.725, 3.707, 3.690,
+                                                  3.674, 3.659, 3.646 };
+
+    private static final double NORMAL_QUANTILE = 3.291;
+
+    /**
+     * An operation to measure.
+     */
+    public interface Operation {
+
+        void run() throws Exception;
+    }
+
+    private final int warmupIterations;
+
+    private final int measurementIterations;
+
+    private final long iterationTime;
+
+    private final ThreadMXBean threadMXBean;
+
+    private final boolean allocationSupported;
+
+    private final JsonArray results;
+
+    public BenchmarkHarness() {
+        this.warmupIterations = Integer.getInteger(PROPERTY_PREFIX + "warmupIterations", 2);
+        this.measurementIterations = Math.max(1, Integer.getInteger(PROPERTY_PREFIX + "measurementIterations", 5));
+        this.iterationTime = Long.getLong(PROPERTY_PREFIX + "iterationTime", 2000);
+        this.threadMXBean = ManagementFactory.getThreadMXBean();
+        this.allocationSupported = isAllocationSupported(threadMXBean);
+        this.results = new JsonArray();
+    }
+
+    private static boolean isAllocationSupported(ThreadMXBean threadMXBean) {
+        try {
+            if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+                if (allocationMXBean.isThreadAllocatedMemorySupported()) {
+                    allocationMXBean.setThreadAllocatedMemoryEnabled(true);
+                    return true;
+                }
+            }
+        } catch (LinkageError e) {
+            // com.sun.management is not available
+        }
+        LOGGER.warning("The allocated memory is not available, the allocation rates are not measured");
+        return false;
+    }
+
+    /**
+     * Measures the given operation and records its result.
+     *
+     * @param benchmark the benchmark name.
+     * @param params the parameters of the benchmark.
+     * @param setup the setup executed before each operation, which is not
+     *            measured, and null otherwise.
+     * @param operation the operation.
+     * @throws Exception
+     */
+    public void run(String benchmark, Map<String, String> params, Operation setup, Operation operation) throws Exception {
+        for (int i = 0; i < warmupIterations; i++) {
+            iterate(setup, operation);
+        }
+        double[] times = new double[measurementIterations];
+        double[] allocations = new double[measurementIterations];
+        double[] gcCounts = new double[measurementIterations];
+        double[] gcTimes = new double[measurementIterations];
+        for (int i = 0; i < measurementIterations; i++) {
+            long gcCount = getGcCount();
+            long gcTime = getGcTime();
+            double[] iteration = iterate(setup, operation);
+            times[i] = iteration[0];
+            allocations[i] = iteration[1];
+            gcCounts[i] = getGcCount() - gcCount;
+            gcTimes[i] = getGcTime() - gcTime;
+        }
+
+        JsonObject result = new JsonObject();
+        result.addProperty("benchmark", benchmark);
+        result.addProperty("mode", "avgt");
+        result.addProperty("threads", 1);
+        result.addProperty("forks", 1);
+        result.addProperty("jdkVersion", System.getProperty("java.version"));
+        result.addProperty("vmName", System.getProperty("java.vm.name"));
+        result.addProperty("warmupIterations", warmupIterations);
+        result.addProperty("warmupTime", iterationTime + " ms");
+        result.addProperty("measurementIterations", measurementIterations);
+        result.addProperty("measurementTime", iterationTime + " ms");
+        JsonObject paramsObject = new JsonObject();
+        params.forEach(paramsObject::addProperty);
+        result.add("params", paramsObject);
+        result.add("primaryMetric", createMetric(times, "ms/op"));
+        JsonObject secondaryMetrics = new JsonObject();
+        if (allocationSupported) {
+            secondaryMetrics.add("gc.alloc.rate.norm", createMetric(allocations, "B/op"));
+        }
+        secondaryMetrics.add("gc.count", createMetric(gcCounts, "counts"));
+        secondaryMetrics.add("gc.time", createMetric(gcTimes, "ms"));
+        result.add("secondaryMetrics", secondaryMetrics);
+        results.add(result);
+
+        LOGGER.info(String.format("%s %s: %.3f ms/op, %.0f B/op", benchmark, params, mean(times),
+                                  allocationSupported ? mean(allocations) : Double.NaN));
+    }
+
+    /**
+     * Repeats the operation during the iteration time and returns its average
+     * time in milliseconds and its average allocated bytes.
+     */
+    private double[] iterate(Operation setup, Operation operation) throws Exception {
+        long time = 0;
+        long allocated = 0;
+        int operations = 0;
+        do {
+            if (setup != null) {
+                setup.run();
+            }
+            long[] threadIds = threadMXBean.getAllThreadIds();
+            long[] allocatedBefore = getAllocatedBytes(threadIds);
+            long start = System.nanoTime();
+            operation.run();
+            time += System.nanoTime() - start;
+            // The allocations of the threads started by the operation are not counted
+            allocated += getAllocatedBytes(threadIds, allocatedBefore);
+            operations++;
+        } while (time < TimeUnit.MILLISECONDS.toNanos(iterationTime));
+        return new double[] { (double) time / operations / TimeUnit.MILLISECONDS.toNanos(1),
+                              (double) allocated / operations };
+    }
+
+    private long[] getAllocatedBytes(long[] threadIds) {
+        if (!allocationSupported) {
+            return null;
+        }
+        return ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(threadIds);
+    }
+
+    /**
+     * Returns the bytes allocated by the given threads since the given
+     * allocated bytes: the participants are executed by the threads of the
+     * diagnostics executor.
+     */
+    private long getAllocatedBytes(long[] threadIds, long[] allocatedBefore) {
+        long[] allocatedAfter = getAllocatedBytes(threadIds);
+        if (allocatedAfter == null) {
+            return 0;
+        }
+        long allocated = 0;
+        for (int i = 0; i < threadIds.length; i++) {
+            // -1 if the thread is not alive
+            if (allocatedBefore[i] >= 0 && allocatedAfter[i] >= allocatedBefore[i]) {
+                allocated += allocatedAfter[i] - allocatedBefore[i];
+            }
+        }
+        return allocated;
+    }
+
+    private static long getGcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long getGcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        return time;
+    }
+
+    private static JsonObject createMetric(double[] values, String unit) {
+        double mean = mean(values);
+        double error = Double.NaN;
+        if (values.length > 1) {
+            double variance = 0;
+            for (double value : values) {
+                variance += (value - mean) * (value - mean);
+            }
+            variance /= values.length - 1;
+            int degrees = values.length - 1;
+            double quantile = degrees <= T_QUANTILES.length ? T_QUANTILES[degrees - 1] : NORMAL_QUANTILE;
+            error = quantile * Math.sqrt(variance / values.length);
+        }
+        JsonObject metric = new JsonObject();
+        metric.addProperty("score", mean);
+        if (!Double.isNaN(error)) {
+            metric.addProperty("scoreError", error);
+            JsonArray confidence = new JsonArray();
+            confidence.add(mean - error);
+            confidence.add(mean + error);
+            metric.add("scoreConfidence", confidence);
+        }
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        JsonObject percentiles = new JsonObject();
+        percentiles.addProperty("0.0", sorted[0]);
+        percentiles.addProperty("50.0", sorted[sorted.length / 2]);
+        percentiles.addProperty("100.0", sorted[sorted.length - 1]);
+        metric.add("scorePercentiles", percentiles);
+        metric.addProperty("scoreUnit", unit);
+        JsonArray rawData = new JsonArray();
+        JsonArray fork = new JsonArray();
+        for (double value : values) {
+            fork.add(value);
+        }
+        rawData.add(fork);
+        metric.add("rawData", rawData);
+        return metric;
+    }
+
+    private static double mean(double[] values) {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum / values.length;
+    }
+
+    /**
+     * Writes the results of the measured operations with the JSON format of JMH.
+     *
+     * @param file the result file.
+     * @throws IOException
+     */
+    public void writeResults(File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            Files.createDirectories(parent.toPath());
+        }
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            new GsonBuilder().setPrettyPrinting().serializeSpecialFloatingPointValues().create().toJson(results, writer);
+        }
+        LOGGER.info("Wrote " + results.size() + " benchmark results to " + file.getAbsolutePath());
+    }
+}
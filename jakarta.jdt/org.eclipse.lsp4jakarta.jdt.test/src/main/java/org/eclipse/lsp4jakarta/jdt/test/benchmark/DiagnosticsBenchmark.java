@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.benchmark;
+
+import static org.eclipse.lsp4jakarta.jdt.test.benchmark.BenchmarkHarness.PROPERTY_PREFIX;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.DocumentFormat;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaCodeActionParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.codeaction.CodeActionResolveData;
+import org.eclipse.lsp4jakarta.jdt.core.PropertiesManagerForJava;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
+import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.JavaFeaturesRegistry;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.NameResolverCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SupertypeHierarchyCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction.ResolvedCodeActionCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsDefinition;
+import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
+import org.eclipse.lsp4jakarta.jdt.test.core.BaseJakartaTest;
+import org.eclipse.lsp4jakarta.jdt.test.core.JakartaForJavaAssert;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Benchmarks of the diagnostics and code actions of a synthetic Jakarta project
+ * generated by {@link SyntheticProjectGenerator}: end to end with
+ * {@link PropertiesManagerForJava}, and for each diagnostics participant, each
+ * diagnostic code and each code action participant.
+ *
+ * <p>
+ * This class is not executed by the tests: it is executed by the
+ * <code>benchmarks</code> profile of this bundle, which writes the results to
+ * <code>target/benchmark-results.json</code>. The size of the project can be
+ * configured with the system properties
+ * <code>lsp4jakarta.benchmark.entities</code>, <code>beans</code>,
+ * <code>resources</code>, <code>endpoints</code>,
+ * <code>annotationDensity</code> and <code>violationRate</code>, and the
+ * iterations like described in {@link BenchmarkHarness}.
+ * </p>
+ */
+public class DiagnosticsBenchmark extends BaseJakartaTest {
+
+    private static final Logger LOGGER = Logger.getLogger(DiagnosticsBenchmark.class.getName());
+
+    private static final IJDTUtils IJDT_UTILS = JDTUtilsLSImpl.getInstance();
+
+    private static final String PROJECT_NAME = "synthetic-jakarta";
+
+    // Maximum number of diagnostics whose code actions are measured by diagnostic code
+    private static final int CODE_ACTION_SAMPLES = Integer.getInteger(PROPERTY_PREFIX + "codeActionSamples", 20);
+
+    private static BenchmarkHarness harness;
+
+    private static List<String> uris;
+
+    private static List<PublishDiagnosticsParams> diagnostics;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        SyntheticProjectGenerator generator = new SyntheticProjectGenerator(PROJECT_NAME);
+        generator.setEntities(Integer.getInteger(PROPERTY_PREFIX + "entities", 200));
+        generator.setBeans(Integer.getInteger(PROPERTY_PREFIX + "beans", 200));
+        generator.setResources(Integer.getInteger(PROPERTY_PREFIX + "resources", 200));
+        generator.setEndpoints(Integer.getInteger(PROPERTY_PREFIX + "endpoints", 100));
+        generator.setAnnotationDensity(Double.parseDouble(System.getProperty(PROPERTY_PREFIX + "annotationDensity", "0.5")));
+        generator.setViolationRate(Double.parseDouble(System.getProperty(PROPERTY_PREFIX + "violationRate", "0.1")));
+        File projectFolder = generator.generate(new File(getWorkingProjectDirectory(), "benchmark"),
+                                                new File("projects/jakarta-sample"));
+        IJavaProject javaProject = importJavaProject(projectFolder);
+
+        uris = new ArrayList<>();
+        for (IPackageFragment fragment : javaProject.getPackageFragments()) {
+            if (fragment.getKind() == IPackageFragmentRoot.K_SOURCE) {
+                for (ICompilationUnit unit : fragment.getCompilationUnits()) {
+                    uris.add(unit.getResource().getLocation().toFile().toURI().toString());
+                }
+            }
+        }
+        LOGGER.info("Generated " + uris.size() + " Java files in " + projectFolder);
+
+        JavaDiagnosticsCache.getInstance().clear();
+        diagnostics = PropertiesManagerForJava.getInstance().diagnostics(createDiagnosticsParams(), IJDT_UTILS,
+                                                                         new NullProgressMonitor());
+        harness = new BenchmarkHarness();
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        if (harness != null) {
+            harness.writeResults(new File(System.getProperty(PROPERTY_PREFIX + "resultFile", "target/benchmark-results.json")));
+        }
+    }
+
+    @Test
+    public void diagnostics() throws Exception {
+        IProgressMonitor monitor = new NullProgressMonitor();
+        JakartaJavaDiagnosticsParams params = createDiagnosticsParams();
+        // Validation of the project after a start or a classpath change
+        harness.run(getBenchmarkName("diagnostics"), Map.of("cache", "cold"), DiagnosticsBenchmark::clearCaches,
+                    () -> PropertiesManagerForJava.getInstance().diagnostics(params, IJDT_UTILS, monitor));
+        // Validation of the project without change
+        harness.run(getBenchmarkName("diagnostics"), Map.of("cache", "warm"), null,
+                    () -> PropertiesManagerForJava.getInstance().diagnostics(params, IJDT_UTILS, monitor));
+    }
+
+    @Test
+    public void diagnosticsByParticipant() throws Exception {
+        IProgressMonitor monitor = new NullProgressMonitor();
+        List<JavaDiagnosticsContext> contexts = new ArrayList<>();
+        for (JavaDiagnosticsDefinition definition : JavaFeaturesRegistry.getInstance().getJavaDiagnosticsDefinitions()) {
+            harness.run(getBenchmarkName("diagnosticsByParticipant"), Map.of("participant", definition.toString()), () -> {
+                // The ASTs are shared by the participants of a request, they are not part of the participant cost
+                clearCaches();
+                contexts.clear();
+                for (String uri : uris) {
+                    JavaDiagnosticsContext context = new JavaDiagnosticsContext(uri, IJDT_UTILS.resolveCompilationUnit(uri), IJDT_UTILS,
+                                                                                DocumentFormat.Markdown, null);
+                    context.getASTRoot();
+                    contexts.add(context);
+                }
+            }, () -> {
+                for (JavaDiagnosticsContext context : contexts) {
+                    if (definition.isAdaptedForDiagnostics(context, monitor)) {
+                        definition.beginDiagnostics(context, monitor);
+                        definition.collectDiagnostics(context, monitor);
+                        definition.endDiagnostics(context, monitor);
+                    }
+                }
+            });
+        }
+    }
+
+    @Test
+    public void codeAction() throws Exception {
+        IProgressMonitor monitor = new NullProgressMonitor();
+        for (Map.Entry<String, List<JakartaJavaCodeActionParams>> code : getCodeActionParams().entrySet()) {
+            List<JakartaJavaCodeActionParams> samples = code.getValue();
+            int[] next = new int[1];
+            harness.run(getBenchmarkName("codeAction"), Map.of("code", code.getKey()), null, () -> {
+                JakartaJavaCodeActionParams params = samples.get(next[0]++ % samples.size());
+                PropertiesManagerForJava.getInstance().codeAction(params, IJDT_UTILS, monitor);
+            });
+        }
+    }
+
+    @Test
+    public void resolveCodeAction() throws Exception {
+        IProgressMonitor monitor = new NullProgressMonitor();
+        // The unresolved code actions by participant
+        Map<String, List<CodeAction>> unresolvedCodeActions = new TreeMap<>();
+        for (List<JakartaJavaCodeActionParams> samples : getCodeActionParams().values()) {
+            for (JakartaJavaCodeActionParams params : samples) {
+                for (CodeAction codeAction : PropertiesManagerForJava.getInstance().codeAction(params, IJDT_UTILS, monitor)) {
+                    if (codeAction.getEdit() == null && codeAction.getData() instanceof CodeActionResolveData) {
+                        String participantId = ((CodeActionResolveData) codeAction.getData()).getParticipantId();
+                        unresolvedCodeActions.computeIfAbsent(participantId, k -> new ArrayList<>()).add(codeAction);
+                    }
+                }
+            }
+        }
+        for (Map.Entry<String, List<CodeAction>> participant : unresolvedCodeActions.entrySet()) {
+            List<CodeAction> samples = participant.getValue();
+            int[] next = new int[1];
+            harness.run(getBenchmarkName("resolveCodeAction"), Map.of("participant", participant.getKey()),
+                        () -> ResolvedCodeActionCache.getInstance().clear(), () -> {
+                            // The resolve sets the edit of the given code action
+                            CodeAction unresolved = copy(samples.get(next[0]++ % samples.size()));
+                            PropertiesManagerForJava.getInstance().resolveCodeAction(unresolved, IJDT_UTILS, monitor);
+                        });
+        }
+    }
+
+    /**
+     * Returns the code action parameters of a sample of the diagnostics by
+     * diagnostic source and code.
+     */
+    private static Map<String, List<JakartaJavaCodeActionParams>> getCodeActionParams() {
+        Map<String, List<JakartaJavaCodeActionParams>> params = new LinkedHashMap<>();
+        for (PublishDiagnosticsParams fileDiagnostics : diagnostics) {
+            for (Diagnostic diagnostic : fileDiagnostics.getDiagnostics()) {
+                String code = diagnostic.getSource() + "#" + (diagnostic.getCode() == null ? "" : diagnostic.getCode().get());
+                List<JakartaJavaCodeActionParams> samples = params.computeIfAbsent(code, k -> new ArrayList<>());
+                if (samples.size() < CODE_ACTION_SAMPLES) {
+                    JakartaJavaCodeActionParams sample = JakartaForJavaAssert.createCodeActionParams(fileDiagnostics.getUri(), diagnostic);
+                    sample.setResolveSupported(true);
+                    samples.add(sample);
+                }
+            }
+        }
+        return params;
+    }
+
+    private static CodeAction copy(CodeAction codeAction) {
+        CodeAction copy = new CodeAction(codeAction.getTitle());
+        copy.setKind(codeAction.getKind());
+        copy.setDiagnostics(codeAction.getDiagnostics());
+        copy.setData(codeAction.getData());
+        return copy;
+    }
+
+    private static JakartaJavaDiagnosticsParams createDiagnosticsParams() {
+        JakartaJavaDiagnosticsParams params = new JakartaJavaDiagnosticsParams();
+        params.setUris(uris);
+        params.setDocumentFormat(DocumentFormat.Markdown);
+        return params;
+    }
+
+    private static void clearCaches() {
+        JavaDiagnosticsCache.getInstance().clear();
+        NameResolverCache.getInstance().clear();
+        SupertypeHierarchyCache.getInstance().clear();
+    }
+
+    private static String getBenchmarkName(String method) {
+        return DiagnosticsBenchmark.class.getName() + "." + method;
+    }
+}
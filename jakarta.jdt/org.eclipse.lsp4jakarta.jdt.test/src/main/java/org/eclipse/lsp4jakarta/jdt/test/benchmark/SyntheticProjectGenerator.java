@@ -0,0 +1,326 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.apache.commons.io.FileUtils;
+
+/**
+ * Generates a synthetic Jakarta Maven project with a configurable number of JPA
+ * entities, CDI beans, JAX-RS resources and WebSocket endpoints.
+ *
+ * <ul>
+ * <li>The classes reference each other (resources inject beans, beans return
+ * entities, entities reference the previous entity), like in a real
+ * application.</li>
+ * <li>The annotation density is the probability for a member to be annotated
+ * with the Jakarta annotations of its kind.</li>
+ * <li>The violation rate is the probability for a class to contain an error
+ * reported by the diagnostics participants, which gives diagnostics and code
+ * actions to the benchmarks.</li>
+ * </ul>
+ *
+ * <p>
+ * The generated sources only depend on the parameters and the seed, so two runs
+ * validate the same project.
+ * </p>
+ */
+public class SyntheticProjectGenerator {
+
+    public static final String PACKAGE = "org.acme.synthetic";
+
+    private static final String PACKAGE_PATH = "src/main/java/" + PACKAGE.replace('.', '/');
+
+    // Number of fields or methods of the generated classes
+    private static final int MEMBERS = 10;
+
+    private final String name;
+
+    private int entities = 100;
+
+    private int beans = 100;
+
+    private int resources = 100;
+
+    private int endpoints = 50;
+
+    private double annotationDensity = 0.5;
+
+    private double violationRate = 0.1;
+
+    private long seed = 42;
+
+    private Random random;
+
+    /**
+     * @param name the name of the generated Eclipse project.
+     */
+    public SyntheticProjectGenerator(String name) {
+        this.name = name;
+    }
+
+    public void setEntities(int entities) {
+        this.entities = entities;
+    }
+
+    public void setBeans(int beans) {
+        this.beans = beans;
+    }
+
+    public void setResources(int resources) {
+        this.resources = resources;
+    }
+
+    public void setEndpoints(int endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    public void setAnnotationDensity(double annotationDensity) {
+        this.annotationDensity = annotationDensity;
+    }
+
+    public void setViolationRate(double violationRate) {
+        this.violationRate = violationRate;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Generates the project in a folder with the project name in the given parent
+     * folder, replacing an existing project.
+     *
+     * @param parentFolder the parent folder.
+     * @param templateProject the Maven project whose pom.xml and .classpath
+     *            (with the Jakarta EE dependencies) are used.
+     * @return the folder of the generated project.
+     * @throws IOException
+     */
+    public File generate(File parentFolder, File templateProject) throws IOException {
+        File projectFolder = new File(parentFolder, name);
+        if (projectFolder.exists()) {
+            FileUtils.forceDelete(projectFolder);
+        }
+        FileUtils.copyFile(new File(templateProject, "pom.xml"), new File(projectFolder, "pom.xml"));
+        FileUtils.copyFile(new File(templateProject, ".classpath"), new File(projectFolder, ".classpath"));
+        write(projectFolder, ".project", createProjectDescription());
+
+        random = new Random(seed);
+        for (int i = 0; i < entities; i++) {
+            write(projectFolder, PACKAGE_PATH + "/entity/Item" + i + "Entity.java", createEntity(i));
+        }
+        for (int i = 0; i < beans; i++) {
+            write(projectFolder, PACKAGE_PATH + "/cdi/Service" + i + ".java", createBean(i));
+        }
+        for (int i = 0; i < resources; i++) {
+            write(projectFolder, PACKAGE_PATH + "/rest/Resource" + i + ".java", createResource(i));
+        }
+        for (int i = 0; i < endpoints; i++) {
+            write(projectFolder, PACKAGE_PATH + "/websocket/Endpoint" + i + ".java", createEndpoint(i));
+        }
+        return projectFolder;
+    }
+
+    private String createProjectDescription() {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+               "<projectDescription>\n" +
+               "\t<name>" + name + "</name>\n" +
+               "\t<buildSpec>\n" +
+               "\t\t<buildCommand>\n" +
+               "\t\t\t<name>org.eclipse.jdt.core.javabuilder</name>\n" +
+               "\t\t</buildCommand>\n" +
+               "\t\t<buildCommand>\n" +
+               "\t\t\t<name>org.eclipse.m2e.core.maven2Builder</name>\n" +
+               "\t\t</buildCommand>\n" +
+               "\t</buildSpec>\n" +
+               "\t<natures>\n" +
+               "\t\t<nature>org.eclipse.jdt.core.javanature</nature>\n" +
+               "\t\t<nature>org.eclipse.m2e.core.maven2Nature</nature>\n" +
+               "\t</natures>\n" +
+               "</projectDescription>\n";
+    }
+
+    private String createEntity(int index) {
+        String className = "Item" + index + "Entity";
+        boolean violation = isViolation();
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(PACKAGE).append(".entity;\n\n");
+        source.append("import jakarta.persistence.Column;\n");
+        source.append("import jakarta.persistence.Entity;\n");
+        source.append("import jakarta.persistence.Id;\n");
+        source.append("import jakarta.persistence.ManyToOne;\n");
+        source.append("import jakarta.validation.constraints.NotNull;\n\n");
+        source.append("@Entity\n");
+        source.append("public class ").append(className).append(" {\n\n");
+        source.append("    @Id\n");
+        source.append("    private long id;\n\n");
+        if (index > 0) {
+            if (isAnnotated()) {
+                source.append("    @ManyToOne\n");
+            }
+            source.append("    private Item").append(index - 1).append("Entity parent;\n\n");
+        }
+        for (int i = 0; i < MEMBERS; i++) {
+            if (isAnnotated()) {
+                source.append("    @Column(name = \"field").append(i).append("\")\n");
+                source.append("    @NotNull\n");
+            }
+            source.append("    private String field").append(i).append(";\n\n");
+        }
+        if (violation) {
+            // An entity must have a public or protected constructor without parameters
+            source.append("    private ").append(className).append("(long id) {\n");
+            source.append("        this.id = id;\n");
+            source.append("    }\n\n");
+        }
+        for (int i = 0; i < MEMBERS; i++) {
+            // An entity must not have final methods
+            source.append(violation && i == 0 ? "    public final" : "    public");
+            source.append(" String getField").append(i).append("() {\n");
+            source.append("        return field").append(i).append(";\n");
+            source.append("    }\n\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private String createBean(int index) {
+        boolean violation = isViolation();
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(PACKAGE).append(".cdi;\n\n");
+        source.append("import jakarta.enterprise.context.ApplicationScoped;\n");
+        source.append("import jakarta.enterprise.inject.Produces;\n");
+        source.append("import jakarta.inject.Inject;\n");
+        source.append("import jakarta.inject.Named;\n");
+        if (entities > 0) {
+            source.append("import ").append(PACKAGE).append(".entity.Item").append(index % entities).append("Entity;\n");
+        }
+        source.append("\n@ApplicationScoped\n");
+        source.append("public class Service").append(index).append(" {\n\n");
+        if (index > 0) {
+            source.append("    @Inject\n");
+            source.append("    Service").append(index - 1).append(" previous;\n\n");
+        }
+        if (violation) {
+            // A producer field must not be an injection point
+            source.append("    @Produces\n");
+            source.append("    @Inject\n");
+            source.append("    private String greeting").append(index).append(" = \"Hello\";\n\n");
+        }
+        if (entities > 0) {
+            source.append("    public Item").append(index % entities).append("Entity find(String id) {\n");
+            source.append("        return null;\n");
+            source.append("    }\n\n");
+        }
+        for (int i = 0; i < MEMBERS; i++) {
+            if (isAnnotated()) {
+                source.append("    @Produces\n");
+                source.append("    @Named(\"value").append(index).append('_').append(i).append("\")\n");
+            }
+            source.append("    public String value").append(i).append("() {\n");
+            source.append("        return \"value").append(i).append("\";\n");
+            source.append("    }\n\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private String createResource(int index) {
+        boolean violation = isViolation();
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(PACKAGE).append(".rest;\n\n");
+        source.append("import jakarta.inject.Inject;\n");
+        source.append("import jakarta.ws.rs.GET;\n");
+        source.append("import jakarta.ws.rs.HEAD;\n");
+        source.append("import jakarta.ws.rs.Path;\n");
+        source.append("import jakarta.ws.rs.Produces;\n");
+        source.append("import jakarta.ws.rs.QueryParam;\n");
+        if (beans > 0) {
+            source.append("import ").append(PACKAGE).append(".cdi.Service").append(index % beans).append(";\n");
+        }
+        source.append("\n@Path(\"/resource").append(index).append("\")\n");
+        source.append("public class Resource").append(index).append(" {\n\n");
+        if (beans > 0) {
+            source.append("    @Inject\n");
+            source.append("    Service").append(index % beans).append(" service;\n\n");
+        }
+        for (int i = 0; i < MEMBERS; i++) {
+            if (isAnnotated()) {
+                source.append("    @GET\n");
+                source.append("    @Path(\"/item").append(i).append("\")\n");
+                source.append("    @Produces(\"application/json\")\n");
+            }
+            source.append("    public String item").append(i).append("(@QueryParam(\"id\") String id) {\n");
+            source.append("        return ").append(beans > 0 ? "String.valueOf(service.find(id))" : "id").append(";\n");
+            source.append("    }\n\n");
+        }
+        if (violation) {
+            // Only public methods can be resource methods
+            source.append("    @HEAD\n");
+            source.append("    private void hidden() {\n");
+            source.append("    }\n\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private String createEndpoint(int index) {
+        boolean violation = isViolation();
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(PACKAGE).append(".websocket;\n\n");
+        source.append("import jakarta.websocket.OnClose;\n");
+        source.append("import jakarta.websocket.OnMessage;\n");
+        source.append("import jakarta.websocket.OnOpen;\n");
+        source.append("import jakarta.websocket.Session;\n");
+        source.append("import jakarta.websocket.server.ServerEndpoint;\n\n");
+        // Server endpoint paths must start with a leading '/'
+        source.append("@ServerEndpoint(\"").append(violation ? "" : "/").append("endpoint").append(index).append("\")\n");
+        source.append("public class Endpoint").append(index).append(" {\n\n");
+        if (isAnnotated()) {
+            source.append("    @OnOpen\n");
+        }
+        source.append("    public void open(Session session) {\n");
+        source.append("    }\n\n");
+        if (isAnnotated()) {
+            source.append("    @OnMessage\n");
+        }
+        source.append("    public String message(String message) {\n");
+        source.append("        return message;\n");
+        source.append("    }\n\n");
+        if (isAnnotated()) {
+            source.append("    @OnClose\n");
+        }
+        source.append("    public void close(Session session) {\n");
+        source.append("    }\n\n");
+        for (int i = 0; i < MEMBERS; i++) {
+            source.append("    public String format").append(i).append("(String message) {\n");
+            source.append("        return message + \"").append(i).append("\";\n");
+            source.append("    }\n\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private boolean isAnnotated() {
+        return random.nextDouble() < annotationDensity;
+    }
+
+    private boolean isViolation() {
+        return random.nextDouble() < violationRate;
+    }
+
+    private static void write(File projectFolder, String path, String content) throws IOException {
+        FileUtils.writeStringToFile(new File(projectFolder, path), content, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.codeaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4j.WorkspaceEdit;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaFixAllParams;
+import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.JakartaTaskExecutor;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction.FixAllHandler;
+import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
+import org.eclipse.lsp4jakarta.jdt.test.core.BaseJakartaTest;
+import org.junit.Test;
+
+/**
+ * Tests for the fix all of a project: the fixes of the Java files collected
+ * concurrently are merged in the order of the Java files, so the workspace
+ * edit is the same as the edit of the fixes collected serially.
+ */
+public class FixAllHandlerTest extends BaseJakartaTest {
+
+    protected static IJDTUtils IJDT_UTILS = JDTUtilsLSImpl.getInstance();
+
+    @Test
+    public void concurrentFixAllInFilesOrder() throws Exception {
+        IJavaProject javaProject = loadJavaProject("jakarta-sample", "");
+        IFile javaFile = javaProject.getProject().getFile(new Path("src/main/java/io/openliberty/sample/jakarta/persistence/VersionInHierarchyChild.java"));
+        String uri = javaFile.getLocation().toFile().toURI().toString();
+        JakartaJavaFixAllParams params = new JakartaJavaFixAllParams(uri, true);
+
+        // One worker: the fixes of the files are collected and merged one by one
+        JakartaTaskExecutor serialExecutor = new JakartaTaskExecutor(1);
+        JakartaTaskExecutor concurrentExecutor = new JakartaTaskExecutor(4);
+        try {
+            WorkspaceEdit serialEdit = new FixAllHandler(serialExecutor).fixAll(params, IJDT_UTILS,
+                                                                                new NullProgressMonitor());
+            assertNotNull(serialEdit);
+            WorkspaceEdit concurrentEdit = new FixAllHandler(concurrentExecutor).fixAll(params, IJDT_UTILS,
+                                                                                        new NullProgressMonitor());
+            assertEquals(serialEdit, concurrentEdit);
+        } finally {
+            serialExecutor.shutdown();
+            concurrentExecutor.shutdown();
+        }
+    }
+}
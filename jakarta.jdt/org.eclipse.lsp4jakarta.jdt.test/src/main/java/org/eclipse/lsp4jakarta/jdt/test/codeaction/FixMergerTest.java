@@ -0,0 +1,166 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.codeaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.lsp4j.WorkspaceEdit;
+import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction.FixMerger;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction.FixMerger.Fix;
+import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
+import org.eclipse.lsp4jakarta.jdt.test.core.BaseJakartaTest;
+import org.eclipse.text.edits.DeleteEdit;
+import org.eclipse.text.edits.InsertEdit;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the merge of the fixes of the fix all: identical edits are merged
+ * and a fix which overlaps a previous fix is skipped.
+ */
+public class FixMergerTest extends BaseJakartaTest {
+
+    protected static IJDTUtils IJDT_UTILS = JDTUtilsLSImpl.getInstance();
+
+    private static final String IMPORT = "import jakarta.persistence.Id;\n";
+
+    private String uri;
+
+    private ICompilationUnit unit;
+
+    private ICompilationUnit otherUnit;
+
+    @Before
+    public void setUp() throws Exception {
+        IJavaProject javaProject = loadJavaProject("jakarta-sample", "");
+        IFile javaFile = javaProject.getProject().getFile(new Path("src/main/java/io/openliberty/sample/jakarta/persistence/VersionInHierarchyChild.java"));
+        uri = javaFile.getLocation().toFile().toURI().toString();
+        unit = JavaCore.createCompilationUnitFrom(javaFile);
+        otherUnit = JavaCore.createCompilationUnitFrom(javaProject.getProject().getFile(new Path("src/main/java/io/openliberty/sample/jakarta/persistence/VersionInHierarchyParent.java")));
+    }
+
+    @Test
+    public void mergeIdenticalEdits() {
+        FixMerger merger = new FixMerger();
+        assertTrue(merger.add(fix(new InsertEdit(0, IMPORT), new ReplaceEdit(100, 5, "first"))));
+        // The same import is added by both fixes
+        assertTrue(merger.add(fix(new InsertEdit(0, IMPORT), new ReplaceEdit(200, 5, "second"))));
+
+        TextEdit[] edits = merger.getEdit(unit).getChildren();
+        assertEquals(3, edits.length);
+        assertEdit(edits[0], 0, 0, IMPORT);
+        assertEdit(edits[1], 100, 5, "first");
+        assertEdit(edits[2], 200, 5, "second");
+    }
+
+    @Test
+    public void skipOverlappingFix() {
+        FixMerger merger = new FixMerger();
+        assertTrue(merger.add(fix(new ReplaceEdit(100, 10, "first"))));
+        assertFalse(merger.add(fix(new InsertEdit(0, IMPORT), new ReplaceEdit(105, 10, "second"))));
+        assertFalse(merger.add(fix(new DeleteEdit(95, 10))));
+        // A replaced region with another text overlaps
+        assertFalse(merger.add(fix(new ReplaceEdit(100, 10, "other"))));
+
+        // The edits of a skipped fix are not added, even those which don't overlap
+        TextEdit[] edits = merger.getEdit(unit).getChildren();
+        assertEquals(1, edits.length);
+        assertEdit(edits[0], 100, 10, "first");
+    }
+
+    @Test
+    public void insertAtBoundsOfReplacedRegion() {
+        FixMerger merger = new FixMerger();
+        assertTrue(merger.add(fix(new ReplaceEdit(100, 10, "first"))));
+        assertTrue(merger.add(fix(new InsertEdit(100, "before"))));
+        assertTrue(merger.add(fix(new InsertEdit(110, "after"))));
+        // Insertions at the same offset are applied in the order of the fixes
+        assertTrue(merger.add(fix(new InsertEdit(110, "after2"))));
+        assertFalse(merger.add(fix(new InsertEdit(105, "inside"))));
+
+        assertEquals(4, merger.getEdit(unit).getChildren().length);
+    }
+
+    @Test
+    public void checkAllUnitsOfFix() {
+        FixMerger merger = new FixMerger();
+        assertTrue(merger.add(fix(Collections.singletonMap(otherUnit, Arrays.asList(new ReplaceEdit(100, 10, "first"))))));
+        // The fix overlaps the previous fix in the other unit only
+        Map<ICompilationUnit, List<TextEdit>> edits = new LinkedHashMap<>();
+        edits.put(unit, Arrays.asList(new InsertEdit(0, IMPORT)));
+        edits.put(otherUnit, Arrays.asList(new ReplaceEdit(105, 10, "second")));
+        assertFalse(merger.add(fix(edits)));
+
+        assertNull(merger.getEdit(unit));
+        assertEquals(1, merger.getEdit(otherUnit).getChildren().length);
+    }
+
+    @Test
+    public void toWorkspaceEdit() {
+        FixMerger merger = new FixMerger();
+        assertNull(merger.toWorkspaceEdit(false, IJDT_UTILS));
+
+        merger.addAll(Arrays.asList(fix(new InsertEdit(0, IMPORT)), fix(new InsertEdit(0, IMPORT))));
+        WorkspaceEdit workspaceEdit = merger.toWorkspaceEdit(false, IJDT_UTILS);
+        assertNotNull(workspaceEdit);
+        List<org.eclipse.lsp4j.TextEdit> textEdits = workspaceEdit.getChanges().get(uri);
+        assertNotNull(textEdits);
+        assertEquals(1, textEdits.size());
+        assertEquals(IMPORT, textEdits.get(0).getNewText());
+        assertEquals(0, textEdits.get(0).getRange().getStart().getLine());
+        assertEquals(0, textEdits.get(0).getRange().getStart().getCharacter());
+
+        workspaceEdit = merger.toWorkspaceEdit(true, IJDT_UTILS);
+        assertNotNull(workspaceEdit);
+        assertEquals(1, workspaceEdit.getDocumentChanges().size());
+        assertEquals(uri, workspaceEdit.getDocumentChanges().get(0).getLeft().getTextDocument().getUri());
+    }
+
+    private Fix fix(TextEdit... edits) {
+        return fix(Collections.singletonMap(unit, Arrays.asList(edits)));
+    }
+
+    private Fix fix(Map<ICompilationUnit, List<TextEdit>> edits) {
+        return new Fix(uri, unit, edits);
+    }
+
+    private static void assertEdit(TextEdit edit, int offset, int length, String text) {
+        assertEquals(offset, edit.getOffset());
+        assertEquals(length, edit.getLength());
+        if (edit instanceof ReplaceEdit) {
+            assertEquals(text, ((ReplaceEdit) edit).getText());
+        } else {
+            assertEquals(text, ((InsertEdit) edit).getText());
+        }
+        assertFalse(edit instanceof MultiTextEdit);
+    }
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.codeaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.lsp4j.CodeActionKind;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.JavaFeaturesRegistry;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction.JavaCodeActionDefinition;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction.JavaCodeActionIndex;
+import org.junit.Test;
+
+/**
+ * Tests for the dispatch index of the code action definitions: the definitions
+ * found by diagnostic source and code are the definitions found by scanning
+ * all the definitions of the code action kind.
+ */
+public class JavaCodeActionIndexTest {
+
+    @Test
+    public void indexMatchesDefinitions() {
+        JavaFeaturesRegistry registry = JavaFeaturesRegistry.getInstance();
+        List<JavaCodeActionDefinition> definitions = registry.getJavaCodeActionDefinitions(CodeActionKind.QuickFix);
+        JavaCodeActionIndex index = registry.getJavaCodeActionIndex(CodeActionKind.QuickFix);
+        assertSame(index, registry.getJavaCodeActionIndex(CodeActionKind.QuickFix));
+        assertEquals(definitions, index.getDefinitions());
+
+        Map<String, List<JavaCodeActionDefinition>> forDiagnostics = new HashMap<>();
+        List<JavaCodeActionDefinition> generalDefinitions = new ArrayList<>();
+        for (JavaCodeActionDefinition definition : definitions) {
+            String forDiagnostic = definition.getTargetDiagnostic();
+            if (forDiagnostic != null) {
+                forDiagnostics.computeIfAbsent(forDiagnostic, key -> new ArrayList<>()).add(definition);
+            } else {
+                generalDefinitions.add(definition);
+            }
+        }
+        assertFalse(forDiagnostics.isEmpty());
+        assertEquals(generalDefinitions, index.getGeneralDefinitions());
+
+        for (String forDiagnostic : forDiagnostics.keySet()) {
+            int separatorIndex = forDiagnostic.indexOf('#');
+            String source = separatorIndex != -1 ? forDiagnostic.substring(0, separatorIndex) : "other-source";
+            String code = forDiagnostic.substring(separatorIndex + 1);
+            assertEquals(forDiagnostic, getDefinitionsFor(forDiagnostics, source, code), index.getDefinitionsFor(source, code));
+            assertEquals(forDiagnostic, getDefinitionsFor(forDiagnostics, null, code), index.getDefinitionsFor(null, code));
+            assertEquals(forDiagnostic, getDefinitionsFor(forDiagnostics, "other-source", code),
+                         index.getDefinitionsFor("other-source", code));
+        }
+        assertTrue(index.getDefinitionsFor("other-source", "OtherCode").isEmpty());
+
+        for (JavaCodeActionDefinition definition : definitions) {
+            JavaCodeActionDefinition expected = definitions.stream() //
+                    .filter(d -> definition.getParticipantId().equals(d.getParticipantId())) //
+                    .findFirst().get();
+            assertSame(expected, index.getDefinition(definition.getParticipantId()));
+            // The second lookup is cached
+            assertSame(expected, index.getDefinition(definition.getParticipantId()));
+        }
+        assertNull(index.getDefinition("other-participant"));
+    }
+
+    /**
+     * Returns the definitions registered with "source#code" and else with "code",
+     * as the code action handler did before the index.
+     */
+    private static List<JavaCodeActionDefinition> getDefinitionsFor(Map<String, List<JavaCodeActionDefinition>> forDiagnostics,
+                                                                    String source, String code) {
+        List<JavaCodeActionDefinition> definitionsFor = source != null ? forDiagnostics.get(source + "#" + code) : null;
+        if (definitionsFor == null) {
+            definitionsFor = forDiagnostics.get(code);
+        }
+        return definitionsFor != null ? definitionsFor : Collections.emptyList();
+    }
+}
@@ -71,7 +71,17 @@ public class BaseJakartaTest {
     private static IJavaProject loadJavaProjectInternal(String projectName, String parentDirName) throws CoreException, Exception {
         // Move project to working directory (synchronized to avoid file system conflicts)
         File projectFolder = copyProjectToWorkingDirectory(projectName, parentDirName);
+        return importJavaProject(projectFolder);
+    }
 
+    /**
+     * Imports the project of the given folder in the workspace, without copying
+     * it, and waits for its classpath to be resolved.
+     *
+     * @param projectFolder the folder of the project (with a .project file).
+     * @return the Java project.
+     */
+    protected static IJavaProject importJavaProject(File projectFolder) throws CoreException, Exception {
         IPath path = new Path(new File(projectFolder, "/.project").getAbsolutePath());
         IProjectDescription description = ResourcesPlugin.getWorkspace().loadProjectDescription(path);
         IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(description.getName());
@@ -0,0 +1,111 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.diagnostics;
+
+import static org.eclipse.lsp4jakarta.jdt.test.core.JakartaForJavaAssert.assertDiagnostics;
+import static org.eclipse.lsp4jakarta.jdt.test.diagnostics.JavaDiagnosticsCacheTest.CHILD_PATH;
+import static org.eclipse.lsp4jakarta.jdt.test.diagnostics.JavaDiagnosticsCacheTest.PARENT_PATH;
+import static org.eclipse.lsp4jakarta.jdt.test.diagnostics.JavaDiagnosticsCacheTest.VERSION_IN_HIERARCHY;
+import static org.eclipse.lsp4jakarta.jdt.test.diagnostics.JavaDiagnosticsCacheTest.createParams;
+import static org.eclipse.lsp4jakarta.jdt.test.diagnostics.JavaDiagnosticsCacheTest.edit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsReport;
+import org.eclipse.lsp4jakarta.jdt.core.PropertiesManagerForJava;
+import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
+import org.eclipse.lsp4jakarta.jdt.test.core.BaseJakartaTest;
+import org.junit.Test;
+
+/**
+ * Tests for the pulled diagnostics: a Java file is reported as unchanged while
+ * its result id matches the previous result id given by the client.
+ */
+public class JakartaPullDiagnosticsTest extends BaseJakartaTest {
+
+    protected static IJDTUtils IJDT_UTILS = JDTUtilsLSImpl.getInstance();
+
+    @Test
+    public void reportUnchangedWhenResultIdMatches() throws Exception {
+        IJavaProject javaProject = loadJavaProject("jakarta-sample", "");
+        JakartaJavaDiagnosticsParams diagnosticsParams = createParams(javaProject, CHILD_PATH);
+        String uri = diagnosticsParams.getUris().get(0);
+
+        JakartaJavaDiagnosticsReport first = pull(diagnosticsParams);
+        assertEquals(uri, first.getUri());
+        assertFalse(first.isUnchanged());
+        assertNotNull(first.getResultId());
+        assertDiagnostics(first.getDiagnostics(), VERSION_IN_HIERARCHY);
+
+        diagnosticsParams.setPreviousResultIds(Collections.singletonMap(uri, first.getResultId()));
+        JakartaJavaDiagnosticsReport second = pull(diagnosticsParams);
+        assertTrue(second.isUnchanged());
+        assertEquals(first.getResultId(), second.getResultId());
+        assertNull(second.getDiagnostics());
+    }
+
+    @Test
+    public void reportDiagnosticsWhenResultIdIsUnknown() throws Exception {
+        IJavaProject javaProject = loadJavaProject("jakarta-sample", "");
+        JakartaJavaDiagnosticsParams diagnosticsParams = createParams(javaProject, CHILD_PATH);
+        String uri = diagnosticsParams.getUris().get(0);
+
+        diagnosticsParams.setPreviousResultIds(Collections.singletonMap(uri, "unknown"));
+        JakartaJavaDiagnosticsReport report = pull(diagnosticsParams);
+        assertFalse(report.isUnchanged());
+        assertNotEquals("unknown", report.getResultId());
+        assertDiagnostics(report.getDiagnostics(), VERSION_IN_HIERARCHY);
+    }
+
+    @Test
+    public void reportDiagnosticsWhenDependencyChanges() throws Exception {
+        IJavaProject javaProject = loadJavaProject("jakarta-sample", "");
+        JakartaJavaDiagnosticsParams diagnosticsParams = createParams(javaProject, CHILD_PATH);
+        String uri = diagnosticsParams.getUris().get(0);
+        JakartaJavaDiagnosticsReport first = pull(diagnosticsParams);
+        assertDiagnostics(first.getDiagnostics(), VERSION_IN_HIERARCHY);
+
+        // The child entity is no longer reported when the @Version of its super
+        // class is removed, although the child itself doesn't change
+        diagnosticsParams.setPreviousResultIds(Collections.singletonMap(uri, first.getResultId()));
+        ICompilationUnit parent = edit(javaProject, PARENT_PATH, "@Version", "");
+        try {
+            JakartaJavaDiagnosticsReport second = pull(diagnosticsParams);
+            assertFalse(second.isUnchanged());
+            assertNotEquals(first.getResultId(), second.getResultId());
+            assertDiagnostics(second.getDiagnostics());
+        } finally {
+            parent.discardWorkingCopy();
+        }
+    }
+
+    private static JakartaJavaDiagnosticsReport pull(JakartaJavaDiagnosticsParams params) throws Exception {
+        List<JakartaJavaDiagnosticsReport> reports = PropertiesManagerForJava.getInstance().pullDiagnostics(params,
+                                                                                                            IJDT_UTILS,
+                                                                                                            new NullProgressMonitor());
+        assertEquals(1, reports.size());
+        return reports.get(0);
+    }
+}
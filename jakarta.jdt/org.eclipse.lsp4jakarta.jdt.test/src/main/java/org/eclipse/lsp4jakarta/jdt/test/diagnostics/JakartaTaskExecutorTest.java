@@ -0,0 +1,139 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.diagnostics;
+
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.JakartaTaskExecutor;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.JakartaTaskExecutor.Task;
+import org.junit.Test;
+
+/**
+ * Tests for the executor shared by the diagnostics participants, the workspace
+ * validation and the fix all: timeout and cancellation of the tasks. The
+ * order of the merged results is tested by {@link JavaDiagnosticsExecutorTest}
+ * and by FixAllHandlerTest.
+ */
+public class JakartaTaskExecutorTest {
+
+    private static final long WAIT_MS = 5000;
+
+    private final JakartaTaskExecutor executor = JakartaTaskExecutor.getInstance();
+
+    @Test
+    public void timeOutHungTask() throws Exception {
+        Task<String> task = executor.submit("hung task", monitor -> {
+            waitForCancellation(monitor);
+            return "done";
+        }, null, 200);
+        try {
+            task.getFuture().get(WAIT_MS, TimeUnit.MILLISECONDS);
+            fail("The task should time out");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+        // The hung task sees the cancellation of its monitor
+        assertTrue(task.getMonitor().isCanceled());
+    }
+
+    @Test
+    public void cancelTasksOfCanceledRequest() throws Exception {
+        IProgressMonitor requestMonitor = new NullProgressMonitor();
+        CountDownLatch started = new CountDownLatch(1);
+        Task<String> task = executor.submit("task of a canceled request", monitor -> {
+            started.countDown();
+            waitForCancellation(monitor);
+            return "done";
+        }, requestMonitor, 0);
+        assertTrue(started.await(WAIT_MS, TimeUnit.MILLISECONDS));
+
+        requestMonitor.setCanceled(true);
+        assertCanceled(task);
+        assertTrue(task.getMonitor().isCanceled());
+    }
+
+    @Test
+    public void cancelTask() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        Task<String> task = executor.submit("canceled task", monitor -> {
+            started.countDown();
+            waitForCancellation(monitor);
+            return "done";
+        }, null, 0);
+        assertTrue(started.await(WAIT_MS, TimeUnit.MILLISECONDS));
+
+        task.cancel();
+        assertCanceled(task);
+        assertTrue(task.getMonitor().isCanceled());
+    }
+
+    @Test
+    public void runNestedTaskInWorker() throws Exception {
+        Task<Thread[]> task = executor.submit("outer task", monitor -> {
+            Task<Thread> nested = executor.submit("nested task", nestedMonitor -> Thread.currentThread(), monitor, 0);
+            // The nested task is done as soon as it is submitted
+            assertTrue(nested.getFuture().isDone());
+            return new Thread[] { Thread.currentThread(), nested.getFuture().join() };
+        }, null, 0);
+        Thread[] threads = task.getFuture().get(WAIT_MS, TimeUnit.MILLISECONDS);
+        assertSame(threads[0], threads[1]);
+    }
+
+    @Test
+    public void failedTask() throws Exception {
+        Task<String> task = executor.submit("failed task", monitor -> {
+            throw new IllegalStateException("failure");
+        }, null, 0);
+        try {
+            task.getFuture().join();
+            fail("The task should fail");
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    private static void assertCanceled(Task<?> task) throws Exception {
+        try {
+            task.getFuture().get(WAIT_MS, TimeUnit.MILLISECONDS);
+            fail("The task should be canceled");
+        } catch (CancellationException e) {
+            // Expected
+        }
+    }
+
+    private static void waitForCancellation(IProgressMonitor monitor) {
+        long deadline = System.currentTimeMillis() + WAIT_MS;
+        while (!monitor.isCanceled() && System.currentTimeMillis() < deadline) {
+            sleep(10);
+        }
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
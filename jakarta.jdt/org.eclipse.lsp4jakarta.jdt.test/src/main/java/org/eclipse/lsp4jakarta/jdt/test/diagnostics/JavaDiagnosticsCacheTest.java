@@ -0,0 +1,158 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.diagnostics;
+
+import static org.eclipse.lsp4jakarta.jdt.test.core.JakartaForJavaAssert.assertJavaDiagnostics;
+import static org.eclipse.lsp4jakarta.jdt.test.core.JakartaForJavaAssert.d;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4jakarta.commons.JakartaClasspathChangeEvent;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
+import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsDependencyGraph;
+import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
+import org.eclipse.lsp4jakarta.jdt.test.core.BaseJakartaTest;
+import org.junit.Test;
+
+/**
+ * Tests for the diagnostics cache: the cached diagnostics of a Java file are
+ * returned while nothing they depend on changes, and are collected again when
+ * the content of the file, the classpath or a type the file depends on
+ * changes.
+ */
+public class JavaDiagnosticsCacheTest extends BaseJakartaTest {
+
+    protected static IJDTUtils IJDT_UTILS = JDTUtilsLSImpl.getInstance();
+
+    static final String CHILD_PATH = "src/main/java/io/openliberty/sample/jakarta/persistence/VersionInHierarchyChild.java";
+
+    static final String PARENT_PATH = "src/main/java/io/openliberty/sample/jakarta/persistence/VersionInHierarchyParent.java";
+
+    static final String PARENT_TYPE = "io.openliberty.sample.jakarta.persistence.VersionInHierarchyParent";
+
+    // The @Version of the child entity is reported because its mapped super class
+    // declares one too
+    static final Diagnostic VERSION_IN_HIERARCHY = d(10, 16, 28,
+                                                     "The @Version annotation is already present in the parent entity class. Only one @Version annotation is allowed in the entity hierarchy.",
+                                                     DiagnosticSeverity.Error, "jakarta-persistence",
+                                                     "DuplicateVersionAnnotationInHierarchy");
+
+    private final JavaDiagnosticsCache cache = JavaDiagnosticsCache.getInstance();
+
+    @Test
+    public void returnCachedDiagnosticsOfSameContent() throws Exception {
+        IJavaProject javaProject = loadJavaProject("jakarta-sample", "");
+        JakartaJavaDiagnosticsParams diagnosticsParams = createParams(javaProject, CHILD_PATH);
+        assertTrue(cache.isEnabled());
+
+        assertJavaDiagnostics(diagnosticsParams, IJDT_UTILS, VERSION_IN_HIERARCHY);
+        long hitCount = cache.getHitCount();
+        assertJavaDiagnostics(diagnosticsParams, IJDT_UTILS, VERSION_IN_HIERARCHY);
+        assertEquals(hitCount + 1, cache.getHitCount());
+    }
+
+    @Test
+    public void collectDiagnosticsAgainWhenContentChanges() throws Exception {
+        IJavaProject javaProject = loadJavaProject("jakarta-sample", "");
+        JakartaJavaDiagnosticsParams diagnosticsParams = createParams(javaProject, CHILD_PATH);
+        assertJavaDiagnostics(diagnosticsParams, IJDT_UTILS, VERSION_IN_HIERARCHY);
+
+        ICompilationUnit child = edit(javaProject, CHILD_PATH, "@Version", "");
+        try {
+            long missCount = cache.getMissCount();
+            assertJavaDiagnostics(diagnosticsParams, IJDT_UTILS);
+            assertEquals(missCount + 1, cache.getMissCount());
+        } finally {
+            child.discardWorkingCopy();
+        }
+        // The diagnostics of the saved content are still valid
+        long hitCount = cache.getHitCount();
+        assertJavaDiagnostics(diagnosticsParams, IJDT_UTILS, VERSION_IN_HIERARCHY);
+        assertEquals(hitCount + 1, cache.getHitCount());
+    }
+
+    @Test
+    public void collectDiagnosticsAgainWhenClasspathChanges() throws Exception {
+        IJavaProject javaProject = loadJavaProject("jakarta-sample", "");
+        JakartaJavaDiagnosticsParams diagnosticsParams = createParams(javaProject, CHILD_PATH);
+        assertJavaDiagnostics(diagnosticsParams, IJDT_UTILS, VERSION_IN_HIERARCHY);
+
+        cache.classpathChanged(new JakartaClasspathChangeEvent());
+        long missCount = cache.getMissCount();
+        assertJavaDiagnostics(diagnosticsParams, IJDT_UTILS, VERSION_IN_HIERARCHY);
+        assertEquals(missCount + 1, cache.getMissCount());
+    }
+
+    @Test
+    public void collectDiagnosticsAgainWhenDependencyChanges() throws Exception {
+        IJavaProject javaProject = loadJavaProject("jakarta-sample", "");
+        JakartaJavaDiagnosticsParams diagnosticsParams = createParams(javaProject, CHILD_PATH);
+        assertJavaDiagnostics(diagnosticsParams, IJDT_UTILS, VERSION_IN_HIERARCHY);
+        String uri = diagnosticsParams.getUris().get(0);
+        assertNotNull(JavaDiagnosticsDependencyGraph.getInstance().getDependencies(uri));
+        assertTrue(JavaDiagnosticsDependencyGraph.getInstance().getDependencies(uri).contains(PARENT_TYPE));
+
+        // The child entity is no longer reported when the @Version of its super
+        // class is removed
+        ICompilationUnit parent = edit(javaProject, PARENT_PATH, "@Version", "");
+        try {
+            long missCount = cache.getMissCount();
+            assertJavaDiagnostics(diagnosticsParams, IJDT_UTILS);
+            assertEquals(missCount + 1, cache.getMissCount());
+        } finally {
+            parent.discardWorkingCopy();
+        }
+        assertJavaDiagnostics(diagnosticsParams, IJDT_UTILS, VERSION_IN_HIERARCHY);
+    }
+
+    static JakartaJavaDiagnosticsParams createParams(IJavaProject javaProject, String path) {
+        IFile javaFile = javaProject.getProject().getFile(new Path(path));
+        String uri = javaFile.getLocation().toFile().toURI().toString();
+
+        JakartaJavaDiagnosticsParams diagnosticsParams = new JakartaJavaDiagnosticsParams();
+        diagnosticsParams.setUris(Arrays.asList(uri));
+        return diagnosticsParams;
+    }
+
+    /**
+     * Replaces the given text in the working copy of the given Java file, like
+     * an edit in a client, without saving the file. The caller must discard the
+     * returned working copy.
+     */
+    static ICompilationUnit edit(IJavaProject javaProject, String path, String text,
+                                 String replacement) throws JavaModelException {
+        IFile javaFile = javaProject.getProject().getFile(new Path(path));
+        ICompilationUnit unit = JavaCore.createCompilationUnitFrom(javaFile);
+        unit.becomeWorkingCopy(null);
+        IBuffer buffer = unit.getBuffer();
+        String contents = buffer.getContents();
+        assertTrue(contents.contains(text));
+        buffer.setContents(contents.replace(text, replacement));
+        unit.reconcile(ICompilationUnit.NO_AST, false, null, null);
+        return unit;
+    }
+}
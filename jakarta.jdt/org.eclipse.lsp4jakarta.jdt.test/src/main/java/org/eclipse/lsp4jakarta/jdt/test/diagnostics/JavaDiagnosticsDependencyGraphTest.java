@@ -0,0 +1,192 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.diagnostics;
+
+import static org.eclipse.lsp4jakarta.jdt.test.diagnostics.JavaDiagnosticsCacheTest.CHILD_PATH;
+import static org.eclipse.lsp4jakarta.jdt.test.diagnostics.JavaDiagnosticsCacheTest.PARENT_PATH;
+import static org.eclipse.lsp4jakarta.jdt.test.diagnostics.JavaDiagnosticsCacheTest.PARENT_TYPE;
+import static org.eclipse.lsp4jakarta.jdt.test.diagnostics.JavaDiagnosticsCacheTest.edit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.lsp4jakarta.commons.DocumentFormat;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
+import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsDependencyGraph;
+import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
+import org.eclipse.lsp4jakarta.jdt.test.core.BaseJakartaTest;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the dependency graph of the diagnostics: the Java files affected
+ * by a change, the update and invalidation of the dependencies and the
+ * eviction of the least recently validated files.
+ */
+public class JavaDiagnosticsDependencyGraphTest extends BaseJakartaTest {
+
+    protected static IJDTUtils IJDT_UTILS = JDTUtilsLSImpl.getInstance();
+
+    private static final String CHILD_TYPE = "io.openliberty.sample.jakarta.persistence.VersionInHierarchyChild";
+
+    private static final String OTHER_PATH = "src/main/java/io/openliberty/sample/jakarta/persistence/CompositeKey.java";
+
+    private static final String BASE_TYPE = "io.openliberty.sample.jakarta.persistence.BaseMappedSuperclass";
+
+    private IJavaProject javaProject;
+
+    private JavaDiagnosticsDependencyGraph graph;
+
+    @Before
+    public void setUp() throws Exception {
+        javaProject = loadJavaProject("jakarta-sample", "");
+        graph = new JavaDiagnosticsDependencyGraph(100);
+    }
+
+    @Test
+    public void updateDependencies() throws Exception {
+        assertTrue(graph.isEmpty());
+        graph.update(createContext(CHILD_PATH));
+
+        String childUri = getUri(CHILD_PATH);
+        assertFalse(graph.isEmpty());
+        assertEquals(Collections.singleton(CHILD_TYPE), graph.getDeclaredTypes(childUri));
+        // The super class is a dependency, the library annotations are not
+        assertTrue(graph.getDependencies(childUri).contains(PARENT_TYPE));
+        assertFalse(graph.getDependencies(childUri).contains("jakarta.persistence.Entity"));
+        assertNull(graph.getDependencies(getUri(PARENT_PATH)));
+    }
+
+    @Test
+    public void getDependentUris() throws Exception {
+        graph.update(createContext(CHILD_PATH));
+        graph.update(createContext(PARENT_PATH));
+        graph.update(createContext(OTHER_PATH));
+
+        assertEquals(Collections.singleton(getUri(CHILD_PATH)), graph.getDependentUris(Collections.singleton(PARENT_TYPE)));
+        assertTrue(graph.getDependentUris(Collections.singleton(CHILD_TYPE)).isEmpty());
+    }
+
+    @Test
+    public void getAffectedUris() throws Exception {
+        graph.update(createContext(CHILD_PATH));
+        graph.update(createContext(PARENT_PATH));
+        graph.update(createContext(OTHER_PATH));
+        String childUri = getUri(CHILD_PATH);
+        String parentUri = getUri(PARENT_PATH);
+        String otherUri = getUri(OTHER_PATH);
+        List<String> uris = Arrays.asList(childUri, parentUri, otherUri);
+
+        // The changed file and the files which depend on it
+        Map<String, ITypeRoot> changed = new HashMap<>();
+        changed.put(parentUri, getUnit(PARENT_PATH));
+        assertEquals(Arrays.asList(childUri, parentUri), graph.getAffectedUris(uris, changed));
+
+        // The types declared before the change are used for a deleted file
+        changed.put(parentUri, null);
+        assertEquals(Arrays.asList(childUri, parentUri), graph.getAffectedUris(uris, changed));
+
+        // The files which were never validated are affected by any change
+        JavaDiagnosticsDependencyGraph emptyGraph = new JavaDiagnosticsDependencyGraph(100);
+        changed.put(parentUri, getUnit(PARENT_PATH));
+        assertEquals(uris, emptyGraph.getAffectedUris(uris, changed));
+    }
+
+    @Test
+    public void getAffectedUrisOfUnknownTypeRoot() throws Exception {
+        graph.update(createContext(CHILD_PATH));
+        graph.update(createContext(OTHER_PATH));
+        List<String> uris = Arrays.asList(getUri(CHILD_PATH), getUri(OTHER_PATH));
+
+        // The types of a file which was never validated and can't be resolved are
+        // unknown: all the files are affected
+        Map<String, ITypeRoot> changed = new HashMap<>();
+        changed.put(getUri(PARENT_PATH), null);
+        assertSame(uris, graph.getAffectedUris(uris, changed));
+    }
+
+    @Test
+    public void invalidateDependencies() throws Exception {
+        String childUri = getUri(CHILD_PATH);
+        graph.update(createContext(CHILD_PATH));
+        assertFalse(graph.getDependencies(childUri).contains(BASE_TYPE));
+
+        ICompilationUnit parent = edit(javaProject, PARENT_PATH, "public class VersionInHierarchyParent {",
+                                       "public class VersionInHierarchyParent extends BaseMappedSuperclass {");
+        try {
+            // The declarations of the child are the same, its dependencies are reused
+            graph.update(createContext(CHILD_PATH));
+            assertFalse(graph.getDependencies(childUri).contains(BASE_TYPE));
+
+            // The new super class of the parent is a dependency once the child is
+            // invalidated
+            graph.invalidate(Collections.singleton(childUri));
+            graph.update(createContext(CHILD_PATH));
+            assertTrue(graph.getDependencies(childUri).contains(BASE_TYPE));
+        } finally {
+            parent.discardWorkingCopy();
+        }
+
+        graph.update(createContext(CHILD_PATH));
+        assertTrue(graph.getDependencies(childUri).contains(BASE_TYPE));
+        graph.invalidateAll();
+        graph.update(createContext(CHILD_PATH));
+        assertFalse(graph.getDependencies(childUri).contains(BASE_TYPE));
+    }
+
+    @Test
+    public void evictLeastRecentlyValidatedFiles() throws Exception {
+        JavaDiagnosticsDependencyGraph smallGraph = new JavaDiagnosticsDependencyGraph(2);
+        smallGraph.update(createContext(CHILD_PATH));
+        smallGraph.update(createContext(PARENT_PATH));
+        // Access the child so that the parent is the least recently used
+        assertNotNull(smallGraph.getDependencies(getUri(CHILD_PATH)));
+        smallGraph.update(createContext(OTHER_PATH));
+
+        assertNotNull(smallGraph.getDependencies(getUri(CHILD_PATH)));
+        assertNull(smallGraph.getDependencies(getUri(PARENT_PATH)));
+        assertNotNull(smallGraph.getDependencies(getUri(OTHER_PATH)));
+    }
+
+    private JavaDiagnosticsContext createContext(String path) {
+        return new JavaDiagnosticsContext(getUri(path), getUnit(path), IJDT_UTILS, DocumentFormat.PlainText, null);
+    }
+
+    private ICompilationUnit getUnit(String path) {
+        return JavaCore.createCompilationUnitFrom(getFile(path));
+    }
+
+    private String getUri(String path) {
+        return getFile(path).getLocation().toFile().toURI().toString();
+    }
+
+    private IFile getFile(String path) {
+        return javaProject.getProject().getFile(new Path(path));
+    }
+}
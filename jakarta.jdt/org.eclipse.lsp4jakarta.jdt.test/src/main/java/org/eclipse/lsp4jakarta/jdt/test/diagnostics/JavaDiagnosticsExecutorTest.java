@@ -0,0 +1,108 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.diagnostics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4jakarta.commons.DocumentFormat;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
+import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4jakarta.jdt.core.utils.JDTJakartaUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.JakartaTaskExecutor;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.JavaFeaturesRegistry;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsDefinition;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsExecutor;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsExecutor.DiagnosticsRequest;
+import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
+import org.eclipse.lsp4jakarta.jdt.test.core.BaseJakartaTest;
+import org.junit.Test;
+
+/**
+ * Tests for the concurrent mode of the diagnostics executor (enabled with
+ * <code>lsp4jakarta.diagnostics.concurrent</code>): the diagnostics of each
+ * Java file are merged in the order of its participants, so they are the same
+ * as the diagnostics collected serially, whatever the order in which the
+ * participants complete.
+ */
+public class JavaDiagnosticsExecutorTest extends BaseJakartaTest {
+
+    protected static IJDTUtils IJDT_UTILS = JDTUtilsLSImpl.getInstance();
+
+    private static final long PARTICIPANT_TIMEOUT = 60000;
+
+    @Test
+    public void concurrentDiagnosticsInParticipantsOrder() throws Exception {
+        IJavaProject javaProject = loadJavaProject("jakarta-sample", "");
+        List<String> uris = new ArrayList<>();
+        for (ICompilationUnit unit : JDTJakartaUtils.getSourceCompilationUnits(javaProject)) {
+            uris.add(IJDT_UTILS.toUri(unit));
+        }
+        IProgressMonitor monitor = new NullProgressMonitor();
+
+        List<DiagnosticsRequest> serialRequests = createRequests(uris, monitor);
+        new JavaDiagnosticsExecutor(false, PARTICIPANT_TIMEOUT, JakartaTaskExecutor.getInstance()).collectDiagnostics(serialRequests,
+                                                                                                                       monitor);
+
+        JakartaTaskExecutor taskExecutor = new JakartaTaskExecutor(4);
+        try {
+            List<DiagnosticsRequest> concurrentRequests = createRequests(uris, monitor);
+            List<DiagnosticsRequest> notifiedRequests = new ArrayList<>();
+            new JavaDiagnosticsExecutor(true, PARTICIPANT_TIMEOUT, taskExecutor).collectDiagnostics(concurrentRequests,
+                                                                                                     notifiedRequests::add,
+                                                                                                     monitor);
+
+            // Each request is notified once, in the order its participants complete
+            assertEquals(concurrentRequests.size(), notifiedRequests.size());
+            assertTrue(notifiedRequests.containsAll(concurrentRequests));
+
+            int diagnosticsCount = 0;
+            for (int i = 0; i < serialRequests.size(); i++) {
+                DiagnosticsRequest serialRequest = serialRequests.get(i);
+                DiagnosticsRequest concurrentRequest = concurrentRequests.get(i);
+                assertSame(uris.get(i), concurrentRequest.getContext().getUri());
+                assertFalse(concurrentRequest.isIncomplete());
+                assertEquals(concurrentRequest.getContext().getUri(), serialRequest.getDiagnostics(),
+                             concurrentRequest.getDiagnostics());
+                diagnosticsCount += concurrentRequest.getDiagnostics().size();
+            }
+            assertTrue("The sample project must have diagnostics", diagnosticsCount > 0);
+        } finally {
+            taskExecutor.shutdown();
+        }
+    }
+
+    private static List<DiagnosticsRequest> createRequests(List<String> uris, IProgressMonitor monitor) {
+        List<DiagnosticsRequest> requests = new ArrayList<>();
+        for (String uri : uris) {
+            ICompilationUnit unit = IJDT_UTILS.resolveCompilationUnit(uri);
+            JavaDiagnosticsContext context = new JavaDiagnosticsContext(uri, unit, IJDT_UTILS, DocumentFormat.PlainText, null);
+            List<JavaDiagnosticsDefinition> definitions = JavaFeaturesRegistry.getInstance().getJavaDiagnosticsDefinitions().stream() //
+                    .filter(definition -> definition.isAdaptedForDiagnostics(context, monitor)) //
+                    .collect(Collectors.toList());
+            requests.add(new DiagnosticsRequest(context, definitions, new ArrayList<Diagnostic>()));
+        }
+        return requests;
+    }
+}
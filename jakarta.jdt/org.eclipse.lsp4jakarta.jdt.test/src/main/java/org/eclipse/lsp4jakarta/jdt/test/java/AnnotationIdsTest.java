@@ -0,0 +1,172 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.java;
+
+import static org.eclipse.lsp4jakarta.jdt.test.java.SupertypeHierarchyCacheTest.CHILD_TYPE;
+import static org.eclipse.lsp4jakarta.jdt.test.java.SupertypeHierarchyCacheTest.createCompilationUnit;
+import static org.eclipse.lsp4jakarta.jdt.test.java.SupertypeHierarchyCacheTest.getPackageFragment;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.eclipse.jdt.core.IAnnotatable;
+import org.eclipse.jdt.core.IAnnotation;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4jakarta.jdt.core.java.CompilationUnitSnapshot;
+import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.AnnotationIds;
+import org.eclipse.lsp4jakarta.jdt.test.core.BaseJakartaTest;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the annotation IDs of the members of a compilation unit snapshot:
+ * the masks match the annotations matched by name, the annotations interned
+ * after the first call are resolved and a new snapshot reflects the changes
+ * of the compilation unit.
+ */
+public class AnnotationIdsTest extends BaseJakartaTest {
+
+    private static final List<String> ANNOTATIONS = Arrays.asList("jakarta.persistence.Entity",
+                                                                  "jakarta.persistence.MappedSuperclass",
+                                                                  "jakarta.persistence.Id", "jakarta.persistence.EmbeddedId",
+                                                                  "jakarta.persistence.Version",
+                                                                  "jakarta.persistence.Temporal", "jakarta.persistence.MapKey",
+                                                                  "jakarta.persistence.MapKeyClass", "jakarta.inject.Inject",
+                                                                  "java.lang.Deprecated");
+
+    private static final String VERSION = "jakarta.persistence.Version";
+
+    private IJavaProject javaProject;
+
+    private AnnotationIds annotationIds;
+
+    @Before
+    public void setUp() throws Exception {
+        javaProject = loadJavaProject("jakarta-sample", "");
+        annotationIds = AnnotationIds.getInstance();
+    }
+
+    @Test
+    public void masksMatchAnnotationNames() throws Exception {
+        BitSet mask = annotationIds.mask(ANNOTATIONS);
+        int matchedCount = 0;
+        for (ICompilationUnit unit : getPackageFragment(javaProject).getCompilationUnits()) {
+            CompilationUnitSnapshot snapshot = new CompilationUnitSnapshot(unit, () -> null);
+            for (IType type : unit.getAllTypes()) {
+                for (IAnnotatable element : getAnnotatableElements(type)) {
+                    List<String> expected = getMatchedAnnotations(type, element);
+                    BitSet ids = snapshot.getAnnotationIds(type, element);
+                    assertEquals(element.toString(), expected, annotationIds.getNames(ids, ANNOTATIONS));
+                    assertEquals(expected.size(), AnnotationIds.count(ids, mask));
+                    for (String annotation : ANNOTATIONS) {
+                        assertEquals(expected.contains(annotation), ids.get(annotationIds.intern(annotation)));
+                    }
+                    matchedCount += expected.size();
+                }
+            }
+        }
+        assertTrue("The sample entities must be annotated", matchedCount > 0);
+    }
+
+    @Test
+    public void annotationInternedAfterResolution() throws Exception {
+        // A name which was never interned
+        String annotation = "cachetest.Marker" + System.nanoTime();
+        String simpleName = annotation.substring(annotation.lastIndexOf('.') + 1);
+        ICompilationUnit unit = createCompilationUnit(javaProject, "CacheTestType",
+                                                      "import " + annotation + ";\n\n@" + simpleName
+                                                                                    + "\npublic class CacheTestType {\n}\n");
+        try {
+            IType type = unit.getType("CacheTestType");
+            CompilationUnitSnapshot snapshot = new CompilationUnitSnapshot(unit, () -> null);
+            int knownCount = annotationIds.size();
+            assertTrue(snapshot.getAnnotationIds(type, type).isEmpty());
+
+            // The annotations interned later are resolved by the next call
+            int id = annotationIds.intern(annotation);
+            assertTrue(id >= knownCount);
+            assertTrue(snapshot.getAnnotationIds(type, type).get(id));
+            assertEquals(Arrays.asList(annotation), annotationIds.getNames(snapshot.getAnnotationIds(type, type),
+                                                                           Arrays.asList(annotation, VERSION)));
+        } finally {
+            unit.delete(true, null);
+        }
+    }
+
+    @Test
+    public void compilationUnitChanged() throws Exception {
+        IType child = javaProject.findType(CHILD_TYPE);
+        IField field = child.getField("childVersion");
+        int versionId = annotationIds.intern(VERSION);
+        CompilationUnitSnapshot snapshot = new CompilationUnitSnapshot(child.getCompilationUnit(), () -> null);
+        assertTrue(snapshot.getAnnotationIds(child, field).get(versionId));
+
+        ICompilationUnit unit = child.getCompilationUnit();
+        unit.becomeWorkingCopy(null);
+        try {
+            IBuffer buffer = unit.getBuffer();
+            buffer.setContents(buffer.getContents().replace("@Version", ""));
+            unit.reconcile(ICompilationUnit.NO_AST, false, null, null);
+
+            // A snapshot is never updated, the snapshot of the new contents doesn't
+            // have the removed annotation
+            assertTrue(snapshot.getAnnotationIds(child, field).get(versionId));
+            CompilationUnitSnapshot newSnapshot = new CompilationUnitSnapshot(unit, () -> null);
+            assertFalse(newSnapshot.getAnnotationIds(child, field).get(versionId));
+            assertEquals(getMatchedAnnotations(child, field), annotationIds.getNames(newSnapshot.getAnnotationIds(child, field),
+                                                                                    ANNOTATIONS));
+        } finally {
+            unit.discardWorkingCopy();
+        }
+    }
+
+    private static List<IAnnotatable> getAnnotatableElements(IType type) throws JavaModelException {
+        List<IAnnotatable> elements = new ArrayList<>();
+        elements.add(type);
+        elements.addAll(Arrays.asList(type.getFields()));
+        for (IMethod method : type.getMethods()) {
+            elements.add(method);
+            elements.addAll(Arrays.asList(method.getParameters()));
+        }
+        return elements;
+    }
+
+    /**
+     * Returns the annotations of {@link #ANNOTATIONS} matched by the annotations
+     * of the given element, without the annotation IDs.
+     */
+    private static List<String> getMatchedAnnotations(IType type, IAnnotatable element) throws JavaModelException {
+        List<String> matched = new ArrayList<>();
+        for (String annotationFQName : ANNOTATIONS) {
+            for (IAnnotation annotation : element.getAnnotations()) {
+                if (DiagnosticUtils.isMatchedJavaElement(type, annotation.getElementName(), annotationFQName)) {
+                    matched.add(annotationFQName);
+                    break;
+                }
+            }
+        }
+        return matched;
+    }
+}
@@ -0,0 +1,169 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.java;
+
+import static org.eclipse.lsp4jakarta.jdt.test.java.SupertypeHierarchyCacheTest.CHILD_TYPE;
+import static org.eclipse.lsp4jakarta.jdt.test.java.SupertypeHierarchyCacheTest.EXTRA_SOURCE_TYPE;
+import static org.eclipse.lsp4jakarta.jdt.test.java.SupertypeHierarchyCacheTest.PACKAGE_NAME;
+import static org.eclipse.lsp4jakarta.jdt.test.java.SupertypeHierarchyCacheTest.SUPER_TYPE;
+import static org.eclipse.lsp4jakarta.jdt.test.java.SupertypeHierarchyCacheTest.addExtraSourceFolder;
+import static org.eclipse.lsp4jakarta.jdt.test.java.SupertypeHierarchyCacheTest.createCompilationUnit;
+import static org.eclipse.lsp4jakarta.jdt.test.java.SupertypeHierarchyCacheTest.getPackageFragment;
+import static org.eclipse.lsp4jakarta.jdt.test.java.SupertypeHierarchyCacheTest.removeExtraSourceFolder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.jdt.core.IAnnotatable;
+import org.eclipse.jdt.core.IAnnotation;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IImportDeclaration;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.Signature;
+import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.NameResolverCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.NameResolverCache.NameResolver;
+import org.eclipse.lsp4jakarta.jdt.test.core.BaseJakartaTest;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the cache of the name resolvers: the cached names are the names
+ * resolved by the Java model and they are resolved again when the compilation
+ * unit changes, when a type is added or removed and when the classpath
+ * changes.
+ */
+public class NameResolverCacheTest extends BaseJakartaTest {
+
+    private IJavaProject javaProject;
+
+    private NameResolverCache cache;
+
+    @Before
+    public void setUp() throws Exception {
+        javaProject = loadJavaProject("jakarta-sample", "");
+        cache = NameResolverCache.getInstance();
+    }
+
+    @Test
+    public void resolvedNamesMatchJavaModel() throws Exception {
+        for (ICompilationUnit unit : getPackageFragment(javaProject).getCompilationUnits()) {
+            NameResolver resolver = cache.getResolver(unit);
+            assertSame(resolver, cache.getResolver(unit));
+
+            for (IImportDeclaration importDeclaration : unit.getImports()) {
+                String name = importDeclaration.getElementName();
+                assertTrue(name, resolver.isImported(name.endsWith(".*") ? name.replace("*", "Type") : name));
+            }
+            assertFalse(resolver.isImported("java.util.concurrent.Callable"));
+
+            for (IType type : unit.getAllTypes()) {
+                for (String name : getUsedNames(type)) {
+                    String expected = resolveType(type, name);
+                    assertEquals(type.getElementName() + "#" + name, expected, resolver.resolve(type, name));
+                    // The second resolution is cached
+                    assertEquals(expected, resolver.resolve(type, name));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void compilationUnitChanged() throws Exception {
+        ICompilationUnit child = javaProject.findType(CHILD_TYPE).getCompilationUnit();
+        NameResolver resolver = cache.getResolver(child);
+        assertFalse(resolver.isImported("jakarta.persistence.Table"));
+
+        child.becomeWorkingCopy(null);
+        try {
+            IBuffer buffer = child.getBuffer();
+            buffer.setContents(buffer.getContents().replace("import jakarta.persistence.Id;",
+                                                            "import jakarta.persistence.Id;\nimport jakarta.persistence.Table;"));
+            child.reconcile(ICompilationUnit.NO_AST, false, null, null);
+
+            assertNotSame(resolver, cache.getResolver(child));
+            assertTrue(cache.getResolver(child).isImported("jakarta.persistence.Table"));
+        } finally {
+            child.discardWorkingCopy();
+        }
+        assertFalse(cache.getResolver(child).isImported("jakarta.persistence.Table"));
+    }
+
+    @Test
+    public void typeAddedAndRemoved() throws Exception {
+        IType child = javaProject.findType(CHILD_TYPE);
+        assertNull(cache.getResolver(child.getCompilationUnit()).resolve(child, SUPER_TYPE));
+
+        ICompilationUnit unit = createCompilationUnit(javaProject, SUPER_TYPE, "public class " + SUPER_TYPE + " {\n}\n");
+        try {
+            assertEquals(PACKAGE_NAME + "." + SUPER_TYPE, cache.getResolver(child.getCompilationUnit()).resolve(child, SUPER_TYPE));
+        } finally {
+            unit.delete(true, null);
+        }
+        assertNull(cache.getResolver(child.getCompilationUnit()).resolve(child, SUPER_TYPE));
+    }
+
+    @Test
+    public void classpathChanged() throws Exception {
+        IType child = javaProject.findType(CHILD_TYPE);
+        assertNull(cache.getResolver(child.getCompilationUnit()).resolve(child, EXTRA_SOURCE_TYPE));
+
+        IClasspathEntry[] rawClasspath = addExtraSourceFolder(javaProject);
+        try {
+            assertEquals(PACKAGE_NAME + "." + EXTRA_SOURCE_TYPE,
+                         cache.getResolver(child.getCompilationUnit()).resolve(child, EXTRA_SOURCE_TYPE));
+        } finally {
+            removeExtraSourceFolder(javaProject, rawClasspath);
+        }
+        assertNull(cache.getResolver(child.getCompilationUnit()).resolve(child, EXTRA_SOURCE_TYPE));
+    }
+
+    /**
+     * Returns the names of the annotations and of the field types used by the
+     * given type.
+     */
+    private static Set<String> getUsedNames(IType type) throws Exception {
+        Set<String> names = new HashSet<>();
+        addAnnotationNames(type, names);
+        for (IField field : type.getFields()) {
+            addAnnotationNames(field, names);
+            names.add(Signature.toString(Signature.getTypeErasure(field.getTypeSignature())));
+        }
+        for (IMethod method : type.getMethods()) {
+            addAnnotationNames(method, names);
+        }
+        return names;
+    }
+
+    private static void addAnnotationNames(IAnnotatable annotatable, Set<String> names) throws Exception {
+        for (IAnnotation annotation : annotatable.getAnnotations()) {
+            names.add(annotation.getElementName());
+        }
+    }
+
+    private static String resolveType(IType type, String name) throws Exception {
+        String[][] fqName = type.resolveType(name);
+        return (fqName != null && fqName.length == 1) ? JavaModelUtil.concatenateName(fqName[0][0], fqName[0][1]) : null;
+    }
+}
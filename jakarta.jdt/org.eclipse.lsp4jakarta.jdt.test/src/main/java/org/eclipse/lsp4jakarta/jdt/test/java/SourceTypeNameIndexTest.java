@@ -0,0 +1,101 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.java;
+
+import static org.eclipse.lsp4jakarta.jdt.test.java.SupertypeHierarchyCacheTest.EXTRA_SOURCE_TYPE;
+import static org.eclipse.lsp4jakarta.jdt.test.java.SupertypeHierarchyCacheTest.addExtraSourceFolder;
+import static org.eclipse.lsp4jakarta.jdt.test.java.SupertypeHierarchyCacheTest.createCompilationUnit;
+import static org.eclipse.lsp4jakarta.jdt.test.java.SupertypeHierarchyCacheTest.removeExtraSourceFolder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.lsp4jakarta.jdt.core.utils.JDTJakartaUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SourceTypeNameIndex;
+import org.eclipse.lsp4jakarta.jdt.test.core.BaseJakartaTest;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the index of the class names declared in the sources of a project:
+ * the index has the names of the classes of the source Java files and it is
+ * updated when a class is added or removed and when the classpath changes.
+ */
+public class SourceTypeNameIndexTest extends BaseJakartaTest {
+
+    private static final String NEW_TYPE = "CacheTestType";
+
+    private IJavaProject javaProject;
+
+    private SourceTypeNameIndex index;
+
+    @Before
+    public void setUp() throws Exception {
+        javaProject = loadJavaProject("jakarta-sample", "");
+        index = SourceTypeNameIndex.getInstance();
+    }
+
+    @Test
+    public void indexMatchesSourceClasses() throws Exception {
+        Set<String> typeNames = new HashSet<>();
+        Set<String> classNames = new HashSet<>();
+        for (ICompilationUnit unit : JDTJakartaUtils.getSourceCompilationUnits(javaProject)) {
+            for (IType type : unit.getAllTypes()) {
+                typeNames.add(type.getElementName());
+                if (type.isClass()) {
+                    classNames.add(type.getElementName());
+                }
+            }
+        }
+        assertFalse(classNames.isEmpty());
+        // The interfaces, enums and annotations are not indexed
+        assertTrue(typeNames.size() > classNames.size());
+        for (String typeName : typeNames) {
+            assertEquals(typeName, classNames.contains(typeName), index.hasSourceClass(javaProject, typeName));
+        }
+        // The classes of the libraries are not indexed
+        assertFalse(index.hasSourceClass(javaProject, "Object"));
+        assertFalse(index.hasSourceClass(javaProject, NEW_TYPE));
+    }
+
+    @Test
+    public void classAddedAndRemoved() throws Exception {
+        assertFalse(index.hasSourceClass(javaProject, NEW_TYPE));
+        ICompilationUnit unit = createCompilationUnit(javaProject, NEW_TYPE, "public class " + NEW_TYPE + " {\n}\n");
+        try {
+            assertTrue(index.hasSourceClass(javaProject, NEW_TYPE));
+        } finally {
+            unit.delete(true, null);
+        }
+        assertFalse(index.hasSourceClass(javaProject, NEW_TYPE));
+    }
+
+    @Test
+    public void classpathChanged() throws Exception {
+        assertFalse(index.hasSourceClass(javaProject, EXTRA_SOURCE_TYPE));
+        IClasspathEntry[] rawClasspath = addExtraSourceFolder(javaProject);
+        try {
+            assertTrue(index.hasSourceClass(javaProject, EXTRA_SOURCE_TYPE));
+        } finally {
+            removeExtraSourceFolder(javaProject, rawClasspath);
+        }
+        assertFalse(index.hasSourceClass(javaProject, EXTRA_SOURCE_TYPE));
+    }
+}
@@ -0,0 +1,200 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SupertypeHierarchyCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SupertypeHierarchyCache.SupertypeHierarchy;
+import org.eclipse.lsp4jakarta.jdt.test.core.BaseJakartaTest;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the cache of the super type hierarchies: the cached hierarchies
+ * are the hierarchies computed by the Java model and they are computed again
+ * when a type is added or removed and when the classpath changes.
+ */
+public class SupertypeHierarchyCacheTest extends BaseJakartaTest {
+
+    static final String PACKAGE_NAME = "io.openliberty.sample.jakarta.persistence";
+
+    static final String CHILD_TYPE = PACKAGE_NAME + ".VersionInHierarchyChild";
+
+    static final String PARENT_TYPE = PACKAGE_NAME + ".VersionInHierarchyParent";
+
+    // Type created then deleted by the tests
+    static final String SUPER_TYPE = "CacheTestSuperType";
+
+    // Type declared in the source folder added then removed by the tests
+    static final String EXTRA_SOURCE_TYPE = "ExtraSourceType";
+
+    private static final String EXTRA_SOURCE_FOLDER = "extra-src";
+
+    private IJavaProject javaProject;
+
+    private SupertypeHierarchyCache cache;
+
+    @Before
+    public void setUp() throws Exception {
+        javaProject = loadJavaProject("jakarta-sample", "");
+        cache = SupertypeHierarchyCache.getInstance();
+    }
+
+    @Test
+    public void cachedHierarchiesMatchJavaModel() throws Exception {
+        for (ICompilationUnit unit : getPackageFragment(javaProject).getCompilationUnits()) {
+            for (IType type : unit.getAllTypes()) {
+                SupertypeHierarchy hierarchy = cache.getSupertypeHierarchy(type);
+                assertSame(hierarchy, cache.getSupertypeHierarchy(type));
+
+                IType[] superTypes = type.newSupertypeHierarchy(null).getAllSupertypes(type);
+                assertEquals(type.getFullyQualifiedName(), getNames(superTypes), getNames(hierarchy.getAllSupertypes()));
+                assertTrue(hierarchy.isSubtypeOf(type.getFullyQualifiedName()));
+                for (IType superType : superTypes) {
+                    assertTrue(hierarchy.isSubtypeOf(superType.getFullyQualifiedName()));
+                    assertTrue(hierarchy.hasSupertypeNamed(superType.getElementName()));
+                }
+            }
+        }
+
+        IType child = javaProject.findType(CHILD_TYPE);
+        IType parent = javaProject.findType(PARENT_TYPE);
+        assertTrue(cache.isSubtypeOf(child, PARENT_TYPE));
+        assertFalse(cache.isSubtypeOf(parent, CHILD_TYPE));
+    }
+
+    @Test
+    public void typeAddedAndRemoved() throws Exception {
+        ICompilationUnit unit = createCompilationUnit(javaProject, "CacheTestType",
+                                                      "public class CacheTestType extends " + SUPER_TYPE + " {\n}\n");
+        try {
+            IType type = unit.getType("CacheTestType");
+            SupertypeHierarchy hierarchy = cache.getSupertypeHierarchy(type);
+            assertFalse(hierarchy.isSubtypeOf(PACKAGE_NAME + "." + SUPER_TYPE));
+
+            // The super type is resolved once it is added
+            ICompilationUnit superUnit = createCompilationUnit(javaProject, SUPER_TYPE,
+                                                               "public class " + SUPER_TYPE + " {\n}\n");
+            try {
+                assertNotSame(hierarchy, cache.getSupertypeHierarchy(type));
+                hierarchy = cache.getSupertypeHierarchy(type);
+                assertTrue(hierarchy.isSubtypeOf(PACKAGE_NAME + "." + SUPER_TYPE));
+                assertEquals(getNames(type.newSupertypeHierarchy(null).getAllSupertypes(type)),
+                             getNames(hierarchy.getAllSupertypes()));
+            } finally {
+                superUnit.delete(true, null);
+            }
+            assertFalse(cache.isSubtypeOf(type, PACKAGE_NAME + "." + SUPER_TYPE));
+        } finally {
+            unit.delete(true, null);
+        }
+    }
+
+    @Test
+    public void classpathChanged() throws Exception {
+        ICompilationUnit unit = createCompilationUnit(javaProject, "CacheTestType",
+                                                      "public class CacheTestType extends " + EXTRA_SOURCE_TYPE + " {\n}\n");
+        try {
+            IType type = unit.getType("CacheTestType");
+            assertFalse(cache.isSubtypeOf(type, PACKAGE_NAME + "." + EXTRA_SOURCE_TYPE));
+
+            // The super type is resolved once its source folder is on the classpath
+            IClasspathEntry[] rawClasspath = addExtraSourceFolder(javaProject);
+            try {
+                assertTrue(cache.isSubtypeOf(type, PACKAGE_NAME + "." + EXTRA_SOURCE_TYPE));
+            } finally {
+                removeExtraSourceFolder(javaProject, rawClasspath);
+            }
+            assertFalse(cache.isSubtypeOf(type, PACKAGE_NAME + "." + EXTRA_SOURCE_TYPE));
+        } finally {
+            unit.delete(true, null);
+        }
+    }
+
+    private static Set<String> getNames(IType[] types) {
+        Set<String> names = new HashSet<>();
+        for (IType type : types) {
+            names.add(type.getFullyQualifiedName());
+        }
+        return names;
+    }
+
+    static IPackageFragment getPackageFragment(IJavaProject javaProject) {
+        IFolder folder = javaProject.getProject().getFolder(new Path("src/main/java/" + PACKAGE_NAME.replace('.', '/')));
+        return (IPackageFragment) JavaCore.create(folder);
+    }
+
+    /**
+     * Creates a Java file in the package of the sample persistence entities.
+     * The Java file must be deleted by the test since the project is shared by
+     * the tests.
+     */
+    static ICompilationUnit createCompilationUnit(IJavaProject javaProject, String typeName,
+                                                  String contents) throws JavaModelException {
+        return getPackageFragment(javaProject).createCompilationUnit(typeName + ".java",
+                                                                     "package " + PACKAGE_NAME + ";\n\n" + contents, true,
+                                                                     null);
+    }
+
+    /**
+     * Adds a source folder which declares {@link #EXTRA_SOURCE_TYPE} in the
+     * package of the sample persistence entities to the classpath of the project
+     * and returns the classpath to restore.
+     */
+    static IClasspathEntry[] addExtraSourceFolder(IJavaProject javaProject) throws CoreException {
+        IFolder sourceFolder = javaProject.getProject().getFolder(EXTRA_SOURCE_FOLDER);
+        sourceFolder.create(true, true, null);
+        IContainer container = sourceFolder;
+        for (String segment : PACKAGE_NAME.split("\\.")) {
+            IFolder folder = container.getFolder(new Path(segment));
+            folder.create(true, true, null);
+            container = folder;
+        }
+        String contents = "package " + PACKAGE_NAME + ";\n\npublic class " + EXTRA_SOURCE_TYPE + " {\n}\n";
+        container.getFile(new Path(EXTRA_SOURCE_TYPE + ".java")).create(new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8)),
+                                                                         true, null);
+
+        IClasspathEntry[] rawClasspath = javaProject.getRawClasspath();
+        IClasspathEntry[] newClasspath = Arrays.copyOf(rawClasspath, rawClasspath.length + 1);
+        newClasspath[rawClasspath.length] = JavaCore.newSourceEntry(sourceFolder.getFullPath());
+        javaProject.setRawClasspath(newClasspath, null);
+        return rawClasspath;
+    }
+
+    static void removeExtraSourceFolder(IJavaProject javaProject, IClasspathEntry[] rawClasspath) throws CoreException {
+        javaProject.setRawClasspath(rawClasspath, null);
+        javaProject.getProject().getFolder(EXTRA_SOURCE_FOLDER).delete(true, null);
+    }
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.metrics.LatencyHistogram;
+import org.junit.Test;
+
+/**
+ * Tests for the histogram of the participant durations: bucket boundaries and
+ * percentiles.
+ */
+public class LatencyHistogramTest {
+
+    // Index of the last bucket, which counts the durations longer than 2^41 - 1ns
+    private static final int LAST_INDEX = LatencyHistogram.getIndex(Long.MAX_VALUE);
+
+    @Test
+    public void bucketBoundaries() {
+        // One bucket per nanosecond below 16ns
+        for (int nanos = 0; nanos < 16; nanos++) {
+            assertEquals(nanos, LatencyHistogram.getIndex(nanos));
+            assertEquals(nanos, LatencyHistogram.getUpperBound(nanos));
+        }
+        // Then 8 buckets per power of two: [16, 17], [18, 19], ...
+        assertEquals(16, LatencyHistogram.getIndex(16));
+        assertEquals(16, LatencyHistogram.getIndex(17));
+        assertEquals(17, LatencyHistogram.getIndex(18));
+        assertEquals(17, LatencyHistogram.getUpperBound(16));
+        assertEquals(31, LatencyHistogram.getUpperBound(LatencyHistogram.getIndex(31)));
+        assertEquals(0, LatencyHistogram.getIndex(-1));
+
+        int previousIndex = 0;
+        for (long nanos = 1; nanos < 1L << 41; nanos += 1 + nanos / 7) {
+            int index = LatencyHistogram.getIndex(nanos);
+            long upperBound = LatencyHistogram.getUpperBound(index);
+            assertTrue(index >= previousIndex);
+            // The duration is in its bucket, with a relative error lower than 1/8
+            assertTrue(nanos <= upperBound);
+            assertTrue(nanos > LatencyHistogram.getUpperBound(index - 1));
+            assertTrue(upperBound - nanos <= nanos / 8);
+            previousIndex = index;
+        }
+    }
+
+    @Test
+    public void lastBucket() {
+        long maxNanos = (1L << 41) - 1;
+        assertEquals(LAST_INDEX, LatencyHistogram.getIndex(maxNanos));
+        assertEquals(maxNanos, LatencyHistogram.getUpperBound(LAST_INDEX));
+        assertTrue(LatencyHistogram.getIndex(1L << 40) < LAST_INDEX);
+        // Longer durations are counted in the last bucket
+        assertEquals(LAST_INDEX, LatencyHistogram.getIndex(1L << 41));
+        assertEquals(LAST_INDEX, LatencyHistogram.getIndex(1L << 50));
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(maxNanos, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(50));
+
+        // 1µs, 2µs, ..., 100µs
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000L);
+        }
+        assertEquals(LatencyHistogram.getUpperBound(LatencyHistogram.getIndex(50000)), histogram.getPercentile(50));
+        assertEquals(LatencyHistogram.getUpperBound(LatencyHistogram.getIndex(99000)), histogram.getPercentile(99));
+        assertEquals(LatencyHistogram.getUpperBound(LatencyHistogram.getIndex(1000)), histogram.getPercentile(0));
+        assertInRange(50000, histogram.getPercentile(50));
+        assertInRange(99000, histogram.getPercentile(99));
+
+        histogram.reset();
+        assertEquals(0, histogram.getPercentile(99));
+    }
+
+    private static void assertInRange(long expectedNanos, long actualNanos) {
+        assertTrue(actualNanos >= expectedNanos);
+        assertTrue(actualNanos - expectedNanos <= expectedNanos / 8);
+    }
+}
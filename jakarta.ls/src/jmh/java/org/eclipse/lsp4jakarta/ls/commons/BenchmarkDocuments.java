@@ -0,0 +1,172 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.ls.commons;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+
+/**
+ * Generates the Java documents and the edit streams used by the benchmarks.
+ *
+ * <p>
+ * The generated content only depends on the given parameters and seed, so the
+ * results of two runs (or two releases) are comparable.
+ * </p>
+ */
+public class BenchmarkDocuments {
+
+    public static final String URI = "file:///benchmark/src/main/java/org/acme/Resource.java";
+
+    private static final String[] HEADER = {
+                                             "package org.acme;",
+                                             "",
+                                             "import jakarta.inject.Inject;",
+                                             "import jakarta.ws.rs.GET;",
+                                             "import jakarta.ws.rs.Path;",
+                                             "import jakarta.ws.rs.QueryParam;",
+                                             "",
+                                             "@Path(\"/resource\")",
+                                             "public class Resource {",
+                                             "" };
+
+    private static final String[] MEMBER = {
+                                             "    @Inject",
+                                             "    private Service service%d;",
+                                             "",
+                                             "    @GET",
+                                             "    @Path(\"/item%d\")",
+                                             "    public String item%d(@QueryParam(\"id\") String id) {",
+                                             "        return service%d.find(id);",
+                                             "    }",
+                                             "" };
+
+    private static final String PASTED_BLOCK = "\n    @GET\n    public String pasted() {\n        return \"pasted\";\n    }\n";
+
+    /**
+     * An edit of the document, with its offsets for the line trackers and its
+     * change event for the text document.
+     */
+    public static class Edit {
+
+        public final int offset;
+
+        public final int length;
+
+        public final String text;
+
+        public final List<TextDocumentContentChangeEvent> changes;
+
+        Edit(int offset, int length, String text, TextDocumentContentChangeEvent change) {
+            this.offset = offset;
+            this.length = length;
+            this.text = text;
+            this.changes = Collections.singletonList(change);
+        }
+    }
+
+    private BenchmarkDocuments() {}
+
+    /**
+     * Returns the text of a JAX-RS resource class with the given number of lines.
+     *
+     * @param lines the number of lines.
+     * @return the text of a JAX-RS resource class with the given number of lines.
+     */
+    public static String createJavaText(int lines) {
+        StringBuilder text = new StringBuilder();
+        int line = 0;
+        for (; line < HEADER.length && line < lines - 1; line++) {
+            text.append(HEADER[line]).append('\n');
+        }
+        for (int member = 0; line < lines - 1; member++) {
+            for (int i = 0; i < MEMBER.length && line < lines - 1; i++, line++) {
+                text.append(MEMBER[i].replace("%d", String.valueOf(member))).append('\n');
+            }
+        }
+        return text.append('}').toString();
+    }
+
+    /**
+     * Returns a stream of edits of the given text which looks like a user
+     * editing the file: mostly typing and deleting characters, some new lines,
+     * pasted blocks and moves of the cursor.
+     *
+     * @param text the initial text.
+     * @param count the number of edits.
+     * @param seed the seed of the edits.
+     * @return a stream of edits of the given text.
+     */
+    public static List<Edit> createEdits(String text, int count, long seed) {
+        // The edits are applied to a document to compute their ranges
+        TextDocument document = new TextDocument(text, URI);
+        document.setIncremental(true);
+        Random random = new Random(seed);
+        List<Edit> edits = new ArrayList<>(count);
+        int cursor = text.length() / 2;
+        try {
+            for (int i = 0; i < count; i++) {
+                int length = document.getContent().length();
+                int kind = random.nextInt(100);
+                if (kind < 3) {
+                    // Move the cursor somewhere else in the document
+                    cursor = random.nextInt(length + 1);
+                }
+                int offset = Math.min(cursor, length);
+                int removed = 0;
+                String inserted = "";
+                if (kind < 70) {
+                    inserted = String.valueOf((char) ('a' + random.nextInt(26)));
+                } else if (kind < 85 && offset > 0) {
+                    offset--;
+                    removed = 1;
+                } else if (kind < 95) {
+                    inserted = "\n        ";
+                } else if (kind < 98) {
+                    inserted = PASTED_BLOCK;
+                } else {
+                    removed = Math.min(40, length - offset);
+                }
+                Range range = new Range(document.positionAt(offset), document.positionAt(offset + removed));
+                Edit edit = new Edit(offset, removed, inserted, new TextDocumentContentChangeEvent(range, inserted));
+                document.update(edit.changes);
+                edits.add(edit);
+                cursor = offset + inserted.length();
+            }
+        } catch (BadLocationException e) {
+            throw new IllegalStateException(e);
+        }
+        return edits;
+    }
+
+    /**
+     * Returns the given number of offsets of the given text, spread uniformly.
+     *
+     * @param text the text.
+     * @param count the number of offsets.
+     * @param seed the seed of the offsets.
+     * @return the given number of offsets of the given text.
+     */
+    public static int[] createOffsets(String text, int count, long seed) {
+        Random random = new Random(seed);
+        int[] offsets = new int[count];
+        for (int i = 0; i < count; i++) {
+            offsets[i] = random.nextInt(text.length() + 1);
+        }
+        return offsets;
+    }
+}
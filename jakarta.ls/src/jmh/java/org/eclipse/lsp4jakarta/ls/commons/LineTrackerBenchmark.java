@@ -0,0 +1,141 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.ls.commons;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4jakarta.ls.commons.BenchmarkDocuments.Edit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the line trackers: the {@link TreeLineTracker} updated by the
+ * edits of the incremental documents, and the {@link ListLineTracker} set with
+ * the whole text on each change of the other documents.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LineTrackerBenchmark {
+
+    private static final int EDIT_COUNT = 1000;
+
+    private static final int OFFSET_COUNT = 1024;
+
+    private static final long SEED = 42;
+
+    @Param({ "1000", "10000", "50000" })
+    public int lines;
+
+    private String text;
+
+    private List<Edit> edits;
+
+    private int[] offsets;
+
+    /**
+     * A line tracker of the given kind set with the initial text.
+     */
+    @State(Scope.Benchmark)
+    public static class LineTracker {
+
+        @Param({ "tree", "list" })
+        public String tracker;
+
+        ILineTracker lineTracker;
+
+        Position[] positions;
+
+        int next;
+
+        @Setup(Level.Trial)
+        public void setup(LineTrackerBenchmark benchmark) throws BadLocationException {
+            lineTracker = create();
+            lineTracker.set(benchmark.text);
+            positions = new Position[OFFSET_COUNT];
+            for (int i = 0; i < OFFSET_COUNT; i++) {
+                positions[i] = lineTracker.getPositionAt(benchmark.offsets[i]);
+            }
+        }
+
+        ILineTracker create() {
+            return "tree".equals(tracker) ? new TreeLineTracker(new ListLineTracker()) : new ListLineTracker();
+        }
+    }
+
+    /**
+     * A tree line tracker set with the initial text before each replay of the
+     * edits (the list line tracker doesn't support the edits).
+     */
+    @State(Scope.Thread)
+    public static class EditedLineTracker {
+
+        ILineTracker lineTracker;
+
+        @Setup(Level.Invocation)
+        public void setup(LineTrackerBenchmark benchmark) {
+            // A replay takes milliseconds, the setup per invocation doesn't skew it
+            lineTracker = new TreeLineTracker(new ListLineTracker());
+            lineTracker.set(benchmark.text);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        text = BenchmarkDocuments.createJavaText(lines);
+        edits = BenchmarkDocuments.createEdits(text, EDIT_COUNT, SEED);
+        offsets = BenchmarkDocuments.createOffsets(text, OFFSET_COUNT, SEED);
+    }
+
+    @Benchmark
+    public ILineTracker replayEdits(EditedLineTracker state) throws BadLocationException {
+        ILineTracker lineTracker = state.lineTracker;
+        for (Edit edit : edits) {
+            lineTracker.replace(edit.offset, edit.length, edit.text);
+        }
+        return lineTracker;
+    }
+
+    @Benchmark
+    public ILineTracker set(LineTracker state) {
+        state.lineTracker.set(text);
+        return state.lineTracker;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int offsetAt(LineTracker state) throws BadLocationException {
+        return state.lineTracker.getOffsetAt(state.positions[state.next++ & (OFFSET_COUNT - 1)]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Position positionAt(LineTracker state) throws BadLocationException {
+        return state.lineTracker.getPositionAt(offsets[state.next++ & (OFFSET_COUNT - 1)]);
+    }
+}
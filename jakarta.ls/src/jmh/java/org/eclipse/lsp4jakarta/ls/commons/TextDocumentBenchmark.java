@@ -0,0 +1,138 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.ls.commons;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4jakarta.ls.commons.BenchmarkDocuments.Edit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the incremental {@link TextDocument} as it is used by the
+ * language server: the replay of the <code>didChange</code> notifications of a
+ * user editing the document and the offset/position conversions of the
+ * requests.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextDocumentBenchmark {
+
+    private static final int EDIT_COUNT = 1000;
+
+    // Number of edits between two reads of the whole text, like a validation after a typing burst
+    private static final int TEXT_READ_INTERVAL = 10;
+
+    private static final int OFFSET_COUNT = 1024;
+
+    private static final long SEED = 42;
+
+    @Param({ "1000", "10000", "50000" })
+    public int lines;
+
+    private String text;
+
+    private List<Edit> edits;
+
+    private TextDocument document;
+
+    private int[] offsets;
+
+    private Position[] positions;
+
+    private int next;
+
+    /**
+     * A document opened with the initial text before each replay of the edits.
+     */
+    @State(Scope.Thread)
+    public static class EditedDocument {
+
+        TextDocument document;
+
+        @Setup(Level.Invocation)
+        public void setup(TextDocumentBenchmark benchmark) throws BadLocationException {
+            // A replay takes milliseconds, the setup per invocation doesn't skew it
+            document = benchmark.createDocument();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws BadLocationException {
+        text = BenchmarkDocuments.createJavaText(lines);
+        edits = BenchmarkDocuments.createEdits(text, EDIT_COUNT, SEED);
+        document = createDocument();
+        offsets = BenchmarkDocuments.createOffsets(text, OFFSET_COUNT, SEED);
+        positions = new Position[OFFSET_COUNT];
+        for (int i = 0; i < OFFSET_COUNT; i++) {
+            positions[i] = document.positionAt(offsets[i]);
+        }
+    }
+
+    TextDocument createDocument() throws BadLocationException {
+        TextDocument document = new TextDocument(text, BenchmarkDocuments.URI);
+        document.setIncremental(true);
+        // Create the line tracker like the first request on the document
+        document.positionAt(0);
+        return document;
+    }
+
+    @Benchmark
+    public TextDocument replayEdits(EditedDocument state) {
+        TextDocument document = state.document;
+        for (Edit edit : edits) {
+            document.update(edit.changes);
+        }
+        return document;
+    }
+
+    @Benchmark
+    public void replayEditsWithTextReads(EditedDocument state, Blackhole blackhole) {
+        TextDocument document = state.document;
+        for (int i = 0; i < edits.size(); i++) {
+            document.update(edits.get(i).changes);
+            if (i % TEXT_READ_INTERVAL == 0) {
+                blackhole.consume(document.getText());
+            }
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int offsetAt() throws BadLocationException {
+        return document.offsetAt(positions[next++ & (OFFSET_COUNT - 1)]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Position positionAt() throws BadLocationException {
+        return document.positionAt(offsets[next++ & (OFFSET_COUNT - 1)]);
+    }
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.snippets;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4jakarta.commons.JavaCursorContextKind;
+import org.eclipse.lsp4jakarta.commons.JavaCursorContextResult;
+import org.eclipse.lsp4jakarta.commons.ProjectLabelInfoEntry;
+import org.eclipse.lsp4jakarta.ls.commons.BenchmarkDocuments;
+import org.eclipse.lsp4jakarta.ls.commons.snippets.ISnippetContext;
+import org.eclipse.lsp4jakarta.ls.java.JakartaTextDocuments;
+import org.eclipse.lsp4jakarta.ls.java.JakartaTextDocuments.JakartaTextDocument;
+import org.eclipse.lsp4jakarta.ls.java.JavaTextDocumentSnippetRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the snippet completion of a Java file with the full set of
+ * bundled snippets, filtered like the language server does with the project
+ * labels and the cursor context returned by the JDT extension.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SnippetCompletionBenchmark {
+
+    private static final String TYPED_TEXT = "    @";
+
+    @Param({ "1000", "10000" })
+    public int lines;
+
+    @Param({ "IN_EMPTY_FILE", "IN_CLASS", "BEFORE_METHOD" })
+    public JavaCursorContextKind cursorContext;
+
+    private JavaTextDocumentSnippetRegistry registry;
+
+    private JakartaTextDocument document;
+
+    private int completionOffset;
+
+    private ProjectLabelInfoEntry projectInfo;
+
+    private BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        registry = new JavaTextDocumentSnippetRegistry();
+
+        // Type '@' on a new line before the end of the class
+        String text = BenchmarkDocuments.createJavaText(lines);
+        int classEnd = text.lastIndexOf('}');
+        text = text.substring(0, classEnd) + TYPED_TEXT + "\n" + text.substring(classEnd);
+        completionOffset = classEnd + TYPED_TEXT.length();
+        JakartaTextDocuments documents = new JakartaTextDocuments(null, null);
+        documents.setIncremental(true);
+        document = documents.createDocument(new TextDocumentItem(BenchmarkDocuments.URI, LanguageId.java.name(), 1, text));
+        document.setPackageName("org.acme");
+
+        // All the snippet types are on the classpath: no snippet is filtered out by its type
+        projectInfo = new ProjectLabelInfoEntry("file:///benchmark", "benchmark", registry.getTypes());
+        JavaCursorContextResult cursorContextResult = new JavaCursorContextResult(cursorContext, "@");
+        contextFilter = (context, model) -> {
+            if (context instanceof SnippetContextForJava) {
+                return ((SnippetContextForJava) context).isMatch(new JavaSnippetCompletionContext(projectInfo, cursorContextResult));
+            }
+            return true;
+        };
+    }
+
+    @Benchmark
+    public List<CompletionItem> completion() {
+        return registry.getCompletionItems(document, completionOffset, true, true, contextFilter, projectInfo);
+    }
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.snippets;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4jakarta.ls.java.JavaTextDocumentSnippetRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the loading of the bundled snippets with Gson, which is done
+ * when the language server creates its snippet registry.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SnippetLoadingBenchmark {
+
+    // Kept to not lose the level set on the logger of the loader
+    private Logger loaderLogger;
+
+    /**
+     * The content of a bundled snippet file, read once so the benchmark doesn't
+     * measure the class loader.
+     */
+    @State(Scope.Benchmark)
+    public static class SnippetFile {
+
+        @Param({ "restfulWs.json", "servlet.json", "persistence.json", "bean-validation.json", "transactions.json",
+                 "websocket.json", "interceptors.json", "dependencyinjection.json", "ejb.json", "faces.json" })
+        public String file;
+
+        byte[] content;
+
+        @Setup
+        public void setup() throws IOException {
+            try (InputStream in = SnippetLoadingBenchmark.class.getClassLoader().getResourceAsStream(file)) {
+                content = in.readAllBytes();
+            }
+        }
+    }
+
+    @Setup
+    public void setup() {
+        // The loader logs each loading of the registry
+        loaderLogger = Logger.getLogger(JakartaEESnippetRegistryLoader.class.getName());
+        loaderLogger.setLevel(Level.WARNING);
+    }
+
+    @Benchmark
+    public JavaTextDocumentSnippetRegistry loadRegistry() {
+        return new JavaTextDocumentSnippetRegistry();
+    }
+
+    @Benchmark
+    public JavaTextDocumentSnippetRegistry registerSnippets(SnippetFile snippetFile) throws IOException {
+        JavaTextDocumentSnippetRegistry registry = new JavaTextDocumentSnippetRegistry(false);
+        registry.registerSnippets(new ByteArrayInputStream(snippetFile.content), SnippetContextForJava.TYPE_ADAPTER);
+        return registry;
+    }
+}
@@ -34,6 +34,8 @@ public class JakartaJavaCodeActionParams extends CodeActionParams {
 
     private boolean resolveSupported;
 
+    private JakartaTraceContext trace;
+
     public JakartaJavaCodeActionParams() {
         super();
     }
@@ -71,4 +73,24 @@ public class JakartaJavaCodeActionParams extends CodeActionParams {
         this.resolveSupported = resolveSupported;
     }
 
+    /**
+     * Returns the trace context of the request and null if the request is not
+     * traced.
+     *
+     * @return the trace context of the request and null if the request is not
+     *         traced.
+     */
+    public JakartaTraceContext getTrace() {
+        return trace;
+    }
+
+    /**
+     * Sets the trace context of the request.
+     *
+     * @param trace the trace context of the request.
+     */
+    public void setTrace(JakartaTraceContext trace) {
+        this.trace = trace;
+    }
+
 }
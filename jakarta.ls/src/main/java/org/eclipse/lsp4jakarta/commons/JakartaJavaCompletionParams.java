@@ -27,6 +27,8 @@ public class JakartaJavaCompletionParams {
     private String uri;
     private Position position;
 
+    private JakartaTraceContext trace;
+
     public JakartaJavaCompletionParams() {
 
     }
@@ -73,4 +75,24 @@ public class JakartaJavaCompletionParams {
         this.position = position;
     }
 
-}
\ No newline at end of file
+    /**
+     * Returns the trace context of the request and null if the request is not
+     * traced.
+     *
+     * @return the trace context of the request and null if the request is not
+     *         traced.
+     */
+    public JakartaTraceContext getTrace() {
+        return trace;
+    }
+
+    /**
+     * Sets the trace context of the request.
+     *
+     * @param trace the trace context of the request.
+     */
+    public void setTrace(JakartaTraceContext trace) {
+        this.trace = trace;
+    }
+
+}
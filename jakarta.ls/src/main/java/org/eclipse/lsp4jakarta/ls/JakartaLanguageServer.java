@@ -14,7 +14,9 @@
 package org.eclipse.lsp4jakarta.ls;
 
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -25,11 +27,11 @@ import org.eclipse.lsp4j.InitializeResult;
 import org.eclipse.lsp4j.InitializedParams;
 import org.eclipse.lsp4j.ServerCapabilities;
 import org.eclipse.lsp4j.SetTraceParams;
+import org.eclipse.lsp4j.WorkDoneProgressCancelParams;
 import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
 import org.eclipse.lsp4j.services.LanguageClient;
-import org.eclipse.lsp4j.services.LanguageServer;
-import org.eclipse.lsp4j.services.TextDocumentService;
 import org.eclipse.lsp4j.services.WorkspaceService;
+import org.eclipse.lsp4jakarta.commons.JakartaClasspathChangeEvent;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaFileInfo;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaFileInfoParams;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaProjectLabelsParams;
@@ -37,6 +39,8 @@ import org.eclipse.lsp4jakarta.commons.ProjectLabelInfoEntry;
 import org.eclipse.lsp4jakarta.ls.api.JakartaJavaFileInfoProvider;
 import org.eclipse.lsp4jakarta.ls.api.JakartaJavaProjectLabelsProvider;
 import org.eclipse.lsp4jakarta.ls.api.JakartaLanguageClientAPI;
+import org.eclipse.lsp4jakarta.ls.api.JakartaLanguageServerAPI;
+import org.eclipse.lsp4jakarta.ls.commons.LanguageServerExecutors;
 import org.eclipse.lsp4jakarta.ls.commons.ParentProcessWatcher.ProcessLanguageServer;
 import org.eclipse.lsp4jakarta.ls.commons.client.ExtendedClientCapabilities;
 import org.eclipse.lsp4jakarta.ls.commons.client.InitializationOptionsExtendedClientCapabilities;
@@ -52,13 +56,17 @@ import org.eclipse.lsp4jakarta.settings.capabilities.ServerCapabilitiesInitializ
 /**
  * Jakarta Language server.
  */
-public class JakartaLanguageServer implements LanguageServer, ProcessLanguageServer, JakartaJavaProjectLabelsProvider, JakartaJavaFileInfoProvider {
+public class JakartaLanguageServer implements JakartaLanguageServerAPI, ProcessLanguageServer, JakartaJavaProjectLabelsProvider, JakartaJavaFileInfoProvider {
 
     private Integer parentProcessId;
 
     private static final Logger LOGGER = Logger.getLogger(JakartaLanguageServer.class.getName());
 
-    private final WorkspaceService workspaceService;
+    // Delay before evicting the projects of a changed build file, to give time
+    // to the build tool to resolve their classpath again
+    private static final long BUILD_FILE_EVICTION_DELAY = 5000;
+
+    private final JakartaWorkspaceService workspaceService;
     private final JakartaTextDocumentService textDocumentService;
     private final JakartaTextDocuments javaDocuments;
     private final SharedSettings sharedSettings;
@@ -66,6 +74,9 @@ public class JakartaLanguageServer implements LanguageServer, ProcessLanguageSer
     private JakartaLanguageClientAPI languageClient;
     private JakartaCapabilityManager capabilityManager;
 
+    // True when the client forwards the classpath changes of the JDT extension
+    private volatile boolean classpathChangedNotified;
+
     /**
      * Constructor
      */
@@ -139,6 +150,7 @@ public class JakartaLanguageServer implements LanguageServer, ProcessLanguageSer
     public CompletableFuture<Object> shutdown() {
         // Perform some clean up. During shutdown, TextDocumentService.didClose() may not be called properly.
         textDocumentService.cleanDiagnostics();
+        textDocumentService.shutdown();
 
         // If requested by the client, on shutdown (i.e. last file closed), shutdown the language server.
         if (capabilityManager.getClientCapabilities().shouldLanguageServerExitOnShutdown()) {
@@ -170,7 +182,7 @@ public class JakartaLanguageServer implements LanguageServer, ProcessLanguageSer
      * {@inheritDoc}
      */
     @Override
-    public TextDocumentService getTextDocumentService() {
+    public JakartaTextDocumentService getTextDocumentService() {
         return this.textDocumentService;
     }
 
@@ -224,6 +236,65 @@ public class JakartaLanguageServer implements LanguageServer, ProcessLanguageSer
         return getLanguageClient().getJavaFileInfo(javaParams);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void classpathChanged(JakartaClasspathChangeEvent event) {
+        classpathChangedNotified = true;
+        projectsChanged(event.getProjectURIs());
+    }
+
+    /**
+     * Evicts the cached information of the given projects and validates again
+     * the opened Java files which belong to them.
+     *
+     * @param projectURIs the project URIs and null for all projects.
+     */
+    void projectsChanged(Set<String> projectURIs) {
+        javaDocuments.evictProjectInfo(projectURIs);
+        textDocumentService.triggerValidationForAll(projectURIs);
+    }
+
+    /**
+     * Evicts the cached information of the projects stored in the given folders
+     * where a build file (ex : pom.xml) changed and validates again their opened
+     * Java files.
+     *
+     * <p>
+     * The build file changes are notified before the build tool resolves the
+     * classpath again, so the projects are evicted after a delay, and only when
+     * the client doesn't forward the classpath changes of the JDT extension,
+     * which are notified once the classpath is resolved.
+     * </p>
+     *
+     * @param folders the folders of the changed build files.
+     */
+    void buildFilesChanged(Set<String> folders) {
+        if (classpathChangedNotified) {
+            return;
+        }
+        Executor delayedExecutor = CompletableFuture.delayedExecutor(BUILD_FILE_EVICTION_DELAY, TimeUnit.MILLISECONDS,
+                                                                     LanguageServerExecutors.getRequestExecutor());
+        delayedExecutor.execute(() -> {
+            if (classpathChangedNotified) {
+                return;
+            }
+            Set<String> projectURIs = javaDocuments.getProjectURIs(folders);
+            // The changed build file can belong to a project which is not cached yet
+            projectsChanged(projectURIs.isEmpty() ? null : projectURIs);
+        });
+    }
+
+    /**
+     * Returns the settings shared by the services of the language server.
+     *
+     * @return the settings shared by the services of the language server.
+     */
+    SharedSettings getSharedSettings() {
+        return sharedSettings;
+    }
+
     /**
      * Returns the object that manages dynamic capabilities.
      *
@@ -233,6 +304,11 @@ public class JakartaLanguageServer implements LanguageServer, ProcessLanguageSer
         return capabilityManager;
     }
 
+    @Override
+    public void cancelProgress(WorkDoneProgressCancelParams params) {
+        workspaceService.cancelProgress(params);
+    }
+
     @Override
     public void setTrace(SetTraceParams params) {
         // to avoid having UnsupportedOperationException, the method is implemented
@@ -26,6 +26,7 @@ import org.eclipse.lsp4j.launch.LSPLauncher.Builder;
 import org.eclipse.lsp4j.services.LanguageClient;
 import org.eclipse.lsp4j.services.LanguageServer;
 import org.eclipse.lsp4jakarta.ls.api.JakartaLanguageClientAPI;
+import org.eclipse.lsp4jakarta.ls.commons.LanguageServerExecutors;
 import org.eclipse.lsp4jakarta.ls.commons.ParentProcessWatcher;
 
 public class JakartaLanguageServerLauncher {
@@ -35,7 +36,7 @@ public class JakartaLanguageServerLauncher {
         Function<MessageConsumer, MessageConsumer> wrapper;
         wrapper = it -> it;
         if ("true".equals(System.getProperty("runAsync"))) {
-            wrapper = it -> msg -> CompletableFuture.runAsync(() -> it.consume(msg));
+            wrapper = it -> msg -> CompletableFuture.runAsync(() -> it.consume(msg), LanguageServerExecutors.getRequestExecutor());
         }
         if (!"false".equals(System.getProperty("watchParentProcess"))) {
             wrapper = new ParentProcessWatcher(server, wrapper);
@@ -16,8 +16,11 @@ package org.eclipse.lsp4jakarta.ls;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -34,11 +37,22 @@ import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidCloseTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.DidSaveTextDocumentParams;
+import org.eclipse.lsp4j.DocumentDiagnosticParams;
+import org.eclipse.lsp4j.DocumentDiagnosticReport;
 import org.eclipse.lsp4j.Hover;
 import org.eclipse.lsp4j.HoverParams;
 import org.eclipse.lsp4j.MarkupKind;
+import org.eclipse.lsp4j.PreviousResultId;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.RelatedFullDocumentDiagnosticReport;
+import org.eclipse.lsp4j.RelatedUnchangedDocumentDiagnosticReport;
 import org.eclipse.lsp4j.TextDocumentClientCapabilities;
+import org.eclipse.lsp4j.WorkspaceDiagnosticParams;
+import org.eclipse.lsp4j.WorkspaceDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceDocumentDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceFullDocumentDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceUnchangedDocumentDiagnosticReport;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.services.TextDocumentService;
 import org.eclipse.lsp4jakarta.commons.DocumentFormat;
@@ -46,11 +60,14 @@ import org.eclipse.lsp4jakarta.commons.JakartaJavaCodeActionParams;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaCompletionParams;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaCompletionResult;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsReport;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsSettings;
+import org.eclipse.lsp4jakarta.commons.JakartaTraceContext;
 import org.eclipse.lsp4jakarta.commons.JavaCursorContextResult;
+import org.eclipse.lsp4jakarta.commons.trace.RequestTrace;
 import org.eclipse.lsp4jakarta.ls.commons.BadLocationException;
-import org.eclipse.lsp4jakarta.ls.commons.TextDocument;
-import org.eclipse.lsp4jakarta.ls.commons.ValidatorDelayer;
+import org.eclipse.lsp4jakarta.ls.commons.LanguageServerExecutors;
+import org.eclipse.lsp4jakarta.ls.commons.ValidationScheduler;
 import org.eclipse.lsp4jakarta.ls.commons.client.ExtendedClientCapabilities;
 import org.eclipse.lsp4jakarta.ls.java.JakartaTextDocuments;
 import org.eclipse.lsp4jakarta.ls.java.JakartaTextDocuments.JakartaTextDocument;
@@ -70,21 +87,27 @@ public class JakartaTextDocumentService implements TextDocumentService {
     // Text document manager that maintains the contexts of the text documents
     private final JakartaTextDocuments documents;
 
-    private ValidatorDelayer<JakartaTextDocument> validatorDelayer;
+    private final ValidationScheduler<JakartaTextDocument> validationScheduler;
+
+    // The last opened, changed or saved document, validated first
+    private volatile String activeDocumentUri;
 
     public JakartaTextDocumentService(JakartaLanguageServer jls, SharedSettings sharedSettings, JakartaTextDocuments jakartaTextDocuments) {
         this.jakartaLanguageServer = jls;
         this.sharedSettings = sharedSettings;
         this.documents = jakartaTextDocuments;
-        this.validatorDelayer = new ValidatorDelayer<>((javaTextDocument) -> {
-            triggerValidationFor(javaTextDocument);
-        });
+        this.validationScheduler = new ValidationScheduler<>(this::triggerValidationFor);
     }
 
     @Override
     public void didClose(DidCloseTextDocumentParams params) {
         documents.onDidCloseTextDocument(params);
         String uri = params.getTextDocument().getUri();
+        if (uri.equals(activeDocumentUri)) {
+            setActiveDocument(null);
+        }
+        // cancel the pending validation
+        validationScheduler.cancel(uri);
         // clear diagnostics
         jakartaLanguageServer.getLanguageClient().publishDiagnostics(new PublishDiagnosticsParams(uri, new ArrayList<Diagnostic>()));
     }
@@ -93,11 +116,14 @@ public class JakartaTextDocumentService implements TextDocumentService {
     public CompletableFuture<Either<List<CompletionItem>, CompletionList>> completion(CompletionParams params) {
 
         JakartaTextDocument document = documents.get(params.getTextDocument().getUri());
+        RequestTrace trace = createTrace("completion");
 
-        return document.executeIfInJakartaProject((projectInfo, cancelChecker) -> {
+        return closeOnComplete(trace, document.executeIfInJakartaProject((projectInfo, cancelChecker) -> {
             JakartaJavaCompletionParams javaParams = new JakartaJavaCompletionParams(params.getTextDocument().getUri(), params.getPosition());
+            javaParams.setTrace(trace.send());
 
             // get the completion capabilities from the java language server component
+            long requestStart = System.nanoTime();
             CompletableFuture<JakartaJavaCompletionResult> javaParticipantCompletionsFuture = jakartaLanguageServer.getLanguageClient().getJavaCompletion(javaParams);
 
             // calculate params for Java snippets
@@ -116,6 +142,7 @@ public class JakartaTextDocumentService implements TextDocumentService {
             cancelChecker.checkCanceled();
 
             return javaParticipantCompletionsFuture.thenApply((completionResult) -> {
+                trace.span("request", requestStart);
                 cancelChecker.checkCanceled();
 
                 // We currently do not get any completion items from the JDT Extn layer - the
@@ -132,6 +159,7 @@ public class JakartaTextDocumentService implements TextDocumentService {
                 JavaCursorContextResult cursorContext = completionResult.getCursorContext();
 
                 // calculate the snippet completion items based on the cursor context
+                long snippetsStart = System.nanoTime();
                 JavaTextDocumentSnippetRegistry snippetRegistry = documents.getSnippetRegistry();
                 List<CompletionItem> snippetCompletionItems = snippetRegistry.getCompletionItems(
                                                                                                  document, finalizedCompletionOffset, canSupportMarkdown,
@@ -144,6 +172,7 @@ public class JakartaTextDocumentService implements TextDocumentService {
                                                                                                      return true;
                                                                                                  }, projectInfo);
                 list.getItems().addAll(snippetCompletionItems);
+                trace.span("snippets", snippetsStart);
 
                 // This reduces the number of completion requests to the server. See:
                 // https://microsoft.github.io/language-server-protocol/specifications/specification-current/#textDocument_completion
@@ -151,7 +180,7 @@ public class JakartaTextDocumentService implements TextDocumentService {
                 return Either.forRight(list);
             });
 
-        }, Either.forLeft(Collections.emptyList()));
+        }, Either.forLeft(Collections.emptyList()), false, trace));
     }
 
     @Override
@@ -163,18 +192,22 @@ public class JakartaTextDocumentService implements TextDocumentService {
         codeActionParams.setContext(params.getContext());
         codeActionParams.setResourceOperationSupported(jakartaLanguageServer.getCapabilityManager().getClientCapabilities().isResourceOperationSupported());
         codeActionParams.setResolveSupported(jakartaLanguageServer.getCapabilityManager().getClientCapabilities().isCodeActionResolveSupported());
+        RequestTrace trace = createTrace("codeAction");
+        codeActionParams.setTrace(trace.send());
 
         // Pass the JakartaJavaCodeActionParams to IDE client, to be forwarded to the
         // JDT LS extension.
-        return jakartaLanguageServer.getLanguageClient().getJavaCodeAction(codeActionParams) //
+        long requestStart = System.nanoTime();
+        return closeOnComplete(trace, jakartaLanguageServer.getLanguageClient().getJavaCodeAction(codeActionParams) //
                         .thenApply(codeActions -> {
+                            trace.span("request", requestStart);
                             // Return the corresponding list of CodeActions, put in an Either and wrap as a
                             // CompletableFuture
                             return codeActions.stream().map(ca -> {
                                 Either<Command, CodeAction> e = Either.forRight(ca);
                                 return e;
                             }).collect(Collectors.toList());
-                        });
+                        }));
     }
 
     @Override
@@ -189,79 +222,259 @@ public class JakartaTextDocumentService implements TextDocumentService {
 
     @Override
     public void didOpen(DidOpenTextDocumentParams params) {
+        setActiveDocument(params.getTextDocument().getUri());
         validate(documents.onDidOpenTextDocument(params), false);
     }
 
     @Override
     public void didChange(DidChangeTextDocumentParams params) {
+        setActiveDocument(params.getTextDocument().getUri());
         validate(documents.onDidChangeTextDocument(params), true);
     }
 
     @Override
     public void didSave(DidSaveTextDocumentParams params) {
-        // validate all opened java files which belong to a Jakarta project
-        triggerValidationForAll(null);
+        // validate the saved java file and the opened java files which depend on it
+        setActiveDocument(params.getTextDocument().getUri());
+        triggerValidationForAll(null, Arrays.asList(params.getTextDocument().getUri()));
+    }
+
+    @Override
+    public CompletableFuture<DocumentDiagnosticReport> diagnostic(DocumentDiagnosticParams params) {
+        String uri = params.getTextDocument().getUri();
+        DocumentDiagnosticReport emptyReport = new DocumentDiagnosticReport(new RelatedFullDocumentDiagnosticReport(Collections.emptyList()));
+        JakartaTextDocument document = documents.get(uri);
+        if (document == null) {
+            return CompletableFuture.completedFuture(emptyReport);
+        }
+        RequestTrace trace = createTrace("diagnostic");
+        return closeOnComplete(trace, document.executeIfInJakartaProject((projectInfo, cancelChecker) -> {
+            JakartaJavaDiagnosticsParams javaParams = createJavaDiagnosticsParams(Arrays.asList(uri));
+            if (params.getPreviousResultId() != null) {
+                javaParams.setPreviousResultIds(Collections.singletonMap(uri, params.getPreviousResultId()));
+            }
+            javaParams.setTrace(trace.send());
+            long requestStart = System.nanoTime();
+            return jakartaLanguageServer.getLanguageClient().getJavaPullDiagnostics(javaParams).thenApply(reports -> {
+                trace.span("request", requestStart);
+                if (reports == null || reports.isEmpty()) {
+                    return emptyReport;
+                }
+                JakartaJavaDiagnosticsReport report = reports.get(0);
+                if (report.isUnchanged()) {
+                    return new DocumentDiagnosticReport(new RelatedUnchangedDocumentDiagnosticReport(report.getResultId()));
+                }
+                RelatedFullDocumentDiagnosticReport fullReport = new RelatedFullDocumentDiagnosticReport(report.getDiagnostics());
+                fullReport.setResultId(report.getResultId());
+                return new DocumentDiagnosticReport(fullReport);
+            });
+        }, emptyReport, true, trace));
+    }
+
+    /**
+     * Returns the pulled diagnostics of the opened Java files which belong to a
+     * Jakarta project.
+     *
+     * @param params the workspace diagnostic parameters.
+     * @return the pulled diagnostics of the opened Java files which belong to a
+     *         Jakarta project.
+     */
+    CompletableFuture<WorkspaceDiagnosticReport> workspaceDiagnostic(WorkspaceDiagnosticParams params) {
+        Map<String, JakartaTextDocument> openedDocuments = new HashMap<>();
+        for (JakartaTextDocument document : documents.all()) {
+            if (document.isInJakartaProject()) {
+                openedDocuments.put(document.getUri(), document);
+            }
+        }
+        if (openedDocuments.isEmpty()) {
+            return CompletableFuture.completedFuture(new WorkspaceDiagnosticReport(Collections.emptyList()));
+        }
+        JakartaJavaDiagnosticsParams javaParams = createJavaDiagnosticsParams(new ArrayList<>(openedDocuments.keySet()));
+        if (params.getPreviousResultIds() != null) {
+            Map<String, String> previousResultIds = new HashMap<>();
+            for (PreviousResultId previousResultId : params.getPreviousResultIds()) {
+                previousResultIds.put(previousResultId.getUri(), previousResultId.getValue());
+            }
+            javaParams.setPreviousResultIds(previousResultIds);
+        }
+        return jakartaLanguageServer.getLanguageClient().getJavaPullDiagnostics(javaParams).thenApply(reports -> {
+            List<WorkspaceDocumentDiagnosticReport> items = new ArrayList<>();
+            if (reports != null) {
+                for (JakartaJavaDiagnosticsReport report : reports) {
+                    JakartaTextDocument document = openedDocuments.get(report.getUri());
+                    if (document == null) {
+                        // An URI which was not requested (ex : normalized by the JDT extension)
+                        continue;
+                    }
+                    Integer version = document.getVersion();
+                    if (report.isUnchanged()) {
+                        items.add(new WorkspaceDocumentDiagnosticReport(new WorkspaceUnchangedDocumentDiagnosticReport(report.getResultId(), report.getUri(), version)));
+                    } else {
+                        WorkspaceFullDocumentDiagnosticReport fullReport = new WorkspaceFullDocumentDiagnosticReport(report.getDiagnostics(), report.getUri(), version);
+                        fullReport.setResultId(report.getResultId());
+                        items.add(new WorkspaceDocumentDiagnosticReport(fullReport));
+                    }
+                }
+            }
+            return new WorkspaceDiagnosticReport(items);
+        });
     }
 
     private void validate(JakartaTextDocument javaTextDocument, boolean delay) {
+        if (isPullDiagnostics()) {
+            // The client pulls the diagnostics of the opened and changed Java files
+            return;
+        }
         if (delay) {
-            validatorDelayer.validateWithDelay(javaTextDocument);
+            validationScheduler.validateWithDelay(javaTextDocument);
         } else {
-            triggerValidationFor(javaTextDocument);
+            validationScheduler.validate(javaTextDocument);
         }
     }
 
+    private void setActiveDocument(String uri) {
+        activeDocumentUri = uri;
+        validationScheduler.setActiveDocument(uri);
+    }
+
     /**
      * Validate all opened Java files which belong to a Jakarta project.
      *
      * @param projectURIs list of project URIs filter and null otherwise.
      */
-    private void triggerValidationForAll(Set<String> projectURIs) {
-        triggerValidationFor(documents.all().stream() //
+    void triggerValidationForAll(Set<String> projectURIs) {
+        triggerValidationForAll(projectURIs, null);
+    }
+
+    /**
+     * Validate all opened Java files which belong to a Jakarta project and which
+     * are affected by the given changed Java files.
+     *
+     * <p>
+     * The validations are scheduled with the validation scheduler, so they are
+     * coalesced with the other validations of the same files, capped and
+     * ordered with the active document first.
+     * </p>
+     *
+     * @param projectURIs list of project URIs filter and null otherwise.
+     * @param changedUris the changed Java files uris and null to validate all
+     *            opened Java files.
+     */
+    private void triggerValidationForAll(Set<String> projectURIs, List<String> changedUris) {
+        List<JakartaTextDocument> documentsToValidate = documents.all().stream() //
                         .filter(document -> projectURIs == null || projectURIs.contains(document.getProjectURI())) //
-                        .map(TextDocument::getUri) //
-                        .collect(Collectors.toList()));
+                        .collect(Collectors.toList());
+        if (documentsToValidate.isEmpty()) {
+            return;
+        }
+        if (isPullDiagnostics()) {
+            // Ask the client to pull again the diagnostics, the unchanged ones are not
+            // sent again
+            if (jakartaLanguageServer.getCapabilityManager().getClientCapabilities().isDiagnosticsRefreshSupported()) {
+                jakartaLanguageServer.getLanguageClient().refreshDiagnostics();
+            }
+            return;
+        }
+        for (JakartaTextDocument document : documentsToValidate) {
+            if (changedUris != null) {
+                validationScheduler.validate(document, changedUris);
+            } else {
+                validationScheduler.validate(document);
+            }
+        }
     }
 
     /**
      * Validate the given opened Java file.
      *
      * @param document the opened Java file.
+     * @param changedUris the changed Java files uris, to validate the given Java
+     *            file only if it depends on them, and null otherwise.
+     * @return a future completed when the diagnostics are published, which
+     *         cancels the request sent to the JDT extension when it is
+     *         canceled.
      */
-    private void triggerValidationFor(JakartaTextDocument document) {
-        document.executeIfInJakartaProject((projectinfo, cancelChecker) -> {
-            String uri = document.getUri();
-            triggerValidationFor(Arrays.asList(uri));
-            return null;
+    private CompletableFuture<Void> triggerValidationFor(JakartaTextDocument document, List<String> changedUris) {
+        return document.executeIfInJakartaProject((projectinfo, cancelChecker) -> {
+            return publishDiagnostics(Arrays.asList(document.getUri()), changedUris, cancelChecker);
         }, null, true);
     }
 
     /**
-     * Validate all given Java files uris.
-     *
-     * @param uris Java files uris to validate.
+     * Validates the given Java files in one request and publishes the
+     * diagnostics of the files which are still opened, unless the validation is
+     * canceled.
      */
-    private void triggerValidationFor(List<String> uris) {
-        if (uris.isEmpty()) {
-            return;
-        }
+    private CompletableFuture<Void> publishDiagnostics(List<String> uris, List<String> changedUris,
+                                                       CancelChecker cancelChecker) {
+        JakartaJavaDiagnosticsParams javaParams = createJavaDiagnosticsParams(uris);
+        javaParams.setChangedUris(changedUris);
+        RequestTrace trace = createTrace("publishDiagnostics");
+        javaParams.setTrace(trace.send());
+
+        long requestStart = System.nanoTime();
+        CompletableFuture<List<PublishDiagnosticsParams>> request = jakartaLanguageServer.getLanguageClient().getJavaDiagnostics(javaParams);
+        CompletableFuture<Void> published = request.thenApply(diagnostics -> {
+            trace.span("request", requestStart);
+            if (diagnostics == null || cancelChecker.isCanceled()) {
+                return null;
+            }
+            long publishStart = System.nanoTime();
+            for (PublishDiagnosticsParams diagnostic : diagnostics) {
+                if (documents.get(diagnostic.getUri()) != null) {
+                    // didClose already cleared the diagnostics of a closed file
+                    jakartaLanguageServer.getLanguageClient().publishDiagnostics(diagnostic);
+                }
+            }
+            trace.span("publish", publishStart);
+            return null;
+        });
+        return closeOnComplete(trace, LanguageServerExecutors.cancelOnCancel(published, request));
+    }
 
+    private JakartaJavaDiagnosticsParams createJavaDiagnosticsParams(List<String> uris) {
         JakartaJavaDiagnosticsParams javaParams = new JakartaJavaDiagnosticsParams(uris, new JakartaJavaDiagnosticsSettings(null));
-
         boolean markdownSupported = sharedSettings.getHoverSettings().isContentFormatSupported(MarkupKind.MARKDOWN);
         if (markdownSupported) {
             javaParams.setDocumentFormat(DocumentFormat.Markdown);
         }
+        return javaParams;
+    }
 
-        jakartaLanguageServer.getLanguageClient().getJavaDiagnostics(javaParams).thenApply(diagnostics -> {
-            if (diagnostics == null) {
-                return null;
-            }
-            for (PublishDiagnosticsParams diagnostic : diagnostics) {
-                jakartaLanguageServer.getLanguageClient().publishDiagnostics(diagnostic);
-            }
-            return null;
-        });
+    /**
+     * Returns the trace of the given operation in the language server hop if the
+     * requests are traced and a no-op trace otherwise.
+     */
+    private RequestTrace createTrace(String operation) {
+        JakartaTraceSettings traceSettings = sharedSettings.getTraceSettings();
+        if (!traceSettings.isRequests()) {
+            return RequestTrace.none();
+        }
+        JakartaTraceContext context = new JakartaTraceContext(UUID.randomUUID().toString(), System.currentTimeMillis(),
+                                                              traceSettings.getRequestsFile());
+        return RequestTrace.create(RequestTrace.LS_HOP, operation, context);
+    }
+
+    /**
+     * Closes the given trace when the given future completes and returns the
+     * given future, so the request can still be cancelled.
+     */
+    private static <T> CompletableFuture<T> closeOnComplete(RequestTrace trace, CompletableFuture<T> future) {
+        if (trace.isEnabled()) {
+            future.whenComplete((result, error) -> trace.close());
+        }
+        return future;
+    }
+
+    private boolean isPullDiagnostics() {
+        return jakartaLanguageServer.getCapabilityManager().getClientCapabilities().isPullDiagnosticsSupported();
+    }
+
+    /**
+     * Cancels the pending validations and stops the validation scheduler.
+     */
+    void shutdown() {
+        validationScheduler.shutdown();
     }
 
     protected void cleanDiagnostics() {
@@ -13,16 +13,62 @@
 
 package org.eclipse.lsp4jakarta.ls;
 
+import static org.eclipse.lsp4jakarta.settings.capabilities.ServerCapabilitiesConstants.FIX_ALL_IN_PROJECT_COMMAND;
+import static org.eclipse.lsp4jakarta.settings.capabilities.ServerCapabilitiesConstants.METRICS_COMMAND;
+import static org.eclipse.lsp4jakarta.settings.capabilities.ServerCapabilitiesConstants.VALIDATE_WORKSPACE_COMMAND;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.ApplyWorkspaceEditParams;
 import org.eclipse.lsp4j.DidChangeConfigurationParams;
 import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
+import org.eclipse.lsp4j.ExecuteCommandParams;
+import org.eclipse.lsp4j.FileEvent;
+import org.eclipse.lsp4j.ProgressParams;
+import org.eclipse.lsp4j.WorkDoneProgressBegin;
+import org.eclipse.lsp4j.WorkDoneProgressCancelParams;
+import org.eclipse.lsp4j.WorkDoneProgressCreateParams;
+import org.eclipse.lsp4j.WorkDoneProgressEnd;
+import org.eclipse.lsp4j.WorkDoneProgressNotification;
+import org.eclipse.lsp4j.WorkspaceDiagnosticParams;
+import org.eclipse.lsp4j.WorkspaceDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceEdit;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.services.WorkspaceService;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaFixAllParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaMetricsParams;
+import org.eclipse.lsp4jakarta.commons.utils.JSONUtility;
+import org.eclipse.lsp4jakarta.ls.api.JakartaLanguageClientAPI;
 
 public class JakartaWorkspaceService implements WorkspaceService {
 
+    private static final Logger LOGGER = Logger.getLogger(JakartaWorkspaceService.class.getName());
+
+    private static final String FIX_ALL_IN_PROJECT_LABEL = "Fix all Jakarta EE problems in the project";
+
     private final JakartaLanguageServer jakartaLanguageServer;
 
+    private final JakartaWorkspaceValidator workspaceValidator;
+
+    // Running fix all requests by work done progress token
+    private final Map<String, CompletableFuture<?>> fixAllRequests;
+
     public JakartaWorkspaceService(JakartaLanguageServer jls) {
         this.jakartaLanguageServer = jls;
+        this.workspaceValidator = new JakartaWorkspaceValidator(jls);
+        this.fixAllRequests = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -32,7 +78,151 @@ public class JakartaWorkspaceService implements WorkspaceService {
 
     @Override
     public void didChangeWatchedFiles(DidChangeWatchedFilesParams params) {
-        // Do nothing
+        // A build file (ex : pom.xml) changed, the classpath of the projects stored
+        // in its folder can change.
+        Set<String> folders = new HashSet<>();
+        for (FileEvent event : params.getChanges()) {
+            try {
+                Path parent = Paths.get(URI.create(event.getUri())).getParent();
+                if (parent != null) {
+                    folders.add(parent.toString());
+                }
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Error while getting the folder of '" + event.getUri() + "'", e);
+            }
+        }
+        if (folders.isEmpty()) {
+            return;
+        }
+        jakartaLanguageServer.buildFilesChanged(folders);
+    }
+
+    @Override
+    public CompletableFuture<WorkspaceDiagnosticReport> diagnostic(WorkspaceDiagnosticParams params) {
+        return jakartaLanguageServer.getTextDocumentService().workspaceDiagnostic(params);
+    }
+
+    @Override
+    public CompletableFuture<Object> executeCommand(ExecuteCommandParams params) {
+        if (FIX_ALL_IN_PROJECT_COMMAND.equals(params.getCommand())) {
+            return fixAllInProject(params.getArguments(), params.getWorkDoneToken());
+        }
+        if (VALIDATE_WORKSPACE_COMMAND.equals(params.getCommand())) {
+            return validateWorkspace(params);
+        }
+        if (METRICS_COMMAND.equals(params.getCommand())) {
+            return getMetrics(params.getArguments());
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Cancels the workspace validation or the fix all reported with the given
+     * work done progress.
+     *
+     * @param params the work done progress cancel parameters.
+     */
+    void cancelProgress(WorkDoneProgressCancelParams params) {
+        workspaceValidator.cancel(params.getToken());
+        CompletableFuture<?> fixAll = fixAllRequests.get(JakartaWorkspaceValidator.getKey(params.getToken()));
+        if (fixAll != null) {
+            // Cancel the request sent to the JDT extension
+            fixAll.cancel(true);
+        }
+    }
+
+    /**
+     * Applies the fixes of all the diagnostics which have an unambiguous quick
+     * fix in the project of the Java file given as first argument. The fix all
+     * is reported with work done progress notifications, as the workspace
+     * validation, and stops when the client cancels the progress or the command
+     * request.
+     */
+    private CompletableFuture<Object> fixAllInProject(List<Object> arguments, Either<String, Integer> workDoneToken) {
+        String uri = arguments != null && !arguments.isEmpty() ? JSONUtility.toModel(arguments.get(0), String.class) : null;
+        if (uri == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        JakartaJavaFixAllParams fixAllParams = new JakartaJavaFixAllParams(uri, true);
+        fixAllParams.setResourceOperationSupported(jakartaLanguageServer.getCapabilityManager().getClientCapabilities().isResourceOperationSupported());
+        JakartaLanguageClientAPI client = jakartaLanguageServer.getLanguageClient();
+        boolean progressSupported = workDoneToken != null
+                                    || jakartaLanguageServer.getCapabilityManager().getClientCapabilities().isWorkDoneProgressSupported();
+        Either<String, Integer> token = workDoneToken != null ? workDoneToken : Either.forLeft(UUID.randomUUID().toString());
+        String key = JakartaWorkspaceValidator.getKey(token);
+        // The progress must be created by the client before it is reported
+        CompletableFuture<?> progressCreated = workDoneToken == null && progressSupported ? client.createProgress(new WorkDoneProgressCreateParams(token)).handle((r, e) -> null) : CompletableFuture.completedFuture(null);
+        CompletableFuture<Object> result = progressCreated.thenCompose(created -> {
+            WorkDoneProgressBegin begin = new WorkDoneProgressBegin();
+            begin.setTitle(FIX_ALL_IN_PROJECT_LABEL);
+            begin.setCancellable(true);
+            notifyProgress(token, progressSupported, begin);
+            CompletableFuture<WorkspaceEdit> fixAll = client.getJavaFixAll(fixAllParams);
+            fixAllRequests.put(key, fixAll);
+            return fixAll.<Object> thenCompose(edit -> {
+                if (edit == null) {
+                    // Nothing to fix
+                    return CompletableFuture.completedFuture(null);
+                }
+                return client.applyEdit(new ApplyWorkspaceEditParams(edit, FIX_ALL_IN_PROJECT_LABEL)).thenApply(response -> response);
+            }).whenComplete((r, e) -> {
+                fixAllRequests.remove(key);
+                WorkDoneProgressEnd end = new WorkDoneProgressEnd();
+                if (fixAll.isCancelled()) {
+                    end.setMessage("Fix all canceled");
+                } else if (e != null) {
+                    LOGGER.log(Level.SEVERE, "Error while fixing the Jakarta problems of the project of '" + uri + "'", e);
+                    end.setMessage("Fix all failed");
+                }
+                notifyProgress(token, progressSupported, end);
+            });
+        });
+        // The command request is canceled by the client
+        result.whenComplete((r, e) -> {
+            if (result.isCancelled()) {
+                CompletableFuture<?> fixAll = fixAllRequests.get(key);
+                if (fixAll != null) {
+                    fixAll.cancel(true);
+                }
+            }
+        });
+        return result;
+    }
+
+    private void notifyProgress(Either<String, Integer> token, boolean progressSupported,
+                                WorkDoneProgressNotification notification) {
+        if (progressSupported) {
+            jakartaLanguageServer.getLanguageClient().notifyProgress(new ProgressParams(token, Either.forLeft(notification)));
+        }
+    }
+
+    /**
+     * Returns the metrics of the diagnostics and code action participants of
+     * the JDT extension, with the optional {@link JakartaJavaMetricsParams}
+     * given as first argument (to reset the metrics or change the interval of
+     * their dumps in the log).
+     */
+    private CompletableFuture<Object> getMetrics(List<Object> arguments) {
+        JakartaJavaMetricsParams metricsParams = arguments != null && !arguments.isEmpty() ? JSONUtility.toModel(arguments.get(0), JakartaJavaMetricsParams.class) : null;
+        if (metricsParams == null) {
+            metricsParams = new JakartaJavaMetricsParams();
+        }
+        return jakartaLanguageServer.getLanguageClient().getJavaMetrics(metricsParams).thenApply(report -> report);
+    }
+
+    /**
+     * Validates all the Java files of the Jakarta projects given as arguments
+     * (project URIs) or of all the Jakarta projects if there is no argument.
+     */
+    private CompletableFuture<Object> validateWorkspace(ExecuteCommandParams params) {
+        List<String> projectUris = null;
+        if (params.getArguments() != null && !params.getArguments().isEmpty()) {
+            projectUris = new ArrayList<>();
+            for (Object argument : params.getArguments()) {
+                projectUris.add(JSONUtility.toModel(argument, String.class));
+            }
+        }
+        return workspaceValidator.validate(projectUris, params.getWorkDoneToken());
     }
 
 }
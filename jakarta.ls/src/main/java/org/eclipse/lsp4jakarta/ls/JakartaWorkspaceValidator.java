@@ -0,0 +1,233 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.ls;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.MarkupKind;
+import org.eclipse.lsp4j.ProgressParams;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.WorkDoneProgressBegin;
+import org.eclipse.lsp4j.WorkDoneProgressCreateParams;
+import org.eclipse.lsp4j.WorkDoneProgressEnd;
+import org.eclipse.lsp4j.WorkDoneProgressNotification;
+import org.eclipse.lsp4j.WorkDoneProgressReport;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4jakarta.commons.DocumentFormat;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsSettings;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaWorkspaceDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaWorkspaceDiagnosticsReport;
+import org.eclipse.lsp4jakarta.ls.api.JakartaLanguageClientAPI;
+
+/**
+ * Validates all the Java files of the Jakarta projects of the workspace.
+ *
+ * <p>
+ * The diagnostics are pulled by chunks from the JDT extension with
+ * <code>jakarta/java/workspaceDiagnostics</code>, published as soon as a chunk
+ * is received and the number of validated files and the throughput are
+ * reported with work done progress notifications. The validation stops when
+ * the client cancels the progress or the command request.
+ * </p>
+ *
+ * <p>
+ * When the client pulls the diagnostics, the diagnostics of the chunks are not
+ * published (the client would show them twice): the validation only fills the
+ * diagnostics cache of the JDT extension and the client is asked to pull the
+ * diagnostics again once the validation is done.
+ * </p>
+ */
+class JakartaWorkspaceValidator {
+
+    private static final Logger LOGGER = Logger.getLogger(JakartaWorkspaceValidator.class.getName());
+
+    private static final String VALIDATE_WORKSPACE_TITLE = "Validating Jakarta EE projects";
+
+    private final JakartaLanguageServer jakartaLanguageServer;
+
+    // Running validations by work done progress token
+    private final Map<String, Validation> validations;
+
+    /**
+     * A running workspace validation.
+     */
+    private class Validation {
+
+        private final Either<String, Integer> token;
+
+        private final boolean progressSupported;
+
+        private final boolean pullDiagnostics;
+
+        private final CompletableFuture<Object> result;
+
+        private volatile boolean canceled;
+
+        private String sessionId;
+
+        Validation(Either<String, Integer> token, boolean progressSupported) {
+            this.token = token;
+            this.progressSupported = progressSupported;
+            this.pullDiagnostics = jakartaLanguageServer.getCapabilityManager().getClientCapabilities().isPullDiagnosticsSupported();
+            this.result = new CompletableFuture<>();
+            // The command request is canceled by the client
+            result.whenComplete((r, e) -> {
+                if (result.isCancelled()) {
+                    cancel();
+                }
+            });
+        }
+
+        void start(List<String> projectUris) {
+            WorkDoneProgressBegin begin = new WorkDoneProgressBegin();
+            begin.setTitle(VALIDATE_WORKSPACE_TITLE);
+            begin.setCancellable(true);
+            begin.setPercentage(0);
+            notifyProgress(begin);
+            JakartaJavaWorkspaceDiagnosticsParams params = new JakartaJavaWorkspaceDiagnosticsParams();
+            params.setProjectUris(projectUris);
+            params.setSettings(new JakartaJavaDiagnosticsSettings(null));
+            if (jakartaLanguageServer.getSharedSettings().getHoverSettings().isContentFormatSupported(MarkupKind.MARKDOWN)) {
+                params.setDocumentFormat(DocumentFormat.Markdown);
+            }
+            requestChunk(params);
+        }
+
+        private void requestChunk(JakartaJavaWorkspaceDiagnosticsParams params) {
+            JakartaLanguageClientAPI client = jakartaLanguageServer.getLanguageClient();
+            client.getJavaWorkspaceDiagnostics(params).whenComplete((report, e) -> {
+                if (e != null) {
+                    LOGGER.log(Level.SEVERE, "Error while validating the Jakarta projects", e);
+                    end("Validation failed");
+                    result.completeExceptionally(e);
+                    return;
+                }
+                if (report == null) {
+                    end(null);
+                    result.complete(null);
+                    return;
+                }
+                sessionId = report.getSessionId();
+                if (report.getDiagnostics() != null && !pullDiagnostics) {
+                    for (PublishDiagnosticsParams diagnostics : report.getDiagnostics()) {
+                        client.publishDiagnostics(diagnostics);
+                    }
+                }
+                if (report.isDone()) {
+                    end(getMessage(report));
+                    if (pullDiagnostics
+                        && jakartaLanguageServer.getCapabilityManager().getClientCapabilities().isDiagnosticsRefreshSupported()) {
+                        client.refreshDiagnostics();
+                    }
+                    report.setDiagnostics(null);
+                    result.complete(report);
+                    return;
+                }
+                if (canceled) {
+                    // Stop the validation session of the JDT extension
+                    JakartaJavaWorkspaceDiagnosticsParams cancelParams = new JakartaJavaWorkspaceDiagnosticsParams(sessionId);
+                    cancelParams.setCancel(true);
+                    client.getJavaWorkspaceDiagnostics(cancelParams);
+                    end("Validation canceled");
+                    result.complete(null);
+                    return;
+                }
+                WorkDoneProgressReport progress = new WorkDoneProgressReport();
+                progress.setCancellable(true);
+                progress.setMessage(getMessage(report));
+                if (report.getTotalFiles() > 0) {
+                    progress.setPercentage(report.getProcessedFiles() * 100 / report.getTotalFiles());
+                }
+                notifyProgress(progress);
+                params.setSessionId(sessionId);
+                requestChunk(params);
+            });
+        }
+
+        void cancel() {
+            canceled = true;
+        }
+
+        private void end(String message) {
+            validations.remove(getKey(token));
+            WorkDoneProgressEnd end = new WorkDoneProgressEnd();
+            end.setMessage(message);
+            notifyProgress(end);
+        }
+
+        private void notifyProgress(WorkDoneProgressNotification notification) {
+            if (!progressSupported) {
+                return;
+            }
+            jakartaLanguageServer.getLanguageClient().notifyProgress(new ProgressParams(token, Either.forLeft(notification)));
+        }
+    }
+
+    JakartaWorkspaceValidator(JakartaLanguageServer jls) {
+        this.jakartaLanguageServer = jls;
+        this.validations = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Validates the Java files of the given projects (all the Jakarta projects
+     * if null).
+     *
+     * @param projectUris the project URIs and null for all Jakarta projects.
+     * @param workDoneToken the work done progress token given by the client and
+     *            null otherwise.
+     * @return the last report of the validation (without diagnostics) and null
+     *         if the validation is canceled.
+     */
+    CompletableFuture<Object> validate(List<String> projectUris, Either<String, Integer> workDoneToken) {
+        boolean progressSupported = workDoneToken != null
+                                    || jakartaLanguageServer.getCapabilityManager().getClientCapabilities().isWorkDoneProgressSupported();
+        Either<String, Integer> token = workDoneToken != null ? workDoneToken : Either.forLeft(UUID.randomUUID().toString());
+        Validation validation = new Validation(token, progressSupported);
+        validations.put(getKey(token), validation);
+        if (workDoneToken == null && progressSupported) {
+            // The progress must be created by the client before it is reported
+            jakartaLanguageServer.getLanguageClient().createProgress(new WorkDoneProgressCreateParams(token)) //
+                            .whenComplete((r, e) -> validation.start(projectUris));
+        } else {
+            validation.start(projectUris);
+        }
+        return validation.result;
+    }
+
+    /**
+     * Cancels the validation reported with the given work done progress token.
+     *
+     * @param token the work done progress token.
+     */
+    void cancel(Either<String, Integer> token) {
+        Validation validation = validations.get(getKey(token));
+        if (validation != null) {
+            validation.cancel();
+        }
+    }
+
+    static String getKey(Either<String, Integer> token) {
+        return token.isLeft() ? token.getLeft() : String.valueOf(token.getRight());
+    }
+
+    private static String getMessage(JakartaJavaWorkspaceDiagnosticsReport report) {
+        return String.format("%d/%d files (%.1f files/s)", report.getProcessedFiles(), report.getTotalFiles(),
+                             report.getFilesPerSecond());
+    }
+}
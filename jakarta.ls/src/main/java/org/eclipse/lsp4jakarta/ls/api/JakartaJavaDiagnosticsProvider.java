@@ -18,6 +18,7 @@ import java.util.concurrent.CompletableFuture;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsReport;
 
 /**
  * Jakarta Java diagnostics provider.
@@ -26,4 +27,7 @@ public interface JakartaJavaDiagnosticsProvider {
 
     @JsonRequest("jakarta/java/diagnostics")
     CompletableFuture<List<PublishDiagnosticsParams>> getJavaDiagnostics(JakartaJavaDiagnosticsParams javaParams);
+
+    @JsonRequest("jakarta/java/pullDiagnostics")
+    CompletableFuture<List<JakartaJavaDiagnosticsReport>> getJavaPullDiagnostics(JakartaJavaDiagnosticsParams javaParams);
 }
\ No newline at end of file
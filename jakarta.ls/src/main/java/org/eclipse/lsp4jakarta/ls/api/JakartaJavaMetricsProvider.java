@@ -0,0 +1,28 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.ls.api;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaMetricsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaMetricsReport;
+
+/**
+ * Jakarta Java metrics provider.
+ */
+public interface JakartaJavaMetricsProvider {
+
+    @JsonRequest("jakarta/java/metrics")
+    CompletableFuture<JakartaJavaMetricsReport> getJavaMetrics(JakartaJavaMetricsParams javaParams);
+}
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4jakarta.ls.api;
+
+import org.eclipse.lsp4j.jsonrpc.services.JsonNotification;
+import org.eclipse.lsp4j.services.LanguageServer;
+import org.eclipse.lsp4jakarta.commons.JakartaClasspathChangeEvent;
+
+/**
+ * Jakarta language server API.
+ */
+public interface JakartaLanguageServerAPI extends LanguageServer {
+
+    /**
+     * Notification sent by the client when the classpath of some Java projects
+     * changed.
+     *
+     * @param event the classpath change event.
+     */
+    @JsonNotification("jakarta/classpathChanged")
+    void classpathChanged(JakartaClasspathChangeEvent event);
+}
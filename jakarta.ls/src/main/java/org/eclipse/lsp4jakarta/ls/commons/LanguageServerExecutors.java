@@ -0,0 +1,109 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.ls.commons;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.lsp4j.jsonrpc.CompletableFutures.FutureCancelChecker;
+
+/**
+ * Executors used by the language server to process the requests.
+ *
+ * <p>
+ * The requests are processed on virtual threads instead of
+ * {@link java.util.concurrent.ForkJoinPool#commonPool()}: a request which waits
+ * for the JDT LS extension doesn't hold a platform thread, and many in-flight
+ * requests (ex : the user types quickly with many opened files) cannot starve
+ * the common pool used by the rest of the JVM.
+ * </p>
+ */
+public class LanguageServerExecutors {
+
+    private static final ExecutorService REQUEST_EXECUTOR = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("lsp4jakarta-request-",
+                                                                                                                       0).factory());
+
+    private LanguageServerExecutors() {}
+
+    /**
+     * Returns the executor used to process the requests.
+     *
+     * @return the executor used to process the requests.
+     */
+    public static ExecutorService getRequestExecutor() {
+        return REQUEST_EXECUTOR;
+    }
+
+    /**
+     * Executes the given code with the request executor and returns the future
+     * returned by the code.
+     *
+     * <p>
+     * The cancel checker given to the code is canceled when the returned future
+     * is canceled, and so is the future returned by the code (ex : to cancel
+     * the request sent to the JDT extension). A code which returns null
+     * completes the returned future with null.
+     * </p>
+     *
+     * @param <R> the type of the result.
+     * @param code the code to execute.
+     * @return the future returned by the code.
+     */
+    public static <R> CompletableFuture<R> computeAsyncCompose(Function<CancelChecker, CompletableFuture<R>> code) {
+        CompletableFuture<CancelChecker> start = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<R>> codeFuture = new AtomicReference<>();
+        CompletableFuture<R> result = start.thenComposeAsync(cancelChecker -> {
+            CompletableFuture<R> future = code.apply(cancelChecker);
+            if (future == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            codeFuture.set(future);
+            if (cancelChecker.isCanceled()) {
+                // Canceled while the code was executed
+                future.cancel(true);
+            }
+            return future;
+        }, REQUEST_EXECUTOR);
+        start.complete(new FutureCancelChecker(result));
+        result.whenComplete((r, e) -> {
+            CompletableFuture<R> future = codeFuture.get();
+            if (future != null && result.isCancelled()) {
+                future.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Cancels the given source future when the given dependent future (ex :
+     * created with <code>thenApply</code>) is canceled, which doesn't cancel its
+     * source otherwise.
+     *
+     * @param <R> the type of the result of the dependent future.
+     * @param dependent the dependent future.
+     * @param source the source future.
+     * @return the dependent future.
+     */
+    public static <R> CompletableFuture<R> cancelOnCancel(CompletableFuture<R> dependent, CompletableFuture<?> source) {
+        dependent.whenComplete((r, e) -> {
+            if (dependent.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return dependent;
+    }
+}
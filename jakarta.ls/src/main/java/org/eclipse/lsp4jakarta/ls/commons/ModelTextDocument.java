@@ -88,8 +88,7 @@ public class ModelTextDocument<T> extends TextDocument {
     }
 
     @Override
-    public void setText(String text) {
-        super.setText(text);
+    protected void textChanged() {
         // text changed, mark the model as dirty
         cancelModel();
     }
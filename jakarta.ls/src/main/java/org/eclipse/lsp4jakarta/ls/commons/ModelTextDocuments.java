@@ -15,13 +15,11 @@ package org.eclipse.lsp4jakarta.ls.commons;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
-import java.util.function.Function;
 
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
-import org.eclipse.lsp4j.jsonrpc.CompletableFutures.FutureCancelChecker;
 
 /**
  * The cache of {@link TextDocument} linked to a model.
@@ -110,7 +108,7 @@ public class ModelTextDocuments<T> extends TextDocuments<ModelTextDocument<T>> {
      */
     public <R> CompletableFuture<R> computeModelAsync(TextDocumentIdentifier documentIdentifier,
                                                       BiFunction<T, CancelChecker, R> code) {
-        return CompletableFutures.computeAsync(cancelChecker -> {
+        return CompletableFutures.computeAsync(LanguageServerExecutors.getRequestExecutor(), cancelChecker -> {
             // Get or parse the model.
             T model = getModel(documentIdentifier);
             if (model == null) {
@@ -135,7 +133,7 @@ public class ModelTextDocuments<T> extends TextDocuments<ModelTextDocument<T>> {
      */
     public <R> CompletableFuture<R> computeModelAsyncCompose(TextDocumentIdentifier documentIdentifier,
                                                              BiFunction<T, CancelChecker, CompletableFuture<R>> code) {
-        return computeAsyncCompose(cancelChecker -> {
+        return LanguageServerExecutors.computeAsyncCompose(cancelChecker -> {
             // Get or parse the model.
             T model = getModel(documentIdentifier);
             if (model == null) {
@@ -146,11 +144,4 @@ public class ModelTextDocuments<T> extends TextDocuments<ModelTextDocument<T>> {
             return code.apply(model, cancelChecker);
         });
     }
-
-    private static <R> CompletableFuture<R> computeAsyncCompose(Function<CancelChecker, CompletableFuture<R>> code) {
-        CompletableFuture<CancelChecker> start = new CompletableFuture<>();
-        CompletableFuture<R> result = start.thenComposeAsync(code);
-        start.complete(new FutureCancelChecker(result));
-        return result;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,329 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.ls.commons;
+
+/**
+ * Immutable text stored as a balanced tree of small string chunks.
+ *
+ * <p>
+ * Replacing a range of text or taking a sub sequence shares the unchanged
+ * chunks with the original rope, and costs O(log n) instead of copying the
+ * whole text. A chunk is a range of a string, so a rope created from a string
+ * and the chunks split from it share this string instead of copying it. The
+ * whole text is materialized as a {@link String} only when {@link #toString()}
+ * is called: the rope then keeps this string and a single chunk of it instead
+ * of its previous chunks.
+ * </p>
+ *
+ * <p>
+ * The tree is kept height-balanced (AVL) by the concatenation; adjacent small
+ * chunks are merged, so typing doesn't fragment the text in one-character
+ * chunks.
+ * </p>
+ */
+public final class Rope implements CharSequence {
+
+    // Maximum length of a chunk created by merging chunks
+    private static final int MAX_LEAF_LENGTH = 512;
+
+    public static final Rope EMPTY = new Rope(new Leaf(""), "");
+
+    private abstract static class Node {
+
+        final int length;
+
+        final int height;
+
+        Node(int length, int height) {
+            this.length = length;
+            this.height = height;
+        }
+
+        abstract char charAt(int index);
+
+        abstract void appendTo(StringBuilder builder);
+    }
+
+    private static final class Leaf extends Node {
+
+        // The chunk is the range [start, start + length[ of this string
+        final String text;
+
+        final int start;
+
+        Leaf(String text) {
+            this(text, 0, text.length());
+        }
+
+        Leaf(String text, int start, int end) {
+            super(end - start, 0);
+            this.text = text;
+            this.start = start;
+        }
+
+        @Override
+        char charAt(int index) {
+            return text.charAt(start + index);
+        }
+
+        @Override
+        void appendTo(StringBuilder builder) {
+            builder.append(text, start, start + length);
+        }
+
+        Leaf split(int from, int to) {
+            return new Leaf(text, start + from, start + to);
+        }
+
+        String getText() {
+            return start == 0 && length == text.length() ? text : text.substring(start, start + length);
+        }
+    }
+
+    private static final class Concat extends Node {
+
+        final Node left;
+
+        final Node right;
+
+        Concat(Node left, Node right) {
+            super(left.length + right.length, Math.max(left.height, right.height) + 1);
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        char charAt(int index) {
+            Node node = this;
+            while (node instanceof Concat) {
+                Concat concat = (Concat) node;
+                if (index < concat.left.length) {
+                    node = concat.left;
+                } else {
+                    index -= concat.left.length;
+                    node = concat.right;
+                }
+            }
+            return node.charAt(index);
+        }
+
+        @Override
+        void appendTo(StringBuilder builder) {
+            left.appendTo(builder);
+            right.appendTo(builder);
+        }
+    }
+
+    // Replaced by a single chunk of the materialized text
+    private volatile Node root;
+
+    // The materialized text, computed on demand
+    private volatile String text;
+
+    private Rope(Node root) {
+        this.root = root;
+    }
+
+    private Rope(Node root, String text) {
+        this.root = root;
+        this.text = text;
+    }
+
+    /**
+     * Returns a rope with the given text, which shares the given text when it
+     * is a string.
+     *
+     * @param text the text.
+     * @return a rope with the given text.
+     */
+    public static Rope of(CharSequence text) {
+        if (text instanceof Rope) {
+            return (Rope) text;
+        }
+        if (text == null || text.length() == 0) {
+            return EMPTY;
+        }
+        String string = text.toString();
+        return new Rope(new Leaf(string), string);
+    }
+
+    @Override
+    public int length() {
+        return root.length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Node node = root;
+        if (index < 0 || index >= node.length) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + node.length);
+        }
+        return node.charAt(index);
+    }
+
+    /**
+     * Returns a rope which shares the chunks of this rope for the given range.
+     */
+    @Override
+    public Rope subSequence(int start, int end) {
+        Node node = root;
+        checkRange(node, start, end);
+        if (start == 0 && end == node.length) {
+            return this;
+        }
+        if (start == end) {
+            return EMPTY;
+        }
+        Node[] tail = split(node, start);
+        return new Rope(split(tail[1], end - start)[0]);
+    }
+
+    /**
+     * Returns a new rope where the given range is replaced with the given text.
+     *
+     * @param start the start offset (inclusive).
+     * @param end the end offset (exclusive).
+     * @param replacement the replacement text.
+     * @return a new rope where the given range is replaced with the given text.
+     */
+    public Rope replace(int start, int end, CharSequence replacement) {
+        Node node = root;
+        checkRange(node, start, end);
+        Node[] head = split(node, start);
+        Node[] tail = split(head[1], end - start);
+        Node inserted = replacement == null || replacement.length() == 0 ? EMPTY.root : of(replacement).root;
+        return new Rope(join(join(head[0], inserted), tail[1]));
+    }
+
+    /**
+     * Returns the text of this rope, materialized on the first call.
+     */
+    @Override
+    public String toString() {
+        String materialized = text;
+        if (materialized == null) {
+            Node node = root;
+            StringBuilder builder = new StringBuilder(node.length);
+            node.appendTo(builder);
+            materialized = builder.toString();
+            // The previous chunks are no longer referenced by this rope, the ropes which
+            // share them still reference them
+            root = new Leaf(materialized);
+            text = materialized;
+        }
+        return materialized;
+    }
+
+    /**
+     * Returns the height of the tree of this rope (0 for a single chunk).
+     */
+    int getHeight() {
+        return root.height;
+    }
+
+    /**
+     * Returns the number of chunks of this rope.
+     */
+    int getChunkCount() {
+        return getChunkCount(root);
+    }
+
+    private static int getChunkCount(Node node) {
+        if (node instanceof Leaf) {
+            return 1;
+        }
+        Concat concat = (Concat) node;
+        return getChunkCount(concat.left) + getChunkCount(concat.right);
+    }
+
+    private static void checkRange(Node node, int start, int end) {
+        if (start < 0 || end > node.length || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + node.length);
+        }
+    }
+
+    /**
+     * Splits the given node at the given offset.
+     */
+    private static Node[] split(Node node, int offset) {
+        if (offset <= 0) {
+            return new Node[] { EMPTY.root, node };
+        }
+        if (offset >= node.length) {
+            return new Node[] { node, EMPTY.root };
+        }
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            return new Node[] { leaf.split(0, offset), leaf.split(offset, leaf.length) };
+        }
+        Concat concat = (Concat) node;
+        int leftLength = concat.left.length;
+        if (offset == leftLength) {
+            return new Node[] { concat.left, concat.right };
+        }
+        if (offset < leftLength) {
+            Node[] parts = split(concat.left, offset);
+            return new Node[] { parts[0], join(parts[1], concat.right) };
+        }
+        Node[] parts = split(concat.right, offset - leftLength);
+        return new Node[] { join(concat.left, parts[0]), parts[1] };
+    }
+
+    /**
+     * Concatenates the given nodes and keeps the tree balanced.
+     */
+    private static Node join(Node left, Node right) {
+        if (left.length == 0) {
+            return right;
+        }
+        if (right.length == 0) {
+            return left;
+        }
+        if (left.height > right.height + 1) {
+            Concat concat = (Concat) left;
+            return balance(concat.left, join(concat.right, right));
+        }
+        if (right.height > left.height + 1) {
+            Concat concat = (Concat) right;
+            return balance(join(left, concat.left), concat.right);
+        }
+        if (left instanceof Leaf && right instanceof Leaf && left.length + right.length <= MAX_LEAF_LENGTH) {
+            return new Leaf(((Leaf) left).getText() + ((Leaf) right).getText());
+        }
+        return new Concat(left, right);
+    }
+
+    /**
+     * Concatenates the given nodes, whose heights differ at most by 2, with a
+     * single or double rotation when they are not balanced.
+     */
+    private static Node balance(Node left, Node right) {
+        if (left.height > right.height + 1) {
+            Concat concat = (Concat) left;
+            if (concat.left.height >= concat.right.height) {
+                return new Concat(concat.left, new Concat(concat.right, right));
+            }
+            Concat inner = (Concat) concat.right;
+            return new Concat(new Concat(concat.left, inner.left), new Concat(inner.right, right));
+        }
+        if (right.height > left.height + 1) {
+            Concat concat = (Concat) right;
+            if (concat.right.height >= concat.left.height) {
+                return new Concat(new Concat(left, concat.left), concat.right);
+            }
+            Concat inner = (Concat) concat.left;
+            return new Concat(new Concat(left, inner.left), new Concat(inner.right, concat.right));
+        }
+        return new Concat(left, right);
+    }
+}
@@ -27,6 +27,13 @@ import org.eclipse.lsp4j.TextDocumentItem;
  * Text document extends LSP4j {@link TextDocumentItem} to provide methods to
  * retrieve position.
  *
+ * <p>
+ * The content is stored in a {@link Rope}: an incremental change replaces the
+ * changed range in O(log n) without copying the whole text, and the text is
+ * materialized as a {@link String} only when {@link #getText()} is called. The
+ * text field of {@link TextDocumentItem} is not used, so it is never outdated.
+ * </p>
+ *
  */
 public class TextDocument extends TextDocumentItem {
 
@@ -40,6 +47,8 @@ public class TextDocument extends TextDocumentItem {
 
     private boolean incremental;
 
+    private volatile Rope content;
+
     public TextDocument(TextDocumentItem document) {
         this(document.getText(), document.getUri());
         super.setVersion(document.getVersion());
@@ -48,7 +57,43 @@ public class TextDocument extends TextDocumentItem {
 
     public TextDocument(String text, String uri) {
         super.setUri(uri);
-        super.setText(text);
+        this.content = Rope.of(text);
+    }
+
+    /**
+     * Returns the text of the document, materialized from its content if it
+     * was updated since the last call.
+     */
+    @Override
+    public String getText() {
+        return content.toString();
+    }
+
+    @Override
+    public void setText(String text) {
+        synchronized (lock) {
+            this.content = Rope.of(text);
+            textChanged();
+        }
+    }
+
+    /**
+     * Returns the content of the document without materializing it as a
+     * {@link String}.
+     *
+     * @return the content of the document.
+     */
+    public CharSequence getContent() {
+        return content;
+    }
+
+    /**
+     * Called when the text of the document changed, with the lock of the
+     * updates held, so the next update is not applied before the document
+     * handled this change.
+     */
+    protected void textChanged() {
+        // Do nothing
     }
 
     public void setIncremental(boolean incremental) {
@@ -82,8 +127,7 @@ public class TextDocument extends TextDocumentItem {
     public String lineText(int lineNumber) throws BadLocationException {
         ILineTracker lineTracker = getLineTracker();
         Line line = lineTracker.getLineInformation(lineNumber);
-        String text = super.getText();
-        return text.substring(line.offset, line.offset + line.length);
+        return content.subSequence(line.offset, line.offset + line.length).toString();
     }
 
     public String lineDelimiter(int lineNumber) throws BadLocationException {
@@ -105,8 +149,7 @@ public class TextDocument extends TextDocumentItem {
             Position pos = positionAt(textOffset);
             ILineTracker lineTracker = getLineTracker();
             Line line = lineTracker.getLineInformation(pos.getLine());
-            String text = super.getText();
-            String lineText = text.substring(line.offset, textOffset);
+            String lineText = content.subSequence(line.offset, textOffset).toString();
             int position = lineText.length();
             Matcher m = wordDefinition.matcher(lineText);
             int currentPosition = 0;
@@ -139,7 +182,7 @@ public class TextDocument extends TextDocumentItem {
             return lineTracker;
         }
         ILineTracker lineTracker = isIncremental() ? new TreeLineTracker(new ListLineTracker()) : new ListLineTracker();
-        lineTracker.set(super.getText());
+        lineTracker.set(getText());
         return lineTracker;
     }
 
@@ -159,29 +202,34 @@ public class TextDocument extends TextDocumentItem {
                 long start = System.currentTimeMillis();
                 synchronized (lock) {
                     // Initialize buffer and line tracker from the current text document
-                    StringBuilder buffer = new StringBuilder(getText());
+                    Rope buffer = content;
+                    ILineTracker lineTracker = getLineTracker();
 
                     // Loop for each changes and update the buffer
                     for (int i = 0; i < changes.size(); i++) {
 
                         TextDocumentContentChangeEvent changeEvent = changes.get(i);
                         Range range = changeEvent.getRange();
+                        int startOffset = 0;
                         int length = 0;
 
                         if (range != null) {
-                            length = changeEvent.getRangeLength().intValue();
+                            startOffset = offsetAt(range.getStart());
+                            // rangeLength is deprecated and optional, compute it from the range end if not given
+                            length = changeEvent.getRangeLength() != null ? changeEvent.getRangeLength().intValue()
+                                                                          : offsetAt(range.getEnd()) - startOffset;
                         } else {
                             // range is optional and if not given, the whole file content is replaced
                             length = buffer.length();
-                            range = new Range(positionAt(0), positionAt(length));
                         }
                         String text = changeEvent.getText();
-                        int startOffset = offsetAt(range.getStart());
-                        buffer.replace(startOffset, startOffset + length, text);
+                        // Only the changed chunks are copied, the text is materialized on demand
+                        buffer = buffer.replace(startOffset, startOffset + length, text);
                         lineTracker.replace(startOffset, length, text);
                     }
                     // Update the new text content from the updated buffer
-                    setText(buffer.toString());
+                    content = buffer;
+                    textChanged();
                 }
                 LOGGER.fine("Text document content updated in " + (System.currentTimeMillis() - start) + "ms");
             } catch (BadLocationException e) {
@@ -193,8 +241,10 @@ public class TextDocument extends TextDocumentItem {
             // https://github.com/Microsoft/vscode-languageserver-node/blob/master/server/src/main.ts
             TextDocumentContentChangeEvent last = changes.size() > 0 ? changes.get(changes.size() - 1) : null;
             if (last != null) {
-                setText(last.getText());
-                lineTracker.set(last.getText());
+                synchronized (lock) {
+                    setText(last.getText());
+                    getLineTracker().set(last.getText());
+                }
             }
         }
     }
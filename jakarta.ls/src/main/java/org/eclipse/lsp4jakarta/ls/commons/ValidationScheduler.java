@@ -0,0 +1,422 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.ls.commons;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Schedules the validation of the opened documents.
+ *
+ * <ul>
+ * <li>The validations are coalesced by URI: a document is validated with its
+ * latest version after a debounce delay, and a change received while the
+ * document is validated triggers one more validation when the current one is
+ * done.</li>
+ * <li>The debounce delay adapts to the measured validation time of each
+ * document, so a document which is long to validate is not validated more
+ * often than it can be.</li>
+ * <li>The number of validations running at the same time is capped, the active
+ * document is validated before the other ready documents.</li>
+ * <li>A validation which runs longer than the validation timeout is canceled,
+ * so hung requests don't hold the running validations slots.</li>
+ * <li>The pending and running validations of a document are canceled when it
+ * is closed, and all of them when the scheduler is shut down.</li>
+ * </ul>
+ *
+ * <p>
+ * A validation can be restricted to the documents which depend on some
+ * changed files (ex : on save). It is coalesced with the other validations of
+ * the document: the changed files are merged, and a full validation wins.
+ * </p>
+ *
+ * <p>
+ * The scheduler can be configured with the system properties:
+ * </p>
+ * <ul>
+ * <li><code>lsp4jakarta.validation.maxConcurrent</code>: the maximum number of
+ * validations running at the same time.</li>
+ * <li><code>lsp4jakarta.validation.timeout</code>: the maximum time in
+ * milliseconds a validation can run before it is canceled.</li>
+ * </ul>
+ *
+ * @param <T> the document type.
+ */
+public class ValidationScheduler<T extends TextDocument> {
+
+    private static final Logger LOGGER = Logger.getLogger(ValidationScheduler.class.getName());
+
+    private static final String MAX_CONCURRENT_PROPERTY = "lsp4jakarta.validation.maxConcurrent";
+
+    private static final int DEFAULT_MAX_CONCURRENT = 2;
+
+    private static final String TIMEOUT_PROPERTY = "lsp4jakarta.validation.timeout";
+
+    private static final long DEFAULT_TIMEOUT_MS = 30000;
+
+    public static final long DEFAULT_VALIDATION_DELAY_MS = 500;
+
+    public static final long MIN_VALIDATION_DELAY_MS = 100;
+
+    public static final long MAX_VALIDATION_DELAY_MS = 2000;
+
+    // Weight of the last validation time in the average validation time
+    private static final double SMOOTHING_FACTOR = 0.3;
+
+    /**
+     * The validation state of a document.
+     */
+    private class Validation {
+
+        private final String uri;
+
+        private T document;
+
+        // Average validation time in milliseconds, negative until measured
+        private double averageTime = -1;
+
+        private ScheduledFuture<?> timer;
+
+        private boolean ready;
+
+        private boolean active;
+
+        private long readySequence;
+
+        private CompletableFuture<?> running;
+
+        // A new version was scheduled while the document was validated
+        private boolean dirty;
+
+        // The changed files of the pending validation, null for a full validation
+        private Set<String> changedUris;
+
+        Validation(String uri) {
+            this.uri = uri;
+        }
+
+        /**
+         * Returns true if a validation of the document is scheduled and not
+         * started yet.
+         */
+        boolean isPending() {
+            return timer != null || ready || dirty;
+        }
+
+        long getDelay() {
+            if (averageTime < 0) {
+                return DEFAULT_VALIDATION_DELAY_MS;
+            }
+            // Wait at least the time of a validation, so they don't queue up while typing
+            return Math.max(MIN_VALIDATION_DELAY_MS, Math.min(MAX_VALIDATION_DELAY_MS, Math.round(2 * averageTime)));
+        }
+    }
+
+    private final BiFunction<T, List<String>, CompletableFuture<?>> validator;
+
+    private final ScheduledExecutorService executorService;
+
+    private final int maxConcurrent;
+
+    private final long timeout;
+
+    private final Map<String, Validation> validations;
+
+    private final PriorityQueue<Validation> readyQueue;
+
+    private int runningCount;
+
+    private long sequence;
+
+    private volatile String activeUri;
+
+    /**
+     * @param validator the function which validates a document, only if it
+     *            depends on the given changed files when they are not null,
+     *            and returns a future completed when the diagnostics are
+     *            published. The future is canceled when the validation is
+     *            canceled or times out.
+     */
+    public ValidationScheduler(BiFunction<T, List<String>, CompletableFuture<?>> validator) {
+        this(validator, Integer.getInteger(MAX_CONCURRENT_PROPERTY, DEFAULT_MAX_CONCURRENT),
+             Long.getLong(TIMEOUT_PROPERTY, DEFAULT_TIMEOUT_MS));
+    }
+
+    public ValidationScheduler(BiFunction<T, List<String>, CompletableFuture<?>> validator, int maxConcurrent,
+                               long timeout) {
+        this.validator = validator;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.timeout = timeout;
+        this.executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lsp4jakarta-validation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.validations = new HashMap<>();
+        // The active document first, then the documents in the order they are ready
+        this.readyQueue = new PriorityQueue<>((v1, v2) -> {
+            if (v1.active != v2.active) {
+                return v1.active ? -1 : 1;
+            }
+            return Long.compare(v1.readySequence, v2.readySequence);
+        });
+    }
+
+    /**
+     * Set the URI of the active document, validated before the other
+     * documents.
+     *
+     * @param uri the URI of the active document.
+     */
+    public void setActiveDocument(String uri) {
+        this.activeUri = uri;
+    }
+
+    /**
+     * Validates the latest version of the given document after a delay which
+     * depends on its validation time.
+     *
+     * @param document the document to validate.
+     */
+    public void validateWithDelay(T document) {
+        schedule(document, null, true);
+    }
+
+    /**
+     * Validates the given document as soon as possible.
+     *
+     * @param document the document to validate.
+     */
+    public void validate(T document) {
+        schedule(document, null, false);
+    }
+
+    /**
+     * Validates the given document as soon as possible if it depends on the
+     * given changed files.
+     *
+     * @param document the document to validate.
+     * @param changedUris the URIs of the changed files.
+     */
+    public void validate(T document, Collection<String> changedUris) {
+        schedule(document, changedUris, false);
+    }
+
+    private synchronized void schedule(T document, Collection<String> changedUris, boolean delay) {
+        if (executorService.isShutdown()) {
+            return;
+        }
+        Validation validation = validations.computeIfAbsent(document.getUri(), Validation::new);
+        if (!validation.isPending()) {
+            validation.changedUris = changedUris != null ? new LinkedHashSet<>(changedUris) : null;
+        } else if (validation.changedUris != null) {
+            // Coalesce with the pending validation, a full validation wins
+            if (changedUris != null) {
+                validation.changedUris.addAll(changedUris);
+            } else {
+                validation.changedUris = null;
+            }
+        }
+        validation.document = document;
+        if (validation.timer != null) {
+            validation.timer.cancel(false);
+            validation.timer = null;
+        }
+        if (validation.ready) {
+            // Coalesce with the validation which is not started yet
+            readyQueue.remove(validation);
+            validation.ready = false;
+        }
+        if (validation.running != null) {
+            // Validate the latest version when the running validation is done
+            validation.dirty = true;
+            return;
+        }
+        validation.timer = executorService.schedule(() -> onTimer(validation), delay ? validation.getDelay() : 0,
+                                                    TimeUnit.MILLISECONDS);
+    }
+
+    private void onTimer(Validation validation) {
+        synchronized (this) {
+            if (validations.get(validation.uri) != validation) {
+                // The document was closed
+                return;
+            }
+            validation.timer = null;
+            validation.ready = true;
+            validation.active = validation.uri.equals(activeUri);
+            validation.readySequence = sequence++;
+            readyQueue.add(validation);
+        }
+        dispatch();
+    }
+
+    /**
+     * Starts the ready validations while the maximum number of running
+     * validations is not reached.
+     */
+    private void dispatch() {
+        while (true) {
+            Validation validation;
+            T document;
+            List<String> changedUris;
+            synchronized (this) {
+                if (runningCount >= maxConcurrent || readyQueue.isEmpty()) {
+                    return;
+                }
+                validation = readyQueue.poll();
+                validation.ready = false;
+                document = validation.document;
+                changedUris = validation.changedUris != null ? List.copyOf(validation.changedUris) : null;
+                validation.changedUris = null;
+                // Changes received while the validator is called are validated after it
+                validation.running = new CompletableFuture<>();
+                runningCount++;
+            }
+            long start = System.nanoTime();
+            CompletableFuture<?> future;
+            try {
+                future = validator.apply(document, changedUris);
+            } catch (Exception e) {
+                LOGGER.log(Level.SEVERE, "Error while validating '" + validation.uri + "'", e);
+                future = null;
+            }
+            if (future == null) {
+                future = CompletableFuture.completedFuture(null);
+            }
+            boolean closed;
+            synchronized (this) {
+                validation.running = future;
+                closed = validations.get(validation.uri) != validation;
+            }
+            if (closed) {
+                future.cancel(true);
+            }
+            ScheduledFuture<?> timeoutFuture = scheduleTimeout(validation, future);
+            future.whenComplete((result, e) -> onValidated(validation, start, timeoutFuture, e));
+        }
+    }
+
+    /**
+     * Cancels the given running validation when it runs longer than the
+     * validation timeout, which completes it and releases its slot.
+     */
+    private ScheduledFuture<?> scheduleTimeout(Validation validation, CompletableFuture<?> future) {
+        if (timeout <= 0 || future.isDone()) {
+            return null;
+        }
+        try {
+            return executorService.schedule(() -> {
+                if (future.cancel(true)) {
+                    LOGGER.log(Level.WARNING, "The validation of '" + validation.uri + "' timed out after " + timeout + "ms");
+                }
+            }, timeout, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // The scheduler is shut down
+            return null;
+        }
+    }
+
+    private void onValidated(Validation validation, long start, ScheduledFuture<?> timeoutFuture, Throwable error) {
+        if (timeoutFuture != null) {
+            timeoutFuture.cancel(false);
+        }
+        synchronized (this) {
+            runningCount--;
+            validation.running = null;
+            if (error == null) {
+                double time = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                validation.averageTime = validation.averageTime < 0 ? time
+                                                                    : SMOOTHING_FACTOR * time + (1 - SMOOTHING_FACTOR) * validation.averageTime;
+            }
+            if (validation.dirty && validations.get(validation.uri) == validation && !executorService.isShutdown()) {
+                validation.dirty = false;
+                validation.timer = executorService.schedule(() -> onTimer(validation), validation.getDelay(),
+                                                            TimeUnit.MILLISECONDS);
+            }
+        }
+        if (!executorService.isShutdown()) {
+            // Start the next ready validation on the scheduler thread
+            executorService.execute(this::dispatch);
+        }
+    }
+
+    /**
+     * Cancels the pending and running validations of the given document and
+     * forgets its validation time.
+     *
+     * @param uri the document URI.
+     */
+    public void cancel(String uri) {
+        CompletableFuture<?> running = null;
+        synchronized (this) {
+            Validation validation = validations.remove(uri);
+            if (validation == null) {
+                return;
+            }
+            if (validation.timer != null) {
+                validation.timer.cancel(false);
+            }
+            if (validation.ready) {
+                readyQueue.remove(validation);
+            }
+            running = validation.running;
+        }
+        if (running != null) {
+            // Cancel the request sent to the JDT extension
+            running.cancel(true);
+        }
+    }
+
+    /**
+     * Returns true if the document has a validation pending or running and
+     * false otherwise.
+     *
+     * @param uri the uri of the document to check
+     *
+     * @return true if the document has a validation pending or running and
+     *         false otherwise
+     */
+    public synchronized boolean isRevalidating(String uri) {
+        Validation validation = validations.get(uri);
+        return validation != null && (validation.timer != null || validation.ready || validation.running != null);
+    }
+
+    /**
+     * Cancels all the validations and stops the scheduler thread.
+     */
+    public void shutdown() {
+        String[] uris;
+        synchronized (this) {
+            uris = validations.keySet().toArray(new String[0]);
+        }
+        for (String uri : uris) {
+            cancel(uri);
+        }
+        executorService.shutdownNow();
+    }
+}
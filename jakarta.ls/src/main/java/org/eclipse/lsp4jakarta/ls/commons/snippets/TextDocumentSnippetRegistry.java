@@ -91,14 +91,14 @@ public class TextDocumentSnippetRegistry extends SnippetRegistry {
     }
 
     protected String getExpr(TextDocument document, int completionOffset) {
-        return findExprBeforeAt(document.getText(), completionOffset);
+        return findExprBeforeAt(document.getContent(), completionOffset);
     }
 
     private Range getReplaceRange(int replaceStart, int replaceEnd, TextDocument document) throws BadLocationException {
         return new Range(document.positionAt(replaceStart), document.positionAt(replaceEnd));
     }
 
-    private static String findExprBeforeAt(String text, int offset) {
+    private static String findExprBeforeAt(CharSequence text, int offset) {
         if (offset < 0 || offset > text.length()) {
             return null;
         }
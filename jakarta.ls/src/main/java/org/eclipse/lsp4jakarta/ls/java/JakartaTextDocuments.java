@@ -13,27 +13,28 @@
 *******************************************************************************/
 package org.eclipse.lsp4jakarta.ls.java;
 
+import java.io.File;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutionException;
 import java.util.function.BiFunction;
-import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
-import org.eclipse.lsp4j.jsonrpc.CompletableFutures.FutureCancelChecker;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaFileInfo;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaFileInfoParams;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaProjectLabelsParams;
 import org.eclipse.lsp4jakarta.commons.ProjectLabelInfoEntry;
+import org.eclipse.lsp4jakarta.commons.trace.RequestTrace;
 import org.eclipse.lsp4jakarta.ls.api.JakartaJavaFileInfoProvider;
 import org.eclipse.lsp4jakarta.ls.api.JakartaJavaProjectLabelsProvider;
+import org.eclipse.lsp4jakarta.ls.commons.LanguageServerExecutors;
 import org.eclipse.lsp4jakarta.ls.commons.TextDocument;
 import org.eclipse.lsp4jakarta.ls.commons.TextDocuments;
 import org.eclipse.lsp4jakarta.ls.java.JakartaTextDocuments.JakartaTextDocument;
@@ -65,7 +66,7 @@ public class JakartaTextDocuments extends TextDocuments<JakartaTextDocument> {
 
     private JavaTextDocumentSnippetRegistry snippetRegistry;
 
-    private boolean hasLoadedAllProjects = false;
+    private CompletableFuture<List<ProjectLabelInfoEntry>> allProjectsFuture;
 
     /**
      * Opened Java file.
@@ -154,21 +155,49 @@ public class JakartaTextDocuments extends TextDocuments<JakartaTextDocument> {
         public <T> CompletableFuture<T> executeIfInJakartaProject(
                                                                   BiFunction<ProjectLabelInfoEntry, CancelChecker, CompletableFuture<T>> code, T defaultValue,
                                                                   boolean waitForLoadingProjectInfo) {
-            return computeAsyncCompose(cancelChecker -> {
+            return executeIfInJakartaProject(code, defaultValue, waitForLoadingProjectInfo, RequestTrace.none());
+        }
+
+        /**
+         * Execute the given code only if the Java file belongs to a Jakarta
+         * project and records in the given trace the time spent in the queue of
+         * the language server executor and to get the project information.
+         *
+         * @param <T> the type to return.
+         * @param code the code to execute.
+         * @param defaultValue the default value to return if the Java file
+         *            doesn't belong to a Jakarta project.
+         * @param waitForLoadingProjectInfo true if code to apply must be done when
+         *            project information is loaded and false
+         *            otherwise.
+         * @param trace the trace of the request.
+         * @return the given code only if the Java file belongs to a Jakarta
+         *         project.
+         */
+        public <T> CompletableFuture<T> executeIfInJakartaProject(
+                                                                  BiFunction<ProjectLabelInfoEntry, CancelChecker, CompletableFuture<T>> code, T defaultValue,
+                                                                  boolean waitForLoadingProjectInfo, RequestTrace trace) {
+            long queueStart = System.nanoTime();
+            return LanguageServerExecutors.computeAsyncCompose(cancelChecker -> {
+                trace.span("queue", queueStart);
+                long projectInfoStart = System.nanoTime();
                 CompletableFuture<ProjectLabelInfoEntry> projectInfoFuture = getProjectInfo(this);
                 ProjectLabelInfoEntry projectInfo = projectInfoFuture.getNow(PROJECT_INFO_LOADING);
                 if (isProjectInfoLoading(projectInfo)) {
                     // The project information is loading.
                     if (!waitForLoadingProjectInfo) {
                         // don't wait the load of the project, apply the given code.
+                        trace.span("projectInfo", projectInfoStart);
                         return executeIfInJakartaProject(null, code, defaultValue, cancelChecker);
                     }
                     // Wait the load of the project and apply the given code.
                     return projectInfoFuture.thenCompose(loadedProjectInfo -> {
+                        trace.span("projectInfo", projectInfoStart);
                         return executeIfInJakartaProject(loadedProjectInfo, code, defaultValue, cancelChecker);
                     });
                 }
                 // The project information is loaded, apply the given code
+                trace.span("projectInfo", projectInfoStart);
                 return executeIfInJakartaProject(projectInfo, code, defaultValue, cancelChecker);
             });
         }
@@ -220,8 +249,7 @@ public class JakartaTextDocuments extends TextDocuments<JakartaTextDocument> {
      *         file document.
      */
     private CompletableFuture<ProjectLabelInfoEntry> getProjectInfo(JakartaTextDocument document) {
-        //TODO: revert this to getProjectInfoFromCache when/if ProjectLabelInfoEntry caching is re-enabled
-        return getProjectInfoFromClient(document). //
+        return getProjectInfoFromCache(document). //
                         exceptionally(ex -> {
                             LOGGER.log(Level.WARNING, String.format(
                                                                     "Error while getting ProjectLabelInfoEntry (classpath) for '%s'", document.getUri()),
@@ -230,45 +258,6 @@ public class JakartaTextDocuments extends TextDocuments<JakartaTextDocument> {
                         });
     }
 
-    CompletableFuture<ProjectLabelInfoEntry> getProjectInfoFromClient(JakartaTextDocument document) {
-        String documentURI = document.getUri();
-        // Search future which load project info
-        CompletableFuture<ProjectLabelInfoEntry> projectInfo = null;
-
-        // TODO: re-enable the retrieval of ProjectLabelInfoEntry objects from the caches?
-
-        // We are not going to cache the ProjectLabelInfoEntry for right now - currently caching
-        // is breaking the classpath filtering behaviour - if the pom changes to restrict the classpath, caching
-        // prevents us from returning to the client to re-compute the classpath contents.
-
-        // see getProjectInfoFromCache
-
-        JakartaJavaProjectLabelsParams params = new JakartaJavaProjectLabelsParams();
-        params.setUri(documentURI);
-        params.setTypes(getSnippetRegistry().getTypes());
-        final CompletableFuture<ProjectLabelInfoEntry> future = projectInfoProvider.getJavaProjectLabels(params);
-        ProjectLabelInfoEntry entry = null;
-        try {
-            // future.get() will definitely wait but forced me to re-write the code abit
-            entry = future.get();
-        } catch (InterruptedException | ExecutionException e) {
-            LOGGER.log(Level.WARNING, String.format(
-                                                    "Error while getting the CompletableFuture ProjectLabelInfoEntry object from client for '%s'", document.getUri()),
-                       e);
-        }
-
-        // TODO: re-enable caching of the ProjectLabelInfoEntry objects?
-
-        // since we have effectively disabled cache lookups, and go to the client on every completion call
-        // (as we were doing in the previous code base) we will also disable the addition of
-        // a ProjectLabelInfoEntry into the caches
-
-        // see getProjectInfoFromCache
-
-        return future;
-
-    }
-
     CompletableFuture<ProjectLabelInfoEntry> getProjectInfoFromCache(JakartaTextDocument document) {
         String projectURI = document.getProjectURI();
         String documentURI = document.getUri();
@@ -279,7 +268,8 @@ public class JakartaTextDocuments extends TextDocuments<JakartaTextDocument> {
             // the java document has already been linked to a project URI, get future from
             // the project cache.
             projectInfo = projectCache.get(projectURI);
-        } else {
+        }
+        if (projectInfo == null) {
             // get the current future for the given document URI
             projectInfo = documentCache.get(documentURI);
         }
@@ -289,28 +279,22 @@ public class JakartaTextDocuments extends TextDocuments<JakartaTextDocument> {
             params.setUri(documentURI);
             params.setTypes(getSnippetRegistry().getTypes());
             final CompletableFuture<ProjectLabelInfoEntry> future = projectInfoProvider.getJavaProjectLabels(params);
-            // >> changed this section starting here
-            ProjectLabelInfoEntry entry = null;
-            try {
-                // future.get() will definitely wait but forced me to re-write the code abit
-                entry = future.get();
-            } catch (InterruptedException | ExecutionException e) {
-                // TODO Auto-generated catch block
-                e.printStackTrace();
-            }
-
-            if (entry != null) {
-                // project info with labels are get from the JDT LS
-                String newProjectURI = entry.getUri();
-                // cache the project info in the project cache level.
-                projectCache.put(newProjectURI, future);
-                // update the project URI of the document to link it to a project URI
-                document.setProjectURI(newProjectURI);
-                // evict the document cache level.
-                documentCache.remove(documentURI);
-            }
             // cache the future in the document level.
             documentCache.put(documentURI, future);
+            future.whenComplete((entry, ex) -> {
+                if (ex == null && entry != null && entry.getUri() != null && !entry.getUri().isEmpty()) {
+                    // project info with labels are get from the JDT LS
+                    String newProjectURI = entry.getUri();
+                    // cache the project info in the project cache level.
+                    projectCache.put(newProjectURI, future);
+                    // update the project URI of the document to link it to a project URI
+                    document.setProjectURI(newProjectURI);
+                }
+                // evict the document cache level: the project info is cached in the project
+                // cache level, or the request failed or the document doesn't belong to a
+                // project (yet) and the project info will be loaded again.
+                documentCache.remove(documentURI, future);
+            });
             return future;
         }
 
@@ -318,6 +302,46 @@ public class JakartaTextDocuments extends TextDocuments<JakartaTextDocument> {
         return projectInfo;
     }
 
+    /**
+     * Evicts the cached information of the given projects, which will be loaded
+     * again from the JDT LS extension on the next request.
+     *
+     * <p>
+     * Called when the classpath of the projects changed (ex : a dependency added
+     * or removed in the pom.xml), since the project labels depend on the
+     * classpath.
+     * </p>
+     *
+     * @param projectURIs the project URIs and null to evict all projects.
+     */
+    public void evictProjectInfo(Set<String> projectURIs) {
+        if (projectURIs == null) {
+            projectCache.clear();
+        } else {
+            projectURIs.forEach(projectCache::remove);
+        }
+        // The documents which are not linked to a project yet can belong to the
+        // evicted projects
+        documentCache.clear();
+        synchronized (this) {
+            allProjectsFuture = null;
+        }
+    }
+
+    /**
+     * Returns the URIs of the cached projects stored in one of the given folders
+     * (or one of their sub folders).
+     *
+     * @param folders the folders (ex : the folder of a pom.xml which changed).
+     * @return the URIs of the cached projects stored in one of the given folders.
+     */
+    public Set<String> getProjectURIs(Set<String> folders) {
+        return projectCache.keySet().stream() //
+                        .filter(projectURI -> folders.stream().anyMatch(folder -> projectURI.equals(folder)
+                                                                                  || projectURI.startsWith(folder + File.separator))) //
+                        .collect(Collectors.toSet());
+    }
+
     /**
      * Returns a list of all projects in the current workspace as a completable
      * future
@@ -328,22 +352,10 @@ public class JakartaTextDocuments extends TextDocuments<JakartaTextDocument> {
      *          future
      */
     public CompletableFuture<List<ProjectLabelInfoEntry>> getWorkspaceProjects() {
-        if (!hasLoadedAllProjects) {
-            return projectInfoProvider.getAllJavaProjectLabels() //
-                            .thenApply(entries -> {
-                                if (entries != null && entries.size() > 0) {
-                                    for (ProjectLabelInfoEntry entry : entries) {
-                                        if (entry != null) {
-                                            String newProjectURI = entry.getUri();
-                                            if (!projectCache.containsKey(newProjectURI)) {
-                                                projectCache.put(newProjectURI, CompletableFuture.completedFuture(entry));
-                                            }
-                                        }
-                                    }
-                                }
-                                hasLoadedAllProjects = true;
-                                return entries;
-                            });
+        CompletableFuture<List<ProjectLabelInfoEntry>> allProjects = getAllProjectsLoading();
+        if (allProjects != null) {
+            // the projects are loading, share the request in progress
+            return allProjects;
         }
 
         // otherwise the list of all projects is cached
@@ -360,6 +372,37 @@ public class JakartaTextDocuments extends TextDocuments<JakartaTextDocument> {
                         });
     }
 
+    /**
+     * Returns the future which loads all projects of the workspace if they are
+     * not loaded yet and null otherwise.
+     *
+     * <p>
+     * Concurrent callers share the same future, so the projects are loaded only
+     * once from the JDT LS extension.
+     * </p>
+     *
+     * @return the future which loads all projects of the workspace if they are
+     *         not loaded yet and null otherwise.
+     */
+    private synchronized CompletableFuture<List<ProjectLabelInfoEntry>> getAllProjectsLoading() {
+        if (allProjectsFuture == null || allProjectsFuture.isCancelled() || allProjectsFuture.isCompletedExceptionally()) {
+            allProjectsFuture = projectInfoProvider.getAllJavaProjectLabels() //
+                            .thenApply(entries -> {
+                                if (entries != null && entries.size() > 0) {
+                                    for (ProjectLabelInfoEntry entry : entries) {
+                                        if (entry != null) {
+                                            String newProjectURI = entry.getUri();
+                                            projectCache.putIfAbsent(newProjectURI, CompletableFuture.completedFuture(entry));
+                                        }
+                                    }
+                                }
+                                return entries;
+                            });
+            return allProjectsFuture;
+        }
+        return allProjectsFuture.isDone() ? null : allProjectsFuture;
+    }
+
     /**
      * Returns true if the given project information has the "jakarta" label
      * and false otherwise.
@@ -379,13 +422,6 @@ public class JakartaTextDocuments extends TextDocuments<JakartaTextDocument> {
         return snippetRegistry;
     }
 
-    private static <R> CompletableFuture<R> computeAsyncCompose(Function<CancelChecker, CompletableFuture<R>> code) {
-        CompletableFuture<CancelChecker> start = new CompletableFuture<>();
-        CompletableFuture<R> result = start.thenComposeAsync(code);
-        start.complete(new FutureCancelChecker(result));
-        return result;
-    }
-
     private static boolean isProjectInfoLoading(ProjectLabelInfoEntry projectInfo) {
         return PROJECT_INFO_LOADING == projectInfo;
     }
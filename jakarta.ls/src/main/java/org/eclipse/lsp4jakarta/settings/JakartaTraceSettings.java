@@ -26,6 +26,12 @@ public class JakartaTraceSettings {
     /** Holds the server trace setting. */
     private String server;
 
+    /** Holds the request tracing setting. */
+    private boolean requests;
+
+    /** Holds the path of the file where the request spans are appended. */
+    private String requestsFile;
+
     /**
      * Constructor.
      */
@@ -54,6 +60,46 @@ public class JakartaTraceSettings {
         }
     }
 
+    /**
+     * Returns true if the requests are traced across the language server, the
+     * client and the JDT extension and false otherwise.
+     *
+     * @return true if the requests are traced and false otherwise.
+     */
+    public boolean isRequests() {
+        return requests;
+    }
+
+    /**
+     * Sets the request tracing setting.
+     *
+     * @param requests true to trace the requests and false otherwise.
+     */
+    public void setRequests(boolean requests) {
+        this.requests = requests;
+    }
+
+    /**
+     * Returns the path of the file where the spans of the traced requests are
+     * appended and null to write them in the trace log.
+     *
+     * @return the path of the file where the spans are appended.
+     */
+    public String getRequestsFile() {
+        return requestsFile;
+    }
+
+    /**
+     * Sets the path of the file where the spans of the traced requests are
+     * appended.
+     *
+     * @param requestsFile the path of the file where the spans are appended and
+     *            null to write them in the trace log.
+     */
+    public void setRequestsFile(String requestsFile) {
+        this.requestsFile = requestsFile;
+    }
+
     /**
      * Update the trace settings with the given new trace settings.
      *
@@ -61,5 +107,7 @@ public class JakartaTraceSettings {
      */
     public void update(JakartaTraceSettings newTrace) {
         this.setServer(newTrace.getServer());
+        this.setRequests(newTrace.isRequests());
+        this.setRequestsFile(newTrace.getRequestsFile());
     }
 }
\ No newline at end of file
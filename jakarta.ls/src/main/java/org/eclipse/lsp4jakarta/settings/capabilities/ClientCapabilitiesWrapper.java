@@ -59,6 +59,10 @@ public class ClientCapabilitiesWrapper {
         return v3Supported && isDynamicRegistrationSupported(getTextDocument().getCompletion());
     }
 
+    public boolean isDidChangeWatchedFilesRegistered() {
+        return getWorkspace() != null && isDynamicRegistrationSupported(getWorkspace().getDidChangeWatchedFiles());
+    }
+
     private boolean isDynamicRegistrationSupported(DynamicRegistrationCapabilities capability) {
         return capability != null && capability.getDynamicRegistration() != null
                && capability.getDynamicRegistration().booleanValue();
@@ -112,4 +116,39 @@ public class ClientCapabilitiesWrapper {
                && capabilities.getTextDocument().getCodeAction().getResolveSupport().getProperties().contains("edit");
     }
 
-}
\ No newline at end of file
+    /**
+     * Returns true if the client supports the work done progress created by the
+     * server and false otherwise.
+     *
+     * @return true if the client supports the work done progress created by the
+     *         server and false otherwise.
+     */
+    public boolean isWorkDoneProgressSupported() {
+        return capabilities.getWindow() != null && capabilities.getWindow().getWorkDoneProgress() != null
+               && capabilities.getWindow().getWorkDoneProgress().booleanValue();
+    }
+
+    /**
+     * Returns true if the client pulls the diagnostics (LSP 3.17) and false if
+     * the diagnostics must be published by the server.
+     *
+     * @return true if the client pulls the diagnostics and false otherwise.
+     */
+    public boolean isPullDiagnosticsSupported() {
+        return capabilities.getTextDocument() != null && capabilities.getTextDocument().getDiagnostic() != null;
+    }
+
+    /**
+     * Returns true if the server can ask the client to pull the diagnostics
+     * again and false otherwise.
+     *
+     * @return true if the server can ask the client to pull the diagnostics
+     *         again and false otherwise.
+     */
+    public boolean isDiagnosticsRefreshSupported() {
+        return capabilities.getWorkspace() != null && capabilities.getWorkspace().getDiagnostics() != null
+               && capabilities.getWorkspace().getDiagnostics().getRefreshSupport() != null
+               && capabilities.getWorkspace().getDiagnostics().getRefreshSupport().booleanValue();
+    }
+
+}
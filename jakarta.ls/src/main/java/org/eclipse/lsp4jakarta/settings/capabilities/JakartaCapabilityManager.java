@@ -17,8 +17,11 @@ import static org.eclipse.lsp4jakarta.settings.capabilities.ServerCapabilitiesCo
 import static org.eclipse.lsp4jakarta.settings.capabilities.ServerCapabilitiesConstants.COMPLETION_ID;
 import static org.eclipse.lsp4jakarta.settings.capabilities.ServerCapabilitiesConstants.DEFAULT_CODEACTION_OPTIONS;
 import static org.eclipse.lsp4jakarta.settings.capabilities.ServerCapabilitiesConstants.DEFAULT_COMPLETION_OPTIONS;
+import static org.eclipse.lsp4jakarta.settings.capabilities.ServerCapabilitiesConstants.DEFAULT_WATCHED_FILES_OPTIONS;
 import static org.eclipse.lsp4jakarta.settings.capabilities.ServerCapabilitiesConstants.TEXT_DOCUMENT_CODE_ACTION;
 import static org.eclipse.lsp4jakarta.settings.capabilities.ServerCapabilitiesConstants.TEXT_DOCUMENT_COMPLETION;
+import static org.eclipse.lsp4jakarta.settings.capabilities.ServerCapabilitiesConstants.WORKSPACE_WATCHED_FILES;
+import static org.eclipse.lsp4jakarta.settings.capabilities.ServerCapabilitiesConstants.WORKSPACE_WATCHED_FILES_ID;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -57,6 +60,9 @@ public class JakartaCapabilityManager {
         if (this.getClientCapabilities().isCompletionDynamicRegistrationSupported()) {
             registerCapability(COMPLETION_ID, TEXT_DOCUMENT_COMPLETION, DEFAULT_COMPLETION_OPTIONS);
         }
+        if (this.getClientCapabilities().isDidChangeWatchedFilesRegistered()) {
+            registerCapability(WORKSPACE_WATCHED_FILES_ID, WORKSPACE_WATCHED_FILES, DEFAULT_WATCHED_FILES_OPTIONS);
+        }
     }
 
     public void setClientCapabilities(ClientCapabilities clientCapabilities,
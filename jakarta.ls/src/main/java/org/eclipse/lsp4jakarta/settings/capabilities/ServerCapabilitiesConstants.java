@@ -14,10 +14,16 @@
 package org.eclipse.lsp4jakarta.settings.capabilities;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
+import org.eclipse.lsp4j.CodeActionKind;
 import org.eclipse.lsp4j.CodeActionOptions;
 import org.eclipse.lsp4j.CompletionOptions;
+import org.eclipse.lsp4j.DidChangeWatchedFilesRegistrationOptions;
+import org.eclipse.lsp4j.FileSystemWatcher;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4jakarta.commons.codeaction.JakartaCodeActionKind;
 
 /**
  * Server Capabilities Constants
@@ -31,18 +37,43 @@ public class ServerCapabilitiesConstants {
 
     public static final String TEXT_DOCUMENT_COMPLETION = "textDocument/completion";
     public static final String TEXT_DOCUMENT_CODE_ACTION = "textDocument/codeAction";
+    public static final String WORKSPACE_WATCHED_FILES = "workspace/didChangeWatchedFiles";
+
+    public static final String FIX_ALL_IN_PROJECT_COMMAND = "jakarta.java.fixAllInProject";
+
+    public static final String VALIDATE_WORKSPACE_COMMAND = "jakarta.java.validateWorkspace";
+
+    public static final String METRICS_COMMAND = "jakarta.java.metrics";
+
+    public static final String DIAGNOSTIC_PROVIDER_IDENTIFIER = "jakarta";
 
     public static final String COMPLETION_ID = UUID.randomUUID().toString();
     public static final String CODE_ACTION_ID = UUID.randomUUID().toString();
+    public static final String WORKSPACE_WATCHED_FILES_ID = UUID.randomUUID().toString();
 
     public static final CompletionOptions DEFAULT_COMPLETION_OPTIONS = new CompletionOptions(false, null);
 
     public static final CodeActionOptions DEFAULT_CODEACTION_OPTIONS = createDefaultCodeActionOptions();
 
+    public static final DidChangeWatchedFilesRegistrationOptions DEFAULT_WATCHED_FILES_OPTIONS = createDefaultWatchedFilesOptions();
+
     private static CodeActionOptions createDefaultCodeActionOptions() {
         CodeActionOptions options = new CodeActionOptions();
         options.setResolveProvider(Boolean.TRUE);
+        options.setCodeActionKinds(Arrays.asList(CodeActionKind.QuickFix, JakartaCodeActionKind.SourceFixAll));
         return options;
     }
 
+    /**
+     * Watches the build files whose change can update the classpath of a Java
+     * project.
+     */
+    private static DidChangeWatchedFilesRegistrationOptions createDefaultWatchedFilesOptions() {
+        List<FileSystemWatcher> watchers = Arrays.asList(new FileSystemWatcher(Either.forLeft("**/pom.xml")),
+                                                         new FileSystemWatcher(Either.forLeft("**/*.gradle")),
+                                                         new FileSystemWatcher(Either.forLeft("**/*.gradle.kts")),
+                                                         new FileSystemWatcher(Either.forLeft("**/.classpath")));
+        return new DidChangeWatchedFilesRegistrationOptions(watchers);
+    }
+
 }
\ No newline at end of file
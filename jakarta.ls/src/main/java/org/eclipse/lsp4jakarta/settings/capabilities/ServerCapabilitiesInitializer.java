@@ -15,7 +15,15 @@ package org.eclipse.lsp4jakarta.settings.capabilities;
 
 import static org.eclipse.lsp4jakarta.settings.capabilities.ServerCapabilitiesConstants.DEFAULT_CODEACTION_OPTIONS;
 import static org.eclipse.lsp4jakarta.settings.capabilities.ServerCapabilitiesConstants.DEFAULT_COMPLETION_OPTIONS;
+import static org.eclipse.lsp4jakarta.settings.capabilities.ServerCapabilitiesConstants.DIAGNOSTIC_PROVIDER_IDENTIFIER;
+import static org.eclipse.lsp4jakarta.settings.capabilities.ServerCapabilitiesConstants.FIX_ALL_IN_PROJECT_COMMAND;
+import static org.eclipse.lsp4jakarta.settings.capabilities.ServerCapabilitiesConstants.METRICS_COMMAND;
+import static org.eclipse.lsp4jakarta.settings.capabilities.ServerCapabilitiesConstants.VALIDATE_WORKSPACE_COMMAND;
 
+import java.util.Arrays;
+
+import org.eclipse.lsp4j.DiagnosticRegistrationOptions;
+import org.eclipse.lsp4j.ExecuteCommandOptions;
 import org.eclipse.lsp4j.ServerCapabilities;
 import org.eclipse.lsp4j.TextDocumentSyncKind;
 
@@ -46,6 +54,13 @@ public class ServerCapabilitiesInitializer {
         if (!clientCapabilities.isCodeActionDynamicRegistered()) {
             serverCapabilities.setCodeActionProvider(DEFAULT_CODEACTION_OPTIONS);
         }
+        if (clientCapabilities.isPullDiagnosticsSupported()) {
+            // The diagnostics of a Java file depend on other Java files
+            DiagnosticRegistrationOptions diagnosticOptions = new DiagnosticRegistrationOptions(true, true);
+            diagnosticOptions.setIdentifier(DIAGNOSTIC_PROVIDER_IDENTIFIER);
+            serverCapabilities.setDiagnosticProvider(diagnosticOptions);
+        }
+        serverCapabilities.setExecuteCommandProvider(new ExecuteCommandOptions(Arrays.asList(FIX_ALL_IN_PROJECT_COMMAND, VALIDATE_WORKSPACE_COMMAND, METRICS_COMMAND)));
 
         return serverCapabilities;
     }
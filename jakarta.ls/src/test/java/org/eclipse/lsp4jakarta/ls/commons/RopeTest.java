@@ -0,0 +1,194 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.ls.commons;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for the rope, checked against a {@link StringBuilder} with the same
+ * edits.
+ */
+public class RopeTest {
+
+    private static final String ALPHABET = "abcdefghij \n\t{}();";
+
+    @Test
+    public void replace() {
+        Rope rope = Rope.of("public class A {}");
+        rope = rope.replace(13, 14, "B");
+        rope = rope.replace(16, 16, " int i; ");
+        rope = rope.replace(0, 7, "");
+        assertEquals("class B { int i; }", rope.toString());
+        assertEquals("", rope.replace(0, rope.length(), "").toString());
+        assertEquals("class B { int i; }", rope.toString());
+    }
+
+    @Test
+    public void randomEdits() {
+        Random random = new Random(42);
+        StringBuilder expected = new StringBuilder(randomText(random, 5000));
+        Rope rope = Rope.of(expected.toString());
+        for (int i = 0; i < 2000; i++) {
+            int start = random.nextInt(expected.length() + 1);
+            int end = start + random.nextInt(Math.min(50, expected.length() - start) + 1);
+            String replacement = randomText(random, random.nextInt(20));
+            expected.replace(start, end, replacement);
+            rope = rope.replace(start, end, replacement);
+            assertEquals(expected.length(), rope.length());
+            if (i % 100 == 0) {
+                assertRope(expected.toString(), rope, random);
+            }
+        }
+        assertRope(expected.toString(), rope, random);
+    }
+
+    @Test
+    public void editsDontChangeSharedRopes() {
+        String text = "class A { void m() {} }";
+        Rope rope = Rope.of(text);
+        Rope sub = rope.subSequence(10, 20);
+        Rope edited = rope.replace(6, 7, "Bean");
+        assertEquals(text, rope.toString());
+        assertEquals(text.substring(10, 20), sub.toString());
+        assertEquals("class Bean { void m() {} }", edited.toString());
+        assertEquals(text.substring(10, 20), sub.toString());
+    }
+
+    @Test
+    public void subSequence() {
+        Random random = new Random(7);
+        String text = randomText(random, 3000);
+        Rope rope = Rope.of(text);
+        // Split the rope in several chunks
+        for (int i = 0; i < 100; i++) {
+            int offset = random.nextInt(rope.length());
+            rope = rope.replace(offset, offset, "x").replace(offset, offset + 1, "");
+        }
+        for (int i = 0; i < 500; i++) {
+            int start = random.nextInt(text.length() + 1);
+            int end = start + random.nextInt(text.length() - start + 1);
+            Rope sub = rope.subSequence(start, end);
+            assertEquals(text.substring(start, end), sub.toString());
+            if (end - start > 2) {
+                // A sub sequence of a sub sequence
+                assertEquals(text.substring(start + 1, end - 1), sub.subSequence(1, end - start - 1).toString());
+            }
+        }
+        assertSame(rope, rope.subSequence(0, rope.length()));
+        assertSame(Rope.EMPTY, rope.subSequence(5, 5));
+    }
+
+    @Test
+    public void charAt() {
+        Random random = new Random(3);
+        StringBuilder expected = new StringBuilder(randomText(random, 2000));
+        Rope rope = Rope.of(expected.toString());
+        for (int i = 0; i < 200; i++) {
+            int offset = random.nextInt(expected.length() + 1);
+            String inserted = randomText(random, 3);
+            expected.insert(offset, inserted);
+            rope = rope.replace(offset, offset, inserted);
+        }
+        // Not materialized
+        for (int i = 0; i < expected.length(); i++) {
+            assertEquals(expected.charAt(i), rope.charAt(i));
+        }
+        // Materialized
+        assertEquals(expected.toString(), rope.toString());
+        for (int i = 0; i < expected.length(); i++) {
+            assertEquals(expected.charAt(i), rope.charAt(i));
+        }
+    }
+
+    @Test
+    public void outOfBounds() {
+        Rope rope = Rope.of("abc");
+        assertOutOfBounds(() -> rope.charAt(3));
+        assertOutOfBounds(() -> rope.charAt(-1));
+        assertOutOfBounds(() -> rope.subSequence(2, 1));
+        assertOutOfBounds(() -> rope.replace(0, 4, ""));
+    }
+
+    @Test
+    public void rebalanceWhenTyping() {
+        StringBuilder expected = new StringBuilder(randomText(new Random(5), 100_000));
+        Rope rope = Rope.of(expected.toString());
+        // Typing at the end and in the middle of the text
+        for (int i = 0; i < 20_000; i++) {
+            int offset = i % 2 == 0 ? rope.length() : rope.length() / 2;
+            expected.insert(offset, 'x');
+            rope = rope.replace(offset, offset, "x");
+        }
+        // An AVL tree of n chunks has a height below 1.45 log2(n)
+        int chunks = rope.getChunkCount();
+        assertTrue("height " + rope.getHeight() + " for " + chunks + " chunks",
+                   rope.getHeight() <= 1.45 * (Math.log(chunks + 2) / Math.log(2)));
+        assertEquals(expected.toString(), rope.toString());
+    }
+
+    @Test
+    public void mergeTypedCharacters() {
+        Rope rope = Rope.of("class A {\n}");
+        for (int i = 0; i < 1000; i++) {
+            rope = rope.replace(10 + i, 10 + i, "a");
+        }
+        // The typed characters are merged in chunks instead of one chunk per
+        // character
+        assertTrue("chunks " + rope.getChunkCount(), rope.getChunkCount() <= 6);
+        assertEquals("class A {\n" + "a".repeat(1000) + "}", rope.toString());
+    }
+
+    @Test
+    public void materializeOnce() {
+        Rope rope = Rope.of("class A {}").replace(6, 7, "B");
+        String text = rope.toString();
+        assertSame(text, rope.toString());
+        assertEquals(1, rope.getChunkCount());
+        // A rope created from a string shares it
+        String source = "class C {}";
+        assertSame(source, Rope.of(source).toString());
+    }
+
+    private static void assertRope(String expected, Rope rope, Random random) {
+        assertEquals(expected.length(), rope.length());
+        for (int i = 0; i < 100 && !expected.isEmpty(); i++) {
+            int index = random.nextInt(expected.length());
+            assertEquals(expected.charAt(index), rope.charAt(index));
+        }
+        assertEquals(expected, rope.toString());
+    }
+
+    private static void assertOutOfBounds(Runnable runnable) {
+        try {
+            runnable.run();
+            fail("IndexOutOfBoundsException expected");
+        } catch (IndexOutOfBoundsException e) {
+            // Expected
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,228 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.ls.commons;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for the validation scheduler: coalescing, cap, cancellation and
+ * timeout of the validations.
+ */
+public class ValidationSchedulerTest {
+
+    private static final long WAIT_MS = 5000;
+
+    /**
+     * A call of the validator, completed by the test.
+     */
+    private static class ValidationCall {
+
+        private final String uri;
+
+        private final List<String> changedUris;
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        ValidationCall(String uri, List<String> changedUris) {
+            this.uri = uri;
+            this.changedUris = changedUris;
+        }
+    }
+
+    private final BlockingQueue<ValidationCall> calls = new LinkedBlockingQueue<>();
+
+    private ValidationScheduler<TextDocument> scheduler;
+
+    @After
+    public void tearDown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void coalesceChangesOfPendingValidation() throws Exception {
+        scheduler = createScheduler(2, 0);
+        TextDocument document = new TextDocument("class A {}", "file:///A.java");
+        for (int i = 0; i < 5; i++) {
+            scheduler.validateWithDelay(document);
+        }
+        ValidationCall call = nextCall();
+        assertEquals("file:///A.java", call.uri);
+        assertNull(call.changedUris);
+        call.future.complete(null);
+        assertNoCall(ValidationScheduler.MAX_VALIDATION_DELAY_MS + 200);
+    }
+
+    @Test
+    public void validateAgainWhenChangedWhileRunning() throws Exception {
+        scheduler = createScheduler(2, 0);
+        TextDocument document = new TextDocument("class A {}", "file:///A.java");
+        scheduler.validate(document);
+        ValidationCall first = nextCall();
+
+        // Several changes while the validation is running trigger one more validation
+        scheduler.validate(document);
+        scheduler.validate(document);
+        scheduler.validate(document);
+        assertNoCall(200);
+        assertTrue(scheduler.isRevalidating("file:///A.java"));
+
+        first.future.complete(null);
+        ValidationCall second = nextCall();
+        second.future.complete(null);
+        assertNoCall(ValidationScheduler.MAX_VALIDATION_DELAY_MS + 200);
+    }
+
+    @Test
+    public void mergeChangedUris() throws Exception {
+        scheduler = createScheduler(2, 0);
+        TextDocument document = new TextDocument("class A {}", "file:///A.java");
+        scheduler.validate(document);
+        ValidationCall first = nextCall();
+
+        scheduler.validate(document, Arrays.asList("file:///B.java"));
+        scheduler.validate(document, Arrays.asList("file:///C.java", "file:///B.java"));
+        first.future.complete(null);
+        ValidationCall second = nextCall();
+        assertEquals(Arrays.asList("file:///B.java", "file:///C.java"), second.changedUris);
+
+        // A full validation wins over a validation restricted to changed files
+        scheduler.validate(document, Arrays.asList("file:///B.java"));
+        scheduler.validate(document);
+        second.future.complete(null);
+        ValidationCall third = nextCall();
+        assertNull(third.changedUris);
+        third.future.complete(null);
+    }
+
+    @Test
+    public void capRunningValidations() throws Exception {
+        scheduler = createScheduler(1, 0);
+        scheduler.validate(new TextDocument("class A {}", "file:///A.java"));
+        scheduler.validate(new TextDocument("class B {}", "file:///B.java"));
+        ValidationCall first = nextCall();
+        assertNoCall(200);
+
+        first.future.complete(null);
+        ValidationCall second = nextCall();
+        assertFalse(first.uri.equals(second.uri));
+        second.future.complete(null);
+    }
+
+    @Test
+    public void validateActiveDocumentFirst() throws Exception {
+        scheduler = createScheduler(1, 0);
+        scheduler.validate(new TextDocument("class A {}", "file:///A.java"));
+        ValidationCall running = nextCall();
+
+        scheduler.validate(new TextDocument("class B {}", "file:///B.java"));
+        scheduler.setActiveDocument("file:///C.java");
+        scheduler.validate(new TextDocument("class C {}", "file:///C.java"));
+        // Wait until both validations are ready
+        Thread.sleep(200);
+        running.future.complete(null);
+        ValidationCall next = nextCall();
+        assertEquals("file:///C.java", next.uri);
+        next.future.complete(null);
+        nextCall().future.complete(null);
+    }
+
+    @Test
+    public void cancelOnClose() throws Exception {
+        scheduler = createScheduler(1, 0);
+        TextDocument document = new TextDocument("class A {}", "file:///A.java");
+        scheduler.validate(document);
+        ValidationCall running = nextCall();
+        scheduler.validate(document);
+
+        scheduler.cancel("file:///A.java");
+        assertCanceled(running);
+        assertFalse(scheduler.isRevalidating("file:///A.java"));
+        assertNoCall(200);
+
+        // The slot of the canceled validation is released
+        scheduler.validate(new TextDocument("class B {}", "file:///B.java"));
+        nextCall().future.complete(null);
+    }
+
+    @Test
+    public void cancelPendingValidationOnClose() throws Exception {
+        scheduler = createScheduler(1, 0);
+        scheduler.validateWithDelay(new TextDocument("class A {}", "file:///A.java"));
+        scheduler.cancel("file:///A.java");
+        assertNoCall(ValidationScheduler.DEFAULT_VALIDATION_DELAY_MS + 200);
+    }
+
+    @Test
+    public void timeOutHungValidations() throws Exception {
+        scheduler = createScheduler(1, 200);
+        scheduler.validate(new TextDocument("class A {}", "file:///A.java"));
+        scheduler.validate(new TextDocument("class B {}", "file:///B.java"));
+        ValidationCall hung = nextCall();
+
+        // The hung validation is canceled and releases its slot
+        ValidationCall next = nextCall();
+        assertCanceled(hung);
+        assertFalse(hung.uri.equals(next.uri));
+        next.future.complete(null);
+    }
+
+    private ValidationScheduler<TextDocument> createScheduler(int maxConcurrent, long timeout) {
+        return new ValidationScheduler<>((document, changedUris) -> {
+            ValidationCall call = new ValidationCall(document.getUri(), changedUris);
+            calls.add(call);
+            return call.future;
+        }, maxConcurrent, timeout);
+    }
+
+    private ValidationCall nextCall() throws InterruptedException {
+        ValidationCall call = calls.poll(WAIT_MS, TimeUnit.MILLISECONDS);
+        assertNotNull("The validator was not called", call);
+        return call;
+    }
+
+    /**
+     * Waits for the cancellation of the given call: the validator is called
+     * before the scheduler records the running validation, which is canceled
+     * as soon as it is recorded.
+     */
+    private static void assertCanceled(ValidationCall call) throws Exception {
+        try {
+            call.future.get(WAIT_MS, TimeUnit.MILLISECONDS);
+        } catch (CancellationException e) {
+            // Expected
+        }
+        assertTrue(call.future.isCancelled());
+    }
+
+    private void assertNoCall(long waitMs) throws InterruptedException {
+        ValidationCall call = calls.poll(waitMs, TimeUnit.MILLISECONDS);
+        assertNull("Unexpected validation of " + (call != null ? call.uri : null), call);
+    }
+}